@@ -0,0 +1,94 @@
+package com.example.dailyreport.benchmark;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.dailyreport.security.JwtKeyring;
+import com.example.dailyreport.security.JwtSigningKey;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * JWT署名アルゴリズムごとの署名・検証時間ベンチマーク
+ *
+ * <p>目的: - jwt.algorithm の候補（HS256 / ES256）について、JwtClaimsCacheにヒットしない初回リクエストの検証コストとログイン時の署名コストを比較する -
+ * kidからの鍵選択（ヘッダーの読み取り）を含むJwtKeyring経由の時間を計測する
+ *
+ * <p>実行方法: - ./mvnw -Pjmh test-compile exec:exec -Djmh.args="JwtVerificationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJwtVerification123456789";
+
+    @Param({"HS256", "ES256"})
+    public String algorithm;
+
+    private JwtKeyring keyring;
+
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtSigningKey key;
+        if ("ES256".equals(algorithm)) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+            key =
+                    JwtSigningKey.es256(
+                            "bench",
+                            Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()),
+                            Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        } else {
+            key = JwtSigningKey.hmac("bench", SECRET);
+        }
+        keyring = new JwtKeyring(key, List.of());
+        token = sign();
+    }
+
+    /** リクエスト時の署名検証（kidによる鍵選択を含む） */
+    @Benchmark
+    public Claims verify() {
+        return keyring.parse(token).getBody();
+    }
+
+    /** ログイン・リフレッシュ時のトークン署名 */
+    @Benchmark
+    public String sign() {
+        JwtSigningKey activeKey = keyring.getActiveKey();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKey.getKid())
+                .setSubject("employee1")
+                .claim("role", "部下")
+                .claim("uid", 4L)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 900_000))
+                .signWith(activeKey.getSigningKey(), activeKey.getAlgorithm())
+                .compact();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.dailyreport.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * パスワードハッシュの候補設定ごとの検証時間ベンチマーク
+ *
+ * <p>目的: - password-hash.* の候補（bcryptコスト、argon2のメモリ量・反復回数）について、ログイン1回あたりの検証時間を比較する -
+ * 本番と同じCPU割り当て（Fargateタスクのvcpu）で実行し、target-verification-time と login-bulkhead.threads の決定に使う
+ *
+ * <p>実行方法: - ./mvnw -Pjmh test-compile exec:exec - 候補を絞る場合: -Djmh.args="PasswordHashBenchmark -p
+ * spec=bcrypt:12,argon2:19456:3:1"
+ *
+ * <p>spec の形式: - bcrypt:{コスト} - argon2:{メモリ量KiB}:{反復回数}:{並列度}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({
+        "bcrypt:10",
+        "bcrypt:11",
+        "bcrypt:12",
+        "bcrypt:13",
+        "argon2:19456:2:1",
+        "argon2:19456:4:1",
+        "argon2:47104:1:1",
+        "argon2:65536:3:1"
+    })
+    public String spec;
+
+    private PasswordEncoder encoder;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = createEncoder(spec);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    /** ログイン時のパスワード検証（1回） */
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    private static PasswordEncoder createEncoder(String spec) {
+        String[] parts = spec.split(":");
+        if ("bcrypt".equals(parts[0])) {
+            return new BCryptPasswordEncoder(Integer.parseInt(parts[1]));
+        }
+        if ("argon2".equals(parts[0])) {
+            return new Argon2PasswordEncoder(
+                    16,
+                    32,
+                    Integer.parseInt(parts[3]),
+                    Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]));
+        }
+        throw new IllegalArgumentException("未対応の spec です: " + spec);
+    }
+}
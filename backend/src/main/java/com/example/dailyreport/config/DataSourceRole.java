@@ -0,0 +1,15 @@
+package com.example.dailyreport.config;
+
+/**
+ * 読み書き分離ルーティングの接続先
+ *
+ * <p>機能: - ReadWriteRoutingDataSourceのルックアップキー
+ */
+public enum DataSourceRole {
+
+    /** プライマリ（書き込み・読み取り） */
+    PRIMARY,
+
+    /** リードレプリカ（読み取り専用トランザクションのみ） */
+    REPLICA
+}
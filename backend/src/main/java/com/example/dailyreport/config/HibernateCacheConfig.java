@@ -0,0 +1,112 @@
+package com.example.dailyreport.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.dailyreport.entity.DailyReport;
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.repository.UserRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate 2次キャッシュ・クエリキャッシュ設定クラス
+ *
+ * <p>機能: - JCache（Caffeine実装）のリージョンを件数上限・書き込み後の有効期限付きで作成し、Hibernateに渡す - 未定義のリージョンは起動時にエラーとする
+ * （既定サイズの暗黙的なリージョンでヒープを消費しないため）
+ *
+ * <p>リージョン: - dailyReport / user: エンティティ - userByUsername / usersBySupervisor: UserRepositoryのクエリ結果 -
+ * default-query-results-region: その他のキャッシュ対象クエリ - default-update-timestamps-region:
+ * テーブル更新時刻（クエリ結果の無効化判定に使用するため、有効期限を設けない）
+ *
+ * <p>メトリクス: - hibernate.generate_statistics=true の場合、Actuatorの hibernate.second.level.cache.* /
+ * hibernate.cache.query.* でリージョンごとのヒット・ミス・登録件数を公開
+ *
+ * <p>設定値（384MBヒープ想定の既定値）: - hibernate-cache.daily-report.max-size / ttl（デフォルト: 5000件 / 10分） -
+ * hibernate-cache.user.max-size / ttl（デフォルト: 2000件 / 30分） - hibernate-cache.query.max-size / ttl（デフォルト:
+ * 1000件 / 5分）
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /** テーブル更新時刻リージョンの最大件数（テーブル数に比例するため小さくてよい） */
+    private static final long UPDATE_TIMESTAMPS_MAX_SIZE = 1000;
+
+    /**
+     * 2次キャッシュ用のJCache CacheManager アプリケーションコンテキストごとに独立させ、終了時に破棄する
+     *
+     * @return リージョン作成済みのCacheManager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${hibernate-cache.daily-report.max-size:5000}") long dailyReportMaxSize,
+            @Value("${hibernate-cache.daily-report.ttl:10m}") Duration dailyReportTtl,
+            @Value("${hibernate-cache.user.max-size:2000}") long userMaxSize,
+            @Value("${hibernate-cache.user.ttl:30m}") Duration userTtl,
+            @Value("${hibernate-cache.query.max-size:1000}") long queryMaxSize,
+            @Value("${hibernate-cache.query.ttl:5m}") Duration queryTtl) {
+        CacheManager cacheManager =
+                Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                        .getCacheManager(
+                                URI.create("hibernate-" + UUID.randomUUID()),
+                                getClass().getClassLoader());
+        createRegion(cacheManager, DailyReport.CACHE_REGION, dailyReportMaxSize, dailyReportTtl);
+        createRegion(cacheManager, User.CACHE_REGION, userMaxSize, userTtl);
+        createRegion(
+                cacheManager, UserRepository.USER_BY_USERNAME_CACHE_REGION, queryMaxSize, queryTtl);
+        createRegion(
+                cacheManager, UserRepository.USERS_BY_SUPERVISOR_CACHE_REGION, queryMaxSize, queryTtl);
+        createRegion(
+                cacheManager,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                queryMaxSize,
+                queryTtl);
+        createRegion(
+                cacheManager,
+                RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                UPDATE_TIMESTAMPS_MAX_SIZE,
+                null);
+        return cacheManager;
+    }
+
+    /**
+     * 作成済みのCacheManagerをHibernateのJCacheリージョンファクトリに渡す
+     *
+     * @param hibernateCacheManager 2次キャッシュ用のCacheManager
+     * @return Hibernateプロパティのカスタマイザ
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties ->
+                properties.putAll(
+                        Map.of(
+                                ConfigSettings.CACHE_MANAGER,
+                                hibernateCacheManager,
+                                ConfigSettings.MISSING_CACHE_STRATEGY,
+                                "fail"));
+    }
+
+    private static void createRegion(
+            CacheManager cacheManager, String region, long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
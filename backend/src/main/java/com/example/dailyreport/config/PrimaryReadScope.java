@@ -0,0 +1,48 @@
+package com.example.dailyreport.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 読み取り専用トランザクションをプライマリに固定する範囲
+ *
+ * <p>機能: - 範囲内（同一スレッド）で開始した読み取り専用トランザクションは、レプリカが利用可能でもプライマリに接続する
+ *
+ * <p>使用場面: - 読み込み結果をコミット後の無効化まで保持するキャッシュの読み込み（レプリカの反映遅延中に読んだ変更前の状態を、
+ * 無効化済みのキャッシュへ格納しないため）
+ *
+ * <p>注意事項: - 接続先はLazyConnectionDataSourceProxyにより最初のSQL実行時に決まるため、範囲外で接続を取得済みのトランザクションには影響しない -
+ * リードレプリカが無効な構成では何もしない
+ */
+public final class PrimaryReadScope {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReadScope() {}
+
+    /**
+     * 読み取りをプライマリに固定して処理を実行
+     *
+     * @param action 処理
+     * @return 処理結果
+     */
+    public static <T> T call(Supplier<T> action) {
+        if (isActive()) {
+            return action.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    /**
+     * 現在のスレッドが固定範囲内かどうか
+     *
+     * @return 範囲内の場合true
+     */
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
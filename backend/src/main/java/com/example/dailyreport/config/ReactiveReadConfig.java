@@ -0,0 +1,70 @@
+package com.example.dailyreport.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * リアクティブ読み取り経路（R2DBC）の設定
+ *
+ * <p>機能: - app.reactive-read.r2dbc.* の接続先にR2DBCの接続プールを作成 - 一覧系の読み取りに使うDatabaseClientを登録
+ *
+ * <p>有効化: - app.reactive-read.enabled=true の場合のみ有効（既定は無効で、JDBC/JPAの経路のみを使用）
+ *
+ * <p>注意事項: - ConnectionFactoryをBeanとして公開すると、DataSource（JDBC）の自動設定が無効になるため、接続プールは本クラス内で保持し
+ * DatabaseClientのみを公開する - R2DBCの自動設定（R2dbcAutoConfiguration等）は application.properties で除外している -
+ * 読み取り専用のため、接続先にリードレプリカを指定してもよい
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.reactive-read.enabled", havingValue = "true")
+public class ReactiveReadConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveReadConfig(
+            @Value("${app.reactive-read.r2dbc.url}") String url,
+            @Value("${app.reactive-read.r2dbc.username:${spring.datasource.username:}}") String username,
+            @Value("${app.reactive-read.r2dbc.password:${spring.datasource.password:}}") String password,
+            @Value("${app.reactive-read.r2dbc.pool.initial-size:2}") int initialSize,
+            @Value("${app.reactive-read.r2dbc.pool.max-size:10}") int maxSize,
+            @Value("${app.reactive-read.r2dbc.pool.max-idle-time:30m}") Duration maxIdleTime) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool =
+                new ConnectionPool(
+                        ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                                .name("reactive-read")
+                                .initialSize(initialSize)
+                                .maxSize(maxSize)
+                                .maxIdleTime(maxIdleTime)
+                                .build());
+    }
+
+    /** 一覧系の読み取り用DatabaseClient（名前付きパラメータはドライバのプレースホルダへ変換される） */
+    @Bean
+    public DatabaseClient reactiveReadDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /** 接続プールを閉じる（アプリケーション終了時） */
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
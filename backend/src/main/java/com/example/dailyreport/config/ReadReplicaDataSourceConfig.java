@@ -0,0 +1,99 @@
+package com.example.dailyreport.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 読み書き分離（リードレプリカ）のDataSource設定
+ *
+ * <p>機能: - プライマリ（spring.datasource.*）とレプリカ（app.datasource.replica.*）の2つの接続プールを作成 -
+ * 読み取り専用トランザクションをレプリカ、それ以外をプライマリへ振り分けるDataSourceをアプリケーションの既定として登録 - Flywayのマイグレーションは常にプライマリへ適用
+ *
+ * <p>有効化: - app.datasource.replica.enabled=true の場合のみ有効（既定は無効で、単一DataSourceの自動設定を使用）
+ *
+ * <p>ローカル検証: - プライマリ・レプリカに別々のH2/PostgreSQLを指定し、app.datasource.replica.lag-query に SELECT 0 等を設定する
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    /** プライマリ接続プール（spring.datasource.hikari.* を適用） */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource =
+                properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /** レプリカ接続プール（app.datasource.replica.hikari.* を適用、接続は読み取り専用） */
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource =
+                DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .url(url)
+                        .username(username)
+                        .password(password)
+                        .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${app.datasource.replica.lag-query:" + ReplicaLagMonitor.POSTGRESQL_LAG_QUERY + "}")
+                    String lagQuery,
+            @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${app.datasource.replica.lag-check-interval:1s}") Duration checkInterval) {
+        return new ReplicaLagMonitor(
+                replicaDataSource, lagQuery, maxLag, checkInterval, Clock.systemUTC());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.read-your-writes.window:5s}") Duration window,
+            @Value("${app.datasource.read-your-writes.max-users:10000}") long maxUsers) {
+        return new ReadYourWritesTracker(window, maxUsers);
+    }
+
+    /** アプリケーション既定のDataSource（接続の取得をトランザクション属性の確定後まで遅延させる） */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(
+                        primaryDataSource,
+                        replicaDataSource,
+                        replicaLagMonitor,
+                        readYourWritesTracker));
+    }
+}
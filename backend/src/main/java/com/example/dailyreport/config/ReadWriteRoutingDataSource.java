@@ -0,0 +1,78 @@
+package com.example.dailyreport.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 読み書き分離のルーティングDataSource
+ *
+ * <p>ルーティング: - 読み取り専用トランザクション（@Transactional(readOnly = true)）: レプリカ -
+ * それ以外（書き込みトランザクション、トランザクション外）: プライマリ - レプリカが遅延・障害で利用不可の場合、現在のユーザーが書き込み直後の場合、
+ * またはPrimaryReadScopeの範囲内の場合: プライマリ
+ *
+ * <p>書き込みの記録: - 書き込みトランザクションで接続を取得した場合、コミット後に現在のユーザーの書き込みとして記録する
+ *
+ * <p>注意事項: - 接続先はトランザクションの読み取り専用フラグ設定後に決める必要があるため、LazyConnectionDataSourceProxyで包んで使用する
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(
+                Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return determineRole();
+    }
+
+    /**
+     * 現在のトランザクションの接続先を判定
+     *
+     * @return 接続先
+     */
+    DataSourceRole determineRole() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceRole.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit();
+            return DataSourceRole.PRIMARY;
+        }
+        if (PrimaryReadScope.isActive()
+                || readYourWritesTracker.isWithinWindow()
+                || !lagMonitor.isReplicaUsable()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+
+    private void recordWriteAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            readYourWritesTracker.recordWrite();
+                        }
+                    });
+        }
+    }
+}
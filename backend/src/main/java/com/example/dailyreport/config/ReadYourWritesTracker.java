@@ -0,0 +1,61 @@
+package com.example.dailyreport.config;
+
+import java.time.Duration;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.dailyreport.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 自分の書き込みの読み取り保証（read-your-writes）
+ *
+ * <p>機能: - ユーザーごとに最後に書き込みトランザクションをコミットした時刻を記録 - 記録から一定時間内は、そのユーザーの読み取りをプライマリへ向ける
+ * （レプリカへの反映遅延で自分の変更が見えなくなることを防ぐ）
+ *
+ * <p>ユーザーの判定: - SecurityContextの認証済みユーザー（AuthenticatedUser）のIDを使用 - 未認証のリクエストは対象外（常にレプリカ可）
+ *
+ * <p>注意事項: - 記録はインスタンス内のメモリのみ。複数インスタンス構成では、同一ユーザーのリクエストが別インスタンスに振り分けられた場合は保証されない
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    /**
+     * @param window 書き込み後にプライマリから読む期間
+     * @param maxUsers 記録する最大ユーザー数
+     */
+    public ReadYourWritesTracker(Duration window, long maxUsers) {
+        this.recentWriters =
+                Caffeine.newBuilder().expireAfterWrite(window).maximumSize(maxUsers).build();
+    }
+
+    /** 現在のユーザーの書き込みを記録 */
+    public void recordWrite() {
+        Long userId = currentUserId();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 現在のユーザーが書き込み直後（プライマリから読むべき期間内）かどうかを判定
+     *
+     * @return 期間内の場合true
+     */
+    public boolean isWithinWindow() {
+        Long userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
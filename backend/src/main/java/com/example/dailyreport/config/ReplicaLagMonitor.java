@@ -0,0 +1,98 @@
+package com.example.dailyreport.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * リードレプリカの遅延監視
+ *
+ * <p>機能: - レプリカで遅延取得クエリ（結果: 遅延秒数）を実行し、許容遅延を超えた場合・取得に失敗した場合はレプリカを利用不可とする -
+ * 判定結果は確認間隔の間キャッシュし、期限切れ時は最初に参照したスレッドのみが再確認する（他のスレッドは直前の結果を使用）
+ *
+ * <p>遅延取得クエリ: - PostgreSQL（既定）: 再生待ちのWALがある場合のみ pg_last_xact_replay_timestamp() との差（追いついている場合・プライマリに接続した場合は0） -
+ * ローカル検証（H2等）: SELECT 0 など任意の秒数を返すクエリを設定する
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * PostgreSQLのストリーミングレプリケーション遅延（秒）
+     *
+     * <p>受信済みのWALを全て再生済みの場合は0とする。最終再生トランザクションの時刻との差は、
+     * プライマリで書き込みがない間（夜間・休日など）は追いついていても増え続けるため、再生が遅れている場合のみ使用する
+     */
+    public static final String POSTGRESQL_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0"
+                    + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                    + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)"
+                    + " END";
+
+    private final DataSource replica;
+
+    private final String lagQuery;
+
+    private final Duration maxLag;
+
+    private final Duration checkInterval;
+
+    private final Clock clock;
+
+    private final AtomicBoolean checking = new AtomicBoolean();
+
+    private volatile boolean usable = true;
+
+    private volatile long nextCheckAt;
+
+    public ReplicaLagMonitor(
+            DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval, Clock clock) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * レプリカを読み取りに使用できるかどうか
+     *
+     * @return 遅延が許容範囲内で、直近の確認に成功している場合true
+     */
+    public boolean isReplicaUsable() {
+        long now = clock.millis();
+        if (now >= nextCheckAt && checking.compareAndSet(false, true)) {
+            try {
+                usable = checkLag();
+                nextCheckAt = now + checkInterval.toMillis();
+            } finally {
+                checking.set(false);
+            }
+        }
+        return usable;
+    }
+
+    private boolean checkLag() {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(1);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+                boolean withinLimit = lagSeconds * 1000 <= maxLag.toMillis();
+                if (!withinLimit) {
+                    log.warn("レプリカ遅延が許容値を超過: lag={}s, max={}", lagSeconds, maxLag);
+                }
+                return withinLimit;
+            }
+        } catch (Exception e) {
+            log.warn("レプリカ遅延の取得に失敗: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.dailyreport.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.dailyreport.security.CurrentUserArgumentResolver;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring MVC設定クラス
+ *
+ * <p>機能: - {@code @CurrentUser} 引数リゾルバーの登録
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.dailyreport.controller;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import javax.naming.Binding;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
@@ -12,7 +16,11 @@ import org.springframework.web.bind.annotation.*;
 
 import com.example.dailyreport.dto.LoginRequest;
 import com.example.dailyreport.dto.LoginResponse;
+import com.example.dailyreport.dto.RefreshTokenRequest;
 import com.example.dailyreport.entity.User;
+import com.example.dailyreport.exception.InvalidRefreshTokenException;
+import com.example.dailyreport.exception.LoginThrottledException;
+import com.example.dailyreport.security.JwtUtil;
 import com.example.dailyreport.service.AuthService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,11 +40,15 @@ import jakarta.validation.Valid;
  * 主な機能: 
  * - ユーザーログイン認証 
  * - JWT トークンの発行 
+ * - リフレッシュトークンによる再発行・ログアウト 
  * - 認証エラーハンドリング
  *
  * <p>
  * エンドポイント: 
  * - POST /api/auth/login: ユーザーログイン 
+ * - POST /api/auth/refresh: アクセストークン再発行 
+ * - POST /api/auth/logout: ログアウト（リフレッシュトークン・アクセストークン失効） 
+ * - GET /api/auth/jwks: JWT検証用の公開鍵（JWK Set） 
  * - GET /api/auth/validate: JWTトークン有効性検証 
  * - GET /api/auth/me: 現在のユーザー情報取得
  */
@@ -48,6 +60,9 @@ public class AuthController extends BaseController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
     /**
      * ユーザーログイン認証
      *
@@ -72,6 +87,8 @@ public class AuthController extends BaseController {
                             examples = @ExampleObject(name = "成功例", value = """
                                     {
                                       "token": "eyJhbGciOiJIUzI1NiJ9...",
+                                      "refreshToken": "q3v1Xb8l...",
+                                      "expiresIn": 900,
                                       "id": "1",
                                       "username": "admin",
                                       "email": "admin@example.com",
@@ -79,6 +96,7 @@ public class AuthController extends BaseController {
                                       "displayName": "admin"
                                     }
                                     """))),
+            @ApiResponse(responseCode = "429", description = "ログイン混雑（Retry-Afterの秒数後に再試行）"),
             @ApiResponse(responseCode = "400", description = "ログイン失敗",
                     content = @Content(mediaType = "application/json",
                             examples = @ExampleObject(name = "失敗例", value = """
@@ -93,6 +111,14 @@ public class AuthController extends BaseController {
         try {
             LoginResponse response = authService.authenticateUser(loginRequest);
             return ResponseEntity.ok(response);
+        } catch (LoginThrottledException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("status", "429");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER,
+                            String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                    .body(errorResponse);
         } catch (RuntimeException e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("message", "ログインに失敗しました: " + e.getMessage());
@@ -101,6 +127,53 @@ public class AuthController extends BaseController {
         }
     }
 
+    /**
+     * アクセストークンの再発行（リフレッシュ）
+     *
+     * @param request リフレッシュトークン
+     * @return 再発行成功時: 新しいJWTトークン・リフレッシュトークン、ユーザー情報 失敗時: 401
+     */
+    @Operation(summary = "アクセストークン再発行",
+            description = "リフレッシュトークンを新しいトークンに交換し、JWTトークンを再発行します（パスワード検証なし）。"
+                    + "使用済みのリフレッシュトークンを再提示した場合、同じログインから派生したトークンはすべて失効します。")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "再発行成功",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = LoginResponse.class))),
+            @ApiResponse(responseCode = "401", description = "リフレッシュトークンが無効・期限切れ・使用済み（再ログインが必要）")})
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenRequest request) {
+        try {
+            return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+        } catch (InvalidRefreshTokenException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("status", "401");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+        }
+    }
+
+    /**
+     * ログアウト（リフレッシュトークン・アクセストークンの失効）
+     *
+     * @param request リフレッシュトークン
+     * @param authorization Authorizationヘッダー（Bearer形式の場合はアクセストークンも失効）
+     * @return 204（トークンが存在しない場合も同じ）
+     */
+    @Operation(summary = "ログアウト",
+            description = "リフレッシュトークンと、同じログインから派生したトークンをすべて失効させます。"
+                    + "Authorizationヘッダーで指定したJWTトークンも有効期限前に失効させます。")
+    @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "失効成功")})
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequest request,
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logout(request.getRefreshToken(), accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * JWTトークンの有効性検証
      *
@@ -120,6 +193,23 @@ public class AuthController extends BaseController {
         }
     }
 
+    /**
+     * JWT検証用の公開鍵（JWK Set）
+     *
+     * <p>ES256で署名している場合、他サービスは秘密鍵なしでこの公開鍵からトークンを検証できる。 鍵ローテーション中は退役中の公開鍵も含む（HS256の共有秘密鍵は含めない）
+     *
+     * @return JWK Set
+     */
+    @Operation(summary = "JWT検証用の公開鍵",
+            description = "ES256の公開鍵をJWK Set形式で返します。ヘッダーのkidで鍵を選択して検証してください。")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "取得成功")})
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtUtil.getKeyring().toJwks());
+    }
+
     /**
      * 現在のユーザー情報取得
      *
@@ -6,6 +6,9 @@ import org.springframework.security.core.Authentication;
 
 import com.example.dailyreport.entity.User;
 import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.security.AuthenticatedUser;
+import com.example.dailyreport.security.CurrentUserArgumentResolver;
+import com.example.dailyreport.service.UserDirectoryService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>
  * 機能: - JWT認証の有効/無効制御 - デバッグモード時のデフォルトユーザー処理 - 認証情報からユーザーIDを取得する共通メソッド - 全Controllerで使用する共通処理を提供
+ * - プリンシパルがAuthenticatedUserの場合はユーザーID・役職の取得にDBアクセスを行わない
  *
  * <p>
  * 使用方法: - 各Controllerクラスでこのクラスを継承 - getUserIdFromAuth()メソッドで認証情報からユーザーIDを取得 -
@@ -29,6 +33,12 @@ public abstract class BaseController {
     @Autowired
     protected UserRepository userRepository;
 
+    @Autowired
+    protected UserDirectoryService userDirectoryService;
+
+    @Autowired
+    protected CurrentUserArgumentResolver currentUserArgumentResolver;
+
     /** JWT認証の有効/無効を制御 デバッグ時は false に設定 */
     @Value("${jwt.auth.enabled:true}")
     protected boolean jwtAuthEnabled;
@@ -41,8 +51,8 @@ public abstract class BaseController {
      * 認証情報からユーザーIDを取得 デバッグモード時はデフォルトユーザーを使用
      *
      * <p>
-     * 処理フロー: 1. 通常モード：JWT認証からusernameを取得 2. デバッグモード：デフォルトユーザー名を使用 3. usernameでUserエンティティを検索 4.
-     * 見つかったUserのIDを返却
+     * 処理フロー: 1. 通常モード：プリンシパルがAuthenticatedUserの場合はそのIDを返却（DBアクセスなし） 2.
+     * デバッグモード・旧形式トークン：usernameでUserエンティティを検索 3. 見つかったUserのIDを返却
      *
      * @param authentication Spring Security認証情報（JWTから生成、デバッグモードではnull可）
      * @return ユーザーID
@@ -50,27 +60,9 @@ public abstract class BaseController {
      */
     protected Long getUserIdFromAuth(Authentication authentication) {
         try {
-            String username;
-
-            // デバッグモードの場合
-            if (!jwtAuthEnabled) {
-                username = debugDefaultUsername;
-                log.debug("デバッグモード: デフォルトユーザー使用 username={}", username);
-            } else {
-                // 通常モード：JWT認証からusernameを取得
-                if (authentication == null) {
-                    throw new IllegalArgumentException("認証情報が存在しません");
-                }
-                username = authentication.getName();
-                log.debug("通常モード: 認証ユーザー名取得 username={}", username);
-            }
-
-            // usernameでUserエンティティを検索してIDを取得
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません: " + username));
-
-            log.debug("ユーザーID取得成功: username={}, userId={}", username, user.getId());
-            return user.getId();
+            Long userId = currentUserArgumentResolver.resolve(authentication).getId();
+            log.debug("ユーザーID取得成功: userId={}", userId);
+            return userId;
 
         } catch (Exception e) {
             log.error("ユーザーID取得エラー: username={}, error={}",
@@ -79,6 +71,17 @@ public abstract class BaseController {
         }
     }
 
+    /**
+     * 認証情報から認証済みユーザー（ID・役職・上司ID）を取得 デバッグモード時はデフォルトユーザーを使用
+     *
+     * @param authentication Spring Security認証情報（JWTから生成、デバッグモードではnull可）
+     * @return 認証済みユーザー
+     * @throws IllegalArgumentException 認証情報が無効、またはユーザーが見つからない場合
+     */
+    protected AuthenticatedUser getAuthenticatedUser(Authentication authentication) {
+        return currentUserArgumentResolver.resolve(authentication);
+    }
+
     /**
      * 認証情報からユーザー情報を取得 デバッグモード時はデフォルトユーザーを使用
      *
@@ -103,9 +106,15 @@ public abstract class BaseController {
                 log.debug("通常モード: 認証ユーザー名取得 username={}", username);
             }
 
-            // usernameでUserエンティティを検索
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません: " + username));
+            // ユーザーIDが判明している場合は主キーで検索、それ以外はusernameで検索
+            User user = (jwtAuthEnabled
+                    && authentication.getPrincipal() instanceof AuthenticatedUser principal)
+                            ? userDirectoryService.findById(principal.getId())
+                                    .orElseThrow(() -> new IllegalArgumentException(
+                                            "ユーザーが見つかりません: " + username))
+                            : userDirectoryService.findByUsername(username)
+                                    .orElseThrow(() -> new IllegalArgumentException(
+                                            "ユーザーが見つかりません: " + username));
 
             log.debug("ユーザー情報取得成功: username={}, userId={}", username, user.getId());
             return user;
@@ -125,8 +134,7 @@ public abstract class BaseController {
      * @throws IllegalArgumentException 認証情報が無効、またはユーザーが見つからない場合
      */
     protected String getCurrentUserRole(Authentication authentication) {
-        User user = getUserFromAuth(authentication);
-        return user.getRole();
+        return getAuthenticatedUser(authentication).getRole();
     }
 
     /**
@@ -137,8 +145,7 @@ public abstract class BaseController {
      */
     protected boolean isAdmin(Authentication authentication) {
         try {
-            String role = getCurrentUserRole(authentication);
-            return "管理者".equals(role);
+            return getAuthenticatedUser(authentication).isAdmin();
         } catch (Exception e) {
             log.warn("管理者権限チェック失敗: {}", e.getMessage());
             return false;
@@ -153,8 +160,7 @@ public abstract class BaseController {
      */
     protected boolean isSupervisor(Authentication authentication) {
         try {
-            String role = getCurrentUserRole(authentication);
-            return "上長".equals(role);
+            return getAuthenticatedUser(authentication).isSupervisor();
         } catch (Exception e) {
             log.warn("上長権限チェック失敗: {}", e.getMessage());
             return false;
@@ -1,17 +1,33 @@
 package com.example.dailyreport.controller;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.dailyreport.dto.CursorPageResponse;
+import com.example.dailyreport.dto.DailyReportBatchRequest;
+import com.example.dailyreport.dto.DailyReportBatchResponse;
 import com.example.dailyreport.dto.DailyReportListResponse;
 import com.example.dailyreport.dto.DailyReportRequest;
 import com.example.dailyreport.dto.DailyReportResponse;
+import com.example.dailyreport.exception.ReportConflictException;
+import com.example.dailyreport.security.AuthenticatedUser;
+import com.example.dailyreport.security.CurrentUser;
+import com.example.dailyreport.service.DailyReportExportService;
 import com.example.dailyreport.service.DailyReportService;
+import com.example.dailyreport.service.ReportExportFormat;
+import com.example.dailyreport.service.SubordinateReportEventHub;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,11 +43,13 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>機能: - 日報の作成・取得・更新・削除API - 個人日報一覧取得API - 上司用部下日報一覧取得API - OpenAPI/Swagger対応 - JWT認証連携
  *
- * <p>エンドポイント: - POST /api/daily-reports : 日報作成 - GET /api/daily-reports/{id} : 日報詳細取得 - PUT
- * /api/daily-reports/{id} : 日報更新 - DELETE /api/daily-reports/{id} : 日報削除 - GET
- * /api/daily-reports/my : 自分の日報一覧 - GET /api/daily-reports/subordinates : 部下日報一覧（上司用）
+ * <p>エンドポイント: - POST /api/daily-reports : 日報作成 - POST /api/daily-reports/batch : 日報一括作成 - GET
+ * /api/daily-reports/{id} : 日報詳細取得 - PUT /api/daily-reports/{id} : 日報更新 - DELETE /api/daily-reports/{id} : 日報削除 - GET
+ * /api/daily-reports/my : 自分の日報一覧 - GET /api/daily-reports/my/page : 自分の日報一覧（カーソルページネーション） - GET
+ * /api/daily-reports/subordinates : 部下日報一覧（上司用） - GET /api/daily-reports/subordinates/events :
+ * 部下日報の変更通知（SSE） - GET /api/daily-reports/export : 日報エクスポート（CSV/NDJSON）
  *
- * <p>認証: - JWT認証必須 - ユーザーIDは認証情報から取得
+ * <p>認証: - JWT認証必須 - ユーザーIDは@CurrentUserで解決した認証済みユーザーから取得（JWTクレーム由来のためDBアクセスなし）
  */
 @RestController
 @RequestMapping("/api/daily-reports")
@@ -41,31 +59,88 @@ import lombok.extern.slf4j.Slf4j;
 public class DailyReportController extends BaseController {
 
     private final DailyReportService dailyReportService;
+    private final DailyReportExportService dailyReportExportService;
+    private final SubordinateReportEventHub subordinateReportEventHub;
 
     /** 日報作成 */
     @PostMapping
-    @Operation(summary = "日報作成", description = "新しい日報を作成します。1日1件まで作成可能です。")
+    @Operation(
+            summary = "日報作成",
+            description = "新しい日報を作成します。1日1件まで作成可能です。upsert=true を指定した場合は同日の日報を上書きします（自動保存用）。")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "日報作成成功"),
-        @ApiResponse(responseCode = "400", description = "バリデーションエラーまたは1日1件制限違反"),
+        @ApiResponse(responseCode = "200", description = "日報作成または上書き成功（upsert=true）"),
+        @ApiResponse(responseCode = "400", description = "バリデーションエラー"),
+        @ApiResponse(responseCode = "409", description = "1日1件制限違反"),
         @ApiResponse(responseCode = "401", description = "認証エラー")
     })
     public ResponseEntity<DailyReportResponse> createDailyReport(
-            @Valid @RequestBody DailyReportRequest request, Authentication authentication) {
+            @Valid @RequestBody DailyReportRequest request,
+            @Parameter(description = "同日の日報が存在する場合に上書きする（自動保存用）")
+                    @RequestParam(defaultValue = "false")
+                    boolean upsert,
+            @CurrentUser AuthenticatedUser currentUser) {
 
-        Long userId = getUserIdFromAuth(authentication);
-        log.info("日報作成リクエスト: userId={}, reportDate={}", userId, request.getReportDate());
+        Long userId = currentUser.getId();
+        log.info(
+                "日報作成リクエスト: userId={}, reportDate={}, upsert={}",
+                userId,
+                request.getReportDate(),
+                upsert);
 
         try {
+            if (upsert) {
+                DailyReportResponse response = dailyReportService.upsertDailyReport(userId, request);
+                log.info("日報アップサート成功: reportId={}", response.getId());
+                return ResponseEntity.ok(response);
+            }
             DailyReportResponse response = dailyReportService.createDailyReport(userId, request);
             log.info("日報作成成功: reportId={}", response.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (ReportConflictException e) {
+            log.warn("日報作成失敗（重複）: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException e) {
             log.warn("日報作成失敗: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /** 日報一括作成 */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "日報一括作成",
+            description = "複数の日報を1トランザクションでまとめて作成します（最大100件）。同日の日報が既に存在する要素、またはリクエスト内で対象日が重複する要素は作成せず、要素ごとの結果として返します。")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "処理完了（要素ごとの結果を返却）"),
+        @ApiResponse(responseCode = "400", description = "バリデーションエラー（1件でも不正な場合は全件作成しない）"),
+        @ApiResponse(responseCode = "409", description = "保存時の1日1件制限違反（全件作成しない）"),
+        @ApiResponse(responseCode = "401", description = "認証エラー")
+    })
+    public ResponseEntity<DailyReportBatchResponse> createDailyReports(
+            @Valid @RequestBody DailyReportBatchRequest request,
+            @CurrentUser AuthenticatedUser currentUser) {
+
+        Long userId = currentUser.getId();
+        log.info("日報一括作成リクエスト: userId={}, count={}", userId, request.getItems().size());
+
+        try {
+            DailyReportBatchResponse response =
+                    dailyReportService.createDailyReports(userId, request.getItems());
+            log.info(
+                    "日報一括作成成功: created={}, conflicts={}",
+                    response.getCreatedCount(),
+                    response.getConflictCount());
+            return ResponseEntity.ok(response);
+        } catch (ReportConflictException e) {
+            log.warn("日報一括作成失敗（重複）: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("日報一括作成失敗: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /** 日報詳細取得 */
     @GetMapping("/{id}")
     @Operation(summary = "日報詳細取得", description = "指定IDの日報詳細を取得します。本人または上司のみアクセス可能です。")
@@ -75,9 +150,10 @@ public class DailyReportController extends BaseController {
         @ApiResponse(responseCode = "401", description = "認証エラー")
     })
     public ResponseEntity<DailyReportResponse> getDailyReport(
-            @Parameter(description = "日報ID") @PathVariable Long id, Authentication authentication) {
+            @Parameter(description = "日報ID") @PathVariable Long id,
+            @CurrentUser AuthenticatedUser currentUser) {
 
-        Long userId = getUserIdFromAuth(authentication);
+        Long userId = currentUser.getId();
         log.info("日報詳細取得: reportId={}, userId={}", id, userId);
 
         Optional<DailyReportResponse> report = dailyReportService.getDailyReportById(id, userId);
@@ -91,14 +167,15 @@ public class DailyReportController extends BaseController {
         @ApiResponse(responseCode = "200", description = "更新成功"),
         @ApiResponse(responseCode = "400", description = "バリデーションエラー"),
         @ApiResponse(responseCode = "404", description = "日報が見つからない、または権限なし"),
+        @ApiResponse(responseCode = "409", description = "変更後の対象日の日報が既に存在"),
         @ApiResponse(responseCode = "401", description = "認証エラー")
     })
     public ResponseEntity<DailyReportResponse> updateDailyReport(
             @Parameter(description = "日報ID") @PathVariable Long id,
             @Valid @RequestBody DailyReportRequest request,
-            Authentication authentication) {
+            @CurrentUser AuthenticatedUser currentUser) {
 
-        Long userId = getUserIdFromAuth(authentication);
+        Long userId = currentUser.getId();
         log.info("日報更新リクエスト: reportId={}, userId={}", id, userId);
 
         try {
@@ -106,6 +183,9 @@ public class DailyReportController extends BaseController {
                     dailyReportService.updateDailyReport(id, userId, request);
             log.info("日報更新成功: reportId={}", id);
             return ResponseEntity.ok(response);
+        } catch (ReportConflictException e) {
+            log.warn("日報更新失敗（重複）: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException e) {
             log.warn("日報更新失敗: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -121,9 +201,10 @@ public class DailyReportController extends BaseController {
         @ApiResponse(responseCode = "401", description = "認証エラー")
     })
     public ResponseEntity<Void> deleteDailyReport(
-            @Parameter(description = "日報ID") @PathVariable Long id, Authentication authentication) {
+            @Parameter(description = "日報ID") @PathVariable Long id,
+            @CurrentUser AuthenticatedUser currentUser) {
 
-        Long userId = getUserIdFromAuth(authentication);
+        Long userId = currentUser.getId();
         log.info("日報削除リクエスト: reportId={}, userId={}", id, userId);
 
         try {
@@ -146,9 +227,9 @@ public class DailyReportController extends BaseController {
     public ResponseEntity<List<DailyReportListResponse>> getMyDailyReports(
             @Parameter(description = "ステータスフィルタ (draft/submitted)") @RequestParam(required = false)
                     String status,
-            Authentication authentication) {
+            @CurrentUser AuthenticatedUser currentUser) {
 
-        Long userId = getUserIdFromAuth(authentication);
+        Long userId = currentUser.getId();
         log.info("自分の日報一覧取得: userId={}, status={}", userId, status);
 
         List<DailyReportListResponse> reports =
@@ -158,6 +239,43 @@ public class DailyReportController extends BaseController {
         return ResponseEntity.ok(reports);
     }
 
+    /** 自分の日報一覧取得（カーソルページネーション） */
+    @GetMapping("/my/page")
+    @Operation(
+            summary = "自分の日報一覧取得（ページ単位）",
+            description = "認証ユーザーの日報を新しい順に指定件数ずつ取得します。次ページはレスポンスのnextCursorをafterに指定して取得します。")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "400", description = "カーソルが不正"),
+        @ApiResponse(responseCode = "401", description = "認証エラー")
+    })
+    public ResponseEntity<CursorPageResponse<DailyReportListResponse>> getMyDailyReportsPage(
+            @Parameter(description = "ステータスフィルタ (draft/submitted)") @RequestParam(required = false)
+                    String status,
+            @Parameter(description = "取得件数（既定20、最大100）") @RequestParam(required = false)
+                    Integer limit,
+            @Parameter(description = "直前ページのnextCursor（先頭ページは省略）") @RequestParam(required = false)
+                    String after,
+            @CurrentUser AuthenticatedUser currentUser) {
+
+        Long userId = currentUser.getId();
+        log.info("自分の日報一覧取得（ページ）: userId={}, status={}, limit={}", userId, status, limit);
+
+        try {
+            CursorPageResponse<DailyReportListResponse> page =
+                    dailyReportService.getMyDailyReportsPage(userId, status, after, limit);
+            log.info(
+                    "日報一覧取得成功（ページ）: userId={}, count={}, hasMore={}",
+                    userId,
+                    page.getItems().size(),
+                    page.isHasMore());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("日報一覧取得失敗（ページ）: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /** 部下の日報一覧取得（上司用） */
     @GetMapping("/subordinates")
     @Operation(summary = "部下の日報一覧取得", description = "認証ユーザーの部下の日報一覧を取得します。上司・管理者のみアクセス可能です。")
@@ -168,9 +286,9 @@ public class DailyReportController extends BaseController {
     public ResponseEntity<List<DailyReportListResponse>> getSubordinateReports(
             @Parameter(description = "ステータスフィルタ (draft/submitted)") @RequestParam(required = false)
                     String status,
-            Authentication authentication) {
+            @CurrentUser AuthenticatedUser currentUser) {
 
-        Long userId = getUserIdFromAuth(authentication);
+        Long userId = currentUser.getId();
         log.info("部下日報一覧取得: supervisorId={}, status={}", userId, status);
 
         List<DailyReportListResponse> reports =
@@ -180,6 +298,144 @@ public class DailyReportController extends BaseController {
         return ResponseEntity.ok(reports);
     }
 
+    /** 部下の日報変更通知の購読（上司用・Server-Sent Events） */
+    @GetMapping(value = "/subordinates/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "部下の日報変更通知（SSE）",
+            description = "部下の日報の作成・更新・提出・削除をServer-Sent Events（report-changed）で通知します。再接続時はLast-Event-IDを指定すると取りこぼした通知を再送し、再送できない場合はresyncを送ります。上長・管理者のみアクセス可能です。")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "購読開始"),
+        @ApiResponse(responseCode = "401", description = "認証エラー"),
+        @ApiResponse(responseCode = "403", description = "管理者・上長以外"),
+        @ApiResponse(responseCode = "503", description = "同時接続数の上限")
+    })
+    public ResponseEntity<SseEmitter> subscribeSubordinateReportEvents(
+            @Parameter(description = "最後に受信したイベントID（再接続時）")
+                    @RequestHeader(value = "Last-Event-ID", required = false)
+                    String lastEventId,
+            @CurrentUser AuthenticatedUser currentUser) {
+
+        Long userId = currentUser.getId();
+        if (!currentUser.isAdmin() && !currentUser.isSupervisor()) {
+            log.warn("部下日報変更通知の購読拒否: userId={}, role={}", userId, currentUser.getRole());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            SseEmitter emitter = subordinateReportEventHub.subscribe(userId, lastEventId);
+            log.info("部下日報変更通知の購読開始: supervisorId={}, lastEventId={}", userId, lastEventId);
+            return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+        } catch (IllegalStateException e) {
+            log.warn("部下日報変更通知の購読失敗: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /** 部下の日報一覧取得（上司用・カーソルページネーション） */
+    @GetMapping("/subordinates/page")
+    @Operation(
+            summary = "部下の日報一覧取得（ページ単位）",
+            description = "認証ユーザーの部下の日報を新しい順に指定件数ずつ取得します。次ページはレスポンスのnextCursorをafterに指定して取得します。")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "400", description = "カーソルが不正"),
+        @ApiResponse(responseCode = "401", description = "認証エラー")
+    })
+    public ResponseEntity<CursorPageResponse<DailyReportListResponse>> getSubordinateReportsPage(
+            @Parameter(description = "ステータスフィルタ (draft/submitted)") @RequestParam(required = false)
+                    String status,
+            @Parameter(description = "取得件数（既定20、最大100）") @RequestParam(required = false)
+                    Integer limit,
+            @Parameter(description = "直前ページのnextCursor（先頭ページは省略）") @RequestParam(required = false)
+                    String after,
+            @CurrentUser AuthenticatedUser currentUser) {
+
+        Long userId = currentUser.getId();
+        log.info("部下日報一覧取得（ページ）: supervisorId={}, status={}, limit={}", userId, status, limit);
+
+        try {
+            CursorPageResponse<DailyReportListResponse> page =
+                    dailyReportService.getSubordinateReportsPage(userId, status, after, limit);
+            log.info(
+                    "部下日報一覧取得成功（ページ）: supervisorId={}, count={}, hasMore={}",
+                    userId,
+                    page.getItems().size(),
+                    page.isHasMore());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("部下日報一覧取得失敗（ページ）: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /** 日報エクスポート（管理者・上司用） */
+    @GetMapping("/export")
+    @Operation(
+            summary = "日報エクスポート",
+            description = "指定期間の日報をCSVまたはNDJSONでストリーミング出力します。管理者は全ユーザー、上長は部下の日報が対象です。件数に関わらずサーバーのメモリ使用量は一定です。")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "出力開始"),
+        @ApiResponse(responseCode = "400", description = "期間または出力形式が不正"),
+        @ApiResponse(responseCode = "401", description = "認証エラー"),
+        @ApiResponse(responseCode = "403", description = "管理者・上長以外")
+    })
+    public ResponseEntity<StreamingResponseBody> exportDailyReports(
+            @Parameter(description = "開始日（yyyy-MM-dd、この日を含む）")
+                    @RequestParam
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @Parameter(description = "終了日（yyyy-MM-dd、この日を含む）")
+                    @RequestParam
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to,
+            @Parameter(description = "出力形式 (csv/ndjson)") @RequestParam(defaultValue = "csv")
+                    String format,
+            @CurrentUser AuthenticatedUser currentUser) {
+
+        log.info(
+                "日報エクスポートリクエスト: userId={}, from={}, to={}, format={}",
+                currentUser.getId(),
+                from,
+                to,
+                format);
+
+        if (!currentUser.isAdmin() && !currentUser.isSupervisor()) {
+            log.warn("日報エクスポート拒否: userId={}, role={}", currentUser.getId(), currentUser.getRole());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        ReportExportFormat exportFormat;
+        try {
+            exportFormat = ReportExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("日報エクスポート失敗: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        if (from.isAfter(to)) {
+            log.warn("日報エクスポート失敗: 開始日が終了日より後です");
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 管理者は全ユーザー、上長は部下に限定
+        Long supervisorId = currentUser.isAdmin() ? null : currentUser.getId();
+        StreamingResponseBody body =
+                out -> dailyReportExportService.export(supervisorId, from, to, exportFormat, out);
+        String filename =
+                "daily-reports_"
+                        + from.format(DateTimeFormatter.BASIC_ISO_DATE)
+                        + "_"
+                        + to.format(DateTimeFormatter.BASIC_ISO_DATE)
+                        + "."
+                        + exportFormat.getExtension();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     /** 本日の日報存在チェック */
     @GetMapping("/today/exists")
     @Operation(summary = "本日の日報存在チェック", description = "認証ユーザーが本日の日報を既に作成しているかチェックします。")
@@ -187,13 +443,11 @@ public class DailyReportController extends BaseController {
         @ApiResponse(responseCode = "200", description = "チェック成功"),
         @ApiResponse(responseCode = "401", description = "認証エラー")
     })
-    public ResponseEntity<Boolean> hasTodayReport(Authentication authentication) {
-        Long userId = getUserIdFromAuth(authentication);
+    public ResponseEntity<Boolean> hasTodayReport(@CurrentUser AuthenticatedUser currentUser) {
+        Long userId = currentUser.getId();
         boolean exists = dailyReportService.hasTodayReport(userId);
         log.info("本日日報存在チェック: userId={}, exists={}", userId, exists);
 
         return ResponseEntity.ok(exists);
     }
-
-    // getUserIdFromAuth メソッドはBaseControllerから継承
 }
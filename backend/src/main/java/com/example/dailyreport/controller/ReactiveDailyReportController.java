@@ -0,0 +1,99 @@
+package com.example.dailyreport.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.dailyreport.dto.DailyReportListResponse;
+import com.example.dailyreport.security.AuthenticatedUser;
+import com.example.dailyreport.security.CurrentUser;
+import com.example.dailyreport.service.ReactiveDailyReportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * 日報一覧のリアクティブ読み取りAPIコントローラー
+ *
+ * <p>機能: - DailyReportController と同じパスの一覧系APIを、NDJSON（1行1件）のストリームで返す - Accept: application/x-ndjson
+ * のリクエストのみ本コントローラーへ振り分けられ、それ以外は従来どおり DailyReportController（JSON配列）が処理する
+ *
+ * <p>エンドポイント: - GET /api/daily-reports/my : 自分の日報一覧 - GET /api/daily-reports/subordinates : 部下日報一覧（上司用） -
+ * GET /api/daily-reports/today/exists : 本日の日報存在チェック（true/falseの1行）
+ *
+ * <p>スレッド・バックプレッシャー: - Spring MVCのリアクティブ戻り値として返すため、リクエストスレッドはハンドラー終了時に解放される -
+ * 1件書き出すごとに次の1件を要求するため、遅いクライアントに対してDBからの取得も待機する
+ *
+ * <p>有効化: - app.reactive-read.enabled=true の場合のみ登録
+ */
+@RestController
+@RequestMapping(value = "/api/daily-reports", produces = MediaType.APPLICATION_NDJSON_VALUE)
+@ConditionalOnProperty(name = "app.reactive-read.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Daily Reports (Reactive)", description = "日報一覧API（NDJSONストリーム）")
+public class ReactiveDailyReportController extends BaseController {
+
+    private final ReactiveDailyReportService reactiveDailyReportService;
+
+    /** 自分の日報一覧取得（ストリーム） */
+    @GetMapping("/my")
+    @Operation(summary = "自分の日報一覧取得（NDJSON）", description = "認証ユーザーの日報一覧を1行1件のNDJSONで返します。")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "401", description = "認証エラー")
+    })
+    public Flux<DailyReportListResponse> getMyDailyReports(
+            @Parameter(description = "ステータスフィルタ (draft/submitted)") @RequestParam(required = false)
+                    String status,
+            @CurrentUser AuthenticatedUser currentUser) {
+
+        Long userId = currentUser.getId();
+        log.debug("自分の日報一覧取得（ストリーム）: userId={}, status={}", userId, status);
+
+        return reactiveDailyReportService.getMyDailyReports(userId, status);
+    }
+
+    /** 部下の日報一覧取得（上司用・ストリーム） */
+    @GetMapping("/subordinates")
+    @Operation(
+            summary = "部下の日報一覧取得（NDJSON）",
+            description = "認証ユーザーの部下の日報一覧を1行1件のNDJSONで返します。上司・管理者のみアクセス可能です。")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "401", description = "認証エラー")
+    })
+    public Flux<DailyReportListResponse> getSubordinateReports(
+            @Parameter(description = "ステータスフィルタ (draft/submitted)") @RequestParam(required = false)
+                    String status,
+            @CurrentUser AuthenticatedUser currentUser) {
+
+        Long userId = currentUser.getId();
+        log.debug("部下日報一覧取得（ストリーム）: supervisorId={}, status={}", userId, status);
+
+        return reactiveDailyReportService.getSubordinateReports(userId, status);
+    }
+
+    /** 本日の日報存在チェック（ストリーム） */
+    @GetMapping("/today/exists")
+    @Operation(summary = "本日の日報存在チェック（NDJSON）", description = "認証ユーザーが本日の日報を既に作成しているかを1行で返します。")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "チェック成功"),
+        @ApiResponse(responseCode = "401", description = "認証エラー")
+    })
+    public Flux<Boolean> hasTodayReport(@CurrentUser AuthenticatedUser currentUser) {
+        Long userId = currentUser.getId();
+        log.debug("本日日報存在チェック（ストリーム）: userId={}", userId);
+
+        return reactiveDailyReportService.hasTodayReport(userId).flux();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.dailyreport.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * カーソル（キーセット）ページネーションのレスポンスDTO
+ *
+ * <p>機能: - 1ページ分の要素と次ページ取得用のカーソルを返却 - カーソルは不透明な文字列として扱い、クライアントは内容を解釈しない
+ *
+ * <p>使用場面: - GET /api/daily-reports/my/page （自分の日報一覧・ページ単位）
+ *
+ * @param <T> 要素の型
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    /** ページ内の要素 */
+    private List<T> items;
+
+    /** 次ページ取得用カーソル（次ページがない場合null） */
+    private String nextCursor;
+
+    /** 次ページが存在するかどうか */
+    private boolean hasMore;
+}
@@ -0,0 +1,36 @@
+package com.example.dailyreport.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 日報一括作成リクエストDTO
+ *
+ * <p>機能: - 複数日分の日報作成リクエストをまとめて受け取る（週次入力・休暇明けの遡及登録など）
+ *
+ * <p>バリデーション: - items: 必須、1件以上MAX_ITEMS件以内 - 各要素: DailyReportRequestと同じ検証（1件でも不正な場合はリクエスト全体を拒否）
+ *
+ * <p>使用場面: - POST /api/daily-reports/batch （一括作成）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyReportBatchRequest {
+
+    /** 1リクエストあたりの最大件数 */
+    public static final int MAX_ITEMS = 100;
+
+    /** 作成する日報 */
+    @NotEmpty(message = "日報は1件以上指定してください")
+    @Size(max = MAX_ITEMS, message = "一度に作成できる日報は100件までです")
+    @Valid
+    private List<DailyReportRequest> items;
+}
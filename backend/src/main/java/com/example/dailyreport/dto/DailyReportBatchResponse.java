@@ -0,0 +1,57 @@
+package com.example.dailyreport.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 日報一括作成レスポンスDTO
+ *
+ * <p>機能: - リクエストの各要素に対する結果をリクエストと同じ順序で返却 - 作成件数・重複件数の集計
+ *
+ * <p>使用場面: - POST /api/daily-reports/batch （一括作成）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyReportBatchResponse {
+
+    /** 結果: 作成成功 */
+    public static final String RESULT_CREATED = "created";
+
+    /** 結果: 1日1件制限違反（既存の日報またはリクエスト内の重複） */
+    public static final String RESULT_CONFLICT = "conflict";
+
+    /** 要素ごとの結果（リクエストのitemsと同じ順序） */
+    private List<ItemResult> results;
+
+    /** 作成件数 */
+    private int createdCount;
+
+    /** 重複により作成しなかった件数 */
+    private int conflictCount;
+
+    /** 要素ごとの結果 */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+
+        /** リクエストのitems内の位置（0始まり） */
+        private int index;
+
+        /** 結果（created/conflict） */
+        private String result;
+
+        /** 作成された日報（作成しなかった場合null） */
+        private DailyReportResponse report;
+
+        /** 作成しなかった理由（作成した場合null） */
+        private String message;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.dailyreport.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 日報変更通知DTO（Server-Sent Events のデータ部）
+ *
+ * <p>機能: - 部下の日報が作成・更新・提出・削除されたことを上司のダッシュボードへ通知
+ *
+ * <p>使用場面: - GET /api/daily-reports/subordinates/events （イベント名 report-changed）
+ *
+ * <p>特徴: - 日報の内容は含まない（必要に応じて GET /api/daily-reports/{id} で取得する）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyReportChangeNotification {
+
+    /** 日報ID */
+    private Long reportId;
+
+    /** 作成者ID */
+    private Long userId;
+
+    /** 変更の種類（CREATED/UPDATED/SUBMITTED/DELETED） */
+    private String changeType;
+
+    /** 変更のコミット日時 */
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,58 @@
+package com.example.dailyreport.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 日報エクスポート行DTO
+ *
+ * <p>機能: - エクスポート（CSV/NDJSON）の1行分の日報情報 - 作業内容は切り詰めずに全文を保持
+ *
+ * <p>使用場面: - GET /api/daily-reports/export （日報エクスポート）
+ *
+ * <p>注意事項: - DailyReportRepository.EXPORT_PROJECTION のコンストラクタ式で直接生成されるため、 フィールドの順序・型を変更する場合はクエリも合わせて修正すること
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyReportExportRow {
+
+    /** 日報ID */
+    private Long id;
+
+    /** 作成者ID */
+    private Long userId;
+
+    /** 作成者ユーザー名 */
+    private String username;
+
+    /** 作成者表示名 */
+    private String displayName;
+
+    /** 日報タイトル */
+    private String title;
+
+    /** 作業内容（全文） */
+    private String workContent;
+
+    /** ステータス */
+    private String status;
+
+    /** 対象日 */
+    private LocalDate reportDate;
+
+    /** 提出日時 */
+    private LocalDateTime submittedAt;
+
+    /** 作成日時 */
+    private LocalDateTime createdAt;
+
+    /** 更新日時 */
+    private LocalDateTime updatedAt;
+}
@@ -17,6 +17,8 @@ import lombok.NoArgsConstructor;
  * /api/daily-reports/subordinates （部下の日報一覧）
  *
  * <p>特徴: - 作業内容はプレビュー版のみ（100文字制限） - 必要な情報のみで軽量化
+ *
+ * <p>注意事項: - DailyReportRepository.LIST_PROJECTION のコンストラクタ式で直接生成されるため、 フィールドの順序・型を変更する場合はクエリも合わせて修正すること
  */
 @Data
 @NoArgsConstructor
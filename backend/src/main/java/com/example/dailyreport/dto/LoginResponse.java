@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
  *
  * <p>機能: - 認証成功時にフロントエンドに返すデータ - JWT トークンとユーザー情報を格納 - JSON形式でクライアントに送信される - Lombokによるボイラープレートコード削減
  *
- * <p>使用場面: - POST /api/auth/login のレスポンスボディ - AuthController での認証成功レスポンス
+ * <p>使用場面: - POST /api/auth/login・POST /api/auth/refresh のレスポンスボディ - AuthController での認証成功レスポンス
  *
  * <p>Lombok注釈: - @Data: getter/setter、toString、equals、hashCode自動生成 - @NoArgsConstructor:
  * デフォルトコンストラクタ生成（JSON用） - @AllArgsConstructor: 全フィールドコンストラクタ生成 - @Builder: Builderパターン対応
@@ -31,6 +31,14 @@ public class LoginResponse {
             required = true)
     private String token;
 
+    /** リフレッシュトークン（POST /api/auth/refresh でJWT認証トークンを再発行する、/me では空） */
+    @Schema(description = "リフレッシュトークン（使い捨て、再発行のたびに新しい値に置き換わる）", example = "q3v1Xb8l...")
+    private String refreshToken;
+
+    /** JWT認証トークンの有効期限（秒） */
+    @Schema(description = "JWT認証トークンの有効期限（秒）", example = "900")
+    private Long expiresIn;
+
     /** ユーザーID */
     @Schema(description = "ユーザーID", example = "1", required = true)
     private String id;
@@ -0,0 +1,25 @@
+package com.example.dailyreport.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * リフレッシュトークンリクエスト用のDTOクラス
+ *
+ * <p>使用場面: - POST /api/auth/refresh のリクエストボディ（アクセストークンの再発行） - POST /api/auth/logout
+ * のリクエストボディ（トークンファミリーの失効）
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "リフレッシュトークンリクエスト情報")
+public class RefreshTokenRequest {
+
+    /** ログイン時・前回のリフレッシュ時に発行されたリフレッシュトークン */
+    @Schema(description = "リフレッシュトークン", example = "q3v1Xb8l...", required = true)
+    private String refreshToken;
+}
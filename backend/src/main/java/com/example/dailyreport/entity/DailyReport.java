@@ -3,6 +3,9 @@ package com.example.dailyreport.entity;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -24,13 +27,25 @@ import lombok.experimental.SuperBuilder;
  * 制約: - 1日1件制限: UNIQUE(user_id, report_date) - 作業内容文字数制限: work_content <= 1000文字
  *
  * <p>
+ * インデックス: - idx_daily_reports_user_date_id: (user_id, report_date DESC, id DESC) キーセットページネーション用 - その他のインデックスは
+ * db/migration のマイグレーション（V3__performance_indexes.sql）で管理
+ *
+ * <p>
+ * 2次キャッシュ: - リージョン dailyReport（READ_WRITE） - ネイティブSQLで更新した行はDailyReportCommandRepositoryImplで明示的に破棄する
+ *
+ * <p>
  * Lombok注釈: - @Data: getter/setter、toString、equals、hashCode自動生成 - @NoArgsConstructor:
  * デフォルトコンストラクタ生成 - @AllArgsConstructor: 全フィールドコンストラクタ生成 - @Builder: Builderパターン対応
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DailyReport.CACHE_REGION)
 @Table(name = "daily_reports",
         uniqueConstraints = {
-                @UniqueConstraint(name = "uk_user_date", columnNames = {"user_id", "report_date"})})
+                @UniqueConstraint(name = "uk_user_date", columnNames = {"user_id", "report_date"})},
+        indexes = {
+                @Index(name = "idx_daily_reports_user_date_id",
+                        columnList = "user_id, report_date DESC, id DESC")})
 @Data
 @SuperBuilder
 @NoArgsConstructor
@@ -38,9 +53,15 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode(callSuper = false)
 public class DailyReport extends BaseEntity {
 
-    /** 日報ID（主キー、自動生成） */
+    /** 2次キャッシュのリージョン名 */
+    public static final String CACHE_REGION = "dailyReport";
+
+    /**
+     * 日報ID（主キー、シーケンスから自動生成） allocationSize分の採番をまとめて取得し（pooled-lo）、INSERTをJDBCバッチにまとめられるようにする
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_reports_id_gen")
+    @SequenceGenerator(name = "daily_reports_id_gen", sequenceName = "daily_reports_id_seq", allocationSize = 50)
     private Long id;
 
     /** 作成者ID（外部キー、users.id） */
@@ -0,0 +1,70 @@
+package com.example.dailyreport.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * リフレッシュトークンを管理するエンティティクラス
+ *
+ * <p>機能: - ログインごとに作成されるトークンファミリー（family_id）の1世代分を保存 - トークン本体は保存せず、SHA-256ハッシュのみを保存 -
+ * 使用済み（usedAt）・失効（revokedAt）の状態管理
+ *
+ * <p>データベーステーブル: refresh_tokens 関連: - users テーブルとの多対1の関係（ユーザー削除時は連動して削除）
+ *
+ * <p>有効期限: - expiresAt: このトークンの有効期限（リフレッシュのたびに新しいトークンで延長される） - sessionExpiresAt:
+ * ファミリー全体の有効期限（延長されない）
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    /** リフレッシュトークンID（主キー、シーケンスから自動生成） */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_id_gen")
+    @SequenceGenerator(
+            name = "refresh_tokens_id_gen",
+            sequenceName = "refresh_tokens_id_seq",
+            allocationSize = 50)
+    private Long id;
+
+    /** トークンのSHA-256ハッシュ（16進64文字、一意制約） */
+    @Column(name = "token_hash", unique = true, nullable = false, length = 64)
+    private String tokenHash;
+
+    /** トークンファミリーID（ログイン1回につき1つ） */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    /** ユーザーID */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** このトークンの有効期限 */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** ファミリー全体の有効期限（ログイン時刻 + 最大セッション期間） */
+    @Column(name = "session_expires_at", nullable = false)
+    private LocalDateTime sessionExpiresAt;
+
+    /** 作成日時 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 使用日時（新しいトークンへ交換済みの場合に設定） */
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    /** 失効日時（ログアウト・再利用検知時に設定） */
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+}
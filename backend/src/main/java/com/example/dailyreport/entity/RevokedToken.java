@@ -0,0 +1,44 @@
+package com.example.dailyreport.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 有効期限前に失効させたアクセストークン（JWT）を管理するエンティティクラス
+ *
+ * <p>機能: - 失効させたJWTのjti（トークンID）を保存 - 各ノードのBloomフィルター（TokenRevocationRegistry）の構築元
+ *
+ * <p>データベーステーブル: revoked_tokens
+ *
+ * <p>有効期限: - expiresAt: 元のトークンの有効期限（これを過ぎた行はJWT自体が無効のため判定に不要、定期的に削除）
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    /** JWTのjti（主キー） */
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    /** トークンの所有ユーザーID（旧形式トークンの場合はnull） */
+    @Column(name = "user_id")
+    private Long userId;
+
+    /** 元のトークンの有効期限 */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** 失効日時（他ノードでの差分取り込みに使用） */
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
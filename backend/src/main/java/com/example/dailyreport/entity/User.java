@@ -1,10 +1,15 @@
 package com.example.dailyreport.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
 /**
@@ -12,7 +17,7 @@ import lombok.experimental.SuperBuilder;
  *
  * <p>
  * 機能: - ユーザーの基本情報を保存（ID、ユーザー名、メール、パスワード、役職） - 日本企業の階層構造に対応（管理者、上長、部下） - 上司-部下関係の管理（supervisor_id） -
- * 表示名管理（display_name） - アクティブ状態管理（is_active） - BCryptによるパスワードハッシュ化に対応 - 作成・更新日時の自動記録 -
+ * 表示名管理（display_name） - アクティブ状態管理（is_active） - トークンバージョン管理（token_version） - BCryptによるパスワードハッシュ化に対応 - 作成・更新日時の自動記録 -
  * Lombokによるボイラープレートコード削減
  *
  * <p>
@@ -20,21 +25,33 @@ import lombok.experimental.SuperBuilder;
  * テーブルとの多対多の関係（user_teams経由）
  *
  * <p>
+ * 2次キャッシュ: - リージョン user（READ_WRITE）
+ *
+ * <p>
  * Lombok注釈: - @Data: getter/setter、toString、equals、hashCode自動生成 - @NoArgsConstructor:
  * デフォルトコンストラクタ生成 - @AllArgsConstructor: 全フィールドコンストラクタ生成 - @Builder: Builderパターン対応
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 @Table(name = "users")
 @Data
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
+@EntityListeners(UserChangeListener.class)
 public class User extends BaseEntity {
 
-    /** ユーザーID（主キー、自動生成） */
+    /** 2次キャッシュのリージョン名 */
+    public static final String CACHE_REGION = "user";
+
+    /**
+     * ユーザーID（主キー、シーケンスから自動生成） allocationSize分の採番をまとめて取得し（pooled-lo）、INSERTをJDBCバッチにまとめられるようにする
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_gen")
+    @SequenceGenerator(name = "users_id_gen", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     /** ユーザー名（一意制約、ログイン用） */
@@ -64,4 +81,52 @@ public class User extends BaseEntity {
     /** アクティブフラグ（論理削除用） */
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
+
+    /** トークンバージョン（役職・上司・アクティブ状態の変更時に加算し、発行済みJWTを失効させる） */
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Long tokenVersion = 0L;
+
+    /** 読み込み時点の認可情報（変更検知用、永続化対象外） */
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String loadedAuthorizationState;
+
+    /** JPA エンティティの読み込み後処理 認可情報のスナップショットを保持 */
+    @PostLoad
+    void snapshotAuthorizationState() {
+        loadedAuthorizationState = authorizationState();
+    }
+
+    /** JPA エンティティの永続化前処理 作成日時・更新日時に加え、トークンバージョンの初期値を設定 */
+    @Override
+    @PrePersist
+    public void onCreate() {
+        super.onCreate();
+        if (tokenVersion == null) {
+            tokenVersion = 0L;
+        }
+    }
+
+    /** JPA エンティティの更新前処理 更新日時を設定し、認可情報が変更された場合はトークンバージョンを加算 */
+    @Override
+    @PreUpdate
+    public void onUpdate() {
+        super.onUpdate();
+        String current = authorizationState();
+        if (loadedAuthorizationState != null && !loadedAuthorizationState.equals(current)) {
+            tokenVersion = (tokenVersion == null ? 0L : tokenVersion) + 1;
+        }
+        loadedAuthorizationState = current;
+    }
+
+    /**
+     * JWTクレームに含める認可情報を連結した文字列を返す
+     *
+     * @return 役職・上司ID・アクティブ状態の連結文字列
+     */
+    private String authorizationState() {
+        return role + "|" + supervisorId + "|" + isActive;
+    }
 }
@@ -0,0 +1,67 @@
+package com.example.dailyreport.entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.dailyreport.security.TokenVersionRegistry;
+import com.example.dailyreport.service.SubordinateReportCache;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Userエンティティの変更を検知するJPAエンティティリスナー
+ *
+ * <p>機能: - ユーザー更新・削除時にTokenVersionRegistry・UserDirectoryService・SubordinateReportCacheのキャッシュを無効化 -
+ * トランザクション中の場合はコミット後にも再度無効化（コミット前に再読み込みされた旧値を破棄）
+ *
+ * <p>注意事項: - Hibernateのbean containerを通じてSpringが生成する - 依存BeanはObjectProvider経由で取得するため、@DataJpaTest等で
+ * Beanが存在しない場合も動作する
+ */
+public class UserChangeListener {
+
+    private final ObjectProvider<TokenVersionRegistry> tokenVersionRegistry;
+
+    private final ObjectProvider<UserDirectoryService> userDirectoryService;
+
+    private final ObjectProvider<SubordinateReportCache> subordinateReportCache;
+
+    public UserChangeListener(
+            ObjectProvider<TokenVersionRegistry> tokenVersionRegistry,
+            ObjectProvider<UserDirectoryService> userDirectoryService,
+            ObjectProvider<SubordinateReportCache> subordinateReportCache) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.userDirectoryService = userDirectoryService;
+        this.subordinateReportCache = subordinateReportCache;
+    }
+
+    /**
+     * ユーザー更新・削除後の処理 キャッシュ済みのトークンバージョン・ユーザー情報を破棄
+     *
+     * @param user 変更されたユーザー
+     */
+    @PostUpdate
+    @PostRemove
+    void onUserChanged(User user) {
+        invalidate(user);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidate(user);
+                        }
+                    });
+        }
+    }
+
+    private void invalidate(User user) {
+        tokenVersionRegistry.ifAvailable(registry -> registry.invalidate(user.getId()));
+        userDirectoryService.ifAvailable(directory -> directory.evict(user));
+        // 上司の付け替え・表示名の変更はどの上司の一覧に影響するか特定できないため全件破棄
+        subordinateReportCache.ifAvailable(SubordinateReportCache::evictAll);
+    }
+}
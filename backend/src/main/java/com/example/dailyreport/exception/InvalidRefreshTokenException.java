@@ -0,0 +1,13 @@
+package com.example.dailyreport.exception;
+
+/**
+ * リフレッシュトークンが存在しない・期限切れ・失効済み・再利用された場合の例外
+ *
+ * <p>コントローラーでは 401 Unauthorized に対応付ける（クライアントは再ログインが必要）
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
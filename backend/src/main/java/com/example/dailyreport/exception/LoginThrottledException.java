@@ -0,0 +1,23 @@
+package com.example.dailyreport.exception;
+
+import java.time.Duration;
+
+/**
+ * パスワード検証の同時実行枠・待ち行列が埋まっており、ログインを受け付けられない場合の例外
+ *
+ * <p>コントローラーでは 429 Too Many Requests（Retry-After 付き）に対応付ける
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    /** クライアントが再試行するまでの待ち時間 */
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.dailyreport.exception;
+
+/**
+ * 日報の一意制約（同一作成者・同一対象日）に違反した場合の例外
+ *
+ * <p>コントローラーでは 409 Conflict に対応付ける。既存の呼び出し元との互換性のため IllegalArgumentException を継承する
+ */
+public class ReportConflictException extends IllegalArgumentException {
+
+    public ReportConflictException(String message) {
+        super(message);
+    }
+}
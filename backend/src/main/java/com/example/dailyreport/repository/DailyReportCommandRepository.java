@@ -0,0 +1,89 @@
+package com.example.dailyreport.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.example.dailyreport.entity.DailyReport;
+
+/**
+ * 日報の書き込みコマンド（DailyReportRepositoryのカスタムフラグメント）
+ *
+ * <p>機能: - 作成者条件付きの単一SQLによる日報更新 - 一意制約（user_id, report_date）に依存した単一SQLによる作成・アップサート -
+ * 更新後の行をSQLの戻り値として取得し、再読み込みを行わない
+ */
+public interface DailyReportCommandRepository {
+
+    /**
+     * 作成者本人の日報のみを1回のSQLで更新し、更新後の行を返却
+     *
+     * <p>提出日時: - submitted: 未設定の場合のみ更新日時を設定 - draft: クリア - その他: 変更しない
+     *
+     * @param id 日報ID
+     * @param userId 作成者ID（一致しない場合は更新しない）
+     * @param title タイトル
+     * @param workContent 作業内容
+     * @param status ステータス
+     * @param reportDate 対象日
+     * @param now 更新日時
+     * @return 更新後の日報（永続化コンテキスト管理外、作成者は未設定）。対象行がない場合はEmpty
+     */
+    Optional<DailyReport> updateOwned(
+            Long id,
+            Long userId,
+            String title,
+            String workContent,
+            String status,
+            LocalDate reportDate,
+            LocalDateTime now);
+
+    /**
+     * 同一作成者・同一対象日の日報が存在しない場合のみ1回のSQLで作成
+     *
+     * <p>事前の存在確認を行わず一意制約で重複を判定するため、同時リクエストでも1件のみ作成される
+     *
+     * @param userId 作成者ID
+     * @param title タイトル
+     * @param workContent 作業内容
+     * @param status ステータス（submittedの場合は提出日時を設定）
+     * @param reportDate 対象日
+     * @param now 作成日時
+     * @return 作成された日報（永続化コンテキスト管理外）。既に存在する場合はEmpty
+     */
+    Optional<DailyReport> insertIfAbsent(
+            Long userId,
+            String title,
+            String workContent,
+            String status,
+            LocalDate reportDate,
+            LocalDateTime now);
+
+    /**
+     * 同一作成者・同一対象日の日報を1回のSQLで作成または更新（アップサート）
+     *
+     * <p>既存行を更新する場合の提出日時は updateOwned と同じ規則に従う
+     *
+     * @param userId 作成者ID
+     * @param title タイトル
+     * @param workContent 作業内容
+     * @param status ステータス
+     * @param reportDate 対象日
+     * @param now 作成・更新日時
+     * @return 作成または更新された日報（永続化コンテキスト管理外）と、作成したかどうか
+     */
+    UpsertResult upsert(
+            Long userId,
+            String title,
+            String workContent,
+            String status,
+            LocalDate reportDate,
+            LocalDateTime now);
+
+    /**
+     * アップサートの結果
+     *
+     * @param report 作成または更新された日報
+     * @param inserted 新規に作成した場合true、既存行を更新した場合false
+     */
+    record UpsertResult(DailyReport report, boolean inserted) {}
+}
@@ -0,0 +1,343 @@
+package com.example.dailyreport.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.dailyreport.entity.DailyReport;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * DailyReportCommandRepositoryの実装
+ *
+ * <p>SQL方言（JDBCメタデータで判定）: - PostgreSQL: UPDATE ... RETURNING / INSERT ... ON CONFLICT ... RETURNING - H2: SELECT
+ * ... FROM FINAL TABLE (UPDATE ... / MERGE ...) - その他: 更新はUPDATE後に同一条件でSELECT（2回のSQL）、作成・アップサートは未対応
+ *
+ * <p>アップサートの作成判定: - PostgreSQL: xmax = 0（ON CONFLICT DO UPDATEで更新した行は更新トランザクションのIDを持つ） - H2:
+ * created_at = updated_at（作成時は同じ日時、更新時は更新日時のみ変わる）
+ *
+ * <p>注意事項: - エンティティを経由しないため、同一トランザクション内で読み込み済みの日報エンティティには反映されない -
+ * 更新した行は2次キャッシュから破棄する（実行直後とコミット後の2回。コミット前に他のトランザクションが旧状態を再格納した場合に備える）
+ */
+class DailyReportCommandRepositoryImpl implements DailyReportCommandRepository {
+
+    /** 取得する列（DailyReportのマッピングと対応） */
+    private static final String COLUMNS =
+            "id, user_id, title, work_content, status, report_date, submitted_at, created_at,"
+                    + " updated_at";
+
+    /** 日報IDのシーケンス（DailyReportの@SequenceGeneratorと同じもの） */
+    private static final String ID_SEQUENCE = "daily_reports_id_seq";
+
+    /** JDBCメタデータ上のデータベース製品名 */
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private static final String H2 = "H2";
+
+    @PersistenceContext private EntityManager entityManager;
+
+    private volatile String databaseProduct;
+
+    @Override
+    public Optional<DailyReport> updateOwned(
+            Long id,
+            Long userId,
+            String title,
+            String workContent,
+            String status,
+            LocalDate reportDate,
+            LocalDateTime now) {
+        String update =
+                "UPDATE daily_reports SET title = :title, work_content = :workContent,"
+                        + " status = :status, report_date = :reportDate,"
+                        + submittedAtAssignment(status, "daily_reports")
+                        + " updated_at = :now WHERE id = :id AND user_id = :userId";
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", id);
+        parameters.put("userId", userId);
+        parameters.put("title", title);
+        parameters.put("workContent", workContent);
+        parameters.put("status", status);
+        parameters.put("reportDate", reportDate);
+        parameters.put("now", now);
+
+        String product = databaseProduct();
+        List<Object[]> rows;
+        if (POSTGRESQL.equals(product)) {
+            rows = selectRows(update + " RETURNING " + COLUMNS, parameters);
+        } else if (H2.equals(product)) {
+            rows = selectRows("SELECT " + COLUMNS + " FROM FINAL TABLE (" + update + ")", parameters);
+        } else {
+            Query query =
+                    entityManager
+                            .createNativeQuery(update)
+                            .unwrap(NativeQuery.class)
+                            .addSynchronizedEntityClass(DailyReport.class);
+            parameters.forEach(query::setParameter);
+            if (query.executeUpdate() == 0) {
+                return Optional.empty();
+            }
+            rows =
+                    selectRows(
+                            "SELECT " + COLUMNS + " FROM daily_reports WHERE id = :id",
+                            Map.of("id", id));
+        }
+        evictFromSecondLevelCache(rows);
+        return rows.stream().findFirst().map(DailyReportCommandRepositoryImpl::toEntity);
+    }
+
+    @Override
+    public Optional<DailyReport> insertIfAbsent(
+            Long userId,
+            String title,
+            String workContent,
+            String status,
+            LocalDate reportDate,
+            LocalDateTime now) {
+        Map<String, Object> parameters =
+                rowParameters(userId, title, workContent, status, reportDate, now);
+        String product = databaseProduct();
+        List<Object[]> rows;
+        if (POSTGRESQL.equals(product)) {
+            rows =
+                    selectRows(
+                            insertStatement(status)
+                                    + " ON CONFLICT (user_id, report_date) DO NOTHING RETURNING "
+                                    + COLUMNS,
+                            parameters);
+        } else if (H2.equals(product)) {
+            rows =
+                    selectRows(
+                            "SELECT " + COLUMNS + " FROM FINAL TABLE (" + mergeStatement(status, false)
+                                    + ")",
+                            parameters);
+        } else {
+            throw new IllegalStateException("未対応のデータベースです: " + product);
+        }
+        return rows.stream().findFirst().map(DailyReportCommandRepositoryImpl::toEntity);
+    }
+
+    @Override
+    public UpsertResult upsert(
+            Long userId,
+            String title,
+            String workContent,
+            String status,
+            LocalDate reportDate,
+            LocalDateTime now) {
+        Map<String, Object> parameters =
+                rowParameters(userId, title, workContent, status, reportDate, now);
+        String product = databaseProduct();
+        List<Object[]> rows;
+        if (POSTGRESQL.equals(product)) {
+            rows =
+                    selectRows(
+                            insertStatement(status)
+                                    + " ON CONFLICT (user_id, report_date) DO UPDATE SET"
+                                    + " title = EXCLUDED.title, work_content = EXCLUDED.work_content,"
+                                    + " status = EXCLUDED.status,"
+                                    + submittedAtAssignment(status, "daily_reports")
+                                    + " updated_at = EXCLUDED.updated_at RETURNING "
+                                    + COLUMNS
+                                    + ", (xmax = 0) AS inserted",
+                            parameters,
+                            true);
+        } else if (H2.equals(product)) {
+            rows =
+                    selectRows(
+                            "SELECT " + COLUMNS + ", (created_at = updated_at) AS inserted"
+                                    + " FROM FINAL TABLE (" + mergeStatement(status, true) + ")",
+                            parameters,
+                            true);
+        } else {
+            throw new IllegalStateException("未対応のデータベースです: " + product);
+        }
+        evictFromSecondLevelCache(rows);
+        Object[] row = rows.get(0);
+        return new UpsertResult(toEntity(row), Boolean.TRUE.equals(row[9]));
+    }
+
+    private static Map<String, Object> rowParameters(
+            Long userId,
+            String title,
+            String workContent,
+            String status,
+            LocalDate reportDate,
+            LocalDateTime now) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", userId);
+        parameters.put("title", title);
+        parameters.put("workContent", workContent);
+        parameters.put("status", status);
+        parameters.put("reportDate", reportDate);
+        parameters.put("now", now);
+        return parameters;
+    }
+
+    /** 作成用のINSERT文（PostgreSQL） IDはエンティティと同じシーケンスから採番する */
+    private static String insertStatement(String status) {
+        return "INSERT INTO daily_reports (id, user_id, title, work_content, status, report_date,"
+                + " submitted_at, created_at, updated_at) VALUES (nextval('" + ID_SEQUENCE + "'),"
+                + " :userId, :title, :workContent,"
+                + " :status, :reportDate, "
+                + initialSubmittedAt(status)
+                + ", :now, :now)";
+    }
+
+    /**
+     * 作成用のMERGE文（H2） (user_id, report_date) が一致しない場合のみINSERTする
+     *
+     * @param status ステータス
+     * @param updateWhenMatched 一致した場合に更新する場合true（アップサート）
+     * @return MERGE文
+     */
+    private static String mergeStatement(String status, boolean updateWhenMatched) {
+        String merge =
+                "MERGE INTO daily_reports t USING (SELECT CAST(:userId AS BIGINT) AS user_id,"
+                        + " CAST(:reportDate AS DATE) AS report_date) s"
+                        + " ON t.user_id = s.user_id AND t.report_date = s.report_date";
+        if (updateWhenMatched) {
+            merge +=
+                    " WHEN MATCHED THEN UPDATE SET title = :title, work_content = :workContent,"
+                            + " status = :status,"
+                            + submittedAtAssignment(status, "t")
+                            + " updated_at = :now";
+        }
+        return merge
+                + " WHEN NOT MATCHED THEN INSERT (id, user_id, title, work_content, status,"
+                + " report_date, submitted_at, created_at, updated_at) VALUES (NEXT VALUE FOR "
+                + ID_SEQUENCE
+                + ", :userId, :title, :workContent,"
+                + " :status, :reportDate, "
+                + initialSubmittedAt(status)
+                + ", :now, :now)";
+    }
+
+    /** 作成時の提出日時（submittedの場合のみ作成日時） */
+    private static String initialSubmittedAt(String status) {
+        return "submitted".equals(status) ? ":now" : "NULL";
+    }
+
+    /**
+     * ステータスに応じた提出日時の代入句
+     *
+     * @param status 更新後のステータス
+     * @param target 更新対象テーブルの名前または別名
+     * @return SET句の一部（末尾カンマ付き、変更しない場合は空文字）
+     */
+    private static String submittedAtAssignment(String status, String target) {
+        if ("submitted".equals(status)) {
+            return " submitted_at = COALESCE(" + target + ".submitted_at, :now),";
+        }
+        if ("draft".equals(status)) {
+            return " submitted_at = NULL,";
+        }
+        return "";
+    }
+
+    /**
+     * ネイティブSQLで変更した日報を2次キャッシュから破棄
+     *
+     * @param rows 変更後の行（先頭列がID）
+     */
+    private void evictFromSecondLevelCache(List<Object[]> rows) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        for (Object[] row : rows) {
+            Object id = row[0];
+            cache.evict(DailyReport.class, id);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(
+                        new TransactionSynchronization() {
+                            @Override
+                            public void afterCompletion(int status) {
+                                cache.evict(DailyReport.class, id);
+                            }
+                        });
+            }
+        }
+    }
+
+    /**
+     * 日報の列を返すネイティブSQLを実行 列型を指定し、daily_reportsを参照するクエリとして登録する（保留中の変更を事前にフラッシュさせる）
+     *
+     * @param sql SQL
+     * @param parameters 名前付きパラメータ
+     * @return 取得行
+     */
+    private List<Object[]> selectRows(String sql, Map<String, Object> parameters) {
+        return selectRows(sql, parameters, false);
+    }
+
+    /**
+     * 日報の列を返すネイティブSQLを実行
+     *
+     * @param sql SQL
+     * @param parameters 名前付きパラメータ
+     * @param withInserted 日報の列に続けて作成判定（inserted列）を取得する場合true
+     * @return 取得行
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private List<Object[]> selectRows(
+            String sql, Map<String, Object> parameters, boolean withInserted) {
+        NativeQuery query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        parameters.forEach(query::setParameter);
+        query.addSynchronizedEntityClass(DailyReport.class)
+                .addScalar("id", Long.class)
+                .addScalar("user_id", Long.class)
+                .addScalar("title", String.class)
+                .addScalar("work_content", String.class)
+                .addScalar("status", String.class)
+                .addScalar("report_date", LocalDate.class)
+                .addScalar("submitted_at", LocalDateTime.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class);
+        if (withInserted) {
+            query.addScalar("inserted", Boolean.class);
+        }
+        return query.getResultList();
+    }
+
+    private static DailyReport toEntity(Object[] row) {
+        return DailyReport.builder()
+                .id((Long) row[0])
+                .userId((Long) row[1])
+                .title((String) row[2])
+                .workContent((String) row[3])
+                .status((String) row[4])
+                .reportDate((LocalDate) row[5])
+                .submittedAt((LocalDateTime) row[6])
+                .createdAt((LocalDateTime) row[7])
+                .updatedAt((LocalDateTime) row[8])
+                .build();
+    }
+
+    /**
+     * 接続先データベースの製品名を取得 Hibernateの方言設定ではなくJDBCメタデータで判定する（H2上でPostgreSQL方言を使う構成があるため）
+     *
+     * @return データベース製品名
+     */
+    private String databaseProduct() {
+        String product = databaseProduct;
+        if (product == null) {
+            product =
+                    entityManager
+                            .unwrap(Session.class)
+                            .doReturningWork(
+                                    connection -> connection.getMetaData().getDatabaseProductName());
+            databaseProduct = product;
+        }
+        return product;
+    }
+}
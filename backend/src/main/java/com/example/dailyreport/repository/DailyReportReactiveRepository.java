@@ -0,0 +1,118 @@
+package com.example.dailyreport.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.example.dailyreport.dto.DailyReportListResponse;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 日報の読み取り専用リアクティブリポジトリ（R2DBC）
+ *
+ * <p>機能: - 一覧表示用の射影（DailyReportRepository.LIST_PROJECTION と同じ列・プレビュー・並び順）を行単位で返す - 本日の日報の存在チェック
+ *
+ * <p>バックプレッシャー: - 結果は購読側の要求数に応じてドライバから取得され、一覧全体をメモリに保持しない
+ *
+ * <p>有効化: - app.reactive-read.enabled=true の場合のみ登録（ReactiveReadConfig のDatabaseClientを使用）
+ *
+ * <p>注意事項: - JPAのエンティティ・2次キャッシュを経由しないため、一覧の列を変更する場合は LIST_PROJECTION と本クラスの両方を修正すること
+ */
+@Repository
+@ConditionalOnProperty(name = "app.reactive-read.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DailyReportReactiveRepository {
+
+    /** 一覧表示用の射影（SELECT句・結合） 作業内容は先頭100文字のプレビュー */
+    static final String LIST_PROJECTION =
+            "SELECT dr.id, dr.user_id, u.username, u.display_name, dr.title,"
+                    + " CASE WHEN CHAR_LENGTH(dr.work_content) > 100"
+                    + " THEN CONCAT(SUBSTRING(dr.work_content, 1, 100), '...')"
+                    + " ELSE dr.work_content END AS work_content_preview,"
+                    + " dr.status, dr.report_date, dr.submitted_at, dr.created_at"
+                    + " FROM daily_reports dr LEFT JOIN users u ON u.id = dr.user_id";
+
+    private final DatabaseClient reactiveReadDatabaseClient;
+
+    /**
+     * 特定ユーザーの日報一覧を取得（新しい順）
+     *
+     * @param userId ユーザーID
+     * @param status ステータス（nullの場合は全件）
+     * @return 日報一覧
+     */
+    public Flux<DailyReportListResponse> findListByUserId(Long userId, String status) {
+        String sql =
+                LIST_PROJECTION
+                        + " WHERE dr.user_id = :userId"
+                        + (status != null ? " AND dr.status = :status" : "")
+                        + " ORDER BY dr.report_date DESC";
+        DatabaseClient.GenericExecuteSpec spec =
+                reactiveReadDatabaseClient.sql(sql).bind("userId", userId);
+        if (status != null) {
+            spec = spec.bind("status", status);
+        }
+        return spec.map(DailyReportReactiveRepository::toListResponse).all();
+    }
+
+    /**
+     * 上司の部下全員の日報一覧を取得
+     *
+     * @param supervisorId 上司ID
+     * @param status ステータス（nullの場合は全件）
+     * @return 部下の日報一覧（新しい順、同日内は作成者ID順）
+     */
+    public Flux<DailyReportListResponse> findListBySupervisorId(Long supervisorId, String status) {
+        String sql =
+                LIST_PROJECTION
+                        + " WHERE u.supervisor_id = :supervisorId"
+                        + (status != null ? " AND dr.status = :status" : "")
+                        + " ORDER BY dr.report_date DESC, dr.user_id";
+        DatabaseClient.GenericExecuteSpec spec =
+                reactiveReadDatabaseClient.sql(sql).bind("supervisorId", supervisorId);
+        if (status != null) {
+            spec = spec.bind("status", status);
+        }
+        return spec.map(DailyReportReactiveRepository::toListResponse).all();
+    }
+
+    /**
+     * 指定日の日報の存在チェック
+     *
+     * @param userId ユーザーID
+     * @param reportDate 対象日
+     * @return 存在する場合true
+     */
+    public Mono<Boolean> existsByUserIdAndReportDate(Long userId, LocalDate reportDate) {
+        return reactiveReadDatabaseClient
+                .sql(
+                        "SELECT 1 FROM daily_reports"
+                                + " WHERE user_id = :userId AND report_date = :reportDate LIMIT 1")
+                .bind("userId", userId)
+                .bind("reportDate", reportDate)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    private static DailyReportListResponse toListResponse(Readable row) {
+        return new DailyReportListResponse(
+                row.get("id", Long.class),
+                row.get("user_id", Long.class),
+                row.get("username", String.class),
+                row.get("display_name", String.class),
+                row.get("title", String.class),
+                row.get("work_content_preview", String.class),
+                row.get("status", String.class),
+                row.get("report_date", LocalDate.class),
+                row.get("submitted_at", LocalDateTime.class),
+                row.get("created_at", LocalDateTime.class));
+    }
+}
@@ -1,16 +1,26 @@
 package com.example.dailyreport.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.dailyreport.dto.DailyReportExportRow;
+import com.example.dailyreport.dto.DailyReportListResponse;
 import com.example.dailyreport.entity.DailyReport;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * 日報データアクセス層
  *
@@ -18,10 +28,88 @@ import com.example.dailyreport.entity.DailyReport;
  *
  * <p>主要メソッド: - findByUserId: 特定ユーザーの日報一覧取得 - findByUserIdAndReportDate: 特定ユーザーの特定日日報取得 -
  * findByUserIdAndStatus: ステータス別日報検索 - findBySupervisorId: 上司による部下日報一覧取得 - findByReportDateBetween:
- * 日付範囲検索
+ * 日付範囲検索 - updateOwned / deleteOwned: 作成者条件付きの単一SQLによる更新・削除 - findAccessibleById: 権限判定込みの日報詳細取得 - findListByUserId / findListBySupervisorId: 一覧表示用の射影取得 - findPageByUserIdBefore: キーセットページネーション（(report_date, id)でシーク、射影取得） -
+ * findListByUserIdAndReportDateBefore: 部下日報フィード用のユーザー別上位N件取得（射影取得）
  */
 @Repository
-public interface DailyReportRepository extends JpaRepository<DailyReport, Long> {
+public interface DailyReportRepository
+        extends JpaRepository<DailyReport, Long>, DailyReportCommandRepository {
+
+    /**
+     * 一覧表示用の射影（SELECT句・結合）
+     *
+     * <p>一覧に必要な列のみを取得し、作業内容のプレビュー（100文字 + "..."）はSQL側で生成する。 作成者のユーザー名・表示名は同一SQLで結合して取得する。
+     * 結果は管理対象エンティティではなくDTOとして生成されるため、永続化コンテキスト・変更検知の対象外
+     */
+    String LIST_PROJECTION =
+            "SELECT new com.example.dailyreport.dto.DailyReportListResponse("
+                    + "dr.id, dr.userId, u.username, u.displayName, dr.title,"
+                    + " CASE WHEN LENGTH(dr.workContent) > 100"
+                    + " THEN CONCAT(SUBSTRING(dr.workContent, 1, 100), '...')"
+                    + " ELSE dr.workContent END,"
+                    + " dr.status, dr.reportDate, dr.submittedAt, dr.createdAt)"
+                    + " FROM DailyReport dr LEFT JOIN dr.user u";
+
+    /**
+     * エクスポート用の射影（SELECT句・結合） 作業内容を含む全列と作成者名を1回のSQLで取得する
+     */
+    String EXPORT_PROJECTION =
+            "SELECT new com.example.dailyreport.dto.DailyReportExportRow("
+                    + "dr.id, dr.userId, u.username, u.displayName, dr.title, dr.workContent,"
+                    + " dr.status, dr.reportDate, dr.submittedAt, dr.createdAt, dr.updatedAt)"
+                    + " FROM DailyReport dr LEFT JOIN dr.user u";
+
+    /** エクスポート時のJDBCフェッチサイズ（1回の往復で取得する行数） */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * 特定ユーザーの日報一覧を一覧表示用の射影で取得（新しい順）
+     *
+     * @param userId ユーザーID
+     * @return 日報一覧
+     */
+    @Query(LIST_PROJECTION + " WHERE dr.userId = :userId ORDER BY dr.reportDate DESC")
+    List<DailyReportListResponse> findListByUserId(@Param("userId") Long userId);
+
+    /**
+     * 特定ユーザーの特定ステータスの日報一覧を一覧表示用の射影で取得（新しい順）
+     *
+     * @param userId ユーザーID
+     * @param status ステータス（draft/submitted）
+     * @return 日報一覧
+     */
+    @Query(
+            LIST_PROJECTION
+                    + " WHERE dr.userId = :userId AND dr.status = :status"
+                    + " ORDER BY dr.reportDate DESC")
+    List<DailyReportListResponse> findListByUserIdAndStatus(
+            @Param("userId") Long userId, @Param("status") String status);
+
+    /**
+     * 上司の部下全員の日報一覧を一覧表示用の射影で取得 部下の絞り込みも結合で行うため、部下IDリストは不要
+     *
+     * @param supervisorId 上司ID
+     * @return 部下の日報一覧（新しい順、同日内は作成者ID順）
+     */
+    @Query(
+            LIST_PROJECTION
+                    + " WHERE u.supervisorId = :supervisorId"
+                    + " ORDER BY dr.reportDate DESC, dr.userId")
+    List<DailyReportListResponse> findListBySupervisorId(@Param("supervisorId") Long supervisorId);
+
+    /**
+     * 上司の部下全員の特定ステータスの日報一覧を一覧表示用の射影で取得
+     *
+     * @param supervisorId 上司ID
+     * @param status ステータス
+     * @return 部下の日報一覧（新しい順、同日内は作成者ID順）
+     */
+    @Query(
+            LIST_PROJECTION
+                    + " WHERE u.supervisorId = :supervisorId AND dr.status = :status"
+                    + " ORDER BY dr.reportDate DESC, dr.userId")
+    List<DailyReportListResponse> findListBySupervisorIdAndStatus(
+            @Param("supervisorId") Long supervisorId, @Param("status") String status);
 
     /**
      * 特定ユーザーの日報一覧を取得（新しい順）
@@ -31,6 +119,78 @@ public interface DailyReportRepository extends JpaRepository<DailyReport, Long>
      */
     List<DailyReport> findByUserIdOrderByReportDateDesc(Long userId);
 
+    /**
+     * 特定ユーザーの日報をキーセット方式で1ページ分、一覧表示用の射影で取得（新しい順）
+     *
+     * <p>(report_date, id) が境界値より前の行のみを対象とし、idx_daily_reports_user_date_id を使ってシークする。
+     * そのため、ページ位置に関わらず取得コストは一定
+     *
+     * @param userId ユーザーID
+     * @param reportDate 境界の対象日（直前ページ最後の行）
+     * @param id 境界の日報ID（直前ページ最後の行）
+     * @param pageable 取得件数（ページ番号は常に0）
+     * @return 日報一覧
+     */
+    @Query(
+            LIST_PROJECTION
+                    + " WHERE dr.userId = :userId"
+                    + " AND (dr.reportDate < :reportDate"
+                    + " OR (dr.reportDate = :reportDate AND dr.id < :id))"
+                    + " ORDER BY dr.reportDate DESC, dr.id DESC")
+    List<DailyReportListResponse> findPageByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("reportDate") LocalDate reportDate,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * 特定ユーザーの特定ステータスの日報をキーセット方式で1ページ分、一覧表示用の射影で取得（新しい順）
+     *
+     * @param userId ユーザーID
+     * @param status ステータス（draft/submitted）
+     * @param reportDate 境界の対象日（直前ページ最後の行）
+     * @param id 境界の日報ID（直前ページ最後の行）
+     * @param pageable 取得件数（ページ番号は常に0）
+     * @return 日報一覧
+     */
+    @Query(
+            LIST_PROJECTION
+                    + " WHERE dr.userId = :userId AND dr.status = :status"
+                    + " AND (dr.reportDate < :reportDate"
+                    + " OR (dr.reportDate = :reportDate AND dr.id < :id))"
+                    + " ORDER BY dr.reportDate DESC, dr.id DESC")
+    List<DailyReportListResponse> findPageByUserIdAndStatusBefore(
+            @Param("userId") Long userId,
+            @Param("status") String status,
+            @Param("reportDate") LocalDate reportDate,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * 閲覧者がアクセス可能な日報を作成者と共に取得 本人または作成者の上司の場合のみ結果を返す
+     *
+     * <p>権限判定をWHERE句に含めるため、存在しない日報と権限のない日報はどちらも1回のSQLで空となり区別されない
+     *
+     * @param id 日報ID
+     * @param viewerId 閲覧者のユーザーID
+     * @return 日報（作成者はフェッチ済み、存在しないまたは権限がない場合はEmpty）
+     */
+    @Query(
+            "SELECT dr FROM DailyReport dr JOIN FETCH dr.user u WHERE dr.id = :id"
+                    + " AND (dr.userId = :viewerId OR u.supervisorId = :viewerId)")
+    Optional<DailyReport> findAccessibleById(@Param("id") Long id, @Param("viewerId") Long viewerId);
+
+    /**
+     * 作成者本人の日報のみを1回のSQLで削除
+     *
+     * @param id 日報ID
+     * @param userId 作成者ID（一致しない場合は削除しない）
+     * @return 削除件数（0または1）
+     */
+    @Modifying
+    @Query("DELETE FROM DailyReport dr WHERE dr.id = :id AND dr.userId = :userId")
+    int deleteOwned(@Param("id") Long id, @Param("userId") Long userId);
+
     /**
      * 特定ユーザーの特定日の日報を取得
      *
@@ -86,6 +246,45 @@ public interface DailyReportRepository extends JpaRepository<DailyReport, Long>
             @Param("subordinateUserIds") List<Long> subordinateUserIds,
             @Param("status") String status);
 
+    /**
+     * 特定ユーザーの、指定日より前の日報を一覧表示用の射影で新しい順に上位N件取得 部下日報フィードのマージ元として使用
+     *
+     * <p>(user_id, report_date) は一意のため、idx_daily_reports_user_date_id の範囲シークのみで取得できる
+     *
+     * @param userId ユーザーID
+     * @param reportDate 境界日（この日を含まない）
+     * @param pageable 取得件数（ページ番号は常に0）
+     * @return 日報一覧
+     */
+    @Query(
+            LIST_PROJECTION
+                    + " WHERE dr.userId = :userId AND dr.reportDate < :reportDate"
+                    + " ORDER BY dr.reportDate DESC")
+    List<DailyReportListResponse> findListByUserIdAndReportDateBefore(
+            @Param("userId") Long userId,
+            @Param("reportDate") LocalDate reportDate,
+            Pageable pageable);
+
+    /**
+     * 特定ユーザーの特定ステータスの、指定日より前の日報を一覧表示用の射影で新しい順に上位N件取得
+     *
+     * @param userId ユーザーID
+     * @param status ステータス
+     * @param reportDate 境界日（この日を含まない）
+     * @param pageable 取得件数（ページ番号は常に0）
+     * @return 日報一覧
+     */
+    @Query(
+            LIST_PROJECTION
+                    + " WHERE dr.userId = :userId AND dr.status = :status"
+                    + " AND dr.reportDate < :reportDate"
+                    + " ORDER BY dr.reportDate DESC")
+    List<DailyReportListResponse> findListByUserIdAndStatusAndReportDateBefore(
+            @Param("userId") Long userId,
+            @Param("status") String status,
+            @Param("reportDate") LocalDate reportDate,
+            Pageable pageable);
+
     /**
      * 全ユーザーの特定日の日報一覧を取得（管理者用）
      *
@@ -104,6 +303,48 @@ public interface DailyReportRepository extends JpaRepository<DailyReport, Long>
     List<DailyReport> findByReportDateBetweenOrderByReportDateDescUserIdAsc(
             LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 日付範囲内の全ユーザーの日報をエクスポート用に逐次取得（管理者用、対象日・作成者ID順）
+     *
+     * <p>結果を一括でメモリに載せず、フェッチサイズ単位でカーソルから読み進める（前方向のみ）。
+     * 射影のため永続化コンテキストにも蓄積されない。呼び出し側はトランザクション内で使用し、Streamを必ずcloseすること
+     *
+     * @param from 開始日（この日を含む）
+     * @param to 終了日（この日を含む）
+     * @return 日報エクスポート行のStream
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            EXPORT_PROJECTION
+                    + " WHERE dr.reportDate BETWEEN :from AND :to ORDER BY dr.reportDate, dr.userId")
+    Stream<DailyReportExportRow> streamExportByReportDateBetween(
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 日付範囲内の部下の日報をエクスポート用に逐次取得（上司用、対象日・作成者ID順）
+     *
+     * @param supervisorId 上司ID
+     * @param from 開始日（この日を含む）
+     * @param to 終了日（この日を含む）
+     * @return 日報エクスポート行のStream
+     * @see #streamExportByReportDateBetween(LocalDate, LocalDate)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            EXPORT_PROJECTION
+                    + " WHERE u.supervisorId = :supervisorId AND dr.reportDate BETWEEN :from AND :to"
+                    + " ORDER BY dr.reportDate, dr.userId")
+    Stream<DailyReportExportRow> streamExportBySupervisorIdAndReportDateBetween(
+            @Param("supervisorId") Long supervisorId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
     /**
      * 特定ユーザーの日報件数を取得
      *
@@ -129,4 +370,17 @@ public interface DailyReportRepository extends JpaRepository<DailyReport, Long>
      * @return 存在する場合true
      */
     boolean existsByUserIdAndReportDate(Long userId, LocalDate today);
+
+    /**
+     * 指定日のうち、特定ユーザーの日報が既に存在する日付を取得 一括作成時の1日1件制限の確認を1回のクエリで行う
+     *
+     * @param userId ユーザーID
+     * @param reportDates 確認する対象日
+     * @return 日報が存在する対象日
+     */
+    @Query(
+            "SELECT dr.reportDate FROM DailyReport dr"
+                    + " WHERE dr.userId = :userId AND dr.reportDate IN :reportDates")
+    List<LocalDate> findExistingReportDates(
+            @Param("userId") Long userId, @Param("reportDates") Collection<LocalDate> reportDates);
 }
@@ -0,0 +1,87 @@
+package com.example.dailyreport.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.dailyreport.entity.RefreshToken;
+
+/**
+ * リフレッシュトークンデータアクセス層
+ *
+ * <p>主要メソッド: - findByTokenHash: 提示されたトークンの検索 - markUsed: 未使用または猶予期間内の使用済みトークンのみ使用済みにする -
+ * revokeFamily: トークンファミリー全体の失効 - deleteExpiredByUserId: 期限切れトークンの削除
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * トークンハッシュでの検索
+     *
+     * @param tokenHash トークンのSHA-256ハッシュ
+     * @return リフレッシュトークン
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 未失効のトークンを使用済みにする
+     *
+     * <p>猶予期間内に使用済みになったトークン（複数タブからの同時リフレッシュ等）も対象とし、最初の使用日時は変更しない
+     *
+     * @param id リフレッシュトークンID
+     * @param usedAt 使用日時
+     * @param graceFrom この日時以降に使用済みになったトークンは再使用を許可する
+     * @return 更新件数（0の場合は猶予期間より前に使用済み、または失効済み）
+     */
+    @Modifying
+    @Query(
+            "UPDATE RefreshToken t SET t.usedAt = COALESCE(t.usedAt, :usedAt)"
+                    + " WHERE t.id = :id AND t.revokedAt IS NULL"
+                    + " AND (t.usedAt IS NULL OR t.usedAt >= :graceFrom)")
+    int markUsed(
+            @Param("id") Long id,
+            @Param("usedAt") LocalDateTime usedAt,
+            @Param("graceFrom") LocalDateTime graceFrom);
+
+    /**
+     * トークンファミリー全体を失効
+     *
+     * @param familyId トークンファミリーID
+     * @param revokedAt 失効日時
+     * @return 失効させた件数
+     */
+    @Modifying
+    @Query(
+            "UPDATE RefreshToken t SET t.revokedAt = :revokedAt"
+                    + " WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * 指定ユーザーの全トークンを失効（全端末からのログアウト）
+     *
+     * @param userId ユーザーID
+     * @param revokedAt 失効日時
+     * @return 失効させた件数
+     */
+    @Modifying
+    @Query(
+            "UPDATE RefreshToken t SET t.revokedAt = :revokedAt"
+                    + " WHERE t.userId = :userId AND t.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * 指定ユーザーの期限切れトークンを削除
+     *
+     * @param userId ユーザーID
+     * @param now 現在日時
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.userId = :userId AND t.expiresAt < :now")
+    int deleteExpiredByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,54 @@
+package com.example.dailyreport.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dailyreport.entity.RevokedToken;
+
+/**
+ * 失効済みアクセストークンデータアクセス層
+ *
+ * <p>主要メソッド: - existsById: jtiが失効済みかどうかの確定判定 - findActiveJtis: Bloomフィルター再構築用のjti一覧 -
+ * findJtisRevokedSince: 他ノードで失効したjtiの差分取得 - deleteExpired: 期限切れ行の削除
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 有効期限内の失効済みjti一覧（Bloomフィルター再構築用）
+     *
+     * @param now 基準日時
+     * @return jti一覧
+     */
+    @Query("SELECT t.jti FROM RevokedToken t WHERE t.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    /**
+     * 指定日時以降に失効した有効期限内のjti一覧（差分取り込み用）
+     *
+     * @param since 取得開始日時
+     * @param now 基準日時
+     * @return jti一覧
+     */
+    @Query("SELECT t.jti FROM RevokedToken t WHERE t.revokedAt >= :since AND t.expiresAt > :now")
+    List<String> findJtisRevokedSince(
+            @Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    /**
+     * 期限切れ行の削除
+     *
+     * @param now 基準日時
+     * @return 削除件数
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
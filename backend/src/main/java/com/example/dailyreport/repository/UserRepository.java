@@ -3,28 +3,49 @@ package com.example.dailyreport.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.dailyreport.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * ユーザーデータアクセス層
  *
  * <p>機能: - ユーザーの基本CRUD操作 - ユーザー名・メールでの検索 - 上司-部下関係検索 - アクティブユーザー管理
  *
  * <p>主要メソッド: - findByUsername: ログイン認証用 - findBySupervisorId: 上司による部下一覧取得 - findByIsActiveTrue:
- * アクティブユーザー一覧
+ * アクティブユーザー一覧 - findActiveTokenVersionById: JWT失効判定用のトークンバージョン取得 -
+ * updatePasswordHash: ログイン時の再ハッシュ
+ *
+ * <p>クエリキャッシュ: - findByUsername / findBySupervisorId の結果を専用リージョンに保持 - usersテーブルが更新されると、それ以前に格納した結果は使用されない
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /** findByUsernameのクエリキャッシュリージョン名 */
+    String USER_BY_USERNAME_CACHE_REGION = "userByUsername";
+
+    /** findBySupervisorIdのクエリキャッシュリージョン名 */
+    String USERS_BY_SUPERVISOR_CACHE_REGION = "usersBySupervisor";
+
     /**
      * ユーザー名での検索
      *
      * @param username ユーザー名
      * @return ユーザー情報
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_BY_USERNAME_CACHE_REGION)
+    })
     Optional<User> findByUsername(String username);
 
     /**
@@ -57,6 +78,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param supervisorId 上司ID
      * @return 部下一覧
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USERS_BY_SUPERVISOR_CACHE_REGION)
+    })
     List<User> findBySupervisorId(Long supervisorId);
 
     /**
@@ -81,4 +106,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return アクティブな部下一覧
      */
     List<User> findBySupervisorIdAndIsActiveTrue(Long supervisorId);
+
+    /**
+     * アクティブユーザーのトークンバージョン取得 JWTクレームの失効判定に使用（ユーザー全体は読み込まない）
+     *
+     * @param id ユーザーID
+     * @return トークンバージョン（ユーザーが存在しない、または非アクティブの場合は空）
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id AND u.isActive = true")
+    Optional<Long> findActiveTokenVersionById(@Param("id") Long id);
+
+    /**
+     * パスワードハッシュの置き換え（ログイン時の再ハッシュ用） 読み込み時のハッシュから変わっていない場合のみ更新する（同時のパスワード変更を上書きしない）
+     *
+     * @param id ユーザーID
+     * @param currentHash 読み込み時のハッシュ
+     * @param newHash 新しいハッシュ
+     * @return 更新件数（0または1）
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.password = :newHash"
+                    + " WHERE u.id = :id AND u.password = :currentHash")
+    int updatePasswordHash(
+            @Param("id") Long id,
+            @Param("currentHash") String currentHash,
+            @Param("newHash") String newHash);
 }
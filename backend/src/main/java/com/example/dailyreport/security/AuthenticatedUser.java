@@ -0,0 +1,97 @@
+package com.example.dailyreport.security;
+
+import java.security.Principal;
+
+import com.example.dailyreport.entity.User;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 認証済みユーザーを表す型付きプリンシパル
+ *
+ * <p>機能: - JwtAuthenticationFilterでJWTクレームから一度だけ組み立て、SecurityContextに格納 -
+ * Controllerは@CurrentUser引数として受け取り、リクエスト毎のユーザー検索を不要にする - 役職判定（管理者/上長）を提供
+ *
+ * <p>注意事項: - 署名検証済みかつトークンバージョンが最新のクレームからのみ生成すること - 表示名・メール等の表示用情報は保持しない（必要な場合はDBから取得）
+ */
+@Value
+@Builder
+public class AuthenticatedUser implements Principal {
+
+    /** 管理者の役職名 */
+    public static final String ROLE_ADMIN = "管理者";
+
+    /** 上長の役職名 */
+    public static final String ROLE_SUPERVISOR = "上長";
+
+    /** ユーザーID */
+    Long id;
+
+    /** ユーザー名 */
+    String username;
+
+    /** ユーザーの役職（管理者/上長/部下） */
+    String role;
+
+    /** 直属の上司ID（存在しない場合null） */
+    Long supervisorId;
+
+    /**
+     * Userエンティティから認証済みユーザーを生成 トークンを持たない経路（デバッグモード、テスト用認証）で使用
+     *
+     * @param user ユーザーエンティティ
+     * @return 認証済みユーザー
+     */
+    public static AuthenticatedUser from(User user) {
+        return AuthenticatedUser.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .role(user.getRole())
+                .supervisorId(user.getSupervisorId())
+                .build();
+    }
+
+    /**
+     * 署名検証済みクレームから認証済みユーザーを生成
+     *
+     * @param claims 署名検証済みクレーム（ユーザーIDを含むこと）
+     * @return 認証済みユーザー
+     */
+    public static AuthenticatedUser from(VerifiedClaims claims) {
+        return AuthenticatedUser.builder()
+                .id(claims.getUserId())
+                .username(claims.getUsername())
+                .role(claims.getRole())
+                .supervisorId(claims.getSupervisorId())
+                .build();
+    }
+
+    /**
+     * Principal#getName ユーザー名を返す（Authentication#getName()との互換性維持）
+     *
+     * @return ユーザー名
+     */
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    /**
+     * 管理者かどうかを判定
+     *
+     * @return true：管理者、false：管理者以外
+     */
+    public boolean isAdmin() {
+        return ROLE_ADMIN.equals(role);
+    }
+
+    /**
+     * 上長かどうかを判定
+     *
+     * @return true：上長、false：上長以外
+     */
+    public boolean isSupervisor() {
+        return ROLE_SUPERVISOR.equals(role);
+    }
+}
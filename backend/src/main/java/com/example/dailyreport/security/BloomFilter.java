@@ -0,0 +1,159 @@
+package com.example.dailyreport.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 文字列キーのBloomフィルター（スレッドセーフ、ロックなし）
+ *
+ * <p>機能: - 要素が「確実に含まれない」か「含まれる可能性がある」かを判定 - 想定件数と偽陽性率からビット数・ハッシュ関数の数を決定 -
+ * 現在のビット充填率から推定偽陽性率を算出
+ *
+ * <p>注意事項: - 削除はできないため、不要になった要素を除くには作り直す - ハッシュはFNV-1a（64ビット、文字単位）を元にしたダブルハッシュで、暗号学的な強度はない
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+
+    private final long bitSize;
+
+    private final int hashFunctions;
+
+    private final AtomicLong bitCount = new AtomicLong();
+
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 想定件数
+     * @param falsePositiveProbability 想定件数まで追加したときの偽陽性率（0より大きく1未満）
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("想定件数は1以上を指定してください: " + expectedInsertions);
+        }
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException(
+                    "偽陽性率は0より大きく1未満を指定してください: " + falsePositiveProbability);
+        }
+        long optimalBits =
+                (long)
+                        Math.ceil(
+                                -expectedInsertions
+                                        * Math.log(falsePositiveProbability)
+                                        / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashFunctions =
+                Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 要素を追加
+     *
+     * @param value 要素
+     */
+    public void put(String value) {
+        long hash = fnv1a(value);
+        long h1 = hash;
+        long h2 = mix(hash);
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(index(h1 + i * h2));
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * 要素が含まれる可能性があるかどうか
+     *
+     * @param value 要素
+     * @return falseの場合は確実に含まれない、trueの場合は含まれる可能性がある
+     */
+    public boolean mightContain(String value) {
+        long hash = fnv1a(value);
+        long h1 = hash;
+        long h2 = mix(hash);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 現在のビット充填率から推定した偽陽性率
+     *
+     * @return 推定偽陽性率（0〜1）
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+    }
+
+    /**
+     * 追加した要素数（重複を含む）
+     *
+     * @return 追加回数
+     */
+    public long insertions() {
+        return insertions.get();
+    }
+
+    /**
+     * ビット数
+     *
+     * @return ビット数
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * ハッシュ関数の数
+     *
+     * @return ハッシュ関数の数
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        bitCount.incrementAndGet();
+    }
+
+    private static long fnv1a(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        // 判定のたびに配列を確保しないよう、バイト列ではなくUTF-16の各文字を直接混ぜる
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /** 2つ目のハッシュ値を得るための混合関数（SplitMix64の最終化処理） */
+    private static long mix(long hash) {
+        long z = hash + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) | 1L;
+    }
+}
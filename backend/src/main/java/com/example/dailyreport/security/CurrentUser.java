@@ -0,0 +1,18 @@
+package com.example.dailyreport.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 認証済みユーザー（AuthenticatedUser）をControllerの引数として受け取るためのアノテーション
+ *
+ * <p>使用方法: - Controllerメソッドの引数に {@code @CurrentUser AuthenticatedUser user} として指定 -
+ * CurrentUserArgumentResolverが認証情報から解決する
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {}
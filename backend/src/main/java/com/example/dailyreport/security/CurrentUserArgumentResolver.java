@@ -0,0 +1,90 @@
+package com.example.dailyreport.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code @CurrentUser AuthenticatedUser} 引数を解決するHandlerMethodArgumentResolver
+ *
+ * <p>処理フロー: 1. デバッグモード：デフォルトユーザーをDBから取得 2. プリンシパルがAuthenticatedUserの場合：そのまま返却（DBアクセスなし） 3.
+ * それ以外（旧形式トークン、テスト用認証）：ユーザー名でUserエンティティを検索（UserDirectoryService経由）して生成
+ *
+ * <p>設定値: - jwt.auth.enabled: JWT認証の有効/無効 - debug.default.user.username: デバッグモード時のデフォルトユーザー名
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserDirectoryService userDirectoryService;
+
+    /** JWT認証の有効/無効を制御 デバッグ時は false に設定 */
+    @Value("${jwt.auth.enabled:true}")
+    private boolean jwtAuthEnabled;
+
+    /** デバッグモード時のデフォルトユーザー名 */
+    @Value("${debug.default.user.username:user1}")
+    private String debugDefaultUsername;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) {
+        return resolve(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    /**
+     * 認証情報から認証済みユーザーを解決
+     *
+     * @param authentication Spring Security認証情報（デバッグモードではnull可）
+     * @return 認証済みユーザー
+     * @throws IllegalArgumentException 認証情報が無効、またはユーザーが見つからない場合
+     */
+    public AuthenticatedUser resolve(Authentication authentication) {
+        String username;
+
+        if (!jwtAuthEnabled) {
+            // デバッグモード：デフォルトユーザーを使用
+            username = debugDefaultUsername;
+            log.debug("デバッグモード: デフォルトユーザー使用 username={}", username);
+        } else {
+            if (authentication == null) {
+                throw new IllegalArgumentException("認証情報が存在しません");
+            }
+            // JWTフィルターで構築済みのプリンシパルはそのまま使用
+            if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+                return authenticatedUser;
+            }
+            username = authentication.getName();
+            log.debug("ユーザーIDクレームなし: ユーザー検索 username={}", username);
+        }
+
+        User user =
+                userDirectoryService
+                        .findByUsername(username)
+                        .orElseThrow(
+                                () -> new IllegalArgumentException("ユーザーが見つかりません: " + username));
+        return AuthenticatedUser.from(user);
+    }
+}
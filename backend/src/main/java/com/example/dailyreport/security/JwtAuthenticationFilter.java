@@ -22,12 +22,13 @@ import jakarta.servlet.http.HttpServletResponse;
  * JWT認証フィルター
  *
  * <p>
- * 機能: - HTTPリクエストのAuthorizationヘッダーからJWTトークンを抽出 - JwtUtilを使用してトークンの有効性を検証 - 有効なトークンの場合、Spring
+ * 機能: - HTTPリクエストのAuthorizationヘッダーからJWTトークンを抽出 - JwtClaimsCacheを使用してトークンの有効性を検証 - 有効なトークンの場合、Spring
  * SecurityのSecurityContextに認証情報を設定 - 無効または存在しないトークンの場合は何もしない
  *
  * <p>
  * フィルター動作: - /api/auth/**パスは認証をスキップ（ログイン処理のため） - Authorizationヘッダーが存在しない場合はスキップ -
- * Bearer形式でないトークンはスキップ - 有効なJWTトークンからユーザー名と権限を抽出してSecurityContextに設定
+ * Bearer形式でないトークンはスキップ - 有効なJWTトークンからユーザー名と権限を抽出してSecurityContextに設定 -
+ * ユーザーIDを含むトークンはAuthenticatedUserをプリンシパルとし、トークンバージョンが古い場合は認証しない - ログアウト等で個別に失効させたトークン（jti）は認証しない
  *
  * <p>
  * セキュリティ考慮事項: - トークン検証失敗時はログ出力してリクエストを継続 - 認証情報はリクエスト毎にクリア - 権限情報もJWTトークンから設定
@@ -36,7 +37,13 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private JwtClaimsCache jwtClaimsCache;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -52,35 +59,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // Authorizationヘッダーからトークンを抽出
         String token = extractTokenFromRequest(request);
-        System.out.println(SecurityContextHolder.getContext().getAuthentication());
 
         if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                // JWTトークンの検証
-                if (jwtUtil.validateToken(token) && !jwtUtil.isTokenExpired(token)) {
-                    // トークンからユーザー情報を抽出
-                    String username = jwtUtil.getUsernameFromToken(token);
-                    String role = jwtUtil.getRoleFromToken(token);
+                // JWTトークンの検証（署名検証・パースは1回のみ、検証済みトークンはキャッシュから取得）
+                VerifiedClaims claims = jwtClaimsCache.verify(token);
+                String username = claims.getUsername();
+                String role = claims.getRole();
+
+                // 個別に失効させたトークンは認証しない（通常はBloomフィルターのみで判定し、DBアクセスなし）
+                if (tokenRevocationRegistry.isRevoked(claims.getTokenId())) {
+                    logger.warn("JWT認証失敗: トークンが失効しています ユーザー=" + username);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // 拡張形式のトークンはバージョンを確認し、型付きプリンシパルを構築
+                Object principal = username;
+                if (claims.hasIdentity()) {
+                    if (!tokenVersionRegistry.isCurrent(claims.getUserId(), claims.getTokenVersion())) {
+                        logger.warn("JWT認証失敗: トークンが失効しています ユーザー=" + username);
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+                    principal = AuthenticatedUser.from(claims);
+                }
 
-                    // Spring Security用の権限オブジェクト作成
-                    SimpleGrantedAuthority authority =
-                            new SimpleGrantedAuthority("ROLE_" + role.toUpperCase());
+                // Spring Security用の権限オブジェクト作成
+                SimpleGrantedAuthority authority =
+                        new SimpleGrantedAuthority("ROLE_" + role.toUpperCase());
 
-                    // 認証オブジェクト作成
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(username, null,
-                                    Collections.singletonList(authority));
+                // 認証オブジェクト作成
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal, null,
+                                Collections.singletonList(authority));
 
-                    // リクエスト詳細情報を設定
-                    authentication
-                            .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                // リクエスト詳細情報を設定
+                authentication
+                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    // SecurityContextに認証情報を設定
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                // SecurityContextに認証情報を設定
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    logger.debug("JWT認証成功: ユーザー=" + username + ", 権限=" + role);
-                }
-            } catch (JwtException e) {
+                logger.debug("JWT認証成功: ユーザー=" + username + ", 権限=" + role);
+            } catch (JwtException | IllegalArgumentException e) {
                 logger.warn("JWT認証失敗: " + e.getMessage());
                 // 認証失敗の場合は何もしない（既存のセキュリティチェーンが処理）
             } catch (Exception e) {
@@ -0,0 +1,114 @@
+package com.example.dailyreport.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 署名検証済みJWTクレームのキャッシュ
+ *
+ * <p>機能: - トークンのSHA-256ダイジェストをキーに検証結果（VerifiedClaims）を保持 - 同一トークンでの再リクエスト時は署名検証・JSONパースを省略 -
+ * 各エントリはトークンのexpと同時に失効 - 最大件数による上限付き（LRU系の追い出し）
+ *
+ * <p>メトリクス: - Actuatorの cache.gets / cache.puts / cache.evictions（タグ cache=jwtClaims）でヒット・ミス・追い出し件数を公開
+ *
+ * <p>セキュリティ考慮事項: - トークン文字列そのものは保持せず、ダイジェストのみをキーとする - キャッシュするのは署名検証に成功したトークンのみ
+ */
+@Component
+public class JwtClaimsCache {
+
+    /** Micrometerに登録するキャッシュ名 */
+    static final String CACHE_NAME = "jwtClaims";
+
+    private final JwtUtil jwtUtil;
+
+    private final Cache<String, VerifiedClaims> cache;
+
+    public JwtClaimsCache(
+            JwtUtil jwtUtil,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.claims-cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfter(new TokenExpiry())
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * トークンを検証し、署名検証済みクレームを返す キャッシュにヒットした場合は署名検証を行わない
+     *
+     * @param token JWTトークン文字列
+     * @return 署名検証済みクレーム
+     * @throws io.jsonwebtoken.JwtException トークンが無効、改ざん、または期限切れの場合
+     * @throws IllegalArgumentException トークンが空の場合
+     */
+    public VerifiedClaims verify(String token) {
+        String key = digest(token);
+        Instant now = Instant.now();
+
+        VerifiedClaims cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached;
+        }
+
+        VerifiedClaims claims = jwtUtil.parseVerifiedClaims(token);
+        if (!claims.isExpired(now)) {
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * トークン文字列のSHA-256ダイジェストを16進文字列で返す
+     *
+     * @param token JWTトークン文字列
+     * @return ダイジェスト文字列
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                    .formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256が利用できません", e);
+        }
+    }
+
+    /** エントリの有効期間をトークンのexpまでとするExpiry */
+    private static class TokenExpiry implements Expiry<String, VerifiedClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
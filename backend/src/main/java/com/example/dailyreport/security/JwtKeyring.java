@@ -0,0 +1,157 @@
+package com.example.dailyreport.security;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.UnsupportedJwtException;
+
+/**
+ * JWT署名鍵のキーリング（鍵ローテーション用）
+ *
+ * <p>機能: - 署名に使う現行鍵と、検証のみ受け付ける退役中の鍵を鍵ID（kid）で管理 - トークンのヘッダーのkidから検証鍵を選択し、その鍵専用の構築済みパーサーで検証 -
+ * 公開鍵方式の鍵をJWK Set形式で出力（他サービスが秘密鍵なしで検証するため）
+ *
+ * <p>鍵ローテーション: - 新しい鍵を現行鍵にし、旧鍵を退役中の鍵に移す（旧鍵で署名済みのトークンは有効期限まで検証できる） -
+ * アクセストークンの有効期限（15分）が過ぎたら退役中の鍵を削除する
+ *
+ * <p>注意事項: - kidを持たないトークン（キーリング導入前に発行）は現行鍵で検証する - 未登録のkidはUnsupportedJwtExceptionとする
+ */
+public final class JwtKeyring {
+
+    private static final ObjectMapper HEADER_READER = new ObjectMapper();
+
+    private final JwtSigningKey activeKey;
+
+    private final Map<String, JwtSigningKey> keys;
+
+    /**
+     * @param activeKey 署名に使う現行鍵
+     * @param retiringKeys 検証のみ受け付ける退役中の鍵
+     */
+    public JwtKeyring(JwtSigningKey activeKey, List<JwtSigningKey> retiringKeys) {
+        if (!activeKey.canSign()) {
+            throw new IllegalArgumentException("現行鍵に署名鍵がありません: kid=" + activeKey.getKid());
+        }
+        Map<String, JwtSigningKey> byKid = new LinkedHashMap<>();
+        byKid.put(activeKey.getKid(), activeKey);
+        for (JwtSigningKey key : retiringKeys) {
+            if (byKid.putIfAbsent(key.getKid(), key) != null) {
+                throw new IllegalArgumentException("鍵IDが重複しています: kid=" + key.getKid());
+            }
+        }
+        this.activeKey = activeKey;
+        this.keys = Collections.unmodifiableMap(byKid);
+    }
+
+    /**
+     * 退役中の鍵の設定値を解析
+     *
+     * <p>形式: カンマ区切りで「kid:HS256:秘密鍵」または「kid:ES256:公開鍵（Base64）」
+     *
+     * @param spec 設定値（空の場合は空リスト）
+     * @return 退役中の鍵
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public static List<JwtSigningKey> parseRetiringKeys(String spec) {
+        List<JwtSigningKey> result = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return result;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(
+                        "退役中の鍵は kid:アルゴリズム:鍵 の形式で指定してください: " + parts[0]);
+            }
+            switch (parts[1].toUpperCase()) {
+                case "HS256" -> result.add(JwtSigningKey.hmac(parts[0], parts[2]));
+                case "ES256" -> result.add(JwtSigningKey.es256(parts[0], null, parts[2]));
+                default -> throw new IllegalArgumentException("未対応のアルゴリズムです: " + parts[1]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 署名に使う現行鍵
+     *
+     * @return 現行鍵
+     */
+    public JwtSigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    /**
+     * トークンの署名を検証し、クレームを取得
+     *
+     * @param token JWTトークン文字列
+     * @return 署名検証済みのJWS
+     * @throws io.jsonwebtoken.JwtException トークンが無効、改ざん、期限切れ、または未登録のkidの場合
+     * @throws IllegalArgumentException トークンがnullまたは空の場合
+     */
+    public Jws<Claims> parse(String token) {
+        return resolve(token).getParser().parseClaimsJws(token);
+    }
+
+    /**
+     * トークンのヘッダーのkidから検証鍵を選択
+     *
+     * <p>ヘッダーを読めない場合は現行鍵を返し、形式の誤りはパーサーの検証で検出する
+     *
+     * @param token JWTトークン文字列
+     * @return 検証鍵
+     * @throws UnsupportedJwtException 未登録のkidの場合
+     */
+    public JwtSigningKey resolve(String token) {
+        String kid = readKid(token);
+        if (kid == null) {
+            return activeKey;
+        }
+        JwtSigningKey key = keys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("未登録の鍵IDです: kid=" + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 公開鍵方式の鍵をJWK Set（RFC 7517）形式で出力 共有秘密鍵は含めない
+     *
+     * @return JWK Set（{"keys": [...]}）
+     */
+    public Map<String, Object> toJwks() {
+        List<Map<String, Object>> jwks =
+                keys.values().stream()
+                        .filter(JwtSigningKey::isAsymmetric)
+                        .map(JwtSigningKey::toJwk)
+                        .toList();
+        return Map.of("keys", jwks);
+    }
+
+    private static String readKid(String token) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            JsonNode header =
+                    HEADER_READER.readTree(Base64.getUrlDecoder().decode(token.substring(0, dot)));
+            JsonNode kid = header.get("kid");
+            return kid != null && kid.isTextual() ? kid.asText() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
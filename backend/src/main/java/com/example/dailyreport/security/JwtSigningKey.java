@@ -0,0 +1,157 @@
+package com.example.dailyreport.security;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+
+/**
+ * JWTの署名鍵（鍵ID単位）
+ *
+ * <p>機能: - 鍵ID（kid）・署名アルゴリズム・署名鍵・検証鍵を保持 - 検証用のJwtParserを生成時に一度だけ構築（スレッドセーフのため全リクエストで共有） -
+ * 公開鍵方式（ES256）の場合はJWK形式で公開鍵を出力
+ *
+ * <p>対応アルゴリズム: - HS256: 共有秘密鍵（署名・検証とも同じ鍵） - ES256: P-256の楕円曲線鍵（秘密鍵なしの場合は検証専用）
+ */
+@Getter
+public final class JwtSigningKey {
+
+    /** 鍵ID（JWTヘッダーのkid） */
+    private final String kid;
+
+    /** 署名アルゴリズム */
+    private final SignatureAlgorithm algorithm;
+
+    /** 署名鍵（検証専用の場合はnull） */
+    private final Key signingKey;
+
+    /** 検証鍵 */
+    private final Key verificationKey;
+
+    /** この鍵専用の検証済みパーサー */
+    private final JwtParser parser;
+
+    private JwtSigningKey(
+            String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        if (kid == null || kid.isBlank()) {
+            throw new IllegalArgumentException("鍵IDが指定されていません");
+        }
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+        this.parser = Jwts.parserBuilder().setSigningKey(verificationKey).build();
+    }
+
+    /**
+     * HS256（共有秘密鍵）の鍵を生成
+     *
+     * @param kid 鍵ID
+     * @param secret 秘密鍵文字列（256ビット以上）
+     * @return 署名・検証用の鍵
+     */
+    public static JwtSigningKey hmac(String kid, String secret) {
+        Key key = Keys.hmacShaKeyFor(secret.getBytes());
+        return new JwtSigningKey(kid, SignatureAlgorithm.HS256, key, key);
+    }
+
+    /**
+     * ES256（P-256楕円曲線）の鍵を生成
+     *
+     * @param kid 鍵ID
+     * @param privateKey PKCS#8形式の秘密鍵（Base64またはPEM、検証専用の場合はnullまたは空）
+     * @param publicKey X.509形式の公開鍵（Base64またはPEM）
+     * @return 署名・検証用（秘密鍵なしの場合は検証専用）の鍵
+     */
+    public static JwtSigningKey es256(String kid, String privateKey, String publicKey) {
+        if (publicKey == null || publicKey.isBlank()) {
+            throw new IllegalArgumentException("ES256の公開鍵が指定されていません: kid=" + kid);
+        }
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            PublicKey verificationKey =
+                    keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKey)));
+            if (((ECPublicKey) verificationKey).getParams().getCurve().getField().getFieldSize()
+                    != 256) {
+                throw new IllegalArgumentException("ES256にはP-256の鍵を指定してください: kid=" + kid);
+            }
+            PrivateKey signingKey =
+                    privateKey == null || privateKey.isBlank()
+                            ? null
+                            : keyFactory.generatePrivate(
+                                    new PKCS8EncodedKeySpec(decodePem(privateKey)));
+            return new JwtSigningKey(kid, SignatureAlgorithm.ES256, signingKey, verificationKey);
+        } catch (GeneralSecurityException | ClassCastException e) {
+            throw new IllegalArgumentException("ES256の鍵を読み込めません: kid=" + kid, e);
+        }
+    }
+
+    /**
+     * 署名に使用できるかどうか
+     *
+     * @return 署名鍵を持つ場合true
+     */
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    /**
+     * 公開鍵方式かどうか（鍵を公開して他サービスで検証できる）
+     *
+     * @return 公開鍵方式の場合true
+     */
+    public boolean isAsymmetric() {
+        return verificationKey instanceof PublicKey;
+    }
+
+    /**
+     * 公開鍵をJWK（RFC 7517）形式で出力
+     *
+     * @return JWK（公開鍵方式でない場合は例外）
+     * @throws IllegalStateException 共有秘密鍵の場合
+     */
+    public Map<String, Object> toJwk() {
+        if (!(verificationKey instanceof ECPublicKey ecPublicKey)) {
+            throw new IllegalStateException("共有秘密鍵は公開できません: kid=" + kid);
+        }
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("x", coordinate(ecPublicKey.getW().getAffineX()));
+        jwk.put("y", coordinate(ecPublicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    /** 楕円曲線の座標を32バイト固定長のBase64URLで表現 */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    /** PEMのヘッダー・改行を除去してDERを取得（Base64のみの値も受け付ける） */
+    private static byte[] decodePem(String value) {
+        // 環境変数で1行に連結された値（改行なし）も受け付ける
+        String base64 = value.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -1,28 +1,45 @@
 package com.example.dailyreport.security;
 
+import java.time.Instant;
 import java.util.Date;
-
-import javax.crypto.SecretKey;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.example.dailyreport.entity.User;
+
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 /**
  * JWT（JSON Web Token）トークンの生成・検証を行うユーティリティクラス
  *
  * <p>機能: - JWTトークンの生成（ユーザー名、役職を含む） - トークンからのユーザー情報抽出 - トークンの有効性検証 - トークンの期限切れチェック
+ * - 署名検証済みクレームの一括取得（parseVerifiedClaims） - ユーザーID・上司ID・トークンバージョンを含む拡張トークンの生成 - 個別失効用のトークンID（jti）の付与
+ *
+ * <p>セキュリティ: - HS256（共有秘密鍵）またはES256（公開鍵方式）で署名 - ヘッダーのkidで検証鍵を選択し、鍵ローテーション中は退役中の鍵でも検証 -
+ * 設定可能な秘密鍵とトークン有効期限 - トークン改ざん検知機能
  *
- * <p>セキュリティ: - HMAC SHA-256署名アルゴリズム使用 - 設定可能な秘密鍵とトークン有効期限 - トークン改ざん検知機能
+ * <p>パフォーマンス: - 署名鍵と鍵ごとのJwtParser（JwtKeyring）は初回利用時に一度だけ構築し、以降のリクエストで再利用
  *
  * <p>設定値: - jwt.secret: JWT署名用秘密鍵（デフォルト: mySecretKey） - jwt.expiration: トークン有効期限（ミリ秒、デフォルト:
- * 86400000 = 24時間）
+ * 86400000 = 24時間、application.propertiesでは短命のアクセストークンとして15分。継続利用はリフレッシュトークンで再発行） - jwt.kid:
+ * 現行鍵の鍵ID（デフォルト: default） - jwt.algorithm: HS256 / ES256（デフォルト: HS256） - jwt.es256.private-key /
+ * jwt.es256.public-key: ES256の鍵 - jwt.retiring-keys: 検証のみ受け付ける退役中の鍵（kid:アルゴリズム:鍵 のカンマ区切り）
  */
 @Component
 public class JwtUtil {
 
+    /** ユーザーIDのクレーム名 */
+    static final String CLAIM_USER_ID = "uid";
+
+    /** 上司IDのクレーム名 */
+    static final String CLAIM_SUPERVISOR_ID = "sup";
+
+    /** トークンバージョンのクレーム名 */
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
     /** JWT署名用秘密鍵（application.propertiesから設定可能） */
     @Value("${jwt.secret:mySecretKey}")
     private String secret;
@@ -31,14 +48,55 @@ public class JwtUtil {
     @Value("${jwt.expiration:86400000}")
     private Long expiration;
 
+    /** 現行鍵の鍵ID（JWTヘッダーのkid） */
+    @Value("${jwt.kid:default}")
+    private String kid = "default";
+
+    /** 現行鍵の署名アルゴリズム（HS256 / ES256） */
+    @Value("${jwt.algorithm:HS256}")
+    private String algorithm = "HS256";
+
+    /** ES256の秘密鍵（PKCS#8、Base64またはPEM） */
+    @Value("${jwt.es256.private-key:}")
+    private String es256PrivateKey;
+
+    /** ES256の公開鍵（X.509、Base64またはPEM） */
+    @Value("${jwt.es256.public-key:}")
+    private String es256PublicKey;
+
+    /** 検証のみ受け付ける退役中の鍵（カンマ区切りの kid:アルゴリズム:鍵） */
+    @Value("${jwt.retiring-keys:}")
+    private String retiringKeys;
+
+    /** 署名鍵のキーリング（初回利用時に構築し、以降は再利用） */
+    private volatile JwtKeyring keyring;
+
+    /** 起動時に鍵設定を検証（設定誤りを最初のログインまで持ち越さない） */
+    @PostConstruct
+    void initKeyring() {
+        getKeyring();
+    }
+
     /**
-     * JWT署名用の秘密鍵を生成 HMAC SHA-256アルゴリズムに適したSecretKeyを返す
+     * 署名鍵のキーリングを取得 鍵の導出・パーサーの構築は初回呼び出し時に一度だけ実施する
      *
-     * @return HMAC SHA-256用の秘密鍵
+     * @return キーリング
+     * @throws IllegalArgumentException 鍵の設定が不正な場合
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtKeyring getKeyring() {
+        JwtKeyring current = keyring;
+        if (current == null) {
+            JwtSigningKey activeKey =
+                    switch (algorithm.toUpperCase()) {
+                        case "HS256" -> JwtSigningKey.hmac(kid, secret);
+                        case "ES256" -> JwtSigningKey.es256(kid, es256PrivateKey, es256PublicKey);
+                        default -> throw new IllegalArgumentException(
+                                "未対応のアルゴリズムです: " + algorithm);
+                    };
+            current = new JwtKeyring(activeKey, JwtKeyring.parseRetiringKeys(retiringKeys));
+            keyring = current;
+        }
+        return current;
     }
 
     /**
@@ -52,15 +110,83 @@ public class JwtUtil {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
+        JwtSigningKey activeKey = getKeyring().getActiveKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKey.getKid())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .claim("role", role)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(activeKey.getSigningKey(), activeKey.getAlgorithm())
                 .compact();
     }
 
+    /**
+     * ユーザー情報からJWTトークンを生成 ユーザー名・役職に加え、ユーザーID・上司ID・トークンバージョンを含む
+     *
+     * <p>これらのクレームにより、リクエスト毎のユーザー検索なしで認可判定を行える
+     *
+     * @param user 認証済みユーザー
+     * @return 生成されたJWTトークン文字列
+     */
+    public String generateToken(User user) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expiration);
+
+        JwtSigningKey activeKey = getKeyring().getActiveKey();
+        JwtBuilder builder =
+                Jwts.builder()
+                        .setHeaderParam(JwsHeader.KEY_ID, activeKey.getKid())
+                        .setId(UUID.randomUUID().toString())
+                        .setSubject(user.getUsername())
+                        .claim("role", user.getRole())
+                        .claim(CLAIM_USER_ID, user.getId())
+                        .claim(
+                                CLAIM_TOKEN_VERSION,
+                                user.getTokenVersion() != null ? user.getTokenVersion() : 0L)
+                        .setIssuedAt(now)
+                        .setExpiration(expiryDate);
+        if (user.getSupervisorId() != null) {
+            builder.claim(CLAIM_SUPERVISOR_ID, user.getSupervisorId());
+        }
+        return builder.signWith(activeKey.getSigningKey(), activeKey.getAlgorithm()).compact();
+    }
+
+    /**
+     * アクセストークンの有効期限（秒）を取得 クライアントが期限前に再発行（リフレッシュ）するための目安
+     *
+     * @return 有効期限（秒）
+     */
+    public long getExpirationSeconds() {
+        return expiration / 1000;
+    }
+
+    /**
+     * JWTトークンの署名を検証し、クレームを一度にまとめて取得
+     *
+     * <p>署名検証・JSONパースは1回のみ行い、結果を不変オブジェクトとして返す
+     *
+     * @param token JWTトークン文字列
+     * @return 署名検証済みクレーム
+     * @throws JwtException トークンが無効、改ざん、または期限切れの場合
+     * @throws IllegalArgumentException トークンがnullまたは空の場合
+     */
+    public VerifiedClaims parseVerifiedClaims(String token) {
+        Claims claims = getKeyring().parse(token).getBody();
+
+        return VerifiedClaims.builder()
+                .tokenId(claims.getId())
+                .username(claims.getSubject())
+                .role(claims.get("role", String.class))
+                .userId(claims.get(CLAIM_USER_ID, Long.class))
+                .supervisorId(claims.get(CLAIM_SUPERVISOR_ID, Long.class))
+                .tokenVersion(claims.get(CLAIM_TOKEN_VERSION, Long.class))
+                .issuedAt(toInstant(claims.getIssuedAt()))
+                .expiresAt(toInstant(claims.getExpiration()))
+                .build();
+    }
+
     /**
      * JWTトークンからユーザー名を抽出
      *
@@ -69,14 +195,7 @@ public class JwtUtil {
      * @throws JwtException トークンが無効またはパースエラーの場合
      */
     public String getUsernameFromToken(String token) {
-        Claims claims =
-                Jwts.parserBuilder()
-                        .setSigningKey(getSigningKey())
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
-
-        return claims.getSubject();
+        return parseVerifiedClaims(token).getUsername();
     }
 
     /**
@@ -87,14 +206,7 @@ public class JwtUtil {
      * @throws JwtException トークンが無効またはパースエラーの場合
      */
     public String getRoleFromToken(String token) {
-        Claims claims =
-                Jwts.parserBuilder()
-                        .setSigningKey(getSigningKey())
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
-
-        return claims.get("role", String.class);
+        return parseVerifiedClaims(token).getRole();
     }
 
     /**
@@ -105,7 +217,7 @@ public class JwtUtil {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
+            parseVerifiedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -120,17 +232,14 @@ public class JwtUtil {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims =
-                    Jwts.parserBuilder()
-                            .setSigningKey(getSigningKey())
-                            .build()
-                            .parseClaimsJws(token)
-                            .getBody();
-
-            return claims.getExpiration().before(new Date());
+            return parseVerifiedClaims(token).isExpired(Instant.now());
         } catch (JwtException | IllegalArgumentException e) {
             // パースエラーの場合も期限切れとして扱う
             return true;
         }
     }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
 }
@@ -0,0 +1,179 @@
+package com.example.dailyreport.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * パスワードハッシュのポリシー（アルゴリズムとコスト）
+ *
+ * <p>機能: - 設定されたアルゴリズム（bcrypt/argon2）でハッシュ化する DelegatingPasswordEncoder を生成 - 起動時に実機で計測し、
+ * 1回の検証が目標時間に収まる最大のコストを選択（キャリブレーション） - 既存のハッシュ（接頭辞なしの $2a$ 形式を含む）はそのまま検証できる
+ *
+ * <p>保存形式: - {bcrypt}$2a$12$... / {argon2}$argon2id$v=19$m=19456,t=2,p=1$... - 接頭辞のないハッシュはbcryptとして検証し、
+ * ポリシー未満（アルゴリズム違い・コスト不足・接頭辞なし）としてログイン時の再ハッシュ対象になる
+ *
+ * <p>キャリブレーション: - bcrypt: 下限コストで計測し、コスト+1ごとに検証時間が2倍になる前提で目標時間以内の最大コストを選択 - argon2:
+ * メモリ量・並列度は固定し、反復回数に比例する前提で目標時間以内の最大反復回数を選択 - いずれも設定の下限を下回らない（既存ハッシュより弱くしない）
+ *
+ * <p>設定値: - password-hash.algorithm: ハッシュ化に使用するアルゴリズム（bcrypt/argon2、デフォルト: bcrypt） -
+ * password-hash.calibrate: 起動時のキャリブレーションの有効/無効（デフォルト: true、無効時は下限値をそのまま使用） -
+ * password-hash.target-verification-time: 1回の検証の目標時間（デフォルト: 250ms） - password-hash.bcrypt.strength /
+ * max-strength: bcryptコストの下限・上限（デフォルト: 10 / 14） - password-hash.argon2.memory-kib / parallelism:
+ * argon2のメモリ量（KiB）・並列度（デフォルト: 19456 / 1） - password-hash.argon2.iterations / max-iterations:
+ * argon2の反復回数の下限・上限（デフォルト: 2 / 10）
+ */
+@Component
+@Slf4j
+public class PasswordHashPolicy {
+
+    /** bcryptの識別子（保存形式の接頭辞） */
+    public static final String BCRYPT = "bcrypt";
+
+    /** argon2（argon2id）の識別子（保存形式の接頭辞） */
+    public static final String ARGON2 = "argon2";
+
+    private static final int ARGON2_SALT_LENGTH = 16;
+
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    /** キャリブレーションの計測回数（ウォームアップ1回を除く） */
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    /** ハッシュ化に使用するアルゴリズム */
+    @Getter private final String algorithm;
+
+    /** 適用するbcryptコスト */
+    @Getter private final int bcryptStrength;
+
+    /** 適用するargon2の反復回数 */
+    @Getter private final int argon2Iterations;
+
+    private final int argon2MemoryKib;
+
+    private final int argon2Parallelism;
+
+    public PasswordHashPolicy(
+            @Value("${password-hash.algorithm:bcrypt}") String algorithm,
+            @Value("${password-hash.calibrate:true}") boolean calibrate,
+            @Value("${password-hash.target-verification-time:250ms}") Duration targetVerificationTime,
+            @Value("${password-hash.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${password-hash.bcrypt.max-strength:14}") int bcryptMaxStrength,
+            @Value("${password-hash.argon2.memory-kib:19456}") int argon2MemoryKib,
+            @Value("${password-hash.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${password-hash.argon2.iterations:2}") int argon2Iterations,
+            @Value("${password-hash.argon2.max-iterations:10}") int argon2MaxIterations) {
+        this.algorithm = algorithm.trim().toLowerCase(Locale.ROOT);
+        if (!BCRYPT.equals(this.algorithm) && !ARGON2.equals(this.algorithm)) {
+            throw new IllegalArgumentException("未対応のパスワードハッシュアルゴリズムです: " + algorithm);
+        }
+        this.argon2MemoryKib = argon2MemoryKib;
+        this.argon2Parallelism = argon2Parallelism;
+
+        boolean calibrateBcrypt = calibrate && BCRYPT.equals(this.algorithm);
+        boolean calibrateArgon2 = calibrate && ARGON2.equals(this.algorithm);
+        this.bcryptStrength =
+                calibrateBcrypt
+                        ? calibrateBcrypt(targetVerificationTime, bcryptStrength, bcryptMaxStrength)
+                        : bcryptStrength;
+        this.argon2Iterations =
+                calibrateArgon2
+                        ? calibrateArgon2(targetVerificationTime, argon2Iterations, argon2MaxIterations)
+                        : argon2Iterations;
+
+        log.info(
+                "パスワードハッシュポリシー: algorithm={}, bcryptStrength={}, argon2(m={}KiB, t={}, p={}),"
+                        + " calibrated={}",
+                this.algorithm,
+                this.bcryptStrength,
+                argon2MemoryKib,
+                this.argon2Iterations,
+                argon2Parallelism,
+                calibrate);
+    }
+
+    /**
+     * ポリシーに従う PasswordEncoder を生成
+     *
+     * @return 設定アルゴリズムでハッシュ化し、既知のすべての形式を検証できるエンコーダー
+     */
+    public PasswordEncoder createPasswordEncoder() {
+        BCryptPasswordEncoder bcrypt = bcrypt(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, argon2(argon2Iterations));
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        // 接頭辞のない既存ハッシュ（init.sql の $2a$10$ など）はbcryptとして検証する
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    private int calibrateBcrypt(Duration target, int minStrength, int maxStrength) {
+        long measuredNanos = measureVerificationNanos(bcrypt(minStrength));
+        int strength = minStrength;
+        long expectedNanos = measuredNanos;
+        while (strength < maxStrength && expectedNanos * 2 <= target.toNanos()) {
+            strength++;
+            expectedNanos *= 2;
+        }
+        log.info(
+                "bcryptキャリブレーション: cost={}で{}ms → cost={}（目標{}ms）",
+                minStrength,
+                Duration.ofNanos(measuredNanos).toMillis(),
+                strength,
+                target.toMillis());
+        return strength;
+    }
+
+    private int calibrateArgon2(Duration target, int minIterations, int maxIterations) {
+        long measuredNanos = measureVerificationNanos(argon2(minIterations));
+        long perIterationNanos = Math.max(1, measuredNanos / minIterations);
+        long fitting = target.toNanos() / perIterationNanos;
+        int iterations = (int) Math.max(minIterations, Math.min(maxIterations, fitting));
+        log.info(
+                "argon2キャリブレーション: t={}で{}ms → t={}（目標{}ms）",
+                minIterations,
+                Duration.ofNanos(measuredNanos).toMillis(),
+                iterations,
+                target.toMillis());
+        return iterations;
+    }
+
+    /** 1回の検証時間を計測（ウォームアップ後の中央値） */
+    private static long measureVerificationNanos(PasswordEncoder encoder) {
+        String hash = encoder.encode(CALIBRATION_PASSWORD);
+        encoder.matches(CALIBRATION_PASSWORD, hash);
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(CALIBRATION_PASSWORD, hash);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[CALIBRATION_SAMPLES / 2];
+    }
+
+    private static BCryptPasswordEncoder bcrypt(int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    private Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(
+                ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, argon2Parallelism, argon2MemoryKib, iterations);
+    }
+}
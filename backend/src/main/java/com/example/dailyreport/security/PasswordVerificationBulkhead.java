@@ -0,0 +1,162 @@
+package com.example.dailyreport.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.example.dailyreport.exception.LoginThrottledException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * パスワード検証（BCrypt照合）専用の隔壁（バルクヘッド）
+ *
+ * <p>機能: - パスワード検証をCPUコア数のスレッドに限定した専用プールで実行し、ログイン集中時も他のAPIのCPUを奪わない - 待ち行列は上限付きで、満杯の場合は即座に拒否する -
+ * 待ち行列で max-wait を超えて待った検証は取り消して拒否する（クライアントは Retry-After 後に再試行）
+ *
+ * <p>スレッド: - 呼び出し元（リクエストスレッド）は検証の完了を待つが、CPUは使用しない - ログインで占有されるリクエストスレッドは最大で「スレッド数 + 待ち行列の上限」本
+ *
+ * <p>メトリクス: - login.bulkhead.queue.depth: 待ち行列の件数 - login.bulkhead.active: 実行中の検証数 - login.bulkhead.wait:
+ * 待ち行列での待ち時間 - login.bulkhead.execution: 検証の実行時間 - login.bulkhead.rejected（タグ reason=queue_full/timeout）:
+ * 拒否した件数
+ *
+ * <p>設定値: - login-bulkhead.enabled: 有効/無効（デフォルト: true、無効時は呼び出し元のスレッドで実行） - login-bulkhead.threads:
+ * スレッド数（デフォルト: 0 = CPUコア数） - login-bulkhead.queue-capacity: 待ち行列の上限（デフォルト: 64） - login-bulkhead.max-wait:
+ * 呼び出し元が完了を待つ上限（デフォルト: 2秒） - login-bulkhead.retry-after: 拒否時に返す再試行までの秒数（デフォルト: 2秒）
+ */
+@Component
+@Slf4j
+public class PasswordVerificationBulkhead implements DisposableBean {
+
+    private final boolean enabled;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration maxWait;
+
+    private final Duration retryAfter;
+
+    private final Timer waitTimer;
+
+    private final Timer executionTimer;
+
+    private final Counter queueFullRejections;
+
+    private final Counter timeoutRejections;
+
+    public PasswordVerificationBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${login-bulkhead.enabled:true}") boolean enabled,
+            @Value("${login-bulkhead.threads:0}") int threads,
+            @Value("${login-bulkhead.queue-capacity:64}") int queueCapacity,
+            @Value("${login-bulkhead.max-wait:2s}") Duration maxWait,
+            @Value("${login-bulkhead.retry-after:2s}") Duration retryAfter) {
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("login-verify-");
+        threadFactory.setDaemon(true);
+        this.executor =
+                new ThreadPoolExecutor(
+                        poolSize,
+                        poolSize,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        threadFactory,
+                        new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("login.bulkhead.queue.depth", executor, e -> e.getQueue().size())
+                .description("パスワード検証の待ち行列の件数")
+                .register(meterRegistry);
+        Gauge.builder("login.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("実行中のパスワード検証数")
+                .register(meterRegistry);
+        this.waitTimer =
+                Timer.builder("login.bulkhead.wait")
+                        .description("パスワード検証の待ち行列での待ち時間")
+                        .register(meterRegistry);
+        this.executionTimer =
+                Timer.builder("login.bulkhead.execution")
+                        .description("パスワード検証の実行時間")
+                        .register(meterRegistry);
+        this.queueFullRejections = rejectionCounter(meterRegistry, "queue_full");
+        this.timeoutRejections = rejectionCounter(meterRegistry, "timeout");
+    }
+
+    /**
+     * パスワード検証を隔壁内で実行し、完了を待って結果を返す
+     *
+     * @param verification 検証処理（BCrypt照合など）
+     * @return 検証結果
+     * @throws LoginThrottledException 待ち行列が満杯、または max-wait 以内に完了しなかった場合
+     */
+    public <T> T execute(Supplier<T> verification) {
+        if (!enabled) {
+            return verification.get();
+        }
+
+        long submittedAt = System.nanoTime();
+        FutureTask<T> task =
+                new FutureTask<>(
+                        () -> {
+                            waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                            return executionTimer.record(verification::get);
+                        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            log.warn("パスワード検証を拒否: 待ち行列が満杯です（queue={}）", executor.getQueue().size());
+            throw new LoginThrottledException("ログインが混雑しています", retryAfter);
+        }
+
+        try {
+            return task.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 未着手の場合は実行されない（実行中の場合は完了まで続くが結果は使用しない）
+            task.cancel(false);
+            timeoutRejections.increment();
+            log.warn("パスワード検証を拒否: {}ms以内に完了しませんでした", maxWait.toMillis());
+            throw new LoginThrottledException("ログインが混雑しています", retryAfter);
+        } catch (InterruptedException e) {
+            task.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("パスワード検証の待機中に割り込まれました", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("パスワード検証に失敗しました", e.getCause());
+        }
+    }
+
+    /** 検証スレッドを停止（アプリケーション終了時） */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("login.bulkhead.rejected")
+                .description("パスワード検証の拒否件数")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -9,7 +9,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -17,10 +16,12 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
+
 /**
  * Spring Security設定クラス
  *
- * <p>機能: - JWT認証の有効/無効制御 - デバッグモード時の認証スキップ - CORS設定 - エンドポイントアクセス制御
+ * <p>機能: - パスワードエンコーダーの提供 - JWT認証の有効/無効制御 - デバッグモード時の認証スキップ - CORS設定 - エンドポイントアクセス制御
  */
 @Configuration
 @EnableWebSecurity
@@ -32,9 +33,15 @@ public class SecurityConfig {
     @Value("${jwt.auth.enabled:true}")
     private boolean jwtAuthEnabled;
 
+    /**
+     * パスワードエンコーダー（アルゴリズム・コストは PasswordHashPolicy が決定）
+     *
+     * @param passwordHashPolicy パスワードハッシュのポリシー
+     * @return 既存のbcryptハッシュも検証できる DelegatingPasswordEncoder
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashPolicy passwordHashPolicy) {
+        return passwordHashPolicy.createPasswordEncoder();
     }
 
     @Bean
@@ -49,7 +56,14 @@ public class SecurityConfig {
             // 通常モード：JWT認証を適用
             http.authorizeHttpRequests(
                             auth ->
-                                    auth.requestMatchers("/api/auth/login")
+                                    // 非同期処理（ストリーミング出力）の完了ディスパッチは元のリクエストで認可済み
+                                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                            .permitAll()
+                                            .requestMatchers(
+                                                    "/api/auth/login",
+                                                    "/api/auth/refresh",
+                                                    "/api/auth/logout",
+                                                    "/api/auth/jwks")
                                             .permitAll()
                                             .requestMatchers("/swagger-ui/**", "/v3/api-docs/**")
                                             .permitAll()
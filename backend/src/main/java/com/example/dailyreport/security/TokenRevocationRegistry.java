@@ -0,0 +1,240 @@
+package com.example.dailyreport.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.dailyreport.entity.RevokedToken;
+import com.example.dailyreport.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 有効期限前に失効させたJWT（jti）の判定
+ *
+ * <p>機能: - 失効したjtiをrevoked_tokensに保存し、自ノードのBloomフィルターにも即時に追加 - リクエスト毎の判定はBloomフィルターのみで行い、
+ * 「含まれる可能性あり」の場合だけDBで確定判定する（通常の未失効トークンはDBアクセスなし）
+ *
+ * <p>ノード間の反映: - sync-interval毎にrevoked_atが前回取得以降の行を差分で取り込む（他ノードで失効したトークンを反映） -
+ * rebuild-interval毎にDBから作り直す（Bloomフィルターは削除できないため、期限切れのjtiはこのタイミングで除かれる） -
+ * 取り込みはReplicaLagMonitorと同様に期限到来後に最初に判定したスレッドのみが行い、他のスレッドは現在のフィルターで判定を続ける
+ *
+ * <p>メトリクス: - jwt.revocation.checks（タグ result=negative/false_positive/revoked）: 判定結果別件数 -
+ * jwt.revocation.bloom.false_positive_rate: 未失効トークンのうちDB確認が発生した割合（実測） -
+ * jwt.revocation.bloom.expected_fpp: ビット充填率から推定した偽陽性率 - jwt.revocation.bloom.insertions: フィルターに追加した件数
+ *
+ * <p>設定値: - jwt.revocation.expected-insertions: 想定失効件数（デフォルト: 100000、超えた場合は再構築時に拡張） -
+ * jwt.revocation.false-positive-probability: 想定件数での偽陽性率（デフォルト: 0.001） - jwt.revocation.sync-interval:
+ * 差分取り込み間隔（デフォルト: 5秒） - jwt.revocation.rebuild-interval: 再構築間隔（デフォルト: 10分） -
+ * jwt.revocation.clock-skew: 差分取り込み時に重複して読み直す時間（ノード間の時刻ずれ・コミット遅延の許容、デフォルト: 5秒）
+ */
+@Component
+@Slf4j
+public class TokenRevocationRegistry {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    private final Duration syncInterval;
+
+    private final Duration rebuildInterval;
+
+    private final Duration clockSkew;
+
+    private final Clock clock;
+
+    private final AtomicBoolean syncing = new AtomicBoolean();
+
+    private final Counter negative;
+
+    private final Counter falsePositive;
+
+    private final Counter revoked;
+
+    private volatile BloomFilter filter;
+
+    private volatile long nextSyncAt;
+
+    private volatile long nextRebuildAt;
+
+    /** 次回の差分取り込みで読み直す起点（前回の取り込み開始時刻 − clock-skew） */
+    private volatile LocalDateTime syncedFrom;
+
+    @Autowired
+    public TokenRevocationRegistry(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-probability:0.001}")
+                    double falsePositiveProbability,
+            @Value("${jwt.revocation.sync-interval:5s}") Duration syncInterval,
+            @Value("${jwt.revocation.rebuild-interval:10m}") Duration rebuildInterval,
+            @Value("${jwt.revocation.clock-skew:5s}") Duration clockSkew) {
+        this(
+                revokedTokenRepository,
+                meterRegistry,
+                expectedInsertions,
+                falsePositiveProbability,
+                syncInterval,
+                rebuildInterval,
+                clockSkew,
+                Clock.systemDefaultZone());
+    }
+
+    public TokenRevocationRegistry(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            long expectedInsertions,
+            double falsePositiveProbability,
+            Duration syncInterval,
+            Duration rebuildInterval,
+            Duration clockSkew,
+            Clock clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.syncInterval = syncInterval;
+        this.rebuildInterval = rebuildInterval;
+        this.clockSkew = clockSkew;
+        this.clock = clock;
+        // 初回の判定時にDBから構築する
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+
+        this.negative = checkCounter(meterRegistry, "negative");
+        this.falsePositive = checkCounter(meterRegistry, "false_positive");
+        this.revoked = checkCounter(meterRegistry, "revoked");
+        Gauge.builder("jwt.revocation.bloom.false_positive_rate", this, r -> r.observedFalsePositiveRate())
+                .description("未失効トークンのうちBloomフィルターで判定できずDBを確認した割合")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "jwt.revocation.bloom.expected_fpp",
+                        this,
+                        r -> r.filter.expectedFalsePositiveProbability())
+                .description("ビット充填率から推定したBloomフィルターの偽陽性率")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.bloom.insertions", this, r -> r.filter.insertions())
+                .description("Bloomフィルターに追加した失効トークン数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * トークンが失効しているかどうかを判定
+     *
+     * @param jti JWTのjti（nullの場合は旧形式トークンとして未失効扱い）
+     * @return 失効している場合true
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        refreshIfDue();
+
+        if (!filter.mightContain(jti)) {
+            negative.increment();
+            return false;
+        }
+        if (revokedTokenRepository.existsById(jti)) {
+            revoked.increment();
+            return true;
+        }
+        falsePositive.increment();
+        return false;
+    }
+
+    /**
+     * トークンを失効させる 自ノードには即時、他ノードには次回の差分取り込みで反映される
+     *
+     * @param jti JWTのjti
+     * @param userId トークンの所有ユーザーID
+     * @param expiresAt トークンの有効期限（過ぎている場合は保存しない）
+     */
+    public void revoke(String jti, Long userId, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+        revokedTokenRepository.save(
+                RevokedToken.builder()
+                        .jti(jti)
+                        .userId(userId)
+                        .expiresAt(LocalDateTime.ofInstant(expiresAt, clock.getZone()))
+                        .revokedAt(LocalDateTime.now(clock))
+                        .build());
+        filter.put(jti);
+        log.info("アクセストークンを失効: userId={}, jti={}", userId, jti);
+    }
+
+    /**
+     * 未失効トークンのうちDB確認が発生した割合（実測の偽陽性率）
+     *
+     * @return 偽陽性率（判定がない場合は0）
+     */
+    public double observedFalsePositiveRate() {
+        double positives = falsePositive.count();
+        double total = positives + negative.count();
+        return total == 0 ? 0.0 : positives / total;
+    }
+
+    /** 取り込み間隔を過ぎていれば差分取り込み、再構築間隔を過ぎていれば再構築を行う */
+    private void refreshIfDue() {
+        long now = clock.millis();
+        if (now < nextSyncAt || !syncing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (now >= nextRebuildAt) {
+                rebuild();
+                nextRebuildAt = now + rebuildInterval.toMillis();
+            } else {
+                sync();
+            }
+        } catch (RuntimeException e) {
+            // 取り込みに失敗しても現在のフィルターで判定を続け、次の間隔で再試行する
+            log.warn("失効トークンの取り込みに失敗: {}", e.getMessage());
+        } finally {
+            nextSyncAt = now + syncInterval.toMillis();
+            syncing.set(false);
+        }
+    }
+
+    private void rebuild() {
+        LocalDateTime started = LocalDateTime.now(clock);
+        revokedTokenRepository.deleteExpired(started);
+        List<String> jtis = revokedTokenRepository.findActiveJtis(started);
+
+        BloomFilter next =
+                new BloomFilter(
+                        Math.max(expectedInsertions, jtis.size() * 2L), falsePositiveProbability);
+        jtis.forEach(next::put);
+        filter = next;
+        syncedFrom = started.minus(clockSkew);
+        log.debug("失効トークンのBloomフィルターを再構築: entries={}, bits={}", jtis.size(), next.bitSize());
+    }
+
+    private void sync() {
+        LocalDateTime started = LocalDateTime.now(clock);
+        List<String> jtis = revokedTokenRepository.findJtisRevokedSince(syncedFrom, started);
+        BloomFilter current = filter;
+        jtis.forEach(current::put);
+        syncedFrom = started.minus(clockSkew);
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.revocation.checks")
+                .description("失効判定の結果別件数")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
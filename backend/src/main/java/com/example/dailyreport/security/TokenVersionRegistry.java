@@ -0,0 +1,116 @@
+package com.example.dailyreport.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.dailyreport.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ユーザー毎の現在のトークンバージョンを保持するレジストリ
+ *
+ * <p>機能: - JWTのverクレームとユーザーの現在のトークンバージョンを比較し、失効したクレームを検出 - バージョンは短時間キャッシュし、リクエスト毎のDBアクセスを回避 -
+ * ユーザー更新時はUserChangeListenerから即時に無効化
+ *
+ * <p>失効条件: - 役職・上司・アクティブ状態の変更によりトークンバージョンが加算された場合 - ユーザーが削除または非アクティブ化された場合
+ *
+ * <p>読み込み: - キャッシュミス時のDBアクセスはキャッシュのロック（ConcurrentHashMap.computeのsynchronized）の外で行い、
+ * 仮想スレッドモードでもJDBCの待ち時間中にキャリアスレッドを占有（ピン留め）しない -
+ * 読み込み中に無効化が発生した場合、その読み込み結果は格納しない（変更前のバージョンを残さない）
+ *
+ * <p>設定値: - jwt.token-version.cache-ttl: バージョンのキャッシュ期間（デフォルト: 30秒）
+ */
+@Component
+@Slf4j
+public class TokenVersionRegistry {
+
+    /** ユーザーが存在しない、または非アクティブであることを表す値 */
+    static final long NO_ACTIVE_USER = -1L;
+
+    /** Micrometerに登録するキャッシュ名 */
+    static final String CACHE_NAME = "tokenVersions";
+
+    private final UserRepository userRepository;
+
+    private final Cache<Long, Long> versions;
+
+    /** 無効化のたびに加算し、読み込み中に無効化が発生したかを判定する */
+    private final AtomicLong generation = new AtomicLong();
+
+    public TokenVersionRegistry(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.token-version.cache-ttl:30s}") Duration cacheTtl,
+            @Value("${jwt.token-version.cache-max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.versions =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(cacheTtl)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, CACHE_NAME);
+    }
+
+    /**
+     * クレームのトークンバージョンが最新かどうかを判定
+     *
+     * @param userId ユーザーID
+     * @param tokenVersion JWTに含まれるトークンバージョン
+     * @return 最新の場合true、失効している場合false
+     */
+    public boolean isCurrent(Long userId, Long tokenVersion) {
+        if (userId == null || tokenVersion == null) {
+            return false;
+        }
+        long current = currentVersion(userId);
+        if (current != tokenVersion) {
+            log.debug("トークンバージョン不一致: userId={}, token={}, current={}", userId, tokenVersion, current);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 指定ユーザーのキャッシュ済みバージョンを破棄 次回の判定時にDBから再取得する
+     *
+     * @param userId ユーザーID
+     */
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            generation.incrementAndGet();
+            versions.invalidate(userId);
+        }
+    }
+
+    /**
+     * 現在のトークンバージョンを取得（キャッシュにない場合はDBから読み込んで格納）
+     *
+     * @param userId ユーザーID
+     * @return 現在のトークンバージョン（存在しない・非アクティブの場合はNO_ACTIVE_USER）
+     */
+    private long currentVersion(Long userId) {
+        Long cached = versions.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observed = generation.get();
+        long loaded = userRepository.findActiveTokenVersionById(userId).orElse(NO_ACTIVE_USER);
+        versions.put(userId, loaded);
+        // 読み込み中に無効化された場合は、変更前のバージョンを読んだ可能性があるため破棄する
+        if (generation.get() != observed) {
+            versions.invalidate(userId);
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.dailyreport.security;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 署名検証済みJWTクレームを保持する不変オブジェクト
+ *
+ * <p>機能: - 1トークンにつき1回だけ署名検証・JSONパースした結果を保持 - JwtClaimsCacheのキャッシュ値として共有 -
+ * JwtAuthenticationFilterでの認証情報組み立てに使用
+ *
+ * <p>注意事項: - このオブジェクトは署名検証に成功したトークンからのみ生成すること - 有効期限の判定はisExpired()で行う -
+ * ユーザーID等の拡張クレームを持たない旧形式トークンではuserId/supervisorId/tokenVersionはnull - jtiを持たないトークンではtokenIdはnull
+ */
+@Value
+@Builder
+public class VerifiedClaims {
+
+    /** トークンID（JWTのjti、個別失効の判定に使用） */
+    String tokenId;
+
+    /** ユーザー名（JWTのsubject） */
+    String username;
+
+    /** ユーザーの役職（管理者/上長/部下） */
+    String role;
+
+    /** ユーザーID（claim: uid） */
+    Long userId;
+
+    /** 直属の上司ID（claim: sup） */
+    Long supervisorId;
+
+    /** トークンバージョン（claim: ver） */
+    Long tokenVersion;
+
+    /** トークン発行日時 */
+    Instant issuedAt;
+
+    /** トークン有効期限 */
+    Instant expiresAt;
+
+    /**
+     * 指定時刻時点で有効期限切れかどうかを判定
+     *
+     * @param now 判定基準時刻
+     * @return 期限切れの場合true
+     */
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !now.isBefore(expiresAt);
+    }
+
+    /**
+     * ユーザーID・トークンバージョンを含む拡張形式のトークンかどうかを判定
+     *
+     * @return 拡張形式の場合true
+     */
+    public boolean hasIdentity() {
+        return userId != null && tokenVersion != null;
+    }
+}
@@ -9,38 +9,56 @@ import org.springframework.stereotype.Service;
 import com.example.dailyreport.dto.LoginRequest;
 import com.example.dailyreport.dto.LoginResponse;
 import com.example.dailyreport.entity.User;
-import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.exception.InvalidRefreshTokenException;
+import com.example.dailyreport.exception.LoginThrottledException;
 import com.example.dailyreport.security.JwtUtil;
+import com.example.dailyreport.security.PasswordVerificationBulkhead;
+import com.example.dailyreport.security.TokenRevocationRegistry;
+import com.example.dailyreport.security.VerifiedClaims;
+
+import io.jsonwebtoken.JwtException;
 
 /**
  * 認証関連のビジネスロジックを担当するサービスクラス
  *
- * <p>機能: - ユーザー認証の実行 - パスワード検証（BCrypt） - JWT トークンの生成 - 認証エラーのハンドリング
+ * <p>機能: - ユーザー認証の実行 - パスワード検証（BCrypt/Argon2） - ポリシー未満のパスワードハッシュの再ハッシュ - JWT トークンの生成 -
+ * リフレッシュトークンによる再発行（パスワード検証なし）・ログアウト - 認証エラーのハンドリング
  *
- * <p>依存関係: - UserRepository: ユーザー情報の取得 - PasswordEncoder: パスワードの暗号化・検証 - JwtUtil: JWT トークンの生成・検証
+ * <p>依存関係: - UserDirectoryService: ユーザー情報の取得（キャッシュ経由） - PasswordEncoder: パスワードの暗号化・検証 -
+ * PasswordVerificationBulkhead: パスワード検証の実行枠（同時実行数・待ち行列の上限） - PasswordRehashService:
+ * ログイン時の再ハッシュ - RefreshTokenService: リフレッシュトークンの発行・ローテーション・失効 - TokenRevocationRegistry: アクセストークンの個別失効 - JwtUtil: JWT トークンの生成・検証
  */
 @Service
 public class AuthService {
 
-    @Autowired private UserRepository userRepository;
+    @Autowired private UserDirectoryService userDirectoryService;
 
     @Autowired private PasswordEncoder passwordEncoder;
 
+    @Autowired private PasswordVerificationBulkhead passwordVerificationBulkhead;
+
+    @Autowired private PasswordRehashService passwordRehashService;
+
+    @Autowired private RefreshTokenService refreshTokenService;
+
+    @Autowired private TokenRevocationRegistry tokenRevocationRegistry;
+
     @Autowired private JwtUtil jwtUtil;
 
     /**
      * ユーザー認証を実行し、成功時にJWTトークンを発行
      *
-     * <p>処理フロー: 1. ユーザー名でユーザー情報を検索 2. ユーザーが存在しない場合は例外を投げる 3. BCryptでパスワードを検証 4.
-     * パスワードが一致しない場合は例外を投げる 5. 認証成功時にJWTトークンを生成・返却
+     * <p>処理フロー: 1. ユーザー名でユーザー情報を検索 2. ユーザーが存在しない場合は例外を投げる 3. パスワードを検証 4.
+     * パスワードが一致しない場合は例外を投げる 5. ハッシュがポリシー未満であれば再ハッシュ 6. 認証成功時にJWTトークン・リフレッシュトークンを生成・返却
      *
      * @param loginRequest ログイン情報（ユーザー名、パスワード）
-     * @return LoginResponse JWTトークンとユーザー情報
+     * @return LoginResponse JWTトークン・リフレッシュトークンとユーザー情報
      * @throws RuntimeException ユーザーが見つからない、またはパスワードが間違っている場合
+     * @throws LoginThrottledException パスワード検証の待ち行列が満杯、または待ち時間の上限を超えた場合
      */
     public LoginResponse authenticateUser(LoginRequest loginRequest) {
         // ユーザー名でユーザー情報を検索
-        Optional<User> userOptional = userRepository.findByUsername(loginRequest.getUsername());
+        Optional<User> userOptional = userDirectoryService.findByUsername(loginRequest.getUsername());
 
         if (userOptional.isEmpty()) {
             throw new RuntimeException("ユーザーが見つかりません");
@@ -48,13 +66,70 @@ public class AuthService {
 
         User user = userOptional.get();
 
-        // BCryptでパスワード検証
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        // パスワード検証（専用の隔壁内で実行し、リクエストスレッドのCPUを占有しない）
+        boolean matches =
+                passwordVerificationBulkhead.execute(
+                        () -> passwordEncoder.matches(loginRequest.getPassword(), user.getPassword()));
+        if (!matches) {
             throw new RuntimeException("パスワードが正しくありません");
         }
 
-        // 認証成功: JWTトークン生成
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
+        // 保存済みハッシュがポリシー未満であれば再ハッシュ（失敗してもログインは継続）
+        passwordRehashService.upgradeIfNeeded(user, loginRequest.getPassword());
+
+        // 認証成功: JWTトークン生成（ユーザーID・上司ID・トークンバージョンを含む）と新しいリフレッシュトークンの発行
+        return toLoginResponse(user, refreshTokenService.issue(user.getId()));
+    }
+
+    /**
+     * リフレッシュトークンでアクセストークンを再発行（パスワード検証なし）
+     *
+     * <p>処理フロー: 1. リフレッシュトークンを新しいトークンに交換（使用済みの場合はファミリー全体を失効） 2. ユーザー情報を取得し、無効化されている場合は全トークンを失効
+     * 3. 最新のユーザー情報（役職・上司・トークンバージョン）でJWTトークンを生成・返却
+     *
+     * @param refreshToken ログイン時・前回のリフレッシュ時に発行されたリフレッシュトークン
+     * @return LoginResponse 新しいJWTトークン・リフレッシュトークンとユーザー情報
+     * @throws InvalidRefreshTokenException トークンが無効・期限切れ・再利用された場合、またはユーザーが無効な場合
+     */
+    public LoginResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        Optional<User> userOptional =
+                userDirectoryService
+                        .findById(rotation.getUserId())
+                        .filter(user -> !Boolean.FALSE.equals(user.getIsActive()));
+        if (userOptional.isEmpty()) {
+            refreshTokenService.revokeAll(rotation.getUserId());
+            throw new InvalidRefreshTokenException("ユーザーが無効です");
+        }
+
+        return toLoginResponse(userOptional.get(), rotation.getRefreshToken());
+    }
+
+    /**
+     * リフレッシュトークンを失効（ログアウト） 同じログインから派生したトークンもすべて失効する
+     *
+     * <p>アクセストークンが指定された場合は、有効期限前でも以降のリクエストで使用できないよう失効させる
+     *
+     * @param refreshToken リフレッシュトークン
+     * @param accessToken アクセストークン（未指定・無効・期限切れの場合は失効処理を行わない）
+     */
+    public void logout(String refreshToken, String accessToken) {
+        refreshTokenService.revokeFamily(refreshToken);
+        if (accessToken == null || accessToken.isBlank()) {
+            return;
+        }
+        try {
+            VerifiedClaims claims = jwtUtil.parseVerifiedClaims(accessToken);
+            tokenRevocationRegistry.revoke(
+                    claims.getTokenId(), claims.getUserId(), claims.getExpiresAt());
+        } catch (JwtException | IllegalArgumentException e) {
+            // 無効・期限切れのトークンはそもそも認証に使用できないため失効不要
+        }
+    }
+
+    private LoginResponse toLoginResponse(User user, String refreshToken) {
+        String token = jwtUtil.generateToken(user);
 
         // 表示名の決定: displayNameがある場合はそれを使用、ない場合はusernameをフォールバック
         String responseDisplayName =
@@ -65,6 +140,8 @@ public class AuthService {
         // Lombokの@Builderを使用してレスポンス作成
         return LoginResponse.builder()
                 .token(token)
+                .refreshToken(refreshToken)
+                .expiresIn(jwtUtil.getExpirationSeconds())
                 .id(user.getId().toString())
                 .username(user.getUsername())
                 .email(user.getEmail())
@@ -0,0 +1,31 @@
+package com.example.dailyreport.service;
+
+import lombok.Value;
+
+/**
+ * 日報の作成・更新・削除を通知するアプリケーションイベント
+ *
+ * <p>機能: - DailyReportServiceが変更ごとに発行し、リスナーはコミット後（@TransactionalEventListener）に受け取る -
+ * 作成者IDから上司を特定し、上司単位のキャッシュ無効化・ダッシュボードへのプッシュ通知などに使用する
+ */
+@Value
+public class DailyReportChangedEvent {
+
+    /** 変更の種類 */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        /** 作成・更新の結果、提出済みになった（または提出済みのまま更新された） */
+        SUBMITTED,
+        DELETED
+    }
+
+    /** 日報ID */
+    Long reportId;
+
+    /** 作成者ID */
+    Long userId;
+
+    /** 変更の種類 */
+    ChangeType changeType;
+}
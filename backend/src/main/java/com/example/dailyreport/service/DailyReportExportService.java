@@ -0,0 +1,146 @@
+package com.example.dailyreport.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dailyreport.dto.DailyReportExportRow;
+import com.example.dailyreport.repository.DailyReportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 日報エクスポートサービス
+ *
+ * <p>機能: - 日付範囲内の日報をCSV/NDJSONで出力ストリームへ直接書き出す - 管理者は全ユーザー、上司は部下の日報を対象とする
+ *
+ * <p>メモリ使用量: - リポジトリのStream（前方向カーソル、フェッチサイズ単位）から1行ずつ読み、書き出し後は保持しない - 件数に関わらずヒープ使用量は一定
+ *
+ * <p>トランザクション: - カーソルを開いている間（書き出し完了まで）読み取り専用トランザクションを維持する
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyReportExportService {
+
+    /** CSVのヘッダー行 */
+    static final String CSV_HEADER =
+            "id,userId,username,displayName,title,workContent,status,reportDate,submittedAt,"
+                    + "createdAt,updatedAt";
+
+    /** 書き出しバッファサイズ（この単位でレスポンスへ送出） */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DailyReportRepository dailyReportRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 日報をエクスポート
+     *
+     * @param supervisorId 上司ID（部下の日報に限定する場合）、全ユーザーを対象とする場合null
+     * @param from 開始日（この日を含む）
+     * @param to 終了日（この日を含む）
+     * @param format 出力形式
+     * @param out 出力先（呼び出し側でcloseする）
+     * @return 出力件数
+     * @throws IOException 書き出しに失敗した場合（クライアント切断を含む）
+     */
+    @Transactional(readOnly = true)
+    public long export(
+            Long supervisorId,
+            LocalDate from,
+            LocalDate to,
+            ReportExportFormat format,
+            OutputStream out)
+            throws IOException {
+        log.info(
+                "日報エクスポート開始: supervisorId={}, from={}, to={}, format={}",
+                supervisorId,
+                from,
+                to,
+                format);
+
+        Writer writer =
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count = 0;
+        try (Stream<DailyReportExportRow> rows =
+                supervisorId == null
+                        ? dailyReportRepository.streamExportByReportDateBetween(from, to)
+                        : dailyReportRepository.streamExportBySupervisorIdAndReportDateBetween(
+                                supervisorId, from, to)) {
+            if (format == ReportExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write("\r\n");
+            }
+            Iterable<DailyReportExportRow> iterable = rows::iterator;
+            for (DailyReportExportRow row : iterable) {
+                if (format == ReportExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                count++;
+            }
+        }
+        writer.flush();
+
+        log.info("日報エクスポート完了: count={}", count);
+        return count;
+    }
+
+    private static void writeCsv(Writer writer, DailyReportExportRow row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getUserId()));
+        writer.write(',');
+        writer.write(csvField(row.getUsername()));
+        writer.write(',');
+        writer.write(csvField(row.getDisplayName()));
+        writer.write(',');
+        writer.write(csvField(row.getTitle()));
+        writer.write(',');
+        writer.write(csvField(row.getWorkContent()));
+        writer.write(',');
+        writer.write(csvField(row.getStatus()));
+        writer.write(',');
+        writer.write(csvField(row.getReportDate()));
+        writer.write(',');
+        writer.write(csvField(row.getSubmittedAt()));
+        writer.write(',');
+        writer.write(csvField(row.getCreatedAt()));
+        writer.write(',');
+        writer.write(csvField(row.getUpdatedAt()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSVの1項目を生成 区切り文字・引用符・改行を含む場合は引用符で囲み、引用符は二重化する（null は空文字）
+     *
+     * @param value 値
+     * @return CSV項目
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0
+                && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0
+                && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -2,18 +2,35 @@ package com.example.dailyreport.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.example.dailyreport.dto.CursorPageResponse;
+import com.example.dailyreport.dto.DailyReportBatchRequest;
+import com.example.dailyreport.dto.DailyReportBatchResponse;
 import com.example.dailyreport.dto.DailyReportListResponse;
 import com.example.dailyreport.dto.DailyReportRequest;
 import com.example.dailyreport.dto.DailyReportResponse;
 import com.example.dailyreport.entity.DailyReport;
 import com.example.dailyreport.entity.User;
+import com.example.dailyreport.exception.ReportConflictException;
+import com.example.dailyreport.repository.DailyReportCommandRepository;
 import com.example.dailyreport.repository.DailyReportRepository;
 import com.example.dailyreport.repository.UserRepository;
 
@@ -23,10 +40,19 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 日報ビジネスロジックサービス
  *
- * <p>機能: - 日報の作成・取得・更新・削除 - ユーザー別日報管理 - 上司による部下日報管理 - ステータス別フィルタリング - エンティティ⇔DTO変換 - ビジネスルール適用
+ * <p>機能: - 日報の作成・取得・更新・削除 - 日報の一括作成 - ユーザー別日報管理 - 上司による部下日報管理 - ステータス別フィルタリング - エンティティ⇔DTO変換 - ビジネスルール適用
  *
  * <p>ビジネスルール: - 1日1件制限の確認 - 本人または上司のみアクセス可能 - 提出済み日報の編集制限 - 作業内容文字数制限
  *
+ * <p>ユーザー情報: - ID指定のユーザー取得はUserDirectoryService（キャッシュ）経由で行う
+ *
+ * <p>変更通知: - 日報の作成・更新・削除ごとにDailyReportChangedEventを発行（リスナーはコミット後に受け取る）
+ *
+ * <p>キャッシュ: - 部下の日報一覧（上司ダッシュボード）はSubordinateReportCache経由で取得
+ *
+ * <p>同時読み取り: - 自分の日報一覧・部下の日報一覧は、同じ条件の同時リクエストをReadCoalescerで1回のクエリにまとめる -
+ * 自分の日報一覧の合流はユーザーの変更世代が同じ読み込み同士に限る（自分の変更のコミット後のリクエストが、コミット前に開始した読み込みの結果を受け取らない）
+ *
  * <p>トランザクション: - 読み取り専用操作: @Transactional(readOnly = true) - 更新操作: @Transactional
  */
 @Service
@@ -34,101 +60,242 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DailyReportService {
 
+    /** ページ単位取得の既定件数 */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** ページ単位取得の最大件数 */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** 自分の日報一覧の変更世代のストライプ数（ユーザーIDで振り分け、同じストライプのユーザーは合流の機会が減るのみ） */
+    private static final int MY_REPORTS_GENERATION_STRIPES = 1024;
+
+    /** ユーザーの日報がコミットされるたびに加算し、自分の日報一覧の合流キーに含める */
+    private final AtomicLongArray myReportsGenerations =
+            new AtomicLongArray(MY_REPORTS_GENERATION_STRIPES);
+
     private final DailyReportRepository dailyReportRepository;
     private final UserRepository userRepository;
+    private final UserDirectoryService userDirectoryService;
+    private final SubordinateReportCache subordinateReportCache;
+    private final ReadCoalescer readCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 新規日報作成
      *
+     * <p>事前の存在確認を行わず、一意制約（user_id, report_date）に依存した1回のSQLで作成する。 同日の日報が既に存在する場合（二重送信を含む）は作成しない
+     *
      * @param userId 作成者ID
      * @param request 日報作成リクエスト
      * @return 作成された日報
-     * @throws IllegalArgumentException 1日1件制限違反の場合
+     * @throws ReportConflictException 1日1件制限違反の場合
+     * @throws IllegalArgumentException ユーザーが存在しない場合
      */
     @Transactional
     public DailyReportResponse createDailyReport(Long userId, DailyReportRequest request) {
         log.info("日報作成開始: userId={}, reportDate={}", userId, request.getReportDate());
 
-        // 1日1件制限チェック
-        if (dailyReportRepository.existsByUserIdAndReportDate(userId, request.getReportDate())) {
-            throw new IllegalArgumentException("指定日の日報は既に存在します");
-        }
-
-        // ユーザー存在確認
+        // ユーザー存在確認（ユーザーディレクトリのキャッシュから取得）
         User user =
-                userRepository
+                userDirectoryService
                         .findById(userId)
                         .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません"));
 
-        // エンティティ作成
-        DailyReport dailyReport =
-                DailyReport.builder()
-                        .userId(userId)
-                        .title(request.getTitle())
-                        .workContent(request.getWorkContent())
-                        .status(request.getStatus())
-                        .reportDate(request.getReportDate())
-                        .submittedAt(request.isSubmitted() ? LocalDateTime.now() : null)
-                        .build();
-
-        // 保存
-        DailyReport saved = dailyReportRepository.save(dailyReport);
+        DailyReport saved =
+                dailyReportRepository
+                        .insertIfAbsent(
+                                userId,
+                                request.getTitle(),
+                                request.getWorkContent(),
+                                request.getStatus(),
+                                request.getReportDate(),
+                                LocalDateTime.now())
+                        .orElseThrow(() -> new ReportConflictException("指定日の日報は既に存在します"));
         log.info("日報作成完了: id={}", saved.getId());
+        publishChanged(saved, DailyReportChangedEvent.ChangeType.CREATED);
 
         return convertToResponse(saved, user);
     }
 
     /**
-     * 日報更新
+     * 日報の作成または更新（自動保存用のアップサート）
      *
-     * @param reportId 日報ID
-     * @param userId 更新者ID
-     * @param request 日報更新リクエスト
-     * @return 更新された日報
-     * @throws IllegalArgumentException 権限がない場合
+     * <p>同日の日報が存在しない場合は作成し、存在する場合は内容を上書きする。いずれも1回のSQLで完結する
+     *
+     * @param userId 作成者ID
+     * @param request 日報リクエスト
+     * @return 作成または更新された日報
+     * @throws IllegalArgumentException ユーザーが存在しない場合
      */
     @Transactional
-    public DailyReportResponse updateDailyReport(
-            Long reportId, Long userId, DailyReportRequest request) {
-        log.info("日報更新開始: reportId={}, userId={}", reportId, userId);
+    public DailyReportResponse upsertDailyReport(Long userId, DailyReportRequest request) {
+        log.info("日報アップサート開始: userId={}, reportDate={}", userId, request.getReportDate());
 
-        // 日報取得・権限チェック
-        DailyReport dailyReport =
-                dailyReportRepository
-                        .findById(reportId)
-                        .orElseThrow(() -> new IllegalArgumentException("日報が見つかりません"));
+        User user =
+                userDirectoryService
+                        .findById(userId)
+                        .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません"));
+
+        DailyReportCommandRepository.UpsertResult result =
+                dailyReportRepository.upsert(
+                        userId,
+                        request.getTitle(),
+                        request.getWorkContent(),
+                        request.getStatus(),
+                        request.getReportDate(),
+                        LocalDateTime.now());
+        DailyReport saved = result.report();
+        log.info("日報アップサート完了: id={}, inserted={}", saved.getId(), result.inserted());
+        publishChanged(
+                saved,
+                result.inserted()
+                        ? DailyReportChangedEvent.ChangeType.CREATED
+                        : DailyReportChangedEvent.ChangeType.UPDATED);
+
+        return convertToResponse(saved, user);
+    }
 
-        if (!dailyReport.getUserId().equals(userId)) {
-            throw new IllegalArgumentException("権限がありません");
+    /**
+     * 日報の一括作成
+     *
+     * <p>処理フロー: 1. 対象日の既存日報を1回のクエリで確認 2. 既存日報またはリクエスト内で重複する対象日の要素は作成せず重複として返却 3.
+     * 残りを1トランザクションでまとめて保存（シーケンス採番によりJDBCバッチでINSERT）
+     *
+     * <p>注意事項: - 確認後に他のリクエストが同日の日報を作成した場合は一意制約違反となり、全件ロールバックする
+     *
+     * @param userId 作成者ID
+     * @param requests 日報作成リクエスト（最大DailyReportBatchRequest.MAX_ITEMS件）
+     * @return 要素ごとの結果（リクエストと同じ順序）
+     * @throws IllegalArgumentException ユーザーが存在しない場合、または件数が上限を超える場合
+     * @throws ReportConflictException 保存時に一意制約違反が発生した場合
+     */
+    @Transactional
+    public DailyReportBatchResponse createDailyReports(
+            Long userId, List<DailyReportRequest> requests) {
+        log.info("日報一括作成開始: userId={}, count={}", userId, requests.size());
+
+        if (requests.size() > DailyReportBatchRequest.MAX_ITEMS) {
+            throw new IllegalArgumentException(
+                    "一度に作成できる日報は" + DailyReportBatchRequest.MAX_ITEMS + "件までです");
         }
 
-        // ユーザー取得
         User user =
-                userRepository
+                userDirectoryService
                         .findById(userId)
                         .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません"));
 
-        // 更新
-        dailyReport.setTitle(request.getTitle());
-        dailyReport.setWorkContent(request.getWorkContent());
-        dailyReport.setStatus(request.getStatus());
-        dailyReport.setReportDate(request.getReportDate());
-
-        // ステータス変更時の提出日時管理
-        if (request.isSubmitted() && dailyReport.getSubmittedAt() == null) {
-            dailyReport.setSubmittedAt(LocalDateTime.now());
-        } else if (request.isDraft()) {
-            dailyReport.setSubmittedAt(null);
+        Set<LocalDate> takenDates =
+                new HashSet<>(
+                        dailyReportRepository.findExistingReportDates(
+                                userId,
+                                requests.stream()
+                                        .map(DailyReportRequest::getReportDate)
+                                        .collect(Collectors.toSet())));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<DailyReport> reports = new ArrayList<>();
+        List<Integer> reportIndexes = new ArrayList<>();
+        DailyReportBatchResponse.ItemResult[] results =
+                new DailyReportBatchResponse.ItemResult[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            DailyReportRequest request = requests.get(i);
+            if (!takenDates.add(request.getReportDate())) {
+                results[i] =
+                        DailyReportBatchResponse.ItemResult.builder()
+                                .index(i)
+                                .result(DailyReportBatchResponse.RESULT_CONFLICT)
+                                .message("指定日の日報は既に存在します")
+                                .build();
+                continue;
+            }
+            reports.add(
+                    DailyReport.builder()
+                            .userId(userId)
+                            .title(request.getTitle())
+                            .workContent(request.getWorkContent())
+                            .status(request.getStatus())
+                            .reportDate(request.getReportDate())
+                            .submittedAt(request.isSubmitted() ? now : null)
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build());
+            reportIndexes.add(i);
         }
 
-        DailyReport saved = dailyReportRepository.save(dailyReport);
-        log.info("日報更新完了: id={}", saved.getId());
+        List<DailyReport> saved;
+        try {
+            saved = dailyReportRepository.saveAll(reports);
+            dailyReportRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // 確認後に同日の日報が作成された場合
+            throw new ReportConflictException("指定日の日報は既に存在します");
+        }
+        for (int j = 0; j < saved.size(); j++) {
+            int index = reportIndexes.get(j);
+            publishChanged(saved.get(j), DailyReportChangedEvent.ChangeType.CREATED);
+            results[index] =
+                    DailyReportBatchResponse.ItemResult.builder()
+                            .index(index)
+                            .result(DailyReportBatchResponse.RESULT_CREATED)
+                            .report(convertToResponse(saved.get(j), user))
+                            .build();
+        }
+        log.info(
+                "日報一括作成完了: userId={}, created={}, conflicts={}",
+                userId,
+                saved.size(),
+                requests.size() - saved.size());
+
+        return DailyReportBatchResponse.builder()
+                .results(List.of(results))
+                .createdCount(saved.size())
+                .conflictCount(requests.size() - saved.size())
+                .build();
+    }
 
-        return convertToResponse(saved, user);
+    /**
+     * 日報更新
+     *
+     * <p>処理フロー: 1. 作成者条件付きの単一SQLで更新し、更新後の行を取得 2. 更新件数0の場合のみ日報の存在を確認し、未存在と権限なしを区別
+     *
+     * @param reportId 日報ID
+     * @param userId 更新者ID
+     * @param request 日報更新リクエスト
+     * @return 更新された日報
+     * @throws IllegalArgumentException 日報が存在しない場合、または権限がない場合
+     * @throws ReportConflictException 変更後の対象日の日報が既に存在する場合
+     */
+    @Transactional
+    public DailyReportResponse updateDailyReport(
+            Long reportId, Long userId, DailyReportRequest request) {
+        log.info("日報更新開始: reportId={}, userId={}", reportId, userId);
+
+        DailyReport updated;
+        try {
+            updated =
+                    dailyReportRepository
+                            .updateOwned(
+                                    reportId,
+                                    userId,
+                                    request.getTitle(),
+                                    request.getWorkContent(),
+                                    request.getStatus(),
+                                    request.getReportDate(),
+                                    LocalDateTime.now())
+                            .orElseThrow(() -> writeRejected(reportId));
+        } catch (DataIntegrityViolationException e) {
+            // 対象日を既存の日報と同じ日に変更した場合
+            throw new ReportConflictException("指定日の日報は既に存在します");
+        }
+        log.info("日報更新完了: id={}", updated.getId());
+        publishChanged(updated, DailyReportChangedEvent.ChangeType.UPDATED);
+
+        User user = userDirectoryService.findById(userId).orElse(null);
+        return convertToResponse(updated, user);
     }
 
     /**
-     * 日報詳細取得
+     * 日報詳細取得 本人または上司のみ取得可能（権限判定・作成者の取得を含めて1回のSQLで実施）
      *
      * @param reportId 日報ID
      * @param userId 取得者ID
@@ -137,100 +304,230 @@ public class DailyReportService {
     @Transactional(readOnly = true)
     public Optional<DailyReportResponse> getDailyReportById(Long reportId, Long userId) {
         return dailyReportRepository
-                .findById(reportId)
-                .filter(report -> canAccessReport(report, userId))
-                .map(
-                        report -> {
-                            User user = userRepository.findById(report.getUserId()).orElse(null);
-                            return convertToResponse(report, user);
-                        });
+                .findAccessibleById(reportId, userId)
+                .map(report -> convertToResponse(report, report.getUser()));
     }
 
     /**
-     * 自分の日報一覧取得
+     * 自分の日報一覧取得 一覧表示用の射影（プレビュー・作成者名はSQL側で生成）で取得
+     *
+     * <p>同じユーザー・同じフィルタの同時リクエストは1回のクエリ結果を共有する（待機中に接続を保持しないよう、トランザクションはクエリ単位）。
+     * ただし、ユーザーの日報の変更がコミットされた後のリクエストは、それ以前に開始したクエリには合流しない
      *
      * @param userId ユーザーID
      * @param status ステータスフィルタ（nullの場合は全件）
-     * @return 日報一覧
+     * @return 日報一覧（変更不可）
      */
-    @Transactional(readOnly = true)
     public List<DailyReportListResponse> getMyDailyReports(Long userId, String status) {
-        List<DailyReport> reports;
+        boolean filterByStatus = status != null && !status.trim().isEmpty();
+        return readCoalescer.execute(
+                ReadCoalescer.MY_REPORTS,
+                List.of(
+                        userId,
+                        filterByStatus ? status : "",
+                        myReportsGenerations.get(myReportsStripe(userId))),
+                () ->
+                        List.copyOf(
+                                filterByStatus
+                                        ? dailyReportRepository.findListByUserIdAndStatus(
+                                                userId, status)
+                                        : dailyReportRepository.findListByUserId(userId)));
+    }
+
+    /**
+     * 自分の日報一覧をページ単位で取得（キーセットページネーション）
+     *
+     * <p>処理フロー: 1. カーソルを解析（未指定の場合は先頭ページ） 2. (対象日, 日報ID)が境界より前の行を一覧表示用の射影で limit + 1 件取得 3.
+     * 超過分の有無で次ページの存在を判定し、最後の行からカーソルを生成
+     *
+     * @param userId ユーザーID
+     * @param status ステータスフィルタ（nullの場合は全件）
+     * @param after 直前ページのカーソル（nullの場合は先頭ページ）
+     * @param limit 取得件数（1〜100、範囲外の場合は補正）
+     * @return 1ページ分の日報一覧と次ページ用カーソル
+     * @throws IllegalArgumentException カーソルの形式が不正な場合
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DailyReportListResponse> getMyDailyReportsPage(
+            Long userId, String status, String after, Integer limit) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int pageSize = normalizePageSize(limit);
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
 
+        List<DailyReportListResponse> rows;
         if (status != null && !status.trim().isEmpty()) {
-            reports =
-                    dailyReportRepository.findByUserIdAndStatusOrderByReportDateDesc(
-                            userId, status);
+            rows =
+                    dailyReportRepository.findPageByUserIdAndStatusBefore(
+                            userId, status, cursor.getReportDate(), cursor.getKey(), fetch);
         } else {
-            reports = dailyReportRepository.findByUserIdOrderByReportDateDesc(userId);
+            rows =
+                    dailyReportRepository.findPageByUserIdBefore(
+                            userId, cursor.getReportDate(), cursor.getKey(), fetch);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<DailyReportListResponse> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            DailyReportListResponse last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getReportDate(), last.getId()).encode();
         }
 
-        User user = userRepository.findById(userId).orElse(null);
-        return reports.stream()
-                .map(report -> convertToListResponse(report, user))
-                .collect(Collectors.toList());
+        return CursorPageResponse.<DailyReportListResponse>builder()
+                .items(List.copyOf(page))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
     /**
-     * 部下の日報一覧取得（上司用）
+     * 部下の日報一覧取得（上司用） 部下の絞り込み・作成者名の取得を1回のSQLで行う
+     *
+     * <p>結果はSubordinateReportCacheに保持し、部下の日報が変更されるまで再利用する（キャッシュヒット時はトランザクションを開始しない）
      *
      * @param supervisorId 上司ID
      * @param status ステータスフィルタ（nullの場合は全件）
-     * @return 部下の日報一覧
+     * @return 部下の日報一覧（変更不可）
      */
-    @Transactional(readOnly = true)
     public List<DailyReportListResponse> getSubordinateReports(Long supervisorId, String status) {
-        // 部下一覧取得
+        return subordinateReportCache.get(
+                supervisorId,
+                status,
+                () -> {
+                    if (status != null && !status.trim().isEmpty()) {
+                        return dailyReportRepository.findListBySupervisorIdAndStatus(
+                                supervisorId, status);
+                    }
+                    return dailyReportRepository.findListBySupervisorId(supervisorId);
+                });
+    }
+
+    /**
+     * 部下の日報一覧をページ単位で取得（上司用・キーセットページネーション）
+     *
+     * <p>処理フロー: 1. 部下ごとにカーソルより後ろの日報を一覧表示用の射影で新しい順に最大 limit + 1 件取得（インデックスの範囲シーク） 2.
+     * 各部下の取得結果を（対象日の降順, 作成者IDの昇順）でk-wayマージし limit + 1 件を取り出す 3.
+     * 超過分の有無で次ページの存在を判定し、最後の行からカーソルを生成
+     *
+     * <p>読み込む行数は最大で 部下数 × (limit + 1) 件となり、部下の日報総数には依存しない
+     *
+     * @param supervisorId 上司ID
+     * @param status ステータスフィルタ（nullの場合は全件）
+     * @param after 直前ページのカーソル（nullの場合は先頭ページ）
+     * @param limit 取得件数（1〜100、範囲外の場合は補正）
+     * @return 1ページ分の部下の日報一覧と次ページ用カーソル
+     * @throws IllegalArgumentException カーソルの形式が不正な場合
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DailyReportListResponse> getSubordinateReportsPage(
+            Long supervisorId, String status, String after, Integer limit) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int pageSize = normalizePageSize(limit);
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        boolean filterByStatus = status != null && !status.trim().isEmpty();
+
         List<User> subordinates = userRepository.findBySupervisorId(supervisorId);
-        List<Long> subordinateIds =
-                subordinates.stream().map(User::getId).collect(Collectors.toList());
 
-        if (subordinateIds.isEmpty()) {
-            return List.of();
+        // 部下ごとの上位N件を取得
+        List<List<DailyReportListResponse>> windows = new ArrayList<>(subordinates.size());
+        for (User subordinate : subordinates) {
+            // 同じ対象日ではカーソルより作成者IDが大きい部下のみが後ろに並ぶ
+            LocalDate bound =
+                    subordinate.getId() > cursor.getKey()
+                            ? cursor.getReportDate().plusDays(1)
+                            : cursor.getReportDate();
+            List<DailyReportListResponse> window =
+                    filterByStatus
+                            ? dailyReportRepository.findListByUserIdAndStatusAndReportDateBefore(
+                                    subordinate.getId(), status, bound, fetch)
+                            : dailyReportRepository.findListByUserIdAndReportDateBefore(
+                                    subordinate.getId(), bound, fetch);
+            if (!window.isEmpty()) {
+                windows.add(window);
+            }
         }
 
-        // 部下の日報取得
-        List<DailyReport> reports;
-        if (status != null && !status.trim().isEmpty()) {
-            reports =
-                    dailyReportRepository.findByUserIdInAndStatusOrderByReportDateDescUserIdAsc(
-                            subordinateIds, status);
-        } else {
-            reports =
-                    dailyReportRepository.findByUserIdInOrderByReportDateDescUserIdAsc(
-                            subordinateIds);
-        }
+        List<DailyReportListResponse> rows =
+                mergeByReportDateDescUserIdAsc(windows, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<DailyReportListResponse> page = hasMore ? rows.subList(0, pageSize) : rows;
 
-        // ユーザー情報マップ作成
-        var userMap = subordinates.stream().collect(Collectors.toMap(User::getId, user -> user));
+        String nextCursor = null;
+        if (hasMore) {
+            DailyReportListResponse last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getReportDate(), last.getUserId()).encode();
+        }
 
-        return reports.stream()
-                .map(report -> convertToListResponse(report, userMap.get(report.getUserId())))
-                .collect(Collectors.toList());
+        return CursorPageResponse.<DailyReportListResponse>builder()
+                .items(List.copyOf(page))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
     /**
-     * 日報削除
+     * 日報削除 作成者条件付きの単一SQLで削除し、削除件数0の場合のみ未存在と権限なしを区別
      *
      * @param reportId 日報ID
      * @param userId 削除者ID
-     * @throws IllegalArgumentException 権限がない場合
+     * @throws IllegalArgumentException 日報が存在しない場合、または権限がない場合
      */
     @Transactional
     public void deleteDailyReport(Long reportId, Long userId) {
         log.info("日報削除開始: reportId={}, userId={}", reportId, userId);
 
-        DailyReport dailyReport =
-                dailyReportRepository
-                        .findById(reportId)
-                        .orElseThrow(() -> new IllegalArgumentException("日報が見つかりません"));
-
-        if (!dailyReport.getUserId().equals(userId)) {
-            throw new IllegalArgumentException("権限がありません");
+        if (dailyReportRepository.deleteOwned(reportId, userId) == 0) {
+            throw writeRejected(reportId);
         }
-
-        dailyReportRepository.delete(dailyReport);
         log.info("日報削除完了: reportId={}", reportId);
+        eventPublisher.publishEvent(
+                new DailyReportChangedEvent(
+                        reportId, userId, DailyReportChangedEvent.ChangeType.DELETED));
+    }
+
+    /**
+     * 日報の変更を受け取り、作成者の自分の日報一覧の変更世代を加算（コミット後に実行）
+     *
+     * <p>変更したリクエストへの応答より前に実行されるため、応答後の一覧取得はコミット後に開始したクエリの結果を受け取る
+     *
+     * @param event 日報変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDailyReportChanged(DailyReportChangedEvent event) {
+        myReportsGenerations.incrementAndGet(myReportsStripe(event.getUserId()));
+    }
+
+    private static int myReportsStripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), MY_REPORTS_GENERATION_STRIPES);
+    }
+
+    /**
+     * 日報変更イベントを発行 変更後の日報が提出済みの場合は種類をSUBMITTEDとする
+     *
+     * @param report 変更後の日報
+     * @param changeType 変更の種類（作成・更新）
+     */
+    private void publishChanged(DailyReport report, DailyReportChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(
+                new DailyReportChangedEvent(
+                        report.getId(),
+                        report.getUserId(),
+                        report.isSubmitted()
+                                ? DailyReportChangedEvent.ChangeType.SUBMITTED
+                                : changeType));
+    }
+
+    /**
+     * 作成者条件付きの更新・削除が0件だった場合の例外を生成
+     *
+     * @param reportId 日報ID
+     * @return 日報が存在しない場合は「日報が見つかりません」、存在する場合は「権限がありません」
+     */
+    private IllegalArgumentException writeRejected(Long reportId) {
+        return dailyReportRepository.existsById(reportId)
+                ? new IllegalArgumentException("権限がありません")
+                : new IllegalArgumentException("日報が見つかりません");
     }
 
     /**
@@ -245,21 +542,75 @@ public class DailyReportService {
     }
 
     /**
-     * アクセス権限チェック
+     * ページ件数の補正 未指定は既定値、範囲外は1〜最大件数に丸める
+     *
+     * @param limit 要求件数
+     * @return 補正後の件数
+     */
+    private int normalizePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 対象日の降順に並んだ日報リスト群を（対象日の降順, 作成者IDの昇順）でマージ 各リストの先頭のみを優先度付きキューで比較する
      *
-     * @param report 日報
-     * @param userId アクセス者ID
-     * @return アクセス可能な場合true
+     * @param windows マージ元（各リストは1ユーザー分で対象日の降順）
+     * @param limit 取り出す最大件数
+     * @return マージ結果
      */
-    private boolean canAccessReport(DailyReport report, Long userId) {
-        // 本人の場合
-        if (report.getUserId().equals(userId)) {
-            return true;
+    private static List<DailyReportListResponse> mergeByReportDateDescUserIdAsc(
+            List<List<DailyReportListResponse>> windows, int limit) {
+        Comparator<DailyReportListResponse> order =
+                Comparator.comparing(DailyReportListResponse::getReportDate)
+                        .reversed()
+                        .thenComparing(DailyReportListResponse::getUserId);
+        PriorityQueue<PeekingCursor> heads =
+                new PriorityQueue<>(
+                        Math.max(1, windows.size()),
+                        (a, b) -> order.compare(a.peek(), b.peek()));
+        for (List<DailyReportListResponse> window : windows) {
+            heads.add(new PeekingCursor(window.iterator()));
+        }
+
+        List<DailyReportListResponse> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            PeekingCursor head = heads.poll();
+            merged.add(head.next());
+            if (head.hasNext()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /** マージ用に先頭要素を参照できるイテレータ */
+    private static final class PeekingCursor {
+
+        private final Iterator<DailyReportListResponse> iterator;
+
+        private DailyReportListResponse current;
+
+        PeekingCursor(Iterator<DailyReportListResponse> iterator) {
+            this.iterator = iterator;
+            this.current = iterator.next();
         }
 
-        // 上司の場合
-        User reportUser = userRepository.findById(report.getUserId()).orElse(null);
-        return reportUser != null && userId.equals(reportUser.getSupervisorId());
+        DailyReportListResponse peek() {
+            return current;
+        }
+
+        boolean hasNext() {
+            return current != null;
+        }
+
+        DailyReportListResponse next() {
+            DailyReportListResponse value = current;
+            current = iterator.hasNext() ? iterator.next() : null;
+            return value;
+        }
     }
 
     /** エンティティ→レスポンスDTO変換 */
@@ -278,25 +629,4 @@ public class DailyReportService {
                 .updatedAt(report.getUpdatedAt())
                 .build();
     }
-
-    /** エンティティ→リストレスポンスDTO変換 */
-    private DailyReportListResponse convertToListResponse(DailyReport report, User user) {
-        String preview =
-                report.getWorkContent() != null && report.getWorkContent().length() > 100
-                        ? report.getWorkContent().substring(0, 100) + "..."
-                        : report.getWorkContent();
-
-        return DailyReportListResponse.builder()
-                .id(report.getId())
-                .userId(report.getUserId())
-                .username(user != null ? user.getUsername() : null)
-                .displayName(user != null ? user.getDisplayName() : null)
-                .title(report.getTitle())
-                .workContent(preview)
-                .status(report.getStatus())
-                .reportDate(report.getReportDate())
-                .submittedAt(report.getSubmittedAt())
-                .createdAt(report.getCreatedAt())
-                .build();
-    }
 }
@@ -0,0 +1,66 @@
+package com.example.dailyreport.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import lombok.Value;
+
+/**
+ * キーセットページネーション用カーソル
+ *
+ * <p>機能: - 直前ページ最後の行の（対象日, キー）を保持 - Base64URL形式の不透明な文字列との相互変換
+ *
+ * <p>キーの意味: - 自分の日報一覧: 日報ID - 部下の日報一覧: 作成者ID
+ */
+@Value
+public class KeysetCursor {
+
+    /** 先頭ページ用の境界値（全ての行がこれより前に並ぶ） */
+    public static final KeysetCursor FIRST =
+            new KeysetCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    /** 対象日 */
+    LocalDate reportDate;
+
+    /** 対象日内の並び順を決めるキー */
+    Long key;
+
+    /**
+     * 不透明なカーソル文字列に変換
+     *
+     * @return Base64URL形式のカーソル文字列
+     */
+    public String encode() {
+        String raw = reportDate + ":" + key;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * カーソル文字列を解析 未指定の場合は先頭ページ用の境界値を返す
+     *
+     * @param cursor カーソル文字列（null・空文字可）
+     * @return カーソル
+     * @throws IllegalArgumentException カーソルの形式が不正な場合
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("無効なカーソルです");
+            }
+            return new KeysetCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("無効なカーソルです");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.dailyreport.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.security.PasswordVerificationBulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ログイン時のパスワード再ハッシュ
+ *
+ * <p>機能: - ログイン成功時に保存済みハッシュがポリシー未満（アルゴリズム違い・コスト不足・接頭辞なし）であれば、平文パスワードから再ハッシュして保存 -
+ * 一括リセットなしに、ログインしたユーザーから順に新しいアルゴリズム・コストへ移行する
+ *
+ * <p>特徴: - 再ハッシュはパスワード検証と同じ実行枠（PasswordVerificationBulkhead）で実行 - 読み込み時のハッシュと一致する場合のみ更新（同時のパスワード変更を上書きしない） -
+ * 失敗してもログインは成功させる（次回のログインで再試行）
+ *
+ * <p>メトリクス: - login.password.rehash（タグ result=upgraded/conflict/failed）: 再ハッシュの件数
+ *
+ * <p>設定値: - password-hash.rehash-on-login: 有効/無効（デフォルト: true）
+ */
+@Service
+@Slf4j
+public class PasswordRehashService {
+
+    private final UserRepository userRepository;
+
+    private final UserDirectoryService userDirectoryService;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final PasswordVerificationBulkhead passwordVerificationBulkhead;
+
+    private final boolean enabled;
+
+    private final Counter upgraded;
+
+    private final Counter conflicts;
+
+    private final Counter failures;
+
+    public PasswordRehashService(
+            UserRepository userRepository,
+            UserDirectoryService userDirectoryService,
+            PasswordEncoder passwordEncoder,
+            PasswordVerificationBulkhead passwordVerificationBulkhead,
+            MeterRegistry meterRegistry,
+            @Value("${password-hash.rehash-on-login:true}") boolean enabled) {
+        this.userRepository = userRepository;
+        this.userDirectoryService = userDirectoryService;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordVerificationBulkhead = passwordVerificationBulkhead;
+        this.enabled = enabled;
+        this.upgraded = rehashCounter(meterRegistry, "upgraded");
+        this.conflicts = rehashCounter(meterRegistry, "conflict");
+        this.failures = rehashCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * 保存済みハッシュがポリシー未満であれば再ハッシュして保存（パスワード検証に成功した後に呼び出す）
+     *
+     * @param user 認証済みのユーザー（読み込み時のハッシュを保持）
+     * @param rawPassword 検証に成功した平文パスワード
+     * @return 再ハッシュを保存した場合true
+     */
+    public boolean upgradeIfNeeded(User user, String rawPassword) {
+        String currentHash = user.getPassword();
+        if (!enabled || !passwordEncoder.upgradeEncoding(currentHash)) {
+            return false;
+        }
+
+        try {
+            String newHash =
+                    passwordVerificationBulkhead.execute(() -> passwordEncoder.encode(rawPassword));
+            int updated = userRepository.updatePasswordHash(user.getId(), currentHash, newHash);
+            if (updated == 0) {
+                // 読み込み後にパスワードが変更された（変更後のハッシュを優先する）
+                conflicts.increment();
+                log.debug("パスワード再ハッシュをスキップ: 保存済みハッシュが変更されています userId={}", user.getId());
+                return false;
+            }
+            // 一括更新はエンティティを経由しないため、ユーザーディレクトリのキャッシュを明示的に破棄
+            userDirectoryService.evict(user);
+            upgraded.increment();
+            log.info("パスワードを再ハッシュしました: userId={}", user.getId());
+            return true;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("パスワード再ハッシュに失敗しました（次回ログイン時に再試行）: userId={}, error={}", user.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static Counter rehashCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("login.password.rehash")
+                .description("ログイン時のパスワード再ハッシュ件数")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.dailyreport.service;
+
+import java.time.LocalDate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.example.dailyreport.dto.DailyReportListResponse;
+import com.example.dailyreport.repository.DailyReportReactiveRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 日報の読み取り専用リアクティブサービス
+ *
+ * <p>機能: - 自分の日報一覧・部下の日報一覧・本日の日報存在チェックをリアクティブ型で返す - ステータスフィルタの扱いは DailyReportService と同じ（null・空文字は全件）
+ *
+ * <p>スレッド: - クエリの実行から結果の受け取りまでリクエストスレッドを占有しない（行はR2DBCドライバのイベントループで届く）
+ *
+ * <p>注意事項: - SubordinateReportCache・ReadCoalescer は経由しない（毎回DBから行単位で返す）
+ *
+ * <p>有効化: - app.reactive-read.enabled=true の場合のみ登録
+ */
+@Service
+@ConditionalOnProperty(name = "app.reactive-read.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveDailyReportService {
+
+    private final DailyReportReactiveRepository dailyReportReactiveRepository;
+
+    /**
+     * 自分の日報一覧取得
+     *
+     * @param userId ユーザーID
+     * @param status ステータスフィルタ（nullの場合は全件）
+     * @return 日報一覧（新しい順）
+     */
+    public Flux<DailyReportListResponse> getMyDailyReports(Long userId, String status) {
+        return dailyReportReactiveRepository.findListByUserId(userId, normalizeStatus(status));
+    }
+
+    /**
+     * 部下の日報一覧取得（上司用）
+     *
+     * @param supervisorId 上司ID
+     * @param status ステータスフィルタ（nullの場合は全件）
+     * @return 部下の日報一覧（新しい順、同日内は作成者ID順）
+     */
+    public Flux<DailyReportListResponse> getSubordinateReports(Long supervisorId, String status) {
+        return dailyReportReactiveRepository.findListBySupervisorId(
+                supervisorId, normalizeStatus(status));
+    }
+
+    /**
+     * 本日の日報存在チェック
+     *
+     * @param userId ユーザーID
+     * @return 存在する場合true
+     */
+    public Mono<Boolean> hasTodayReport(Long userId) {
+        return dailyReportReactiveRepository.existsByUserIdAndReportDate(userId, LocalDate.now());
+    }
+
+    /** ステータスフィルタの正規化 null・空白のみの場合はnull（全件） */
+    private static String normalizeStatus(String status) {
+        return status != null && !status.trim().isEmpty() ? status : null;
+    }
+}
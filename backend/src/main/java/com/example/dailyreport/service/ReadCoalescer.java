@@ -0,0 +1,62 @@
+package com.example.dailyreport.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 同一内容の同時読み取りをまとめるサービス層の合流ポイント
+ *
+ * <p>機能: - 読み取りの種類（name）ごとにSingleFlightを保持し、同じキーの同時呼び出しで1回のクエリ結果を共有する -
+ * 朝の始業時など、複数の上司・複数タブから同じ一覧が同時に要求される場合のDB負荷を抑える
+ *
+ * <p>メトリクス: - SingleFlightを参照（タグ name=subordinateReports, myReports）
+ *
+ * <p>設定値: - read-coalescing.enabled: 有効/無効（デフォルト: true）
+ */
+@Component
+public class ReadCoalescer {
+
+    /** 部下の日報一覧（キー: 上司ID・ステータスフィルタ） */
+    public static final String SUBORDINATE_REPORTS = "subordinateReports";
+
+    /** 自分の日報一覧（キー: ユーザーID・ステータスフィルタ） */
+    public static final String MY_REPORTS = "myReports";
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final ConcurrentMap<String, SingleFlight<Object, Object>> flights =
+            new ConcurrentHashMap<>();
+
+    public ReadCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${read-coalescing.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 読み取りを実行（同じ種類・同じキーの読み取りが実行中の場合はその結果を共有）
+     *
+     * @param name 読み取りの種類
+     * @param key キー（equals/hashCodeを実装した値）
+     * @param reader 読み取り処理（変更不可の結果を返すこと）
+     * @return 読み取り結果
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String name, Object key, Supplier<V> reader) {
+        if (!enabled) {
+            return reader.get();
+        }
+        SingleFlight<Object, Object> flight =
+                flights.computeIfAbsent(name, n -> new SingleFlight<>(n, meterRegistry));
+        return (V) flight.execute(key, (Supplier<Object>) reader);
+    }
+}
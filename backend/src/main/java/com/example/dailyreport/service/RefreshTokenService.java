@@ -0,0 +1,269 @@
+package com.example.dailyreport.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dailyreport.entity.RefreshToken;
+import com.example.dailyreport.exception.InvalidRefreshTokenException;
+import com.example.dailyreport.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * リフレッシュトークンの発行・ローテーション・失効
+ *
+ * <p>機能: - ログイン時に新しいトークンファミリーを作成し、リフレッシュトークンを発行 - リフレッシュのたびに提示されたトークンを使用済みにし、同じファミリーで新しいトークンを発行（ローテーション）
+ * - 使用済みトークンの再提示（再利用）を検知した場合はファミリー全体を失効 - ログアウト時のファミリー失効
+ *
+ * <p>再利用の猶予期間: - 使用済みになってから reuse-grace 以内の再提示は再利用とみなさず、同じファミリーで別のトークンを発行する -
+ * 複数タブがアクセストークンの期限切れで同時に同じリフレッシュトークンを提示した場合に、全タブがログアウトされることを防ぐ -
+ * 猶予期間を過ぎた再提示は従来どおりファミリー全体を失効
+ *
+ * <p>セキュリティ: - トークンは256ビットの乱数（Base64URL） - DBにはSHA-256ハッシュのみを保存（DBが漏えいしてもトークンとして使用できない） -
+ * パスワード検証（BCrypt等）は行わない
+ *
+ * <p>有効期限（スライディングセッション）: - 各トークンは発行から ttl で失効し、リフレッシュのたびに延長される - ファミリー全体はログインから max-session
+ * で失効し、延長されない（以降は再ログインが必要）
+ *
+ * <p>メトリクス: - auth.refresh（タグ result=rotated/reissued/reuse_detected/expired/invalid）: リフレッシュの結果別件数
+ * （reissuedは猶予期間内の再提示）
+ *
+ * <p>設定値: - refresh-token.ttl: トークンの有効期限（デフォルト: 14日） - refresh-token.max-session:
+ * ファミリー全体の有効期限（デフォルト: 30日） - refresh-token.reuse-grace: 再利用の猶予期間（デフォルト: 30秒）
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final Duration ttl;
+
+    private final Duration maxSession;
+
+    private final Duration reuseGrace;
+
+    private final Counter rotated;
+
+    private final Counter reissued;
+
+    private final Counter reuseDetected;
+
+    private final Counter expired;
+
+    private final Counter invalid;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${refresh-token.ttl:14d}") Duration ttl,
+            @Value("${refresh-token.max-session:30d}") Duration maxSession,
+            @Value("${refresh-token.reuse-grace:30s}") Duration reuseGrace) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = ttl;
+        this.maxSession = maxSession;
+        this.reuseGrace = reuseGrace;
+        this.rotated = refreshCounter(meterRegistry, "rotated");
+        this.reissued = refreshCounter(meterRegistry, "reissued");
+        this.reuseDetected = refreshCounter(meterRegistry, "reuse_detected");
+        this.expired = refreshCounter(meterRegistry, "expired");
+        this.invalid = refreshCounter(meterRegistry, "invalid");
+    }
+
+    /** ローテーション結果（新しいトークンと、その所有ユーザー） */
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+
+        /** トークンの所有ユーザーID */
+        private final Long userId;
+
+        /** 新しいリフレッシュトークン */
+        private final String refreshToken;
+    }
+
+    /**
+     * ログイン成功時に新しいトークンファミリーを作成してリフレッシュトークンを発行
+     *
+     * <p>同じユーザーの期限切れトークンはこのタイミングで削除する
+     *
+     * @param userId ユーザーID
+     * @return リフレッシュトークン（平文、クライアントへ返却する）
+     */
+    @Transactional
+    public String issue(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.deleteExpiredByUserId(userId, now);
+        return save(userId, UUID.randomUUID().toString(), now, now.plus(maxSession));
+    }
+
+    /**
+     * リフレッシュトークンを新しいトークンに交換
+     *
+     * <p>使用済みになってから猶予期間内のトークンは、同じファミリーで別のトークンを発行する（先に発行したトークンも有効なまま）
+     *
+     * @param rawToken 提示されたリフレッシュトークン
+     * @return 新しいリフレッシュトークンと所有ユーザーID
+     * @throws InvalidRefreshTokenException トークンが存在しない・期限切れ・失効済み・猶予期間後に再提示された（再利用）の場合
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = find(rawToken);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime graceFrom = now.minus(reuseGrace);
+
+        if (current.getRevokedAt() != null) {
+            invalid.increment();
+            throw new InvalidRefreshTokenException("リフレッシュトークンは失効しています");
+        }
+        if (current.getUsedAt() != null && current.getUsedAt().isBefore(graceFrom)) {
+            throw reuseDetected(current, now);
+        }
+        if (!current.getExpiresAt().isAfter(now) || !current.getSessionExpiresAt().isAfter(now)) {
+            expired.increment();
+            throw new InvalidRefreshTokenException("リフレッシュトークンの有効期限が切れています");
+        }
+        if (refreshTokenRepository.markUsed(current.getId(), now, graceFrom) == 0) {
+            // 読み込み後に失効した、または猶予期間より前に使用済みになっていた
+            throw reuseDetected(current, now);
+        }
+
+        String next =
+                save(current.getUserId(), current.getFamilyId(), now, current.getSessionExpiresAt());
+        if (current.getUsedAt() != null) {
+            reissued.increment();
+            log.debug(
+                    "猶予期間内のリフレッシュトークン再提示: userId={}, familyId={}",
+                    current.getUserId(),
+                    current.getFamilyId());
+        } else {
+            rotated.increment();
+        }
+        return new Rotation(current.getUserId(), next);
+    }
+
+    /**
+     * リフレッシュトークンのファミリー全体を失効（ログアウト）
+     *
+     * <p>存在しないトークンの場合は何もしない
+     *
+     * @param rawToken 提示されたリフレッシュトークン
+     */
+    @Transactional
+    public void revokeFamily(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository
+                .findByTokenHash(hash(rawToken))
+                .ifPresent(
+                        token ->
+                                refreshTokenRepository.revokeFamily(
+                                        token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * 指定ユーザーの全リフレッシュトークンを失効（全端末からのログアウト、アカウント無効化時など）
+     *
+     * @param userId ユーザーID
+     * @return 失効させた件数
+     */
+    @Transactional
+    public int revokeAll(Long userId) {
+        return refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+    }
+
+    /**
+     * 交換済みのトークンが再提示された場合の処理 漏えいの可能性があるためファミリー全体を失効させる
+     *
+     * @return 呼び出し元で送出する例外
+     */
+    private InvalidRefreshTokenException reuseDetected(RefreshToken token, LocalDateTime now) {
+        int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+        reuseDetected.increment();
+        log.warn(
+                "リフレッシュトークンの再利用を検知: userId={}, familyId={}, revoked={}",
+                token.getUserId(),
+                token.getFamilyId(),
+                revoked);
+        return new InvalidRefreshTokenException("リフレッシュトークンは使用済みです");
+    }
+
+    private RefreshToken find(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            invalid.increment();
+            throw new InvalidRefreshTokenException("リフレッシュトークンが指定されていません");
+        }
+        return refreshTokenRepository
+                .findByTokenHash(hash(rawToken))
+                .orElseThrow(
+                        () -> {
+                            invalid.increment();
+                            return new InvalidRefreshTokenException("リフレッシュトークンが無効です");
+                        });
+    }
+
+    private String save(
+            Long userId, String familyId, LocalDateTime now, LocalDateTime sessionExpiresAt) {
+        String rawToken = generate();
+        LocalDateTime expiresAt = now.plus(ttl);
+        refreshTokenRepository.save(
+                RefreshToken.builder()
+                        .tokenHash(hash(rawToken))
+                        .familyId(familyId)
+                        .userId(userId)
+                        .createdAt(now)
+                        .expiresAt(expiresAt.isBefore(sessionExpiresAt) ? expiresAt : sessionExpiresAt)
+                        .sessionExpiresAt(sessionExpiresAt)
+                        .build());
+        return rawToken;
+    }
+
+    private String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * トークンのSHA-256ハッシュを16進文字列で返す（乱数トークンのため低速ハッシュは不要）
+     *
+     * @param rawToken リフレッシュトークン
+     * @return ハッシュ文字列（64文字）
+     */
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                    .formatHex(messageDigest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256が利用できません", e);
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.refresh")
+                .description("リフレッシュトークンによる再発行の結果別件数")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
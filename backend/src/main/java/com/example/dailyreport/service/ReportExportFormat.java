@@ -0,0 +1,58 @@
+package com.example.dailyreport.service;
+
+/**
+ * 日報エクスポートの出力形式
+ *
+ * <p>機能: - 出力形式ごとのContent-Type・ファイル拡張子を保持 - リクエストパラメータ（csv/ndjson）からの変換
+ */
+public enum ReportExportFormat {
+
+    /** CSV（RFC 4180、1行目はヘッダー） */
+    CSV("text/csv; charset=UTF-8", "csv"),
+
+    /** NDJSON（1行1件のJSON） */
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    private final String contentType;
+
+    private final String extension;
+
+    ReportExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * レスポンスのContent-Type
+     *
+     * @return Content-Type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * ファイル拡張子
+     *
+     * @return 拡張子（ドットなし）
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * リクエストパラメータから出力形式を取得（大文字小文字を区別しない）
+     *
+     * @param value パラメータ値（csv/ndjson）
+     * @return 出力形式
+     * @throws IllegalArgumentException 未対応の形式の場合
+     */
+    public static ReportExportFormat fromParameter(String value) {
+        for (ReportExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("未対応の出力形式です: " + value);
+    }
+}
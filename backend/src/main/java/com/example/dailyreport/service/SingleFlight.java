@@ -0,0 +1,117 @@
+package com.example.dailyreport.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 同一キーの同時実行をまとめる（single-flight）
+ *
+ * <p>機能: - 同じキーの処理が実行中の場合、後から来た呼び出しは新たに実行せず、実行中の処理の結果（または例外）を待って共有する - 処理の完了後はキーを解放する（結果は保持しない。キャッシュとは併用する）
+ *
+ * <p>メトリクス（タグ name）: - singleflight.calls（タグ role=leader/follower）: 実行した呼び出し・結果を共有した呼び出しの件数 -
+ * singleflight.waiters: 1回の実行あたりの待機数 - singleflight.in.flight: 実行中のキー数
+ *
+ * <p>注意事項: - 結果は複数の呼び出し元で共有されるため、変更不可の値を返す処理に使用すること - 待機中の呼び出しはスレッドをブロックする（トランザクション内で呼び出すと接続を保持したまま待機する）
+ *
+ * @param <K> キーの型
+ * @param <V> 結果の型
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+
+    private final Counter followers;
+
+    private final DistributionSummary waiters;
+
+    /**
+     * @param name メトリクスのタグ（name）に使用する名前
+     * @param meterRegistry メトリクスの登録先
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders =
+                Counter.builder("singleflight.calls")
+                        .tag("name", name)
+                        .tag("role", "leader")
+                        .description("処理を実行した呼び出し数")
+                        .register(meterRegistry);
+        this.followers =
+                Counter.builder("singleflight.calls")
+                        .tag("name", name)
+                        .tag("role", "follower")
+                        .description("実行中の処理の結果を共有した呼び出し数")
+                        .register(meterRegistry);
+        this.waiters =
+                DistributionSummary.builder("singleflight.waiters")
+                        .tag("name", name)
+                        .description("1回の実行あたりの待機数")
+                        .register(meterRegistry);
+        Gauge.builder("singleflight.in.flight", flights, ConcurrentMap::size)
+                .tag("name", name)
+                .description("実行中のキー数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 処理を実行（同じキーの処理が実行中の場合はその結果を待って返す）
+     *
+     * @param key キー
+     * @param supplier 処理
+     * @return 処理結果
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            inFlight.waiters.incrementAndGet();
+            followers.increment();
+            return await(inFlight.result);
+        }
+
+        leaders.increment();
+        try {
+            V value = supplier.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+            waiters.record(flight.waiters.get());
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** 実行中の処理 */
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.dailyreport.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.dailyreport.config.PrimaryReadScope;
+import com.example.dailyreport.dto.DailyReportListResponse;
+import com.example.dailyreport.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 上司ダッシュボード（部下の日報一覧）の結果キャッシュ
+ *
+ * <p>機能: - (上司ID, ステータスフィルタ) ごとに部下の日報一覧を保持 - キャッシュヒット時はトランザクション・DB接続を使用しない
+ *
+ * <p>無効化: - 部下の日報の作成・更新・削除: DailyReportChangedEventをコミット後に受け取り、作成者の上司のエントリのみを破棄 -
+ * ユーザーの更新・削除（上司の付け替え・表示名変更等）: UserChangeListenerから全エントリを破棄 -
+ * 読み込み中に無効化が発生した場合、その読み込み結果は格納しない（無効化前のスナップショットを残さない） -
+ * 読み込みはPrimaryReadScopeでプライマリから行う（無効化はプライマリのコミット後のため、反映遅延中のレプリカから変更前の状態を読んで格納しない）
+ *
+ * <p>同時読み込み: - キャッシュミス時の読み込みはReadCoalescerで合流させ、同じキーの同時リクエストでは1回だけクエリを実行する -
+ * 合流は同じ無効化世代の読み込み同士に限る（無効化後のリクエストが無効化前に開始した読み込みの結果を受け取らない）
+ *
+ * <p>メトリクス: - Actuatorの cache.gets / cache.puts / cache.evictions（タグ cache=subordinateReports）でヒット率を公開
+ *
+ * <p>設定値: - subordinate-reports.cache.enabled: キャッシュの有効/無効（デフォルト: true） -
+ * subordinate-reports.cache.max-size: 最大件数（デフォルト: 1000） - subordinate-reports.cache.ttl:
+ * 書き込み後の有効期限（デフォルト: 10分、無効化漏れに対する上限）
+ *
+ * <p>注意事項: - 返却する一覧は変更不可。要素のDTOも共有されるため、呼び出し元で変更しないこと
+ */
+@Component
+@Slf4j
+public class SubordinateReportCache {
+
+    /** Micrometerに登録するキャッシュ名 */
+    static final String CACHE_NAME = "subordinateReports";
+
+    private final UserDirectoryService userDirectoryService;
+
+    private final ReadCoalescer readCoalescer;
+
+    private final boolean enabled;
+
+    private final Cache<Key, List<DailyReportListResponse>> cache;
+
+    /** 無効化のたびに加算し、読み込み中に無効化が発生したかを判定する */
+    private final AtomicLong generation = new AtomicLong();
+
+    public SubordinateReportCache(
+            UserDirectoryService userDirectoryService,
+            ReadCoalescer readCoalescer,
+            MeterRegistry meterRegistry,
+            @Value("${subordinate-reports.cache.enabled:true}") boolean enabled,
+            @Value("${subordinate-reports.cache.max-size:1000}") long maxSize,
+            @Value("${subordinate-reports.cache.ttl:10m}") Duration ttl) {
+        this.userDirectoryService = userDirectoryService;
+        this.readCoalescer = readCoalescer;
+        this.enabled = enabled;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 部下の日報一覧を取得（キャッシュにない場合は読み込んで格納）
+     *
+     * @param supervisorId 上司ID
+     * @param status ステータスフィルタ（null・空文字の場合は全件）
+     * @param loader キャッシュにない場合の読み込み処理
+     * @return 部下の日報一覧（変更不可）
+     */
+    public List<DailyReportListResponse> get(
+            Long supervisorId, String status, Supplier<List<DailyReportListResponse>> loader) {
+        Key key = new Key(supervisorId, normalize(status));
+        if (enabled) {
+            List<DailyReportListResponse> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long observed = generation.get();
+        return readCoalescer.execute(
+                ReadCoalescer.SUBORDINATE_REPORTS,
+                new FlightKey(key, observed),
+                () -> {
+                    List<DailyReportListResponse> loaded =
+                            List.copyOf(enabled ? PrimaryReadScope.call(loader) : loader.get());
+                    if (enabled) {
+                        cache.put(key, loaded);
+                        // 読み込み中に無効化された場合は、無効化前の状態を読んだ可能性があるため破棄する
+                        if (generation.get() != observed) {
+                            cache.invalidate(key);
+                        }
+                    }
+                    return loaded;
+                });
+    }
+
+    /**
+     * 日報の変更を受け取り、作成者の上司のエントリを破棄（コミット後に実行）
+     *
+     * <p>プッシュ通知（SubordinateReportEventHub）より先に実行し、通知を受けたクライアントの再取得で破棄前のエントリを返さないようにする
+     *
+     * @param event 日報変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDailyReportChanged(DailyReportChangedEvent event) {
+        Optional<User> author = userDirectoryService.findById(event.getUserId());
+        if (author.isEmpty()) {
+            // 作成者が特定できない場合は全件破棄（取りこぼしを防ぐ）
+            evictAll();
+            return;
+        }
+        // 上司のいない作成者の日報はどのダッシュボードにも含まれない
+        Long supervisorId = author.get().getSupervisorId();
+        if (supervisorId != null) {
+            evictSupervisor(supervisorId);
+        }
+    }
+
+    /**
+     * 指定上司のエントリを破棄（全ステータスフィルタ）
+     *
+     * @param supervisorId 上司ID
+     */
+    public void evictSupervisor(Long supervisorId) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> Objects.equals(key.supervisorId(), supervisorId));
+        log.debug("部下日報一覧キャッシュ破棄: supervisorId={}", supervisorId);
+    }
+
+    /** 全エントリを破棄 */
+    public void evictAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static String normalize(String status) {
+        // 空白のみのフィルタは全件（DailyReportService.getSubordinateReportsと同じ判定）
+        return status == null || status.trim().isEmpty() ? "" : status;
+    }
+
+    /** キャッシュキー（上司ID, 正規化済みステータスフィルタ） */
+    private record Key(Long supervisorId, String status) {}
+
+    /** 同時読み込みの合流キー（キャッシュキー, 読み込み開始時の無効化世代） */
+    private record FlightKey(Key key, long generation) {}
+}
@@ -0,0 +1,505 @@
+package com.example.dailyreport.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.dailyreport.dto.DailyReportChangeNotification;
+import com.example.dailyreport.entity.User;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 上司ダッシュボードへの日報変更プッシュ通知（Server-Sent Events）
+ *
+ * <p>機能: - 上司ごとにSSE接続を保持し、部下の日報の変更（DailyReportChangedEvent）をコミット後に配信 -
+ * 直近の通知をリプレイバッファに保持し、再接続時（Last-Event-ID）に取りこぼした通知を再送 - 一定間隔でコメント行を送り、ロードバランサーのアイドルタイムアウトで切断されないようにする
+ *
+ * <p>イベント: - report-changed: 日報の変更（データは DailyReportChangeNotification） - resync:
+ * 取りこぼしを再送できない場合（バッファから押し出された、再起動した、作成者が特定できない等）。クライアントは一覧を取得し直す
+ *
+ * <p>イベントID: - 「起動ごとの識別子-連番」。起動識別子が異なるLast-Event-IDはresyncとして扱う
+ *
+ * <p>スレッド: - 連番の採番・リプレイバッファ・接続の登録と、各接続の送信待ち行列への追加は単一の配信スレッドで順に実行する
+ * （接続登録と配信の競合による取りこぼし・重複を防ぐ） - 接続への書き込み（ブロッキング）は送信スレッドで行い、配信スレッドは待たない。
+ * 1つの接続の書き込みは同時に1つの送信スレッドのみが待ち行列の順に行う - コミットしたリクエストのスレッドは配信を待たない
+ *
+ * <p>送信待ち行列: - 接続ごとに上限付き。読み取りが止まったクライアントで上限を超えた場合は接続を終了する（クライアントはLast-Event-IDを付けて再接続する） -
+ * 書き込みが止まった接続は、書き込みのタイムアウトまで送信スレッドを1つ占有する
+ *
+ * <p>メトリクス: - dashboard.events.connections: 接続数 - dashboard.events.sent（タグ event）: 送信したイベント数 -
+ * dashboard.events.dropped: 送信待ち行列の超過により終了した接続数
+ *
+ * <p>設定値: - dashboard-events.replay-size: リプレイバッファの件数（デフォルト: 1000） -
+ * dashboard-events.heartbeat-interval: キープアライブ間隔（デフォルト: 25秒） - dashboard-events.timeout:
+ * 接続の最大維持時間（デフォルト: 30分、クライアントはLast-Event-IDを付けて再接続する） - dashboard-events.max-connections:
+ * 同時接続数の上限（デフォルト: 10000） - dashboard-events.sender-threads: 送信スレッド数（デフォルト: 32） -
+ * dashboard-events.send-queue-capacity: 接続ごとの送信待ち行列の上限（デフォルト: 512、一括作成の最大件数より十分大きくする）
+ *
+ * <p>注意事項: - 通知は本インスタンスでコミットされた変更のみ（複数インスタンス構成では、インスタンス間の配信を別途行うこと）
+ */
+@Component
+@Slf4j
+public class SubordinateReportEventHub {
+
+    /** 日報変更のイベント名 */
+    public static final String EVENT_REPORT_CHANGED = "report-changed";
+
+    /** 再取得要求のイベント名 */
+    public static final String EVENT_RESYNC = "resync";
+
+    private final UserDirectoryService userDirectoryService;
+
+    private final ScheduledExecutorService dispatcher;
+
+    private final Executor sender;
+
+    private final int replaySize;
+
+    private final int sendQueueCapacity;
+
+    private final long timeoutMillis;
+
+    private final int maxConnections;
+
+    /** 起動ごとの識別子（イベントIDの前半） */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /** 最後に採番した連番（配信スレッドからのみ操作する） */
+    private long lastSequence;
+
+    /** リプレイバッファ（配信スレッドからのみ操作する） */
+    private final Deque<BufferedEvent> replayBuffer = new ArrayDeque<>();
+
+    /** バッファから押し出された最後の連番（これ以前の通知は再送できない、配信スレッドからのみ操作する） */
+    private long evictedUpTo;
+
+    private final Map<Long, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SubordinateReportEventHub(
+            UserDirectoryService userDirectoryService,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard-events.replay-size:1000}") int replaySize,
+            @Value("${dashboard-events.heartbeat-interval:25s}") Duration heartbeatInterval,
+            @Value("${dashboard-events.timeout:30m}") Duration timeout,
+            @Value("${dashboard-events.max-connections:10000}") int maxConnections,
+            @Value("${dashboard-events.sender-threads:32}") int senderThreads,
+            @Value("${dashboard-events.send-queue-capacity:512}") int sendQueueCapacity) {
+        this(
+                userDirectoryService,
+                meterRegistry,
+                Executors.newSingleThreadScheduledExecutor(
+                        new CustomizableThreadFactory("dashboard-events-")),
+                Executors.newFixedThreadPool(
+                        senderThreads, new CustomizableThreadFactory("dashboard-events-send-")),
+                replaySize,
+                heartbeatInterval,
+                timeout,
+                maxConnections,
+                sendQueueCapacity);
+    }
+
+    /** 配信スレッド・送信スレッドを指定して生成（配信の完了を待ち合わせるテスト用） */
+    protected SubordinateReportEventHub(
+            UserDirectoryService userDirectoryService,
+            MeterRegistry meterRegistry,
+            ScheduledExecutorService dispatcher,
+            Executor sender,
+            int replaySize,
+            Duration heartbeatInterval,
+            Duration timeout,
+            int maxConnections,
+            int sendQueueCapacity) {
+        this.userDirectoryService = userDirectoryService;
+        this.meterRegistry = meterRegistry;
+        this.dispatcher = dispatcher;
+        this.sender = sender;
+        this.replaySize = replaySize;
+        this.sendQueueCapacity = sendQueueCapacity;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxConnections = maxConnections;
+        Gauge.builder("dashboard.events.connections", connections, AtomicInteger::get)
+                .description("上司ダッシュボードのSSE接続数")
+                .register(meterRegistry);
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        dispatcher.scheduleAtFixedRate(
+                this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 上司のSSE接続を登録
+     *
+     * @param supervisorId 上司ID
+     * @param lastEventId 再接続時のLast-Event-ID（初回接続はnull）
+     * @return SSE接続
+     * @throws IllegalStateException 同時接続数が上限に達している場合
+     */
+    public SseEmitter subscribe(Long supervisorId, String lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new IllegalStateException("接続数が上限に達しています");
+        }
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Connection connection = new Connection(supervisorId, emitter);
+        Runnable remove = () -> unsubscribe(connection);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        dispatcher.execute(
+                () -> {
+                    subscribers
+                            .computeIfAbsent(supervisorId, id -> ConcurrentHashMap.newKeySet())
+                            .add(connection);
+                    replay(connection, lastEventId);
+                });
+        log.debug("ダッシュボード通知接続: supervisorId={}, lastEventId={}", supervisorId, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * 日報の変更を受け取り、作成者の上司へ配信（コミット後に実行）
+     *
+     * <p>上司ダッシュボードのキャッシュ（SubordinateReportCache）の破棄より後に実行し、通知を受けたクライアントの再取得で旧状態を返さないようにする
+     *
+     * @param event 日報変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onDailyReportChanged(DailyReportChangedEvent event) {
+        Optional<User> author = userDirectoryService.findById(event.getUserId());
+        if (author.isEmpty()) {
+            // 配信先の上司が特定できない場合は全接続に再取得を要求する
+            dispatcher.execute(() -> publish(null, null));
+            return;
+        }
+        Long supervisorId = author.get().getSupervisorId();
+        if (supervisorId == null) {
+            return;
+        }
+        DailyReportChangeNotification notification =
+                DailyReportChangeNotification.builder()
+                        .reportId(event.getReportId())
+                        .userId(event.getUserId())
+                        .changeType(event.getChangeType().name())
+                        .occurredAt(LocalDateTime.now())
+                        .build();
+        dispatcher.execute(() -> publish(supervisorId, notification));
+    }
+
+    /**
+     * SSE接続を生成
+     *
+     * @param timeoutMillis 接続の最大維持時間（ミリ秒）
+     * @return SSE接続
+     */
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /** 配信スレッド・送信スレッドを停止し、全接続を終了する */
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        subscribers.values().forEach(
+                connections ->
+                        connections.forEach(
+                                connection -> {
+                                    connection.closed = true;
+                                    connection.emitter.complete();
+                                }));
+        subscribers.clear();
+    }
+
+    /**
+     * 連番を採番してバッファへ追加し、対象の上司（nullの場合は全上司）の接続の送信待ち行列へ追加する（配信スレッド）
+     *
+     * @param supervisorId 配信先の上司ID（nullの場合は全上司）
+     * @param notification 通知内容（nullの場合はresync）
+     */
+    private void publish(Long supervisorId, DailyReportChangeNotification notification) {
+        BufferedEvent event = new BufferedEvent(++lastSequence, supervisorId, notification);
+        replayBuffer.addLast(event);
+        while (replayBuffer.size() > replaySize) {
+            evictedUpTo = replayBuffer.removeFirst().sequence();
+        }
+        subscribers.forEach(
+                (subscriberId, connections) -> {
+                    if (supervisorId == null || supervisorId.equals(subscriberId)) {
+                        connections.forEach(connection -> enqueue(connection, event));
+                    }
+                });
+    }
+
+    /**
+     * Last-Event-ID より後の通知を再送する。再送できない場合（送信待ち行列に収まらない場合を含む）はresyncを送る（配信スレッド）
+     *
+     * @param connection 登録直後の接続
+     * @param lastEventId 再接続時のLast-Event-ID（初回接続はnull）
+     */
+    private void replay(Connection connection, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+        long lastEventSequence = parseSequence(lastEventId);
+        if (lastEventSequence < evictedUpTo || lastEventSequence > lastSequence) {
+            enqueue(connection, new BufferedEvent(lastSequence, null, null));
+            return;
+        }
+        List<BufferedEvent> missed =
+                replayBuffer.stream()
+                        .filter(
+                                event ->
+                                        event.sequence() > lastEventSequence
+                                                && (event.supervisorId() == null
+                                                        || event.supervisorId()
+                                                                .equals(connection.supervisorId)))
+                        .toList();
+        if (missed.size() > sendQueueCapacity) {
+            enqueue(connection, new BufferedEvent(lastSequence, null, null));
+            return;
+        }
+        missed.forEach(event -> enqueue(connection, event));
+    }
+
+    /**
+     * Last-Event-ID から連番を取り出す
+     *
+     * @return 連番（別の起動のIDや不正な形式の場合は-1）
+     */
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 通知を接続の送信待ち行列へ追加する（配信スレッド）
+     *
+     * @param connection 送信先の接続
+     * @param event 通知
+     */
+    private void enqueue(Connection connection, BufferedEvent event) {
+        SseEmitter.SseEventBuilder builder =
+                SseEmitter.event().id(epoch + "-" + event.sequence());
+        if (event.notification() == null) {
+            builder.name(EVENT_RESYNC).data("{}", MediaType.APPLICATION_JSON);
+        } else {
+            builder.name(EVENT_REPORT_CHANGED).data(event.notification(), MediaType.APPLICATION_JSON);
+        }
+        enqueue(
+                connection,
+                new Outbound(
+                        builder,
+                        event.notification() == null ? EVENT_RESYNC : EVENT_REPORT_CHANGED));
+    }
+
+    /**
+     * 送信待ち行列へ追加し、送信スレッドでの書き込みを開始する。上限を超えた場合は接続を終了する（配信スレッド）
+     *
+     * @param connection 送信先の接続
+     * @param outbound 送信内容
+     */
+    private void enqueue(Connection connection, Outbound outbound) {
+        if (connection.closed) {
+            return;
+        }
+        if (connection.queued.incrementAndGet() > sendQueueCapacity) {
+            connection.queued.decrementAndGet();
+            drop(connection);
+            return;
+        }
+        connection.queue.add(outbound);
+        scheduleDrain(connection);
+    }
+
+    /** 送信待ちのない接続にのみコメント行を送る（配信スレッド、送信中の接続はキープアライブ不要） */
+    private void sendHeartbeat() {
+        subscribers.forEach(
+                (supervisorId, connections) ->
+                        connections.forEach(
+                                connection -> {
+                                    if (connection.queued.get() == 0) {
+                                        enqueue(
+                                                connection,
+                                                new Outbound(
+                                                        SseEmitter.event().comment("keep-alive"),
+                                                        null));
+                                    }
+                                }));
+    }
+
+    /** 書き込み中でない接続の書き込みを送信スレッドで開始する */
+    private void scheduleDrain(Connection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(connection));
+            } catch (RejectedExecutionException e) {
+                // 停止処理中（shutdownで全接続を終了済み）
+                connection.draining.set(false);
+            }
+        }
+    }
+
+    /** 送信待ち行列を順に書き込む（送信スレッド、1つの接続につき同時に1つのみ） */
+    private void drain(Connection connection) {
+        Outbound next;
+        while (!connection.closed && (next = connection.queue.poll()) != null) {
+            connection.queued.decrementAndGet();
+            if (!write(connection, next)) {
+                return;
+            }
+        }
+        connection.draining.set(false);
+        // 書き込み終了の判定後に追加された分を取りこぼさない
+        if (!connection.closed && !connection.queue.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    /**
+     * 接続へ書き込む。失敗した接続（クライアント切断等）は登録を解除して終了させる（送信スレッド）
+     *
+     * @return 書き込みに成功した場合true
+     */
+    private boolean write(Connection connection, Outbound outbound) {
+        try {
+            connection.emitter.send(outbound.builder());
+        } catch (IOException | IllegalStateException e) {
+            log.debug("ダッシュボード通知の送信失敗: {}", e.getMessage());
+            unsubscribe(connection);
+            connection.emitter.completeWithError(e);
+            return false;
+        }
+        if (outbound.eventName() != null) {
+            Counter.builder("dashboard.events.sent")
+                    .tag("event", outbound.eventName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return true;
+    }
+
+    /**
+     * 送信待ち行列が上限を超えた接続（読み取りが止まったクライアント）を登録解除し、終了させる（配信スレッド）
+     *
+     * <p>終了処理は書き込み中の送信と競合して待たされる可能性があるため、送信スレッドで行う
+     */
+    private void drop(Connection connection) {
+        log.debug("ダッシュボード通知の送信待ちが上限を超過: supervisorId={}", connection.supervisorId);
+        connection.closed = true;
+        connection.queue.clear();
+        remove(connection);
+        Counter.builder("dashboard.events.dropped").register(meterRegistry).increment();
+        try {
+            sender.execute(connection.emitter::complete);
+        } catch (RejectedExecutionException e) {
+            // 停止処理中（shutdownで全接続を終了済み）
+        }
+    }
+
+    /** 接続の終了・タイムアウト・送信失敗時に登録を解除する（登録処理と順序を揃えるため配信スレッドで実行） */
+    private void unsubscribe(Connection connection) {
+        connection.closed = true;
+        try {
+            dispatcher.execute(() -> remove(connection));
+        } catch (RejectedExecutionException e) {
+            // 停止処理中（shutdownで全接続を終了済み）
+        }
+    }
+
+    private void remove(Connection connection) {
+        Set<Connection> registered = subscribers.get(connection.supervisorId);
+        if (registered != null && registered.remove(connection)) {
+            connections.decrementAndGet();
+        }
+    }
+
+    /** SSE接続と送信待ち行列 */
+    private static final class Connection {
+
+        private final Long supervisorId;
+
+        private final SseEmitter emitter;
+
+        private final Queue<Outbound> queue = new ConcurrentLinkedQueue<>();
+
+        /** 送信待ちの件数（ConcurrentLinkedQueue.sizeは件数に比例するため別に数える） */
+        private final AtomicInteger queued = new AtomicInteger();
+
+        /** 送信スレッドで書き込み中かどうか */
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /** 終了済み（以降は送信待ち行列へ追加しない） */
+        private volatile boolean closed;
+
+        Connection(Long supervisorId, SseEmitter emitter) {
+            this.supervisorId = supervisorId;
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * 送信待ち行列の要素
+     *
+     * @param builder 送信内容
+     * @param eventName イベント名（キープアライブの場合はnull）
+     */
+    private record Outbound(SseEmitter.SseEventBuilder builder, String eventName) {}
+
+    /**
+     * リプレイバッファの要素
+     *
+     * @param sequence 連番
+     * @param supervisorId 配信先の上司ID（nullの場合は全上司）
+     * @param notification 通知内容（nullの場合はresync）
+     */
+    private record BufferedEvent(
+            long sequence, Long supervisorId, DailyReportChangeNotification notification) {}
+}
@@ -0,0 +1,165 @@
+package com.example.dailyreport.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ユーザー情報のインメモリキャッシュ（ユーザーディレクトリ）
+ *
+ * <p>機能: - ユーザーID・ユーザー名の2つの索引でUserRepositoryの前段にキャッシュを配置 - 件数上限・書き込み後の有効期限付き - キャッシュヒット時はDB接続を使用しない -
+ * 呼び出し元には毎回コピーを返却し、キャッシュ内のインスタンスを共有しない
+ *
+ * <p>無効化: - Userエンティティの保存・削除時にUserChangeListenerから無効化（flush時およびコミット後） - JPQLの一括更新など、エンティティを経由しない更新は検知しない
+ * （有効期限により反映）
+ *
+ * <p>メトリクス: - Actuatorの cache.gets / cache.puts / cache.evictions（タグ cache=usersById, usersByUsername）でヒット率を公開
+ *
+ * <p>設定値: - user-directory.cache.enabled: キャッシュの有効/無効（デフォルト: true） - user-directory.cache.max-size:
+ * 最大件数（デフォルト: 10000） - user-directory.cache.ttl: 書き込み後の有効期限（デフォルト: 10分）
+ */
+@Service
+@Slf4j
+public class UserDirectoryService {
+
+    private final UserRepository userRepository;
+
+    private final boolean enabled;
+
+    private final Cache<Long, User> usersById;
+
+    private final Cache<String, Long> userIdsByUsername;
+
+    public UserDirectoryService(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user-directory.cache.enabled:true}") boolean enabled,
+            @Value("${user-directory.cache.max-size:10000}") long maxSize,
+            @Value("${user-directory.cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.usersById =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build();
+        this.userIdsByUsername =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "usersById");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByUsername, "usersByUsername");
+    }
+
+    /**
+     * ユーザーIDでユーザーを取得
+     *
+     * @param id ユーザーID
+     * @return ユーザー情報（キャッシュとは独立したコピー）
+     */
+    public Optional<User> findById(Long id) {
+        if (!enabled || id == null) {
+            return userRepository.findById(id);
+        }
+
+        User cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+
+        Optional<User> loaded = userRepository.findById(id);
+        loaded.ifPresent(this::store);
+        return loaded.map(UserDirectoryService::copyOf);
+    }
+
+    /**
+     * ユーザー名でユーザーを取得
+     *
+     * @param username ユーザー名
+     * @return ユーザー情報（キャッシュとは独立したコピー）
+     */
+    public Optional<User> findByUsername(String username) {
+        if (!enabled || username == null) {
+            return userRepository.findByUsername(username);
+        }
+
+        Long id = userIdsByUsername.getIfPresent(username);
+        if (id != null) {
+            User cached = usersById.getIfPresent(id);
+            if (cached != null && username.equals(cached.getUsername())) {
+                return Optional.of(copyOf(cached));
+            }
+        }
+
+        Optional<User> loaded = userRepository.findByUsername(username);
+        loaded.ifPresent(this::store);
+        return loaded.map(UserDirectoryService::copyOf);
+    }
+
+    /**
+     * 指定ユーザーのキャッシュを破棄 ユーザー名の変更に備え、旧ユーザー名の索引も破棄する
+     *
+     * @param user 変更されたユーザー
+     */
+    public void evict(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        User cached = usersById.getIfPresent(user.getId());
+        if (cached != null) {
+            userIdsByUsername.invalidate(cached.getUsername());
+        }
+        if (user.getUsername() != null) {
+            userIdsByUsername.invalidate(user.getUsername());
+        }
+        usersById.invalidate(user.getId());
+        log.debug("ユーザーキャッシュ破棄: userId={}", user.getId());
+    }
+
+    /** 全キャッシュを破棄 */
+    public void evictAll() {
+        usersById.invalidateAll();
+        userIdsByUsername.invalidateAll();
+    }
+
+    private void store(User user) {
+        usersById.put(user.getId(), copyOf(user));
+        userIdsByUsername.put(user.getUsername(), user.getId());
+    }
+
+    /**
+     * Userエンティティのコピーを作成 永続化コンテキストから切り離された値として扱う
+     *
+     * @param user コピー元
+     * @return コピー
+     */
+    private static User copyOf(User user) {
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .displayName(user.getDisplayName())
+                .supervisorId(user.getSupervisorId())
+                .isActive(user.getIsActive())
+                .tokenVersion(user.getTokenVersion())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
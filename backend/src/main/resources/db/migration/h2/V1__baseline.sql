@@ -1,13 +1,7 @@
--- テスト用データベーススキーマ（H2データベース用）
--- 日報管理システムのテスト環境構築
+-- V1: 初期スキーマ（H2、テスト用）
+-- PostgreSQL版 V1__baseline.sql と同じテーブル構成（トリガー・関数を除く）
 
--- 既存テーブル削除（テスト環境初期化）
-DROP TABLE IF EXISTS daily_reports;
-DROP TABLE IF EXISTS user_teams;
-DROP TABLE IF EXISTS teams;
-DROP TABLE IF EXISTS users;
-
--- ユーザーテーブル作成
+-- ユーザーテーブル
 CREATE TABLE users (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     username VARCHAR(50) NOT NULL UNIQUE,
@@ -19,64 +13,64 @@ CREATE TABLE users (
     is_active BOOLEAN NOT NULL DEFAULT TRUE,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    
+
     -- 外部キー制約
     CONSTRAINT fk_users_supervisor FOREIGN KEY (supervisor_id) REFERENCES users(id)
 );
 
--- 日報テーブル作成
+-- 日報テーブル
 CREATE TABLE daily_reports (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     user_id BIGINT NOT NULL,
     title VARCHAR(200) NOT NULL,
-    work_content TEXT NOT NULL,
+    work_content VARCHAR(1000) NOT NULL,
     status VARCHAR(20) NOT NULL DEFAULT 'draft',
     report_date DATE NOT NULL,
     submitted_at TIMESTAMP,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    
+
     -- 外部キー制約
     CONSTRAINT fk_daily_reports_user FOREIGN KEY (user_id) REFERENCES users(id),
-    
+
     -- ユニーク制約（1日1件制限）
     CONSTRAINT uk_user_date UNIQUE (user_id, report_date)
 );
 
--- チームテーブル作成（将来機能用）
+-- チームテーブル
 CREATE TABLE teams (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(100) NOT NULL UNIQUE,
-    description TEXT,
-    manager_id BIGINT,
+    description VARCHAR(1000),
+    leader_id BIGINT,
     is_active BOOLEAN NOT NULL DEFAULT TRUE,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    
+
     -- 外部キー制約
-    CONSTRAINT fk_teams_manager FOREIGN KEY (manager_id) REFERENCES users(id)
+    CONSTRAINT fk_teams_leader FOREIGN KEY (leader_id) REFERENCES users(id)
 );
 
--- ユーザー・チーム関連テーブル作成（多対多関係）
+-- ユーザー・チーム関係テーブル
 CREATE TABLE user_teams (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     user_id BIGINT NOT NULL,
     team_id BIGINT NOT NULL,
+    team_role VARCHAR(20) NOT NULL DEFAULT 'member',
     joined_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    
+    left_at TIMESTAMP NULL,
+
     -- 外部キー制約
     CONSTRAINT fk_user_teams_user FOREIGN KEY (user_id) REFERENCES users(id),
-    CONSTRAINT fk_user_teams_team FOREIGN KEY (team_id) REFERENCES teams(id),
-    
-    -- ユニーク制約（同一ユーザーは同一チームに1回のみ参加）
-    CONSTRAINT uk_user_team UNIQUE (user_id, team_id)
+    CONSTRAINT fk_user_teams_team FOREIGN KEY (team_id) REFERENCES teams(id)
 );
 
--- インデックス作成（パフォーマンス最適化）
-CREATE INDEX idx_users_username ON users(username);
+-- インデックス作成
 CREATE INDEX idx_users_supervisor_id ON users(supervisor_id);
+CREATE INDEX idx_users_role ON users(role);
 CREATE INDEX idx_daily_reports_user_id ON daily_reports(user_id);
-CREATE INDEX idx_daily_reports_report_date ON daily_reports(report_date);
 CREATE INDEX idx_daily_reports_status ON daily_reports(status);
+CREATE INDEX idx_daily_reports_report_date ON daily_reports(report_date);
+CREATE INDEX idx_teams_leader_id ON teams(leader_id);
 CREATE INDEX idx_user_teams_user_id ON user_teams(user_id);
-CREATE INDEX idx_user_teams_team_id ON user_teams(team_id);
\ No newline at end of file
+CREATE INDEX idx_user_teams_team_id ON user_teams(team_id);
@@ -0,0 +1,8 @@
+-- V2: users / daily_reports のID採番用シーケンス（H2、テスト用）
+-- エンティティの @SequenceGenerator(allocationSize = 50) と同じ増分で作成する
+
+CREATE SEQUENCE users_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE daily_reports_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_id_seq;
+ALTER TABLE daily_reports ALTER COLUMN id SET DEFAULT NEXT VALUE FOR daily_reports_id_seq;
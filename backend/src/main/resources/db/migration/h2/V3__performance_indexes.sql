@@ -0,0 +1,13 @@
+-- V3: 実際のアクセスパスに合わせたインデックス（H2、テスト用）
+-- 構成・意図は PostgreSQL版 V3__performance_indexes.sql を参照。
+-- H2は部分インデックスに対応していないため、有効な部下用は (supervisor_id, is_active) の複合インデックスで代替する
+
+CREATE INDEX idx_daily_reports_user_status_date ON daily_reports(user_id, status, report_date DESC);
+CREATE INDEX idx_daily_reports_date_user ON daily_reports(report_date, user_id);
+CREATE INDEX idx_users_supervisor_id_id ON users(supervisor_id, id);
+CREATE INDEX idx_users_supervisor_active ON users(supervisor_id, is_active);
+
+DROP INDEX IF EXISTS idx_daily_reports_user_id;
+DROP INDEX IF EXISTS idx_daily_reports_status;
+DROP INDEX IF EXISTS idx_daily_reports_report_date;
+DROP INDEX IF EXISTS idx_users_supervisor_id;
@@ -0,0 +1,21 @@
+-- V4: リフレッシュトークン（H2、テスト用）
+-- 構成・意図は PostgreSQL版 V4__refresh_tokens.sql を参照。
+
+CREATE SEQUENCE refresh_tokens_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE refresh_tokens (
+    id BIGINT DEFAULT NEXT VALUE FOR refresh_tokens_id_seq PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    session_expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    used_at TIMESTAMP,
+    revoked_at TIMESTAMP,
+
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_user_expires ON refresh_tokens(user_id, expires_at);
@@ -0,0 +1,7 @@
+-- V6: トークンバージョン列とキーセットページネーション用インデックス（H2、テスト用）
+-- 構成・意図は PostgreSQL版 V6__token_version_and_keyset_index.sql を参照。
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_daily_reports_user_date_id
+    ON daily_reports(user_id, report_date DESC, id DESC);
@@ -0,0 +1,13 @@
+-- V2: users / daily_reports のID採番をシーケンス（pooled-lo）方式に移行（PostgreSQL）
+--
+-- アプリケーションは @SequenceGenerator(allocationSize = 50) で採番するため、
+-- シーケンスの増分を50に揃える（不一致の場合、起動時のスキーマ検証でエラーになる）。
+-- pooled-lo では nextval の値から50件分を使用するため、既存IDとの重複を避けるよう
+-- 現在の最大IDより後から採番を再開する。
+-- BIGSERIALの列デフォルト（nextval）はそのまま残し、手動INSERTも引き続き可能とする。
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+SELECT setval('users_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users), (SELECT last_value FROM users_id_seq)) + 1, false);
+
+ALTER SEQUENCE daily_reports_id_seq INCREMENT BY 50;
+SELECT setval('daily_reports_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM daily_reports), (SELECT last_value FROM daily_reports_id_seq)) + 1, false);
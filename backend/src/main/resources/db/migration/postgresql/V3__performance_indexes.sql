@@ -0,0 +1,36 @@
+-- V3: 実際のアクセスパスに合わせたインデックス（PostgreSQL）
+--
+-- daily_reports（既存の一意制約 (user_id, report_date) と合わせて全クエリを索引で処理する）
+--   (user_id, report_date)              一意制約: 本人の日報（日付指定・存在確認・期間・新しい順の一覧）
+--   (user_id, report_date DESC, id DESC) キーセットページネーション（V6で作成）
+--   (user_id, status, report_date DESC)  ステータス指定の一覧・ページ・件数
+--   (report_date, user_id)               日付・期間指定の全ユーザー検索、エクスポート（対象日・作成者ID順）
+-- users
+--   (supervisor_id, id)                  部下の一覧・部下日報の結合（部下IDを索引のみで取得）
+--   (supervisor_id) WHERE is_active      有効な部下の一覧（部分インデックス）
+--   (role)                               役職での検索（V1で作成済み、維持）
+--
+-- 削除する冗長なインデックス
+--   idx_daily_reports_user_id     一意制約 (user_id, report_date) の先頭列と重複
+--   idx_daily_reports_status      単独では選択性が低く、ステータス単独で絞り込むクエリはない
+--   idx_daily_reports_report_date (report_date, user_id) で代替
+--   idx_users_supervisor_id       (supervisor_id, id) で代替
+--
+-- 注意事項: 大規模テーブルではCREATE INDEXの間書き込みがブロックされるため、メンテナンス時間帯に適用すること
+
+CREATE INDEX IF NOT EXISTS idx_daily_reports_user_status_date
+    ON daily_reports(user_id, status, report_date DESC);
+CREATE INDEX IF NOT EXISTS idx_daily_reports_date_user
+    ON daily_reports(report_date, user_id);
+CREATE INDEX IF NOT EXISTS idx_users_supervisor_id_id
+    ON users(supervisor_id, id);
+CREATE INDEX IF NOT EXISTS idx_users_supervisor_active
+    ON users(supervisor_id) WHERE is_active = TRUE;
+
+DROP INDEX IF EXISTS idx_daily_reports_user_id;
+DROP INDEX IF EXISTS idx_daily_reports_status;
+DROP INDEX IF EXISTS idx_daily_reports_report_date;
+DROP INDEX IF EXISTS idx_users_supervisor_id;
+
+ANALYZE daily_reports;
+ANALYZE users;
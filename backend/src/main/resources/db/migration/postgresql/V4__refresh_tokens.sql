@@ -0,0 +1,26 @@
+-- V4: リフレッシュトークン（PostgreSQL）
+--
+-- ログイン1回ごとに1つのファミリー（family_id）を作成し、リフレッシュのたびに同じファミリーで新しいトークンへ交換する（ローテーション）。
+-- トークン本体は保存せず、SHA-256のハッシュ（16進64文字）のみを保存する。
+-- 使用済み（used_at あり）のトークンが再提示された場合は漏えいとみなし、ファミリー全体を失効（revoked_at）させる。
+-- expires_at はトークン単位の有効期限（アイドルタイムアウト、リフレッシュのたびに延長）、
+-- session_expires_at はファミリー全体の絶対的な有効期限（延長しない）。
+
+CREATE TABLE refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    expires_at TIMESTAMP NOT NULL,
+    session_expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    used_at TIMESTAMP,
+    revoked_at TIMESTAMP
+);
+
+-- エンティティの @SequenceGenerator(allocationSize = 50) と増分を揃える
+ALTER SEQUENCE refresh_tokens_id_seq INCREMENT BY 50;
+
+-- 再利用検知時のファミリー失効・ログイン時の期限切れトークン削除
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_user_expires ON refresh_tokens(user_id, expires_at);
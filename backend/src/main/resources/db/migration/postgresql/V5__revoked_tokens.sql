@@ -0,0 +1,15 @@
+-- V5: 失効済みアクセストークン（PostgreSQL）
+--
+-- 有効期限前に失効させたJWTのjti（トークンID）を保存する。
+-- 各ノードはこの表からメモリ上のBloomフィルターを構築し、リクエスト毎の判定は「含まれる可能性あり」の場合のみこの表を参照する。
+-- revoked_at は他ノードでの失効を差分で取り込むために使用し、expires_at を過ぎた行は判定に不要なため定期的に削除する。
+
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
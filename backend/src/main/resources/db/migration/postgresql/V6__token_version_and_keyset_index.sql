@@ -0,0 +1,15 @@
+-- V6: トークンバージョン列とキーセットページネーション用インデックス（PostgreSQL）
+--
+-- V1（Flyway導入前のスキーマ）以降に追加された以下を、baseline-on-migrate で V1 とみなされた既存環境にも適用する。
+--   users.token_version                  役職・上司・アクティブ状態の変更時に加算し、発行済みJWTを失効させる
+--   idx_daily_reports_user_date_id       自分の日報のキーセットページネーション（(report_date, id)でのシーク）
+--
+-- V1にこれらを含めていた時期に新規作成した環境では既に存在するため、いずれも存在しない場合のみ作成する。
+-- 注意事項: 大規模テーブルではCREATE INDEXの間書き込みがブロックされるため、メンテナンス時間帯に適用すること
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_daily_reports_user_date_id
+    ON daily_reports(user_id, report_date DESC, id DESC);
+
+ANALYZE daily_reports;
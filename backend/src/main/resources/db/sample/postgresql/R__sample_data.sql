@@ -0,0 +1,37 @@
+-- 開発環境（dockerプロファイル）用サンプルデータ
+-- 旧 database/init.sql の初期データ。何度適用しても重複しないよう ON CONFLICT で既存行を無視する
+-- パスワードは全て"password"のBCryptハッシュ
+
+INSERT INTO users (username, email, password, role, display_name) VALUES
+('admin', 'admin@example.com', '$2a$10$Hw39vRyt7.Fegc29QKjhAOwbpuYQsolQ1PMTydVOP.hG..ts1ihXy', '管理者', '管理者'),
+('manager', 'manager@example.com', '$2a$10$Hw39vRyt7.Fegc29QKjhAOwbpuYQsolQ1PMTydVOP.hG..ts1ihXy', '上長', '田中 佐智子'),
+('employee1', 'emp1@example.com', '$2a$10$Hw39vRyt7.Fegc29QKjhAOwbpuYQsolQ1PMTydVOP.hG..ts1ihXy', '部下', '佐藤 大輔'),
+('employee2', 'emp2@example.com', '$2a$10$Hw39vRyt7.Fegc29QKjhAOwbpuYQsolQ1PMTydVOP.hG..ts1ihXy', '部下', '鈴木 美穂')
+ON CONFLICT (username) DO NOTHING;
+
+-- 上司-部下関係設定
+UPDATE users SET supervisor_id = (SELECT id FROM users WHERE username = 'manager')
+WHERE username IN ('employee1', 'employee2') AND supervisor_id IS NULL;
+
+-- 初期チームデータ
+INSERT INTO teams (name, description, leader_id) VALUES
+('開発チーム', 'システム開発・保守担当', (SELECT id FROM users WHERE username = 'manager')),
+('営業チーム', '営業活動・顧客対応担当', (SELECT id FROM users WHERE username = 'manager'))
+ON CONFLICT (name) DO NOTHING;
+
+-- チームメンバー関係
+INSERT INTO user_teams (user_id, team_id, team_role)
+SELECT u.id, t.id, m.team_role
+FROM (VALUES ('manager', '開発チーム', 'leader'),
+             ('employee1', '開発チーム', 'member'),
+             ('employee2', '営業チーム', 'member')) AS m(username, team_name, team_role)
+JOIN users u ON u.username = m.username
+JOIN teams t ON t.name = m.team_name
+WHERE NOT EXISTS (SELECT 1 FROM user_teams ut WHERE ut.user_id = u.id AND ut.team_id = t.id);
+
+-- サンプル日報データ
+INSERT INTO daily_reports (user_id, title, work_content, status, report_date, submitted_at) VALUES
+((SELECT id FROM users WHERE username = 'employee1'), '2024年1月15日の日報', 'プロジェクトXの要件定義を実施しました。クライアントとのミーティングで詳細な仕様を確認し、技術スタックの選定を行いました。', 'submitted', '2024-01-15', '2024-01-15 18:30:00'),
+((SELECT id FROM users WHERE username = 'employee1'), '2024年1月16日の日報', 'UI/UXデザインのプロトタイプ作成を開始。Figmaでワイヤーフレームを作成中です。', 'draft', '2024-01-16', NULL),
+((SELECT id FROM users WHERE username = 'employee2'), '2024年1月15日の日報', '営業チーム会議に参加し、月次売上目標の進捗確認を行いました。新規顧客開拓のアプローチ方法について検討しました。', 'submitted', '2024-01-15', '2024-01-15 17:45:00')
+ON CONFLICT DO NOTHING;
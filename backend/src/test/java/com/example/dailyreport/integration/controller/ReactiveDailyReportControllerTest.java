@@ -0,0 +1,241 @@
+package com.example.dailyreport.integration.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.dailyreport.dto.DailyReportListResponse;
+import com.example.dailyreport.entity.DailyReport;
+import com.example.dailyreport.repository.DailyReportRepository;
+import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ReactiveDailyReportController統合テスト
+ *
+ * <p>
+ * テスト対象: - Accept: application/x-ndjson の一覧系APIがR2DBC経由でNDJSONを返すこと - 従来のJSON配列レスポンスと同じ内容・並び順であること -
+ * Acceptを指定しないリクエストは従来のDailyReportControllerが処理すること
+ *
+ * <p>
+ * 使用技術: - JDBC・R2DBCで同じ名前付きH2インメモリDBを参照（data-test.sqlのデータを共有） - MockMvc asyncDispatch：リアクティブ戻り値の非同期レスポンス
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactive-read;DB_CLOSE_DELAY=-1",
+    "app.reactive-read.enabled=true",
+    "app.reactive-read.r2dbc.url=r2dbc:h2:mem:///reactive-read?options=DB_CLOSE_DELAY=-1"
+})
+@DisplayName("ReactiveDailyReportController 統合テスト")
+class ReactiveDailyReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DailyReportRepository dailyReportRepository;
+
+    @Nested
+    @DisplayName("GET /api/daily-reports/my")
+    class GetMyDailyReportsTests {
+
+        @Test
+        @DisplayName("NDJSONで自分の日報を1行1件・新しい順に返す")
+        void ndjson_ShouldStreamOwnReports() throws Exception {
+            // When
+            List<DailyReportListResponse> reports =
+                    streamList(get("/api/daily-reports/my"), "employee1");
+
+            // Then
+            assertThat(reports).isNotEmpty();
+            assertThat(reports).extracting(DailyReportListResponse::getUserId).containsOnly(4L);
+            assertThat(reports).extracting(DailyReportListResponse::getReportDate)
+                    .isSortedAccordingTo((a, b) -> b.compareTo(a));
+            assertThat(reports).extracting(DailyReportListResponse::getId)
+                    .containsExactlyElementsOf(dailyReportRepository.findListByUserId(4L).stream()
+                            .map(DailyReportListResponse::getId).toList());
+        }
+
+        @Test
+        @DisplayName("ステータスを指定した場合はそのステータスの日報のみ返す")
+        void ndjson_WithStatus_ShouldFilter() throws Exception {
+            // When
+            List<DailyReportListResponse> reports =
+                    streamList(get("/api/daily-reports/my").param("status", "submitted"), "employee1");
+
+            // Then
+            assertThat(reports).extracting(DailyReportListResponse::getStatus).containsOnly("submitted");
+            assertThat(reports).hasSize(
+                    dailyReportRepository.findListByUserIdAndStatus(4L, "submitted").size());
+        }
+
+        @Test
+        @DisplayName("作業内容は100文字を超える場合プレビューに切り詰める")
+        void ndjson_LongWorkContent_ShouldReturnPreview() throws Exception {
+            // Given
+            DailyReport report = dailyReportRepository.save(DailyReport.builder().userId(6L)
+                    .title("長文の日報").workContent("あ".repeat(150)).status("draft")
+                    .reportDate(LocalDate.of(2023, 12, 1)).build());
+
+            try {
+                // When
+                List<DailyReportListResponse> reports =
+                        streamList(get("/api/daily-reports/my"), "employee3");
+
+                // Then
+                assertThat(reports).filteredOn(r -> r.getId().equals(report.getId()))
+                        .singleElement()
+                        .satisfies(r -> {
+                            assertThat(r.getWorkContent()).isEqualTo("あ".repeat(100) + "...");
+                            assertThat(r.getUsername()).isEqualTo("employee3");
+                        });
+            } finally {
+                dailyReportRepository.deleteById(report.getId());
+            }
+        }
+
+        @Test
+        @DisplayName("Acceptを指定しない場合は従来のJSON配列を返す")
+        void defaultAccept_ShouldUseMvcController() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/daily-reports/my").header(HttpHeaders.AUTHORIZATION,
+                    bearer("employee1")))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$").isArray());
+        }
+
+        @Test
+        @DisplayName("未認証の場合は拒否され、ストリームを開始しない")
+        void unauthenticated_ShouldBeRejected() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/daily-reports/my").accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(status().is4xxClientError())
+                    .andExpect(request().asyncNotStarted());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/daily-reports/subordinates")
+    class GetSubordinateReportsTests {
+
+        @Test
+        @DisplayName("上司の部下全員の日報をJSON配列版と同じ順序で返す")
+        void ndjson_ShouldMatchMvcOrder() throws Exception {
+            // When
+            List<DailyReportListResponse> reports =
+                    streamList(get("/api/daily-reports/subordinates"), "manager1");
+
+            // Then
+            assertThat(reports).isNotEmpty();
+            assertThat(reports).extracting(DailyReportListResponse::getUserId).containsOnly(4L, 5L);
+            assertThat(reports).extracting(DailyReportListResponse::getId)
+                    .containsExactlyElementsOf(dailyReportRepository.findListBySupervisorId(2L)
+                            .stream().map(DailyReportListResponse::getId).toList());
+        }
+
+        @Test
+        @DisplayName("部下がいない場合は空のレスポンスを返す")
+        void ndjson_NoSubordinates_ShouldBeEmpty() throws Exception {
+            // When
+            List<DailyReportListResponse> reports =
+                    streamList(get("/api/daily-reports/subordinates"), "employee1");
+
+            // Then
+            assertThat(reports).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/daily-reports/today/exists")
+    class HasTodayReportTests {
+
+        @Test
+        @DisplayName("本日の日報がない場合はfalseの1行を返す")
+        void ndjson_NoTodayReport_ShouldReturnFalse() throws Exception {
+            // When
+            List<String> lines = stream(get("/api/daily-reports/today/exists"), "employee2");
+
+            // Then
+            assertThat(lines).containsExactly("false");
+        }
+
+        @Test
+        @DisplayName("本日の日報がある場合はtrueの1行を返す")
+        void ndjson_TodayReport_ShouldReturnTrue() throws Exception {
+            // Given
+            DailyReport report = dailyReportRepository.save(DailyReport.builder().userId(5L)
+                    .title("本日の日報").workContent("作業内容").status("draft")
+                    .reportDate(LocalDate.now()).build());
+
+            try {
+                // When
+                List<String> lines = stream(get("/api/daily-reports/today/exists"), "employee2");
+
+                // Then
+                assertThat(lines).containsExactly("true");
+            } finally {
+                dailyReportRepository.deleteById(report.getId());
+            }
+        }
+    }
+
+    private List<DailyReportListResponse> streamList(MockHttpServletRequestBuilder request,
+            String username) throws Exception {
+        return stream(request, username).stream()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, DailyReportListResponse.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).toList();
+    }
+
+    private List<String> stream(MockHttpServletRequestBuilder request, String username)
+            throws Exception {
+        MvcResult started = mockMvc.perform(request.accept(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.AUTHORIZATION, bearer(username)))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        return Arrays.stream(body.split("\n")).filter(line -> !line.isBlank()).toList();
+    }
+
+    private String bearer(String username) {
+        return "Bearer " + jwtUtil.generateToken(userRepository.findByUsername(username).orElseThrow());
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.dailyreport.integration.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.example.dailyreport.dto.LoginRequest;
+import com.example.dailyreport.dto.LoginResponse;
+import com.example.dailyreport.dto.RefreshTokenRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * リフレッシュトークンの統合テスト
+ *
+ * <p>テスト対象: - POST /api/auth/login → /refresh → /logout の一連の流れ - 再利用検知によるトークンファミリー全体の失効 -
+ * 猶予期間内の同時リフレッシュ（複数タブ） - DBにはハッシュのみ保存されること - ログアウト時のアクセストークン失効
+ *
+ * <p>使用技術: - @SpringBootTest：全レイヤー（H2 + Flyway）を使用 - MockMvc：HTTP リクエスト/レスポンスのテスト
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("リフレッシュトークン 統合テスト")
+class RefreshTokenFlowTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        // 実際のログイン処理を通すため、現在のパスワードポリシーでハッシュ化したパスワードを設定
+        jdbcTemplate.update("UPDATE users SET password = ? WHERE username = ?",
+                passwordEncoder.encode("password"), "employee1");
+    }
+
+    private LoginResponse login() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest("employee1", "password"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, LoginResponse.class);
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))));
+    }
+
+    private LoginResponse read(ResultActions result) throws Exception {
+        return objectMapper.readValue(result.andReturn().getResponse().getContentAsString(),
+                LoginResponse.class);
+    }
+
+    /** 使用済みトークンの使用日時を猶予期間（30秒）より前にずらす */
+    private void ageUsedTokensBeyondGrace() {
+        jdbcTemplate.update("UPDATE refresh_tokens SET used_at = ? WHERE used_at IS NOT NULL",
+                LocalDateTime.now().minusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("正常: ログインで発行したリフレッシュトークンで再発行でき、新しいトークンでAPIを呼び出せる")
+    void refresh_AfterLogin_ShouldRotateAndAuthorize() throws Exception {
+        // Given
+        LoginResponse loggedIn = login();
+        assertThat(loggedIn.getRefreshToken()).isNotBlank();
+        assertThat(loggedIn.getExpiresIn()).isPositive();
+
+        // When
+        LoginResponse refreshed = read(refresh(loggedIn.getRefreshToken()).andExpect(status().isOk()));
+
+        // Then: 新しいトークンに置き換わり、アクセストークンは利用可能
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(loggedIn.getRefreshToken());
+        assertThat(refreshed.getUsername()).isEqualTo("employee1");
+        mockMvc.perform(get("/api/daily-reports/my")
+                .header("Authorization", "Bearer " + refreshed.getToken()))
+                .andExpect(status().isOk());
+
+        // DBにはトークン本体が保存されていない
+        Integer plainTextRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE token_hash IN (?, ?)", Integer.class,
+                loggedIn.getRefreshToken(), refreshed.getRefreshToken());
+        assertThat(plainTextRows).isZero();
+    }
+
+    @Test
+    @DisplayName("異常: 使用済みトークンの再提示でファミリー全体が失効し、最新のトークンも使えなくなる")
+    void refresh_ReusedToken_ShouldRevokeWholeFamily() throws Exception {
+        // Given: 正規のクライアントが一度ローテーション済み
+        LoginResponse loggedIn = login();
+        LoginResponse refreshed = read(refresh(loggedIn.getRefreshToken()).andExpect(status().isOk()));
+        ageUsedTokensBeyondGrace();
+
+        // When: 猶予期間を過ぎてから漏えいした旧トークンが再提示される
+        refresh(loggedIn.getRefreshToken()).andExpect(status().isUnauthorized());
+
+        // Then: 最新のトークンも失効している
+        refresh(refreshed.getRefreshToken()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("正常: 複数タブから同じトークンで同時にリフレッシュしても、猶予期間内は全タブが成功しログインを維持する")
+    void refresh_ConcurrentWithinGrace_ShouldKeepAllTabsLoggedIn() throws Exception {
+        // Given: 同じlocalStorageを共有する3つのタブ
+        LoginResponse loggedIn = login();
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<LoginResponse> tab = () -> {
+            start.await();
+            return read(refresh(loggedIn.getRefreshToken()).andExpect(status().isOk()));
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<LoginResponse>> futures =
+                    List.of(executor.submit(tab), executor.submit(tab), executor.submit(tab));
+
+            // When: アクセストークンの期限切れで一斉にリフレッシュ
+            start.countDown();
+            List<String> refreshTokens = new ArrayList<>();
+            for (Future<LoginResponse> future : futures) {
+                refreshTokens.add(future.get(10, TimeUnit.SECONDS).getRefreshToken());
+            }
+
+            // Then: 全タブが別々のトークンを受け取り、いずれも失効していない
+            assertThat(refreshTokens).doesNotHaveDuplicates()
+                    .doesNotContain(loggedIn.getRefreshToken());
+            for (String refreshToken : refreshTokens) {
+                refresh(refreshToken).andExpect(status().isOk());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("正常: ログアウト後はリフレッシュできない（他のログインには影響しない）")
+    void logout_ShouldRevokeOnlyThatSession() throws Exception {
+        // Given: 2つの端末でログイン
+        LoginResponse first = login();
+        LoginResponse second = login();
+
+        // When
+        mockMvc.perform(post("/api/auth/logout").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new RefreshTokenRequest(first.getRefreshToken()))))
+                .andExpect(status().isNoContent());
+
+        // Then
+        refresh(first.getRefreshToken()).andExpect(status().isUnauthorized());
+        refresh(second.getRefreshToken()).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("正常: ログアウト時に指定したアクセストークンは有効期限前でも使用できなくなる")
+    void logout_WithBearer_ShouldRevokeAccessToken() throws Exception {
+        // Given
+        LoginResponse first = login();
+        LoginResponse second = login();
+        mockMvc.perform(get("/api/daily-reports/my")
+                .header("Authorization", "Bearer " + first.getToken()))
+                .andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(post("/api/auth/logout").contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + first.getToken())
+                .content(objectMapper.writeValueAsString(
+                        new RefreshTokenRequest(first.getRefreshToken()))))
+                .andExpect(status().isNoContent());
+
+        // Then: 失効したトークンは拒否され、別のログインのトークンは引き続き有効
+        mockMvc.perform(get("/api/daily-reports/my")
+                .header("Authorization", "Bearer " + first.getToken()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/daily-reports/my")
+                .header("Authorization", "Bearer " + second.getToken()))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.dailyreport.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dailyreport.entity.DailyReport;
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.repository.DailyReportRepository;
+import com.example.dailyreport.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 日報の一括INSERTベンチマーク
+ *
+ * <p>
+ * 比較対象: - 変更前相当: IDENTITY採番（1行ごとにINSERTを実行し、生成キーを取得） - 変更後: シーケンス採番（pooled-lo）+ JDBCバッチ（hibernate.jdbc.batch_size）
+ *
+ * <p>
+ * 実行方法: - 通常のテストでは実行しない（-Dbenchmark=true の場合のみ） - 件数は -Dbenchmark.rows で指定（既定: 100000） - PostgreSQLで計測する場合は
+ * -Dspring.datasource.url 等で接続先を指定する（reWriteBatchedInserts=true を付与）
+ *
+ * <p>
+ * 例: mvn test -Dtest=DailyReportInsertBenchmarkTest -Dbenchmark=true -Dbenchmark.rows=100000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=OFF",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF"
+})
+@DirtiesContext
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("日報 一括INSERTベンチマーク")
+class DailyReportInsertBenchmarkTest {
+
+    private static final LocalDate NEWEST = LocalDate.of(2024, 12, 31);
+
+    /** 1トランザクションあたりの件数（永続化コンテキストをこの単位でクリアする） */
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired private DailyReportRepository dailyReportRepository;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Test
+    @DisplayName("IDENTITY相当の1行ずつのINSERTとシーケンス採番+JDBCバッチのINSERT件数/秒を比較")
+    void compareInsertThroughput() {
+        int rows = Integer.getInteger("benchmark.rows", 100_000);
+
+        // Given: 計測ごとに別ユーザーを用意（1日1件制限と衝突させない）
+        Long identityUserId = createUser("bench_identity").getId();
+        Long sequenceUserId = createUser("bench_sequence").getId();
+
+        // When
+        double identityRate = measure(rows, () -> insertRowByRow(identityUserId, rows));
+        double sequenceRate = measure(rows, () -> insertBatched(sequenceUserId, rows));
+
+        // Then
+        System.out.printf(
+                "[benchmark] rows=%d identity(row-by-row)=%.0f rows/s sequence+batch=%.0f rows/s"
+                        + " (x%.2f)%n",
+                rows, identityRate, sequenceRate, sequenceRate / identityRate);
+        assertThat(dailyReportRepository.countByUserId(identityUserId)).isEqualTo(rows);
+        assertThat(dailyReportRepository.countByUserId(sequenceUserId)).isEqualTo(rows);
+    }
+
+    private User createUser(String username) {
+        return transactionTemplate.execute(
+                status ->
+                        userRepository.save(
+                                User.builder()
+                                        .username(username)
+                                        .email(username + "@example.com")
+                                        .password("password")
+                                        .role("部下")
+                                        .displayName(username)
+                                        .isActive(true)
+                                        .build()));
+    }
+
+    private static double measure(int rows, Runnable insert) {
+        long start = System.nanoTime();
+        insert.run();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return rows / seconds;
+    }
+
+    /** 変更前相当: IDの列デフォルトに採番させ、1行ごとに実行して生成キーを取得する（IDENTITY採番と同じ往復回数） */
+    private void insertRowByRow(Long userId, int rows) {
+        String sql =
+                "INSERT INTO daily_reports (user_id, title, work_content, status, report_date,"
+                        + " created_at, updated_at) VALUES (?, ?, ?, 'draft', ?, ?, ?)";
+        for (int offset = 0; offset < rows; offset += CHUNK_SIZE) {
+            int from = offset;
+            int to = Math.min(rows, offset + CHUNK_SIZE);
+            transactionTemplate.executeWithoutResult(
+                    status ->
+                            entityManager
+                                    .unwrap(Session.class)
+                                    .doWork(
+                                            connection -> {
+                                                try (PreparedStatement statement =
+                                                        connection.prepareStatement(
+                                                                sql, new String[] {"id"})) {
+                                                    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                                                    for (int i = from; i < to; i++) {
+                                                        statement.setLong(1, userId);
+                                                        statement.setString(2, "日報" + i);
+                                                        statement.setString(3, "作業内容" + i);
+                                                        statement.setObject(4, NEWEST.minusDays(i));
+                                                        statement.setTimestamp(5, now);
+                                                        statement.setTimestamp(6, now);
+                                                        statement.executeUpdate();
+                                                        try (ResultSet keys =
+                                                                statement.getGeneratedKeys()) {
+                                                            keys.next();
+                                                        }
+                                                    }
+                                                }
+                                            }));
+        }
+    }
+
+    /** 変更後: エンティティを保存し、シーケンス採番済みのINSERTをJDBCバッチで送る */
+    private void insertBatched(Long userId, int rows) {
+        for (int offset = 0; offset < rows; offset += CHUNK_SIZE) {
+            List<DailyReport> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = offset; i < Math.min(rows, offset + CHUNK_SIZE); i++) {
+                chunk.add(
+                        DailyReport.builder()
+                                .userId(userId)
+                                .title("日報" + i)
+                                .workContent("作業内容" + i)
+                                .status("draft")
+                                .reportDate(NEWEST.minusDays(i))
+                                .build());
+            }
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        dailyReportRepository.saveAll(chunk);
+                        entityManager.flush();
+                        entityManager.clear();
+                    });
+        }
+    }
+}
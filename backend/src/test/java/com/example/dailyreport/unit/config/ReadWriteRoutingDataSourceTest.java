@@ -0,0 +1,252 @@
+package com.example.dailyreport.unit.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dailyreport.config.PrimaryReadScope;
+import com.example.dailyreport.config.ReadWriteRoutingDataSource;
+import com.example.dailyreport.config.ReadYourWritesTracker;
+import com.example.dailyreport.config.ReplicaLagMonitor;
+import com.example.dailyreport.dto.DailyReportListResponse;
+import com.example.dailyreport.security.AuthenticatedUser;
+import com.example.dailyreport.service.ReadCoalescer;
+import com.example.dailyreport.service.SubordinateReportCache;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ReadWriteRoutingDataSourceクラスのユニットテスト
+ *
+ * <p>テスト対象: - 読み取り専用トランザクションのレプリカ振り分け - 書き込みトランザクションのプライマリ振り分け - レプリカ遅延・障害時のプライマリへのフォールバック -
+ * 書き込み直後のユーザーのプライマリ読み取り（read-your-writes） - PrimaryReadScopeによるプライマリ固定（部下日報一覧キャッシュの読み込み）
+ *
+ * <p>テスト方針: - プライマリ・レプリカに別々のインメモリH2を使用し、各DBに接続先名を保存して振り分け先を確認 -
+ * アプリケーションと同じくLazyConnectionDataSourceProxy + DataSourceTransactionManagerで実行
+ */
+@DisplayName("ReadWriteRoutingDataSource - 読み書き分離ルーティング")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private DataSource primary;
+    private DataSource replica;
+    private JdbcTemplate replicaAdmin;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        replicaAdmin = new JdbcTemplate(replica);
+        setUpRouting(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static DataSource createDatabase(String role) {
+        DataSource dataSource =
+                new DriverManagerDataSource(
+                        "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.execute("CREATE TABLE replication_lag (seconds DOUBLE)");
+        jdbc.update("INSERT INTO node VALUES (?)", role);
+        jdbc.update("INSERT INTO replication_lag VALUES (0)");
+        return dataSource;
+    }
+
+    private void setUpRouting(Duration maxLag) {
+        ReplicaLagMonitor lagMonitor =
+                new ReplicaLagMonitor(
+                        replica,
+                        "SELECT seconds FROM replication_lag",
+                        maxLag,
+                        Duration.ZERO,
+                        Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+        DataSource routing =
+                new LazyConnectionDataSourceProxy(
+                        new ReadWriteRoutingDataSource(
+                                primary,
+                                replica,
+                                lagMonitor,
+                                new ReadYourWritesTracker(WINDOW, 100)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    private String nodeIn(TransactionTemplate tx) {
+        return tx.execute(
+                status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void loginAs(long userId) {
+        AuthenticatedUser user =
+                AuthenticatedUser.builder().id(userId).username("user" + userId).role("部下").build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @Nested
+    @DisplayName("基本の振り分け")
+    class BasicRoutingTests {
+
+        @Test
+        @DisplayName("読み取り専用トランザクションはレプリカに接続する")
+        void readOnlyTransaction_ShouldUseReplica() {
+            // When & Then
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("書き込みトランザクションはプライマリに接続する")
+        void writeTransaction_ShouldUsePrimary() {
+            // When & Then
+            assertThat(nodeIn(writeTx)).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("トランザクション外の実行はプライマリに接続する")
+        void noTransaction_ShouldUsePrimary() {
+            // When & Then
+            assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class))
+                    .isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("レプリカ遅延時のフォールバック")
+    class LagFallbackTests {
+
+        @Test
+        @DisplayName("遅延が許容値を超えた場合はプライマリから読み、回復後はレプリカに戻る")
+        void replicaLagging_ShouldFallBackToPrimary() {
+            // Given
+            replicaAdmin.update("UPDATE replication_lag SET seconds = 30");
+
+            // When & Then
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("primary");
+
+            // Given: 遅延が解消
+            replicaAdmin.update("UPDATE replication_lag SET seconds = 1");
+
+            // When & Then
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("遅延の取得に失敗した場合はプライマリから読む")
+        void lagQueryFailing_ShouldFallBackToPrimary() {
+            // Given
+            replicaAdmin.execute("DROP TABLE replication_lag");
+
+            // When & Then
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("read-your-writes")
+    class ReadYourWritesTests {
+
+        @Test
+        @DisplayName("書き込みをコミットしたユーザーの読み取りはプライマリへ、他のユーザーはレプリカへ")
+        void afterOwnWrite_ShouldReadFromPrimary() {
+            // Given
+            loginAs(1L);
+            writeTx.executeWithoutResult(
+                    status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+            // When & Then
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("primary");
+
+            loginAs(2L);
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("ロールバックした書き込みは記録しない")
+        void rolledBackWrite_ShouldNotBeRecorded() {
+            // Given
+            loginAs(1L);
+            writeTx.executeWithoutResult(
+                    status -> {
+                        jdbcTemplate.update("UPDATE node SET name = name");
+                        status.setRollbackOnly();
+                    });
+
+            // When & Then
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("プライマリ固定（PrimaryReadScope）")
+    class PrimaryReadScopeTests {
+
+        @Test
+        @DisplayName("範囲内の読み取り専用トランザクションはプライマリ、範囲外はレプリカに接続する")
+        void withinScope_ShouldReadFromPrimary() {
+            // When & Then
+            assertThat(PrimaryReadScope.call(() -> nodeIn(readOnlyTx))).isEqualTo("primary");
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("部下日報一覧キャッシュは無効化後の再読み込みを反映遅延中のレプリカから読まない")
+        void subordinateReportCache_ReloadAfterEviction_ShouldNotCacheReplicaSnapshot() {
+            // Given: 許容範囲内（1秒）の遅延があるレプリカ
+            replicaAdmin.update("UPDATE replication_lag SET seconds = 1");
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            SubordinateReportCache cache = new SubordinateReportCache(
+                    mock(UserDirectoryService.class), new ReadCoalescer(meterRegistry, true),
+                    meterRegistry, true, 100, Duration.ofMinutes(10));
+            // ローダーはSpring Dataのリポジトリと同じく読み取り専用トランザクションで読む
+            Supplier<List<DailyReportListResponse>> loader = () -> List.of(DailyReportListResponse
+                    .builder().id(10L).title(nodeIn(readOnlyTx)).build());
+
+            // When: 部下の日報変更のコミット後に無効化され、直後に再読み込み
+            cache.evictSupervisor(2L);
+            List<DailyReportListResponse> reloaded = cache.get(2L, null, loader);
+
+            // Then: プライマリ（コミット済みの状態）から読み込んで格納する
+            assertThat(reloaded).extracting(DailyReportListResponse::getTitle)
+                    .containsExactly("primary");
+            assertThat(cache.get(2L, null, loader)).isSameAs(reloaded);
+            assertThat(nodeIn(readOnlyTx)).isEqualTo("replica");
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +26,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.example.dailyreport.config.TestConfig;
 import com.example.dailyreport.dto.LoginRequest;
 import com.example.dailyreport.dto.LoginResponse;
+import com.example.dailyreport.dto.RefreshTokenRequest;
 import com.example.dailyreport.entity.User;
+import com.example.dailyreport.exception.InvalidRefreshTokenException;
+import com.example.dailyreport.exception.LoginThrottledException;
 import com.example.dailyreport.repository.UserRepository;
 import com.example.dailyreport.service.AuthService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -144,6 +148,22 @@ class AuthControllerTest {
             verify(authService).authenticateUser(any(LoginRequest.class));
         }
 
+        @Test
+        @DisplayName("異常: ログイン混雑時は429とRetry-Afterを返却")
+        void login_Throttled_ShouldReturn429WithRetryAfter() throws Exception {
+            // Given
+            when(authService.authenticateUser(any(LoginRequest.class))).thenThrow(
+                    new LoginThrottledException("ログインが混雑しています", Duration.ofSeconds(3)));
+
+            // When & Then
+            mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(validLoginRequest)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "3"))
+                    .andExpect(jsonPath("$.message").value("ログインが混雑しています"))
+                    .andExpect(jsonPath("$.status").value("429"));
+        }
+
         @Test
         @DisplayName("異常: パスワード不一致で認証失敗")
         void login_WrongPassword_ShouldReturn400() throws Exception {
@@ -216,6 +236,83 @@ class AuthControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/auth/jwks - JWT検証用の公開鍵")
+    class JwksTests {
+
+        @Test
+        @DisplayName("正常: 認証なしで取得でき、HS256の共有秘密鍵は公開しない")
+        void getJwks_ShouldReturnPublicKeysOnly() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/auth/jwks"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                    .andExpect(jsonPath("$.keys").isArray())
+                    .andExpect(jsonPath("$.keys").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/auth/refresh, /logout - トークン再発行・ログアウト")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("正常: 認証なしでリフレッシュトークンから再発行")
+        void refresh_ValidToken_ShouldReturn200() throws Exception {
+            // Given
+            LoginResponse refreshed = LoginResponse.builder().token("new-access")
+                    .refreshToken("new-refresh").expiresIn(900L).id("1").username("admin")
+                    .role("管理者").build();
+            when(authService.refresh("old-refresh")).thenReturn(refreshed);
+
+            // When & Then
+            mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RefreshTokenRequest("old-refresh"))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").value("new-access"))
+                    .andExpect(jsonPath("$.refreshToken").value("new-refresh"))
+                    .andExpect(jsonPath("$.expiresIn").value(900));
+        }
+
+        @Test
+        @DisplayName("異常: 無効・再利用されたリフレッシュトークンは401")
+        void refresh_InvalidToken_ShouldReturn401() throws Exception {
+            // Given
+            when(authService.refresh("reused"))
+                    .thenThrow(new InvalidRefreshTokenException("リフレッシュトークンは使用済みです"));
+
+            // When & Then
+            mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RefreshTokenRequest("reused"))))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value("リフレッシュトークンは使用済みです"))
+                    .andExpect(jsonPath("$.status").value("401"));
+        }
+
+        @Test
+        @DisplayName("正常: ログアウトは204")
+        void logout_ShouldReturn204() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/auth/logout").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh"))))
+                    .andExpect(status().isNoContent());
+
+            verify(authService).logout("refresh", null);
+        }
+
+        @Test
+        @DisplayName("正常: Authorizationヘッダーのアクセストークンも失効対象として渡す")
+        void logout_WithBearer_ShouldPassAccessToken() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/auth/logout").contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer access-token")
+                    .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh"))))
+                    .andExpect(status().isNoContent());
+
+            verify(authService).logout("refresh", "access-token");
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/auth/validate - トークン検証")
     class ValidateTokenTests {
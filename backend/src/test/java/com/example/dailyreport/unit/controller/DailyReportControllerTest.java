@@ -6,6 +6,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -22,18 +24,29 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.dailyreport.config.TestConfig;
+import com.example.dailyreport.dto.DailyReportBatchRequest;
+import com.example.dailyreport.dto.DailyReportBatchResponse;
 import com.example.dailyreport.dto.DailyReportListResponse;
 import com.example.dailyreport.dto.DailyReportRequest;
 import com.example.dailyreport.dto.DailyReportResponse;
 import com.example.dailyreport.entity.User;
+import com.example.dailyreport.exception.ReportConflictException;
 import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.security.AuthenticatedUser;
+import com.example.dailyreport.service.DailyReportExportService;
 import com.example.dailyreport.service.DailyReportService;
+import com.example.dailyreport.service.ReportExportFormat;
+import com.example.dailyreport.service.SubordinateReportEventHub;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -69,6 +82,12 @@ class DailyReportControllerTest {
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private DailyReportExportService dailyReportExportService;
+
+    @MockBean
+    private SubordinateReportEventHub subordinateReportEventHub;
+
     private User testUser;
     private User supervisorUser;
     private DailyReportRequest validRequest;
@@ -165,20 +184,40 @@ class DailyReportControllerTest {
 
         @Test
         @WithMockUser(username = "employee1")
-        @DisplayName("異常: 1日1件制限違反で400返却")
-        void createDailyReport_DuplicateDate_ShouldReturn400() throws Exception {
+        @DisplayName("異常: 1日1件制限違反で409返却")
+        void createDailyReport_DuplicateDate_ShouldReturn409() throws Exception {
             // Given
             when(userRepository.findByUsername("employee1")).thenReturn(Optional.of(testUser));
             when(dailyReportService.createDailyReport(eq(testUser.getId()),
                     any(DailyReportRequest.class)))
-                            .thenThrow(new IllegalArgumentException("指定日の日報は既に存在します"));
+                            .thenThrow(new ReportConflictException("指定日の日報は既に存在します"));
 
             // When & Then
             mockMvc.perform(post("/api/daily-reports")
                     .with(csrf())  // CSRF token追加
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(validRequest)))
-                    .andExpect(status().isBadRequest());
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @WithMockUser(username = "employee1")
+        @DisplayName("正常: upsert=true ではアップサートし200返却")
+        void createDailyReport_UpsertMode_ShouldReturn200() throws Exception {
+            // Given
+            when(userRepository.findByUsername("employee1")).thenReturn(Optional.of(testUser));
+            when(dailyReportService.upsertDailyReport(eq(testUser.getId()),
+                    any(DailyReportRequest.class))).thenReturn(testResponse);
+
+            // When & Then
+            mockMvc.perform(post("/api/daily-reports").param("upsert", "true")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(testResponse.getId()));
+
+            verify(dailyReportService, never()).createDailyReport(any(), any());
         }
 
         @Test
@@ -195,6 +234,78 @@ class DailyReportControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("日報一括作成API")
+    class CreateDailyReportsTests {
+
+        @Test
+        @WithMockUser(username = "employee1")
+        @DisplayName("正常: 要素ごとの結果を200で返却")
+        void createDailyReports_ValidRequest_ShouldReturn200() throws Exception {
+            // Given
+            DailyReportBatchResponse batchResponse = DailyReportBatchResponse.builder()
+                    .results(List.of(
+                            DailyReportBatchResponse.ItemResult.builder().index(0)
+                                    .result(DailyReportBatchResponse.RESULT_CREATED)
+                                    .report(testResponse).build(),
+                            DailyReportBatchResponse.ItemResult.builder().index(1)
+                                    .result(DailyReportBatchResponse.RESULT_CONFLICT)
+                                    .message("指定日の日報は既に存在します").build()))
+                    .createdCount(1).conflictCount(1).build();
+            when(userRepository.findByUsername("employee1")).thenReturn(Optional.of(testUser));
+            when(dailyReportService.createDailyReports(eq(testUser.getId()), anyList()))
+                    .thenReturn(batchResponse);
+            DailyReportBatchRequest request = DailyReportBatchRequest.builder()
+                    .items(List.of(validRequest, validRequest)).build();
+
+            // When & Then
+            mockMvc.perform(post("/api/daily-reports/batch").with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.createdCount").value(1))
+                    .andExpect(jsonPath("$.conflictCount").value(1))
+                    .andExpect(jsonPath("$.results[0].report.id").value(testResponse.getId()))
+                    .andExpect(jsonPath("$.results[1].result").value("conflict"));
+        }
+
+        @Test
+        @WithMockUser(username = "employee1")
+        @DisplayName("異常: 1件でも不正な要素があれば400返却し作成しない")
+        void createDailyReports_InvalidItem_ShouldReturn400() throws Exception {
+            // Given
+            DailyReportRequest invalidItem = DailyReportRequest.builder().title("")
+                    .workContent("短すぎる").status("").reportDate(null).build();
+            DailyReportBatchRequest request = DailyReportBatchRequest.builder()
+                    .items(List.of(validRequest, invalidItem)).build();
+            when(userRepository.findByUsername("employee1")).thenReturn(Optional.of(testUser));
+
+            // When & Then
+            mockMvc.perform(post("/api/daily-reports/batch").with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+
+            verify(dailyReportService, never()).createDailyReports(any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = "employee1")
+        @DisplayName("異常: 空の一括作成は400返却")
+        void createDailyReports_EmptyItems_ShouldReturn400() throws Exception {
+            // Given
+            when(userRepository.findByUsername("employee1")).thenReturn(Optional.of(testUser));
+
+            // When & Then
+            mockMvc.perform(post("/api/daily-reports/batch").with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"items\":[]}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(dailyReportService, never()).createDailyReports(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("日報詳細取得API")
     class GetDailyReportTests {
@@ -489,6 +600,142 @@ class DailyReportControllerTest {
                     .andExpect(content().contentType("application/json;charset=UTF-8"))
                     .andExpect(jsonPath("$.length()").value(0));
         }
+
+        @Test
+        @WithMockUser(username = "manager1")
+        @DisplayName("正常: 上司は変更通知（SSE）を購読できる")
+        void subscribeEvents_Supervisor_ShouldStartEventStream() throws Exception {
+            // Given
+            when(userRepository.findByUsername("manager1")).thenReturn(Optional.of(supervisorUser));
+            when(subordinateReportEventHub.subscribe(supervisorUser.getId(), "abc-3"))
+                    .thenReturn(new SseEmitter());
+
+            // When & Then
+            mockMvc.perform(get("/api/daily-reports/subordinates/events")
+                    .header("Last-Event-ID", "abc-3").accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+
+            verify(subordinateReportEventHub).subscribe(supervisorUser.getId(), "abc-3");
+        }
+
+        @Test
+        @WithMockUser(username = "employee1")
+        @DisplayName("異常: 上長・管理者以外は変更通知を購読できない")
+        void subscribeEvents_Employee_ShouldReturn403() throws Exception {
+            // Given
+            when(userRepository.findByUsername("employee1")).thenReturn(Optional.of(testUser));
+
+            // When & Then
+            mockMvc.perform(get("/api/daily-reports/subordinates/events")
+                    .accept(MediaType.TEXT_EVENT_STREAM)).andExpect(status().isForbidden());
+
+            verifyNoInteractions(subordinateReportEventHub);
+        }
+
+        @Test
+        @WithMockUser(username = "manager1")
+        @DisplayName("異常: 同時接続数の上限に達している場合は503返却")
+        void subscribeEvents_ConnectionLimit_ShouldReturn503() throws Exception {
+            // Given
+            when(userRepository.findByUsername("manager1")).thenReturn(Optional.of(supervisorUser));
+            when(subordinateReportEventHub.subscribe(supervisorUser.getId(), null))
+                    .thenThrow(new IllegalStateException("接続数が上限に達しています"));
+
+            // When & Then
+            mockMvc.perform(get("/api/daily-reports/subordinates/events")
+                    .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isServiceUnavailable());
+        }
+    }
+
+    @Nested
+    @DisplayName("日報エクスポートAPI")
+    class ExportDailyReportsTests {
+
+        @Test
+        @WithMockUser(username = "manager1")
+        @DisplayName("正常: 上長は部下に限定してストリーミング出力")
+        void exportDailyReports_Supervisor_ShouldStreamSubordinates() throws Exception {
+            // Given
+            when(userRepository.findByUsername("manager1")).thenReturn(Optional.of(supervisorUser));
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(4);
+                out.write("id,userId\r\n1,1\r\n".getBytes(StandardCharsets.UTF_8));
+                return 1L;
+            }).when(dailyReportExportService).export(any(), any(), any(), any(), any());
+
+            // When
+            MvcResult started = mockMvc.perform(get("/api/daily-reports/export")
+                    .param("from", "2024-01-01").param("to", "2024-12-31"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                    .andExpect(header().string("Content-Disposition",
+                            "attachment; filename=\"daily-reports_20240101_20241231.csv\""))
+                    .andExpect(content().string("id,userId\r\n1,1\r\n"));
+            verify(dailyReportExportService).export(eq(supervisorUser.getId()),
+                    eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2024, 12, 31)),
+                    eq(ReportExportFormat.CSV), any());
+        }
+
+        @Test
+        @WithMockUser(username = "admin")
+        @DisplayName("正常: 管理者は全ユーザーを対象にNDJSONで出力")
+        void exportDailyReports_AdminNdjson_ShouldStreamAllUsers() throws Exception {
+            // Given
+            User adminUser = User.builder().id(9L).username("admin")
+                    .role(TestConfig.TestConstants.ADMIN_ROLE).isActive(true).build();
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+
+            // When
+            MvcResult started = mockMvc.perform(get("/api/daily-reports/export")
+                    .param("from", "2024-01-01").param("to", "2024-01-31")
+                    .param("format", "ndjson"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"));
+            verify(dailyReportExportService).export(isNull(), any(), any(),
+                    eq(ReportExportFormat.NDJSON), any());
+        }
+
+        @Test
+        @WithMockUser(username = "employee1")
+        @DisplayName("異常: 部下は403返却")
+        void exportDailyReports_Employee_ShouldReturn403() throws Exception {
+            // Given
+            when(userRepository.findByUsername("employee1")).thenReturn(Optional.of(testUser));
+
+            // When & Then
+            mockMvc.perform(get("/api/daily-reports/export")
+                    .param("from", "2024-01-01").param("to", "2024-12-31"))
+                    .andExpect(status().isForbidden());
+            verifyNoInteractions(dailyReportExportService);
+        }
+
+        @Test
+        @WithMockUser(username = "manager1")
+        @DisplayName("異常: 未対応の形式・逆転した期間は400返却")
+        void exportDailyReports_InvalidParameters_ShouldReturn400() throws Exception {
+            // Given
+            when(userRepository.findByUsername("manager1")).thenReturn(Optional.of(supervisorUser));
+
+            // When & Then
+            mockMvc.perform(get("/api/daily-reports/export")
+                    .param("from", "2024-01-01").param("to", "2024-12-31").param("format", "xlsx"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/daily-reports/export")
+                    .param("from", "2024-12-31").param("to", "2024-01-01"))
+                    .andExpect(status().isBadRequest());
+            verifyNoInteractions(dailyReportExportService);
+        }
     }
 
     @Nested
@@ -526,6 +773,23 @@ class DailyReportControllerTest {
 
             verify(dailyReportService).hasTodayReport(testUser.getId());
         }
+
+        @Test
+        @DisplayName("正常: JWT由来の認証済みユーザーではユーザー検索を行わない")
+        void hasTodayReport_AuthenticatedUserPrincipal_ShouldNotLookUpUser() throws Exception {
+            // Given: JwtAuthenticationFilterが構築するプリンシパル
+            AuthenticatedUser principal = AuthenticatedUser.from(testUser);
+            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                    principal, null, List.of(new SimpleGrantedAuthority("ROLE_部下")));
+            when(dailyReportService.hasTodayReport(testUser.getId())).thenReturn(true);
+
+            // When & Then
+            mockMvc.perform(get("/api/daily-reports/today/exists").with(authentication(auth)))
+                    .andExpect(status().isOk()).andExpect(content().string("true"));
+
+            verify(dailyReportService).hasTodayReport(testUser.getId());
+            verifyNoInteractions(userRepository);
+        }
     }
 
     @Nested
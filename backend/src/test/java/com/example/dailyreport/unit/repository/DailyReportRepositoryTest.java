@@ -0,0 +1,477 @@
+package com.example.dailyreport.unit.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.dailyreport.dto.DailyReportExportRow;
+import com.example.dailyreport.dto.DailyReportListResponse;
+import com.example.dailyreport.entity.DailyReport;
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.repository.DailyReportRepository;
+
+/**
+ * DailyReportRepositoryの単体テスト
+ *
+ * テスト対象: - findPageByUserIdBefore メソッド - findPageByUserIdAndStatusBefore メソッド - キーセットページネーションの境界処理 -
+ * 一覧表示用射影（findListByUserId / findListBySupervisorId） - 権限判定込みの詳細取得（findAccessibleById） -
+ * 作成者条件付きの更新・削除（updateOwned / deleteOwned） - 一意制約に依存した作成・アップサート（insertIfAbsent / upsert）
+ *
+ * 使用技術: - @DataJpaTest: JPA Repository層のスライステスト - TestEntityManager: JPA テスト用のエンティティ管理 - H2
+ * Database: インメモリテストDB
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = {"spring.jpa.defer-datasource-initialization=false",
+        "spring.sql.init.mode=never"})
+@DisplayName("DailyReportRepository テスト")
+class DailyReportRepositoryTest {
+
+    private static final LocalDate NEWEST = LocalDate.of(2024, 3, 31);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DailyReportRepository dailyReportRepository;
+
+    private User owner;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 日報作成者と別ユーザー
+        owner = entityManager.persistAndFlush(User.builder().username("owner")
+                .email("owner@company.com").password("encoded_password").role("部下")
+                .isActive(true).build());
+        otherUser = entityManager.persistAndFlush(User.builder().username("other")
+                .email("other@company.com").password("encoded_password").role("部下")
+                .isActive(true).build());
+
+        // Given: 作成者の日報25件（偶数日は提出済み）と別ユーザーの日報1件
+        for (int i = 0; i < 25; i++) {
+            entityManager.persist(DailyReport.builder().userId(owner.getId()).title("日報" + i)
+                    .workContent("作業内容" + i).status(i % 2 == 0 ? "submitted" : "draft")
+                    .reportDate(NEWEST.minusDays(i)).build());
+        }
+        entityManager.persist(DailyReport.builder().userId(otherUser.getId()).title("他人の日報")
+                .workContent("作業内容").status("draft").reportDate(NEWEST).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("findPageByUserIdBefore メソッドテスト")
+    class FindPageByUserIdBeforeTest {
+
+        @Test
+        @DisplayName("全ページを辿ると重複・欠落なく新しい順に取得できる")
+        void findPage_WalkAllPages_ShouldReturnEveryReportOnce() {
+            // Given: 先頭ページの境界値
+            LocalDate date = LocalDate.of(9999, 12, 31);
+            Long id = Long.MAX_VALUE;
+            List<DailyReportListResponse> all = new ArrayList<>();
+
+            // When: 10件ずつ最後まで取得
+            while (true) {
+                List<DailyReportListResponse> page = dailyReportRepository.findPageByUserIdBefore(
+                        owner.getId(), date, id, PageRequest.of(0, 10));
+                if (page.isEmpty()) {
+                    break;
+                }
+                all.addAll(page);
+                DailyReportListResponse last = page.get(page.size() - 1);
+                date = last.getReportDate();
+                id = last.getId();
+            }
+
+            // Then: 25件が新しい順に1回ずつ含まれる
+            assertThat(all).hasSize(25);
+            assertThat(all).extracting(DailyReportListResponse::getUserId).containsOnly(owner.getId());
+            assertThat(all).extracting(DailyReportListResponse::getUsername).containsOnly("owner");
+            assertThat(all).extracting(DailyReportListResponse::getReportDate)
+                    .isSortedAccordingTo((a, b) -> b.compareTo(a));
+            assertThat(all.get(0).getReportDate()).isEqualTo(NEWEST);
+            assertThat(all.get(24).getReportDate()).isEqualTo(NEWEST.minusDays(24));
+        }
+
+        @Test
+        @DisplayName("境界の行自体は次ページに含まれない")
+        void findPage_AfterCursor_ShouldExcludeBoundaryRow() {
+            // Given: 先頭ページ
+            List<DailyReportListResponse> first = dailyReportRepository.findPageByUserIdBefore(owner.getId(),
+                    LocalDate.of(9999, 12, 31), Long.MAX_VALUE, PageRequest.of(0, 5));
+            DailyReportListResponse last = first.get(4);
+
+            // When: 次ページ
+            List<DailyReportListResponse> second = dailyReportRepository.findPageByUserIdBefore(
+                    owner.getId(), last.getReportDate(), last.getId(), PageRequest.of(0, 5));
+
+            // Then: 境界の翌日から始まる
+            assertThat(second).hasSize(5);
+            assertThat(second.get(0).getReportDate()).isEqualTo(last.getReportDate().minusDays(1));
+            assertThat(second).extracting(DailyReportListResponse::getId).doesNotContain(last.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("findPageByUserIdAndStatusBefore メソッドテスト")
+    class FindPageByUserIdAndStatusBeforeTest {
+
+        @Test
+        @DisplayName("ステータスで絞り込んだ上でページ単位に取得できる")
+        void findPage_WithStatus_ShouldFilterAndLimit() {
+            // When: 提出済みを5件取得
+            List<DailyReportListResponse> page = dailyReportRepository.findPageByUserIdAndStatusBefore(
+                    owner.getId(), "submitted", LocalDate.of(9999, 12, 31), Long.MAX_VALUE,
+                    PageRequest.of(0, 5));
+
+            // Then: 提出済みのみ、新しい順
+            assertThat(page).hasSize(5);
+            assertThat(page).extracting(DailyReportListResponse::getStatus).containsOnly("submitted");
+            assertThat(page.get(0).getReportDate()).isEqualTo(NEWEST);
+            assertThat(page.get(1).getReportDate()).isEqualTo(NEWEST.minusDays(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("findListByUserIdAndReportDateBefore メソッドテスト")
+    class FindListByUserIdAndReportDateBeforeTest {
+
+        @Test
+        @DisplayName("境界日より前の日報を新しい順に上位N件、射影で取得できる")
+        void findList_BeforeDate_ShouldReturnTopNProjection() {
+            // When: 最新日を境界として3件取得
+            List<DailyReportListResponse> window =
+                    dailyReportRepository.findListByUserIdAndReportDateBefore(
+                            owner.getId(), NEWEST, PageRequest.of(0, 3));
+
+            // Then: 境界日を含まず、作成者名が結合される
+            assertThat(window).extracting(DailyReportListResponse::getReportDate).containsExactly(
+                    NEWEST.minusDays(1), NEWEST.minusDays(2), NEWEST.minusDays(3));
+            assertThat(window).extracting(DailyReportListResponse::getUsername)
+                    .containsOnly("owner");
+        }
+
+        @Test
+        @DisplayName("ステータスで絞り込んだ上位N件を取得できる")
+        void findList_WithStatus_ShouldFilter() {
+            // When
+            List<DailyReportListResponse> window =
+                    dailyReportRepository.findListByUserIdAndStatusAndReportDateBefore(
+                            owner.getId(), "draft", NEWEST, PageRequest.of(0, 2));
+
+            // Then: 奇数日前のみ
+            assertThat(window).extracting(DailyReportListResponse::getReportDate)
+                    .containsExactly(NEWEST.minusDays(1), NEWEST.minusDays(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("一覧表示用射影テスト")
+    class ListProjectionTest {
+
+        @Test
+        @DisplayName("作業内容はSQL側で100文字+...に切り詰められ、作成者名が結合される")
+        void findListByUserId_LongContent_ShouldTruncateInQuery() {
+            // Given: 150文字の作業内容を持つ日報
+            entityManager.persistAndFlush(DailyReport.builder().userId(otherUser.getId())
+                    .title("長い日報").workContent("あ".repeat(150)).status("draft")
+                    .reportDate(NEWEST.minusDays(1)).build());
+            entityManager.clear();
+
+            // When
+            List<DailyReportListResponse> list =
+                    dailyReportRepository.findListByUserId(otherUser.getId());
+
+            // Then: 新しい順、短い作業内容はそのまま
+            assertThat(list).hasSize(2);
+            assertThat(list.get(0).getWorkContent()).isEqualTo("作業内容");
+            assertThat(list.get(1).getWorkContent()).hasSize(103).endsWith("...");
+            assertThat(list).extracting(DailyReportListResponse::getUsername).containsOnly("other");
+        }
+
+        @Test
+        @DisplayName("上司IDで部下の日報のみを取得できる")
+        void findListBySupervisorIdAndStatus_ShouldJoinSubordinates() {
+            // Given: otherUser の上司を設定
+            User supervisor = entityManager.persistAndFlush(User.builder().username("boss")
+                    .email("boss@company.com").password("encoded_password").role("上司")
+                    .isActive(true).build());
+            User subordinate = entityManager.find(User.class, otherUser.getId());
+            subordinate.setSupervisorId(supervisor.getId());
+            entityManager.persistAndFlush(subordinate);
+            entityManager.clear();
+
+            // When
+            List<DailyReportListResponse> all =
+                    dailyReportRepository.findListBySupervisorId(supervisor.getId());
+            List<DailyReportListResponse> submitted = dailyReportRepository
+                    .findListBySupervisorIdAndStatus(supervisor.getId(), "submitted");
+
+            // Then
+            assertThat(all).hasSize(1);
+            assertThat(all.get(0).getUserId()).isEqualTo(otherUser.getId());
+            assertThat(all.get(0).getTitle()).isEqualTo("他人の日報");
+            assertThat(submitted).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAccessibleById メソッドテスト")
+    class FindAccessibleByIdTest {
+
+        @Test
+        @DisplayName("本人・上司は作成者と共に取得でき、それ以外と存在しない日報は空")
+        void findAccessibleById_ShouldApplyOwnerOrSupervisorPredicate() {
+            // Given: owner の上司を設定
+            User supervisor = entityManager.persistAndFlush(User.builder().username("boss")
+                    .email("boss@company.com").password("encoded_password").role("上司")
+                    .isActive(true).build());
+            User author = entityManager.find(User.class, owner.getId());
+            author.setSupervisorId(supervisor.getId());
+            entityManager.persistAndFlush(author);
+            Long reportId = dailyReportRepository.findByUserIdOrderByReportDateDesc(owner.getId())
+                    .get(0).getId();
+            entityManager.clear();
+
+            // When & Then: 本人
+            assertThat(dailyReportRepository.findAccessibleById(reportId, owner.getId()))
+                    .hasValueSatisfying(report -> assertThat(report.getUser().getUsername())
+                            .isEqualTo("owner"));
+            // When & Then: 上司
+            assertThat(dailyReportRepository.findAccessibleById(reportId, supervisor.getId()))
+                    .isPresent();
+            // When & Then: 無関係なユーザー・存在しない日報
+            assertThat(dailyReportRepository.findAccessibleById(reportId, otherUser.getId()))
+                    .isEmpty();
+            assertThat(dailyReportRepository.findAccessibleById(-1L, owner.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("updateOwned / deleteOwned メソッドテスト")
+    class OwnedCommandTest {
+
+        private DailyReport newestOf(User user) {
+            return dailyReportRepository.findByUserIdOrderByReportDateDesc(user.getId()).get(0);
+        }
+
+        @Test
+        @DisplayName("本人の日報は1回のSQLで更新され、更新後の行が返却される")
+        void updateOwned_Owner_ShouldReturnUpdatedRow() {
+            // Given: 下書きの日報
+            DailyReport draft = dailyReportRepository
+                    .findByUserIdAndStatusOrderByReportDateDesc(owner.getId(), "draft").get(0);
+            LocalDateTime now = LocalDateTime.of(2024, 4, 1, 18, 0);
+            entityManager.clear();
+
+            // When: 提出済みに更新
+            DailyReport updated = dailyReportRepository.updateOwned(draft.getId(), owner.getId(),
+                    "更新後タイトル", "更新後内容", "submitted", draft.getReportDate(), now)
+                    .orElseThrow();
+
+            // Then: 戻り値とDBの内容が一致
+            assertThat(updated.getId()).isEqualTo(draft.getId());
+            assertThat(updated.getTitle()).isEqualTo("更新後タイトル");
+            assertThat(updated.getSubmittedAt()).isEqualTo(now);
+            assertThat(updated.getUpdatedAt()).isEqualTo(now);
+            assertThat(updated.getCreatedAt()).isEqualTo(draft.getCreatedAt());
+            DailyReport stored = entityManager.find(DailyReport.class, draft.getId());
+            assertThat(stored.getStatus()).isEqualTo("submitted");
+            assertThat(stored.getWorkContent()).isEqualTo("更新後内容");
+        }
+
+        @Test
+        @DisplayName("提出済みの再提出では提出日時を維持し、下書きに戻すとクリアされる")
+        void updateOwned_SubmittedAt_ShouldFollowStatus() {
+            // Given: 提出済みの日報
+            DailyReport report = newestOf(owner);
+            LocalDateTime first = LocalDateTime.of(2024, 4, 1, 9, 0);
+            dailyReportRepository.updateOwned(report.getId(), owner.getId(), "t", "c",
+                    "submitted", report.getReportDate(), first);
+
+            // When & Then: 再提出
+            assertThat(dailyReportRepository.updateOwned(report.getId(), owner.getId(), "t", "c",
+                    "submitted", report.getReportDate(), first.plusHours(1)).orElseThrow()
+                    .getSubmittedAt()).isEqualTo(first);
+            // When & Then: 下書きに戻す
+            assertThat(dailyReportRepository.updateOwned(report.getId(), owner.getId(), "t", "c",
+                    "draft", report.getReportDate(), first.plusHours(2)).orElseThrow()
+                    .getSubmittedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("他人の日報は更新・削除されない")
+        void ownedCommands_OtherUser_ShouldAffectNothing() {
+            // Given
+            DailyReport report = newestOf(owner);
+            entityManager.clear();
+
+            // When
+            boolean updated = dailyReportRepository.updateOwned(report.getId(), otherUser.getId(),
+                    "改ざん", "改ざん", "draft", report.getReportDate(), LocalDateTime.now())
+                    .isPresent();
+            int deleted = dailyReportRepository.deleteOwned(report.getId(), otherUser.getId());
+
+            // Then
+            assertThat(updated).isFalse();
+            assertThat(deleted).isZero();
+            assertThat(entityManager.find(DailyReport.class, report.getId()).getTitle())
+                    .isEqualTo(report.getTitle());
+        }
+
+        @Test
+        @DisplayName("本人の日報は1回のSQLで削除される")
+        void deleteOwned_Owner_ShouldDeleteRow() {
+            // Given
+            DailyReport report = newestOf(owner);
+            entityManager.clear();
+
+            // When
+            int deleted = dailyReportRepository.deleteOwned(report.getId(), owner.getId());
+
+            // Then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(dailyReportRepository.existsById(report.getId())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("findExistingReportDates メソッドテスト")
+    class FindExistingReportDatesTest {
+
+        @Test
+        @DisplayName("指定日のうち本人の日報が存在する日付のみ返す")
+        void findExistingReportDates_ShouldReturnOnlyOwnTakenDates() {
+            // Given: NEWESTは本人・他人ともに存在、NEWEST+1はどちらも存在しない
+            List<LocalDate> candidates = List.of(NEWEST, NEWEST.minusDays(3), NEWEST.plusDays(1));
+
+            // When
+            List<LocalDate> ownerDates =
+                    dailyReportRepository.findExistingReportDates(owner.getId(), candidates);
+            List<LocalDate> otherDates =
+                    dailyReportRepository.findExistingReportDates(otherUser.getId(), candidates);
+
+            // Then
+            assertThat(ownerDates).containsExactlyInAnyOrder(NEWEST, NEWEST.minusDays(3));
+            assertThat(otherDates).containsExactly(NEWEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("streamExport メソッドテスト")
+    class StreamExportTest {
+
+        @Test
+        @DisplayName("期間内の日報を対象日・作成者ID順に逐次取得し、作業内容は全文を保持する")
+        void streamExportByReportDateBetween_ShouldStreamRangeInOrder() {
+            // When
+            List<DailyReportExportRow> rows;
+            try (Stream<DailyReportExportRow> stream = dailyReportRepository
+                    .streamExportByReportDateBetween(NEWEST.minusDays(2), NEWEST)) {
+                rows = stream.toList();
+            }
+
+            // Then: 本人3件 + 他人1件（NEWEST）
+            assertThat(rows).hasSize(4);
+            assertThat(rows).extracting(DailyReportExportRow::getReportDate)
+                    .containsExactly(NEWEST.minusDays(2), NEWEST.minusDays(1), NEWEST, NEWEST);
+            assertThat(rows.get(2).getUserId()).isLessThan(rows.get(3).getUserId());
+            assertThat(rows.get(0).getUsername()).isEqualTo("owner");
+            assertThat(rows.get(0).getWorkContent()).isEqualTo("作業内容2");
+        }
+
+        @Test
+        @DisplayName("上司IDを指定すると部下の日報のみ取得する")
+        void streamExportBySupervisorId_ShouldStreamSubordinatesOnly() {
+            // Given: otherUserの上司をownerに設定
+            User other = entityManager.find(User.class, otherUser.getId());
+            other.setSupervisorId(owner.getId());
+            entityManager.flush();
+
+            // When
+            List<DailyReportExportRow> rows;
+            try (Stream<DailyReportExportRow> stream = dailyReportRepository
+                    .streamExportBySupervisorIdAndReportDateBetween(owner.getId(),
+                            NEWEST.minusDays(30), NEWEST)) {
+                rows = stream.toList();
+            }
+
+            // Then
+            assertThat(rows).extracting(DailyReportExportRow::getTitle).containsExactly("他人の日報");
+        }
+    }
+
+    @Nested
+    @DisplayName("insertIfAbsent / upsert メソッドテスト")
+    class InsertAndUpsertTest {
+
+        private final LocalDate freeDate = NEWEST.plusDays(1);
+
+        @Test
+        @DisplayName("同日の日報がなければ1回のSQLで作成し、既にあれば作成しない")
+        void insertIfAbsent_ShouldRelyOnUniqueConstraint() {
+            // Given
+            LocalDateTime now = LocalDateTime.of(2024, 4, 1, 18, 0);
+
+            // When: 1回目（作成）と2回目（重複）
+            var first = dailyReportRepository.insertIfAbsent(owner.getId(), "新規", "新規内容",
+                    "submitted", freeDate, now);
+            var second = dailyReportRepository.insertIfAbsent(owner.getId(), "二重送信",
+                    "二重送信", "draft", freeDate, now.plusSeconds(1));
+
+            // Then
+            assertThat(first).hasValueSatisfying(report -> {
+                assertThat(report.getId()).isNotNull();
+                assertThat(report.getSubmittedAt()).isEqualTo(now);
+                assertThat(report.getCreatedAt()).isEqualTo(now);
+            });
+            assertThat(second).isEmpty();
+            assertThat(dailyReportRepository.findByUserIdAndReportDate(owner.getId(), freeDate))
+                    .hasValueSatisfying(report -> assertThat(report.getTitle()).isEqualTo("新規"));
+        }
+
+        @Test
+        @DisplayName("アップサートは未作成なら作成、作成済みなら同じ行を上書きする")
+        void upsert_ShouldInsertThenUpdateSameRow() {
+            // Given
+            LocalDateTime now = LocalDateTime.of(2024, 4, 1, 18, 0);
+
+            // When
+            var first = dailyReportRepository.upsert(otherUser.getId(), "下書き",
+                    "下書き内容", "draft", freeDate, now);
+            var second = dailyReportRepository.upsert(otherUser.getId(), "提出",
+                    "提出内容", "submitted", freeDate, now.plusMinutes(5));
+            DailyReport inserted = first.report();
+            DailyReport updated = second.report();
+
+            // Then: 1回目は作成、2回目は更新として判定する
+            assertThat(first.inserted()).isTrue();
+            assertThat(second.inserted()).isFalse();
+            assertThat(updated.getId()).isEqualTo(inserted.getId());
+            assertThat(inserted.getSubmittedAt()).isNull();
+            assertThat(updated.getTitle()).isEqualTo("提出");
+            assertThat(updated.getSubmittedAt()).isEqualTo(now.plusMinutes(5));
+            assertThat(updated.getCreatedAt()).isEqualTo(now);
+            assertThat(dailyReportRepository.countByUserId(otherUser.getId())).isEqualTo(2);
+        }
+    }
+}
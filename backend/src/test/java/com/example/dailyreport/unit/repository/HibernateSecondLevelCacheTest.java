@@ -0,0 +1,168 @@
+package com.example.dailyreport.unit.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dailyreport.config.HibernateCacheConfig;
+import com.example.dailyreport.entity.DailyReport;
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.repository.DailyReportRepository;
+import com.example.dailyreport.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 2次キャッシュ・クエリキャッシュのテスト
+ *
+ * テスト対象: - DailyReport / User のエンティティキャッシュ - findByUsername / findBySupervisorId のクエリキャッシュ -
+ * ネイティブSQLで更新した日報のキャッシュ破棄
+ *
+ * 使用技術: - @DataJpaTest + HibernateCacheConfig: 本番と同じリージョン構成 - Hibernate Statistics: リージョンごとのヒット・ミス件数を確認
+ *
+ * 注意事項: - 未コミットの変更はキャッシュに格納されないため、テストメソッドはトランザクション外で実行し、操作ごとにコミットする
+ */
+@DataJpaTest
+@Import(HibernateCacheConfig.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = {"spring.jpa.defer-datasource-initialization=false",
+        "spring.sql.init.mode=never"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Hibernate 2次キャッシュ テスト")
+class HibernateSecondLevelCacheTest {
+
+    private static final LocalDate REPORT_DATE = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DailyReportRepository dailyReportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private User supervisor;
+    private User owner;
+    private DailyReport report;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Given: 上司・部下と部下の日報1件
+        supervisor = userRepository.save(User.builder().username("boss")
+                .email("boss@company.com").password("encoded_password").role("上長")
+                .isActive(true).build());
+        owner = userRepository.save(User.builder().username("owner")
+                .email("owner@company.com").password("encoded_password").role("部下")
+                .supervisorId(supervisor.getId()).isActive(true).build());
+        report = dailyReportRepository.save(DailyReport.builder().userId(owner.getId())
+                .title("日報").workContent("作業内容").status("draft").reportDate(REPORT_DATE)
+                .build());
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return statistics.getDomainDataRegionStatistics(name);
+    }
+
+    @Nested
+    @DisplayName("エンティティキャッシュ")
+    class EntityCacheTests {
+
+        @Test
+        @DisplayName("2回目以降の日報取得は2次キャッシュから返される")
+        void findById_SecondTime_ShouldHitCache() {
+            // When
+            dailyReportRepository.findById(report.getId());
+            DailyReport cached = dailyReportRepository.findById(report.getId()).orElseThrow();
+
+            // Then
+            assertThat(cached.getTitle()).isEqualTo("日報");
+            assertThat(region(DailyReport.CACHE_REGION).getMissCount()).isEqualTo(1);
+            assertThat(region(DailyReport.CACHE_REGION).getHitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("ネイティブSQLで更新した日報はキャッシュから破棄され、更新後の内容が返される")
+        void updateOwned_ShouldEvictCachedReport() {
+            // Given: キャッシュに格納
+            dailyReportRepository.findById(report.getId());
+
+            // When
+            transactionTemplate.executeWithoutResult(status -> dailyReportRepository.updateOwned(
+                    report.getId(), owner.getId(), "更新後", "更新内容", "submitted", REPORT_DATE,
+                    LocalDateTime.now()));
+            DailyReport reloaded = dailyReportRepository.findById(report.getId()).orElseThrow();
+
+            // Then
+            assertThat(reloaded.getTitle()).isEqualTo("更新後");
+            assertThat(reloaded.getStatus()).isEqualTo("submitted");
+            assertThat(region(DailyReport.CACHE_REGION).getHitCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("クエリキャッシュ")
+    class QueryCacheTests {
+
+        @Test
+        @DisplayName("findByUsernameの2回目はクエリキャッシュから返される")
+        void findByUsername_SecondTime_ShouldHitQueryCache() {
+            // When
+            userRepository.findByUsername("owner");
+            User cached = userRepository.findByUsername("owner").orElseThrow();
+
+            // Then
+            assertThat(cached.getId()).isEqualTo(owner.getId());
+            assertThat(statistics.getQueryRegionStatistics(
+                    UserRepository.USER_BY_USERNAME_CACHE_REGION).getHitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("ユーザーを更新するとfindBySupervisorIdのキャッシュ結果は無効になる")
+        void findBySupervisorId_AfterUserUpdate_ShouldReloadFromDatabase() {
+            // Given: キャッシュに格納
+            assertThat(userRepository.findBySupervisorId(supervisor.getId())).hasSize(1);
+
+            // When: 上司を変更
+            User moved = userRepository.findById(owner.getId()).orElseThrow();
+            moved.setSupervisorId(null);
+            userRepository.save(moved);
+
+            // Then
+            assertThat(userRepository.findBySupervisorId(supervisor.getId())).isEmpty();
+            assertThat(statistics.getQueryRegionStatistics(
+                    UserRepository.USERS_BY_SUPERVISOR_CACHE_REGION).getHitCount()).isZero();
+        }
+    }
+}
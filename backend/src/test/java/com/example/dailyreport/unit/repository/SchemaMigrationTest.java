@@ -0,0 +1,113 @@
+package com.example.dailyreport.unit.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Flywayマイグレーションのテスト
+ *
+ * テスト対象: - db/migration/h2 の全バージョンが適用済みであること（起動時にHibernateのスキーマ検証も通過していること） -
+ * アクセスパスに合わせた複合インデックスの作成と冗長なインデックスの削除 - Flyway導入前のスキーマ（V1相当）からの移行（baseline-on-migrate）
+ *
+ * 使用技術: - @DataJpaTest: Flyway・JPAを含むスライステスト - H2 Database: インメモリテストDB
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"spring.jpa.defer-datasource-initialization=false",
+        "spring.sql.init.mode=never"})
+@DisplayName("スキーママイグレーション テスト")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("全マイグレーションが成功状態で適用され、保留中のものがない")
+    void migrations_ShouldAllBeApplied() {
+        // When
+        MigrationInfo[] applied = flyway.info().applied();
+
+        // Then
+        assertThat(applied).isNotEmpty();
+        assertThat(applied).extracting(MigrationInfo::getState).containsOnly(MigrationState.SUCCESS);
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("6");
+    }
+
+    @Test
+    @DisplayName("アクセスパス用の複合インデックスが存在し、冗長なインデックスは削除されている")
+    void performanceIndexes_ShouldMatchAccessPaths() {
+        // When
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES"
+                        + " WHERE LOWER(TABLE_NAME) IN ('daily_reports', 'users')",
+                String.class);
+
+        // Then
+        assertThat(indexes).contains("idx_daily_reports_user_date_id",
+                "idx_daily_reports_user_status_date", "idx_daily_reports_date_user",
+                "idx_users_supervisor_id_id", "idx_users_supervisor_active");
+        assertThat(indexes).doesNotContain("idx_daily_reports_user_id", "idx_daily_reports_status",
+                "idx_daily_reports_report_date", "idx_users_supervisor_id");
+    }
+
+    @Test
+    @DisplayName("Flyway導入前のスキーマをV1としてベースライン化し、V2以降でトークンバージョン列とインデックスが追加される")
+    void migrate_FromPreFlywaySchema_ShouldApplyLaterVersions() throws Exception {
+        // Given: Flyway導入前のスキーマ（V1と同一）と既存ユーザーを持つデータベース
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:pre-flyway-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("db/migration/h2/V1__baseline.sql"));
+        }
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+        legacy.update("INSERT INTO users (username, password) VALUES ('legacy', 'encoded_password')");
+
+        // When: 本番と同じ設定（baseline-on-migrate, baseline-version=1）で移行
+        Flyway legacyFlyway = Flyway.configure().dataSource(dataSource)
+                .locations("classpath:db/migration/h2").baselineOnMigrate(true)
+                .baselineVersion("1").load();
+        legacyFlyway.migrate();
+
+        // Then: V1はベースライン扱い、以降は全て適用済み
+        assertThat(legacyFlyway.info().applied()).extracting(MigrationInfo::getState)
+                .contains(MigrationState.BASELINE).doesNotContain(MigrationState.FAILED);
+        assertThat(legacyFlyway.info().pending()).isEmpty();
+        assertThat(legacyFlyway.info().current().getVersion().getVersion()).isEqualTo("6");
+
+        // Then: 既存ユーザーのトークンバージョンは0で補完される
+        assertThat(legacy.queryForObject(
+                "SELECT token_version FROM users WHERE username = 'legacy'", Long.class))
+                .isZero();
+
+        // Then: キーセットページネーション用インデックスが作成される
+        assertThat(legacy.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES"
+                        + " WHERE LOWER(TABLE_NAME) = 'daily_reports'",
+                String.class)).contains("idx_daily_reports_user_date_id",
+                        "idx_daily_reports_user_status_date");
+
+        legacy.execute("SHUTDOWN");
+    }
+}
@@ -231,6 +231,97 @@ class UserRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("トークンバージョンテスト")
+    class TokenVersionTest {
+
+        @Test
+        @DisplayName("新規ユーザーのトークンバージョンは0")
+        void save_NewUser_ShouldInitializeTokenVersion() {
+            // When: 取得
+            Optional<Long> version = userRepository.findActiveTokenVersionById(testUser.getId());
+
+            // Then: 初期値0
+            assertThat(version).contains(0L);
+        }
+
+        @Test
+        @DisplayName("役職変更時はトークンバージョンが加算される")
+        void update_RoleChanged_ShouldBumpTokenVersion() {
+            // Given: DBから読み込んだユーザーの役職を変更
+            User user = userRepository.findById(testUser.getId()).orElseThrow();
+            user.setRole("管理者");
+
+            // When: 更新
+            userRepository.saveAndFlush(user);
+            entityManager.clear();
+
+            // Then: バージョンが1に加算される
+            assertThat(userRepository.findActiveTokenVersionById(testUser.getId())).contains(1L);
+        }
+
+        @Test
+        @DisplayName("認可に関係しない項目の変更ではトークンバージョンは変わらない")
+        void update_DisplayNameChanged_ShouldKeepTokenVersion() {
+            // Given: 表示名のみ変更
+            User user = userRepository.findById(testUser.getId()).orElseThrow();
+            user.setDisplayName("更新された名前");
+
+            // When: 更新
+            userRepository.saveAndFlush(user);
+            entityManager.clear();
+
+            // Then: バージョンは0のまま
+            assertThat(userRepository.findActiveTokenVersionById(testUser.getId())).contains(0L);
+        }
+
+        @Test
+        @DisplayName("非アクティブユーザーのトークンバージョンは取得できない")
+        void findActiveTokenVersionById_InactiveUser_ShouldReturnEmpty() {
+            // Given: ユーザーを非アクティブ化
+            User user = userRepository.findById(subordinateUser.getId()).orElseThrow();
+            user.setIsActive(false);
+            userRepository.saveAndFlush(user);
+            entityManager.clear();
+
+            // When & Then: 空を返却
+            assertThat(userRepository.findActiveTokenVersionById(subordinateUser.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("パスワード再ハッシュテスト")
+    class UpdatePasswordHashTest {
+
+        @Test
+        @DisplayName("読み込み時のハッシュと一致する場合は置き換える")
+        void updatePasswordHash_CurrentHashMatches_ShouldReplace() {
+            // When
+            int updated = userRepository.updatePasswordHash(testUser.getId(), "encoded_password",
+                    "{bcrypt}new_hash");
+            entityManager.clear();
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            assertThat(userRepository.findById(testUser.getId()).orElseThrow().getPassword())
+                    .isEqualTo("{bcrypt}new_hash");
+        }
+
+        @Test
+        @DisplayName("ハッシュが変更済みの場合は上書きしない")
+        void updatePasswordHash_HashChanged_ShouldNotReplace() {
+            // When: 読み込み後に別の値へ変更された想定
+            int updated = userRepository.updatePasswordHash(testUser.getId(), "stale_hash",
+                    "{bcrypt}new_hash");
+            entityManager.clear();
+
+            // Then
+            assertThat(updated).isZero();
+            assertThat(userRepository.findById(testUser.getId()).orElseThrow().getPassword())
+                    .isEqualTo("encoded_password");
+        }
+    }
+
     @Nested
     @DisplayName("データ整合性テスト")
     class DataIntegrityTest {
@@ -0,0 +1,94 @@
+package com.example.dailyreport.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.dailyreport.security.BloomFilter;
+
+/**
+ * BloomFilterクラスのユニットテスト
+ *
+ * <p>テスト対象: - 追加した要素の判定（偽陰性がないこと） - 想定件数での偽陽性率 - 推定偽陽性率の算出 - 引数の検証
+ */
+@DisplayName("BloomFilter - Bloomフィルター")
+class BloomFilterTest {
+
+    @Nested
+    @DisplayName("判定")
+    class MightContainTests {
+
+        @Test
+        @DisplayName("正常: 追加した要素は必ず含まれる可能性ありと判定（偽陰性なし）")
+        void mightContain_AddedValues_ShouldAlwaysReturnTrue() {
+            // Given
+            BloomFilter filter = new BloomFilter(1_000, 0.01);
+            String[] values = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString())
+                    .toArray(String[]::new);
+
+            // When
+            for (String value : values) {
+                filter.put(value);
+            }
+
+            // Then
+            for (String value : values) {
+                assertTrue(filter.mightContain(value));
+            }
+            assertEquals(1_000, filter.insertions());
+        }
+
+        @Test
+        @DisplayName("正常: 空のフィルターはすべて含まれないと判定")
+        void mightContain_Empty_ShouldReturnFalse() {
+            BloomFilter filter = new BloomFilter(100, 0.01);
+
+            assertFalse(filter.mightContain(UUID.randomUUID().toString()));
+            assertEquals(0.0, filter.expectedFalsePositiveProbability());
+        }
+
+        @Test
+        @DisplayName("正常: 想定件数まで追加した場合の偽陽性率が設定値の範囲に収まる")
+        void mightContain_AtCapacity_ShouldKeepFalsePositiveRate() {
+            // Given
+            BloomFilter filter = new BloomFilter(10_000, 0.01);
+            IntStream.range(0, 10_000).forEach(i -> filter.put(UUID.randomUUID().toString()));
+
+            // When
+            long falsePositives = IntStream.range(0, 100_000)
+                    .filter(i -> filter.mightContain(UUID.randomUUID().toString())).count();
+
+            // Then: 期待値1%に対して十分な余裕を持たせて判定
+            assertTrue(falsePositives / 100_000.0 < 0.02, "偽陽性率: " + falsePositives / 100_000.0);
+            assertTrue(filter.expectedFalsePositiveProbability() < 0.02);
+        }
+    }
+
+    @Nested
+    @DisplayName("構成")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("正常: 偽陽性率を下げるとビット数・ハッシュ関数の数が増える")
+        void constructor_LowerProbability_ShouldUseMoreBits() {
+            BloomFilter loose = new BloomFilter(1_000, 0.01);
+            BloomFilter strict = new BloomFilter(1_000, 0.0001);
+
+            assertTrue(strict.bitSize() > loose.bitSize());
+            assertTrue(strict.hashFunctions() > loose.hashFunctions());
+        }
+
+        @Test
+        @DisplayName("異常: 想定件数・偽陽性率が範囲外の場合は例外")
+        void constructor_InvalidArguments_ShouldThrow() {
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.dailyreport.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.dailyreport.config.TestConfig;
+import com.example.dailyreport.security.JwtClaimsCache;
+import com.example.dailyreport.security.JwtUtil;
+import com.example.dailyreport.security.VerifiedClaims;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JwtClaimsCacheクラスのユニットテスト
+ *
+ * <p>テスト対象: - 検証済みクレームのキャッシュ動作 - 無効トークン・期限切れトークンの扱い - キャッシュメトリクスの記録
+ *
+ * <p>テスト方針: - 実際のJwtUtilをspy化し、署名検証の呼び出し回数を確認 - SimpleMeterRegistryでヒット・ミス件数を確認
+ */
+@DisplayName("JwtClaimsCache - 検証済みクレームキャッシュ")
+class JwtClaimsCacheTest {
+
+    private JwtUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtClaimsCache jwtClaimsCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwtUtil = spy(createJwtUtil(TestConfig.TestConstants.TEST_JWT_EXPIRATION));
+        meterRegistry = new SimpleMeterRegistry();
+        jwtClaimsCache = new JwtClaimsCache(jwtUtil, meterRegistry, 100);
+    }
+
+    private JwtUtil createJwtUtil(long expiration) throws Exception {
+        JwtUtil util = new JwtUtil();
+        setPrivateField(util, "secret", TestConfig.TestConstants.TEST_JWT_SECRET);
+        setPrivateField(util, "expiration", expiration);
+        return util;
+    }
+
+    private void setPrivateField(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry
+                .get("cache.gets")
+                .tag("cache", "jwtClaims")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("キャッシュ動作")
+    class CachingTests {
+
+        @Test
+        @DisplayName("正常: 同一トークンの2回目以降は署名検証を行わない")
+        void verify_SameTokenTwice_ShouldParseOnlyOnce() {
+            // Given
+            String token =
+                    jwtUtil.generateToken(
+                            TestConfig.TestConstants.ADMIN_USERNAME,
+                            TestConfig.TestConstants.ADMIN_ROLE);
+
+            // When
+            VerifiedClaims first = jwtClaimsCache.verify(token);
+            VerifiedClaims second = jwtClaimsCache.verify(token);
+
+            // Then
+            assertSame(first, second, "2回目はキャッシュ済みの同一インスタンスを返却");
+            assertEquals(TestConfig.TestConstants.ADMIN_USERNAME, second.getUsername());
+            assertEquals(TestConfig.TestConstants.ADMIN_ROLE, second.getRole());
+            verify(jwtUtil, times(1)).parseVerifiedClaims(token);
+        }
+
+        @Test
+        @DisplayName("正常: 異なるトークンはそれぞれ検証される")
+        void verify_DifferentTokens_ShouldParseEach() {
+            // Given
+            String adminToken =
+                    jwtUtil.generateToken(
+                            TestConfig.TestConstants.ADMIN_USERNAME,
+                            TestConfig.TestConstants.ADMIN_ROLE);
+            String employeeToken =
+                    jwtUtil.generateToken(
+                            TestConfig.TestConstants.EMPLOYEE_USERNAME,
+                            TestConfig.TestConstants.EMPLOYEE_ROLE);
+
+            // When
+            VerifiedClaims admin = jwtClaimsCache.verify(adminToken);
+            VerifiedClaims employee = jwtClaimsCache.verify(employeeToken);
+
+            // Then
+            assertEquals(TestConfig.TestConstants.ADMIN_USERNAME, admin.getUsername());
+            assertEquals(TestConfig.TestConstants.EMPLOYEE_USERNAME, employee.getUsername());
+            verify(jwtUtil).parseVerifiedClaims(adminToken);
+            verify(jwtUtil).parseVerifiedClaims(employeeToken);
+        }
+
+        @Test
+        @DisplayName("正常: ヒット・ミス件数がメトリクスに記録される")
+        void verify_ShouldRecordHitAndMissMetrics() {
+            // Given
+            String token =
+                    jwtUtil.generateToken(
+                            TestConfig.TestConstants.MANAGER_USERNAME,
+                            TestConfig.TestConstants.MANAGER_ROLE);
+
+            // When
+            jwtClaimsCache.verify(token);
+            jwtClaimsCache.verify(token);
+            jwtClaimsCache.verify(token);
+
+            // Then
+            assertEquals(1.0, cacheGets("miss"), "初回のみミス");
+            assertEquals(2.0, cacheGets("hit"), "2回目以降はヒット");
+        }
+    }
+
+    @Nested
+    @DisplayName("無効トークン")
+    class InvalidTokenTests {
+
+        @Test
+        @DisplayName("異常: 改ざんされたトークンは例外を送出し、キャッシュされない")
+        void verify_TamperedToken_ShouldThrowAndNotCache() {
+            // Given
+            String token =
+                    jwtUtil.generateToken(
+                            TestConfig.TestConstants.ADMIN_USERNAME,
+                            TestConfig.TestConstants.ADMIN_ROLE);
+            String tampered = token.substring(0, token.length() - 10) + "tampered123";
+
+            // When & Then
+            assertThrows(JwtException.class, () -> jwtClaimsCache.verify(tampered));
+            assertThrows(JwtException.class, () -> jwtClaimsCache.verify(tampered));
+            verify(jwtUtil, times(2)).parseVerifiedClaims(tampered);
+        }
+
+        @Test
+        @DisplayName("異常: 期限切れトークンは例外を送出する")
+        void verify_ExpiredToken_ShouldThrow() throws Exception {
+            // Given
+            JwtUtil shortLived = createJwtUtil(1L);
+            String token =
+                    shortLived.generateToken(
+                            TestConfig.TestConstants.ADMIN_USERNAME,
+                            TestConfig.TestConstants.ADMIN_ROLE);
+            Thread.sleep(10);
+
+            // When & Then
+            assertThrows(JwtException.class, () -> jwtClaimsCache.verify(token));
+        }
+
+        @Test
+        @DisplayName("異常: 空文字トークンは例外を送出する")
+        void verify_EmptyToken_ShouldThrow() {
+            assertThrows(IllegalArgumentException.class, () -> jwtClaimsCache.verify(""));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.dailyreport.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.dailyreport.config.TestConfig;
+import com.example.dailyreport.security.JwtKeyring;
+import com.example.dailyreport.security.JwtSigningKey;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * JwtKeyringクラスのユニットテスト
+ *
+ * <p>テスト対象: - kidによる検証鍵の選択 - 鍵ローテーション（退役中の鍵での検証） - ES256の検証専用鍵・JWK Setの出力 - 設定値の解析
+ */
+@DisplayName("JwtKeyring - JWT署名鍵のキーリング")
+class JwtKeyringTest {
+
+    private static final String OLD_SECRET = TestConfig.TestConstants.TEST_JWT_SECRET;
+    private static final String NEW_SECRET = "rotatedSecretKeyForJunitTestingPurposesOnly987654321";
+
+    private static String sign(JwtSigningKey key, boolean withKid) {
+        var builder = Jwts.builder().setSubject("employee1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        if (withKid) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, key.getKid());
+        }
+        return builder.signWith(key.getSigningKey(), key.getAlgorithm()).compact();
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String base64(byte[] encoded) {
+        return Base64.getEncoder().encodeToString(encoded);
+    }
+
+    @Nested
+    @DisplayName("鍵ローテーション")
+    class RotationTests {
+
+        @Test
+        @DisplayName("正常: 退役中の鍵で署名されたトークンもkidで選択して検証できる")
+        void parse_RetiringKid_ShouldVerify() {
+            // Given: k1 → k2 にローテーション
+            JwtSigningKey oldKey = JwtSigningKey.hmac("k1", OLD_SECRET);
+            JwtKeyring keyring = new JwtKeyring(JwtSigningKey.hmac("k2", NEW_SECRET),
+                    JwtKeyring.parseRetiringKeys("k1:HS256:" + OLD_SECRET));
+
+            // When & Then
+            assertEquals("employee1", keyring.parse(sign(oldKey, true)).getBody().getSubject());
+            assertEquals("k2", keyring.getActiveKey().getKid());
+        }
+
+        @Test
+        @DisplayName("異常: 未登録のkid（削除済みの鍵）は拒否")
+        void parse_UnknownKid_ShouldThrow() {
+            JwtKeyring keyring = new JwtKeyring(JwtSigningKey.hmac("k2", NEW_SECRET), List.of());
+
+            assertThrows(UnsupportedJwtException.class,
+                    () -> keyring.parse(sign(JwtSigningKey.hmac("k1", OLD_SECRET), true)));
+        }
+
+        @Test
+        @DisplayName("異常: kidを偽装しても別の鍵の署名は検証に失敗する")
+        void parse_ForgedKid_ShouldThrow() {
+            JwtKeyring keyring = new JwtKeyring(JwtSigningKey.hmac("k2", NEW_SECRET), List.of());
+
+            assertThrows(SignatureException.class,
+                    () -> keyring.parse(sign(JwtSigningKey.hmac("k2", OLD_SECRET), true)));
+        }
+
+        @Test
+        @DisplayName("境界値: kidを持たない旧トークンは現行鍵で検証")
+        void parse_NoKid_ShouldUseActiveKey() {
+            JwtSigningKey activeKey = JwtSigningKey.hmac("default", OLD_SECRET);
+            JwtKeyring keyring = new JwtKeyring(activeKey, List.of());
+
+            assertEquals("employee1", keyring.parse(sign(activeKey, false)).getBody().getSubject());
+        }
+
+        @Test
+        @DisplayName("異常: 空・null のトークンは従来どおりIllegalArgumentException")
+        void parse_EmptyToken_ShouldThrowIllegalArgument() {
+            JwtKeyring keyring = new JwtKeyring(JwtSigningKey.hmac("k1", OLD_SECRET), List.of());
+
+            assertThrows(IllegalArgumentException.class, () -> keyring.parse(null));
+            assertThrows(IllegalArgumentException.class, () -> keyring.parse(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("ES256")
+    class Es256Tests {
+
+        @Test
+        @DisplayName("正常: 公開鍵のみの検証専用キーリングで検証できる（秘密鍵なしの他サービス）")
+        void parse_PublicKeyOnly_ShouldVerify() throws Exception {
+            // Given
+            KeyPair keyPair = ecKeyPair();
+            JwtSigningKey issuer = JwtSigningKey.es256("ec1", base64(keyPair.getPrivate().getEncoded()),
+                    base64(keyPair.getPublic().getEncoded()));
+            JwtSigningKey verifierOnly =
+                    JwtSigningKey.es256("ec1", null, base64(keyPair.getPublic().getEncoded()));
+
+            // When: 他サービス側は署名できない鍵を退役中の鍵として登録して検証
+            JwtKeyring verifier = new JwtKeyring(JwtSigningKey.hmac("local", OLD_SECRET),
+                    List.of(verifierOnly));
+
+            // Then
+            assertFalse(verifierOnly.canSign());
+            assertEquals("employee1", verifier.parse(sign(issuer, true)).getBody().getSubject());
+        }
+
+        @Test
+        @DisplayName("正常: JWK Setには公開鍵のみを含め、共有秘密鍵は含めない")
+        void toJwks_ShouldExposeOnlyPublicKeys() throws Exception {
+            // Given
+            KeyPair keyPair = ecKeyPair();
+            JwtKeyring keyring = new JwtKeyring(
+                    JwtSigningKey.es256("ec1", base64(keyPair.getPrivate().getEncoded()),
+                            base64(keyPair.getPublic().getEncoded())),
+                    JwtKeyring.parseRetiringKeys("k1:HS256:" + OLD_SECRET));
+
+            // When
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> keys = (List<Map<String, Object>>) keyring.toJwks().get("keys");
+
+            // Then
+            assertEquals(1, keys.size());
+            assertEquals("ec1", keys.get(0).get("kid"));
+            assertEquals("ES256", keys.get(0).get("alg"));
+            assertEquals("P-256", keys.get(0).get("crv"));
+            assertEquals(43, ((String) keys.get(0).get("x")).length());
+            assertFalse(keys.get(0).containsKey("d"));
+        }
+
+        @Test
+        @DisplayName("正常: PEM形式（1行に連結した値を含む）の鍵を読み込める")
+        void es256_PemKeys_ShouldLoad() throws Exception {
+            KeyPair keyPair = ecKeyPair();
+            String pem = "-----BEGIN PUBLIC KEY-----" + base64(keyPair.getPublic().getEncoded())
+                    + "-----END PUBLIC KEY-----";
+
+            assertTrue(JwtSigningKey.es256("ec1", null, pem).isAsymmetric());
+        }
+    }
+
+    @Nested
+    @DisplayName("設定値の検証")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("異常: 形式誤り・未対応アルゴリズム・重複kidは起動時に拒否")
+        void invalidConfiguration_ShouldThrow() {
+            JwtSigningKey activeKey = JwtSigningKey.hmac("k1", OLD_SECRET);
+
+            assertThrows(IllegalArgumentException.class, () -> JwtKeyring.parseRetiringKeys("k0"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> JwtKeyring.parseRetiringKeys("k0:RS256:abc"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new JwtKeyring(activeKey, List.of(JwtSigningKey.hmac("k1", NEW_SECRET))));
+        }
+
+        @Test
+        @DisplayName("異常: 検証専用の鍵は現行鍵にできない")
+        void constructor_VerifyOnlyActiveKey_ShouldThrow() throws Exception {
+            JwtSigningKey verifyOnly =
+                    JwtSigningKey.es256("ec1", null, base64(ecKeyPair().getPublic().getEncoded()));
+
+            assertThrows(IllegalArgumentException.class, () -> new JwtKeyring(verifyOnly, List.of()));
+        }
+
+        @Test
+        @DisplayName("正常: 秘密鍵にコロンを含む場合も3つ目以降を鍵として扱う")
+        void parseRetiringKeys_SecretWithColon_ShouldKeepWholeSecret() {
+            List<JwtSigningKey> keys = JwtKeyring.parseRetiringKeys(
+                    "k0:HS256:" + OLD_SECRET + ":suffix, k1:HS256:" + NEW_SECRET);
+
+            assertEquals(2, keys.size());
+            assertEquals("k0", keys.get(0).getKid());
+            assertEquals("k1", keys.get(1).getKid());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.dailyreport.unit.security;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.lang.reflect.Field;
+import java.util.Base64;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.example.dailyreport.config.TestConfig;
+import com.example.dailyreport.entity.User;
 import com.example.dailyreport.security.JwtUtil;
+import com.example.dailyreport.security.VerifiedClaims;
 
 import io.jsonwebtoken.JwtException;
 
@@ -421,4 +424,86 @@ class JwtUtilTest {
             assertEquals(longRole, jwtUtil.getRoleFromToken(token));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("拡張クレーム（ユーザーID・上司ID・トークンバージョン）")
+    class IdentityClaimsTests {
+
+        @Test
+        @DisplayName("正常: Userから生成したトークンにユーザーID・上司ID・バージョンが含まれる")
+        void generateToken_FromUser_ShouldContainIdentityClaims() {
+            // Given
+            User user = User.builder().id(4L).username(TestConfig.TestConstants.EMPLOYEE_USERNAME)
+                    .role(TestConfig.TestConstants.EMPLOYEE_ROLE).supervisorId(2L).tokenVersion(3L)
+                    .build();
+
+            // When
+            VerifiedClaims claims = jwtUtil.parseVerifiedClaims(jwtUtil.generateToken(user));
+
+            // Then
+            assertTrue(claims.hasIdentity());
+            assertEquals(TestConfig.TestConstants.EMPLOYEE_USERNAME, claims.getUsername());
+            assertEquals(TestConfig.TestConstants.EMPLOYEE_ROLE, claims.getRole());
+            assertEquals(4L, claims.getUserId());
+            assertEquals(2L, claims.getSupervisorId());
+            assertEquals(3L, claims.getTokenVersion());
+        }
+
+        @Test
+        @DisplayName("正常: 上司なし・バージョン未設定のユーザーは上司IDなし、バージョン0")
+        void generateToken_UserWithoutSupervisor_ShouldOmitSupervisorClaim() {
+            // Given
+            User user = User.builder().id(1L).username(TestConfig.TestConstants.ADMIN_USERNAME)
+                    .role(TestConfig.TestConstants.ADMIN_ROLE).build();
+
+            // When
+            VerifiedClaims claims = jwtUtil.parseVerifiedClaims(jwtUtil.generateToken(user));
+
+            // Then
+            assertEquals(1L, claims.getUserId());
+            assertNull(claims.getSupervisorId());
+            assertEquals(0L, claims.getTokenVersion());
+        }
+
+        @Test
+        @DisplayName("境界値: 旧形式トークンは拡張クレームを持たない")
+        void parseVerifiedClaims_LegacyToken_ShouldHaveNoIdentity() {
+            // When
+            VerifiedClaims claims = jwtUtil.parseVerifiedClaims(jwtUtil.generateToken(
+                    TestConfig.TestConstants.ADMIN_USERNAME, TestConfig.TestConstants.ADMIN_ROLE));
+
+            // Then
+            assertFalse(claims.hasIdentity());
+            assertNull(claims.getUserId());
+        }
+
+        @Test
+        @DisplayName("正常: トークンごとに異なるトークンID（jti）が付与される")
+        void generateToken_ShouldAssignUniqueTokenId() {
+            // Given
+            User user = User.builder().id(4L).username(TestConfig.TestConstants.EMPLOYEE_USERNAME)
+                    .role(TestConfig.TestConstants.EMPLOYEE_ROLE).build();
+
+            // When
+            VerifiedClaims first = jwtUtil.parseVerifiedClaims(jwtUtil.generateToken(user));
+            VerifiedClaims second = jwtUtil.parseVerifiedClaims(jwtUtil.generateToken(user));
+
+            // Then
+            assertNotNull(first.getTokenId());
+            assertNotEquals(first.getTokenId(), second.getTokenId());
+        }
+
+        @Test
+        @DisplayName("正常: ヘッダーに現行鍵の鍵ID（kid）が付与される")
+        void generateToken_ShouldSetKeyIdHeader() {
+            // When
+            String token = jwtUtil.generateToken(TestConfig.TestConstants.ADMIN_USERNAME,
+                    TestConfig.TestConstants.ADMIN_ROLE);
+
+            // Then
+            assertEquals("default", jwtUtil.getKeyring().resolve(token).getKid());
+            assertTrue(new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]))
+                    .contains("\"kid\":\"default\""));
+        }
+    }
+}
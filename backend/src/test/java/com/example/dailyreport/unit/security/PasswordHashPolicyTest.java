@@ -0,0 +1,125 @@
+package com.example.dailyreport.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.dailyreport.security.PasswordHashPolicy;
+
+/**
+ * PasswordHashPolicyクラスのユニットテスト
+ *
+ * <p>テスト対象: - 設定アルゴリズムでのハッシュ化と保存形式 - 既存（接頭辞なし）bcryptハッシュの検証と再ハッシュ判定 - キャリブレーションの下限・上限
+ *
+ * <p>テスト方針: - テスト時間を抑えるため低コスト（bcrypt 4、argon2 1MiB）で検証
+ */
+@DisplayName("PasswordHashPolicy - パスワードハッシュのポリシー")
+class PasswordHashPolicyTest {
+
+    private static final String PASSWORD = "password";
+
+    private static PasswordHashPolicy policy(String algorithm, boolean calibrate, Duration target) {
+        return new PasswordHashPolicy(algorithm, calibrate, target, 4, 6, 1024, 1, 1, 3);
+    }
+
+    private static PasswordHashPolicy policy(String algorithm) {
+        return policy(algorithm, false, Duration.ofMillis(250));
+    }
+
+    @Nested
+    @DisplayName("bcrypt")
+    class BcryptTests {
+
+        @Test
+        @DisplayName("正常: 接頭辞付きのbcryptでハッシュ化し、再ハッシュ不要と判定")
+        void encode_ShouldUseBcryptPrefix() {
+            PasswordEncoder encoder = policy("bcrypt").createPasswordEncoder();
+
+            String hash = encoder.encode(PASSWORD);
+
+            assertTrue(hash.startsWith("{bcrypt}$2a$04$"));
+            assertTrue(encoder.matches(PASSWORD, hash));
+            assertFalse(encoder.upgradeEncoding(hash));
+        }
+
+        @Test
+        @DisplayName("正常: 接頭辞なしの既存ハッシュを検証でき、再ハッシュ対象と判定")
+        void matches_LegacyHash_ShouldVerifyAndRequestUpgrade() {
+            PasswordEncoder encoder = policy("bcrypt").createPasswordEncoder();
+            String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+            assertTrue(encoder.matches(PASSWORD, legacyHash));
+            assertFalse(encoder.matches("wrong", legacyHash));
+            assertTrue(encoder.upgradeEncoding(legacyHash));
+        }
+
+        @Test
+        @DisplayName("正常: 設定より低いコストのハッシュは再ハッシュ対象と判定")
+        void upgradeEncoding_LowerCost_ShouldRequestUpgrade() {
+            PasswordEncoder encoder =
+                    new PasswordHashPolicy("bcrypt", false, Duration.ofMillis(250), 5, 6, 1024, 1, 1, 3)
+                            .createPasswordEncoder();
+            String lowerCostHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+            assertTrue(encoder.matches(PASSWORD, lowerCostHash));
+            assertTrue(encoder.upgradeEncoding(lowerCostHash));
+        }
+    }
+
+    @Nested
+    @DisplayName("argon2")
+    class Argon2Tests {
+
+        @Test
+        @DisplayName("正常: argon2でハッシュ化し、既存のbcryptハッシュは再ハッシュ対象と判定")
+        void encode_Argon2_ShouldMigrateFromBcrypt() {
+            PasswordEncoder encoder = policy("argon2").createPasswordEncoder();
+            String bcryptHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+            String hash = encoder.encode(PASSWORD);
+
+            assertTrue(hash.startsWith("{argon2}$argon2id$"));
+            assertTrue(encoder.matches(PASSWORD, hash));
+            assertFalse(encoder.upgradeEncoding(hash));
+            assertTrue(encoder.matches(PASSWORD, bcryptHash));
+            assertTrue(encoder.upgradeEncoding(bcryptHash));
+        }
+    }
+
+    @Nested
+    @DisplayName("キャリブレーション")
+    class CalibrationTests {
+
+        @Test
+        @DisplayName("正常: 目標時間が極端に短い場合も下限コストを下回らない")
+        void calibrate_TinyTarget_ShouldKeepMinimum() {
+            PasswordHashPolicy bcrypt = policy("bcrypt", true, Duration.ofNanos(1));
+            PasswordHashPolicy argon2 = policy("argon2", true, Duration.ofNanos(1));
+
+            assertEquals(4, bcrypt.getBcryptStrength());
+            assertEquals(1, argon2.getArgon2Iterations());
+        }
+
+        @Test
+        @DisplayName("正常: 目標時間が十分長い場合は上限コストで止まる")
+        void calibrate_LargeTarget_ShouldStopAtMaximum() {
+            PasswordHashPolicy bcrypt = policy("bcrypt", true, Duration.ofMinutes(1));
+            PasswordHashPolicy argon2 = policy("argon2", true, Duration.ofMinutes(1));
+
+            assertEquals(6, bcrypt.getBcryptStrength());
+            assertEquals(3, argon2.getArgon2Iterations());
+        }
+
+        @Test
+        @DisplayName("異常: 未対応のアルゴリズムは起動時に拒否")
+        void constructor_UnknownAlgorithm_ShouldThrow() {
+            assertThrows(IllegalArgumentException.class, () -> policy("md5"));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.dailyreport.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.dailyreport.exception.LoginThrottledException;
+import com.example.dailyreport.security.PasswordVerificationBulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PasswordVerificationBulkheadクラスのユニットテスト
+ *
+ * <p>テスト対象: - 専用スレッドでの検証実行 - 待ち行列満杯時・待機タイムアウト時の拒否 - 無効時の呼び出し元スレッドでの実行
+ *
+ * <p>テスト方針: - スレッド数1・待ち行列1の隔壁をラッチで塞いで満杯状態を再現
+ */
+@DisplayName("PasswordVerificationBulkhead - パスワード検証の隔壁")
+class PasswordVerificationBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordVerificationBulkhead bulkhead;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (bulkhead != null) {
+            bulkhead.destroy();
+        }
+    }
+
+    private PasswordVerificationBulkhead create(boolean enabled, Duration maxWait) {
+        bulkhead = new PasswordVerificationBulkhead(
+                meterRegistry, enabled, 1, 1, maxWait, Duration.ofSeconds(3));
+        return bulkhead;
+    }
+
+    /** 検証スレッドを塞ぎ、開始を待ってから返す */
+    private CompletableFuture<Boolean> occupyWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+            started.countDown();
+            awaitRelease();
+            return true;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return blocked;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("login.bulkhead.rejected").tag("reason", reason).counter().count();
+    }
+
+    @Nested
+    @DisplayName("実行")
+    class ExecuteTests {
+
+        @Test
+        @DisplayName("正常: 専用スレッドで実行して結果を返す")
+        void execute_ShouldRunOnBulkheadThread() {
+            create(true, Duration.ofSeconds(5));
+
+            String threadName = bulkhead.execute(() -> Thread.currentThread().getName());
+
+            assertTrue(threadName.startsWith("login-verify-"));
+        }
+
+        @Test
+        @DisplayName("正常: 無効時は呼び出し元のスレッドで実行")
+        void execute_Disabled_ShouldRunOnCallerThread() {
+            create(false, Duration.ofSeconds(5));
+
+            String threadName = bulkhead.execute(() -> Thread.currentThread().getName());
+
+            assertEquals(Thread.currentThread().getName(), threadName);
+        }
+
+        @Test
+        @DisplayName("異常: 検証処理の実行時例外はそのまま伝播")
+        void execute_TaskThrows_ShouldPropagate() {
+            create(true, Duration.ofSeconds(5));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> bulkhead.execute(() -> {
+                        throw new IllegalArgumentException("invalid hash");
+                    }));
+
+            assertEquals("invalid hash", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("拒否")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("異常: 待ち行列が満杯の場合は即座に拒否")
+        void execute_QueueFull_ShouldThrowThrottled() throws Exception {
+            // Given: スレッドを塞ぎ、待ち行列を1件で埋める
+            create(true, Duration.ofSeconds(10));
+            CompletableFuture<Boolean> running = occupyWorker();
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> true));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get("login.bulkhead.queue.depth").gauge().value() < 1
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // When & Then
+            LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                    () -> bulkhead.execute(() -> true));
+            assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+            assertEquals(1.0, rejected("queue_full"));
+
+            // 塞いでいた検証は解放後に完了する
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+            assertTrue(queued.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("異常: max-wait 以内に完了しない場合は拒否")
+        void execute_Timeout_ShouldThrowThrottled() throws Exception {
+            // Given
+            create(true, Duration.ofMillis(100));
+
+            // When & Then
+            assertThrows(LoginThrottledException.class, () -> bulkhead.execute(() -> {
+                awaitRelease();
+                return true;
+            }));
+            assertEquals(1.0, rejected("timeout"));
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -59,13 +60,17 @@ class SecurityConfigTest {
     class PasswordEncoderTests {
 
         @Test
-        @DisplayName("正常: BCryptPasswordEncoderが設定されている")
+        @DisplayName("正常: BCryptでハッシュ化するDelegatingPasswordEncoderが設定されている")
         void passwordEncoder_ShouldBeBCryptPasswordEncoder() {
             // When & Then
             assertNotNull(passwordEncoder, "PasswordEncoderがnullではない");
+            assertInstanceOf(
+                    DelegatingPasswordEncoder.class,
+                    passwordEncoder,
+                    "DelegatingPasswordEncoderが設定されている");
             assertTrue(
-                    passwordEncoder.getClass().getSimpleName().contains("BCrypt"),
-                    "BCryptPasswordEncoderが設定されている");
+                    passwordEncoder.encode(testPassword).startsWith("{bcrypt}$2a$"),
+                    "既定のアルゴリズムはBCrypt");
         }
 
         @Test
@@ -314,9 +319,9 @@ class SecurityConfigTest {
             // PasswordEncoder Bean
             assertNotNull(passwordEncoder, "PasswordEncoderがSpringコンテキストに登録されている");
             assertEquals(
-                    "BCryptPasswordEncoder",
+                    "DelegatingPasswordEncoder",
                     passwordEncoder.getClass().getSimpleName(),
-                    "BCryptPasswordEncoderが設定されている");
+                    "DelegatingPasswordEncoderが設定されている");
 
             // CorsConfigurationSource Bean
             assertNotNull(corsConfigurationSource, "CorsConfigurationSourceがSpringコンテキストに登録されている");
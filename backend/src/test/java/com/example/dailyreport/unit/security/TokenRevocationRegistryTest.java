@@ -0,0 +1,230 @@
+package com.example.dailyreport.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.dailyreport.entity.RevokedToken;
+import com.example.dailyreport.repository.RevokedTokenRepository;
+import com.example.dailyreport.security.TokenRevocationRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TokenRevocationRegistryクラスのユニットテスト
+ *
+ * <p>テスト対象: - Bloomフィルターで含まれないと判定した場合はDBを参照しないこと - 失効済み・偽陽性の確定判定 - 他ノードの失効の差分取り込みと再構築 -
+ * 偽陽性率のメトリクス
+ *
+ * <p>テスト方針: - RevokedTokenRepositoryをモック化し、DBアクセス回数を確認 - 時刻は手動で進めるClockで制御
+ */
+@DisplayName("TokenRevocationRegistry - アクセストークン失効判定")
+class TokenRevocationRegistryTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2024-01-15T09:00:00Z"));
+        registry = new TokenRevocationRegistry(revokedTokenRepository, meterRegistry, 1_000, 0.001,
+                Duration.ofSeconds(5), Duration.ofMinutes(10), Duration.ofSeconds(5), clock);
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("jwt.revocation.checks").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("判定")
+    class IsRevokedTests {
+
+        @Test
+        @DisplayName("正常: 失効していないトークンはDBで確認しない")
+        void isRevoked_NotRevoked_ShouldSkipStore() {
+            // When
+            boolean revoked = registry.isRevoked("jti-1");
+
+            // Then
+            assertFalse(revoked);
+            verify(revokedTokenRepository, never()).existsById(any());
+            assertEquals(1.0, checks("negative"));
+        }
+
+        @Test
+        @DisplayName("正常: 起動時にDBの失効済みjtiからフィルターを構築し、確定判定はDBで行う")
+        void isRevoked_RevokedInStore_ShouldReturnTrue() {
+            // Given
+            when(revokedTokenRepository.findActiveJtis(any())).thenReturn(List.of("jti-1"));
+            when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+
+            // When & Then
+            assertTrue(registry.isRevoked("jti-1"));
+            verify(revokedTokenRepository).deleteExpired(any());
+            assertEquals(1.0, checks("revoked"));
+        }
+
+        @Test
+        @DisplayName("境界値: フィルターでは含まれる可能性があるがDBに存在しない場合は偽陽性として計上")
+        void isRevoked_FalsePositive_ShouldCountAndReturnFalse() {
+            // Given: DBから削除済み（期限切れ）だがフィルターには残っている
+            when(revokedTokenRepository.findActiveJtis(any())).thenReturn(List.of("jti-1"));
+            when(revokedTokenRepository.existsById("jti-1")).thenReturn(false);
+
+            // When
+            boolean revoked = registry.isRevoked("jti-1");
+            registry.isRevoked("jti-2");
+
+            // Then
+            assertFalse(revoked);
+            assertEquals(1.0, checks("false_positive"));
+            assertEquals(0.5, registry.observedFalsePositiveRate());
+            assertEquals(0.5,
+                    meterRegistry.get("jwt.revocation.bloom.false_positive_rate").gauge().value());
+        }
+
+        @Test
+        @DisplayName("境界値: jtiを持たない旧形式トークンは未失効扱い")
+        void isRevoked_NullJti_ShouldReturnFalse() {
+            assertFalse(registry.isRevoked(null));
+            verifyNoInteractions(revokedTokenRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("失効")
+    class RevokeTests {
+
+        @Test
+        @DisplayName("正常: DBに保存し、自ノードでは即時に失効扱い")
+        void revoke_ShouldPersistAndApplyImmediately() {
+            // Given
+            registry.isRevoked("warm-up");
+            when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+
+            // When
+            registry.revoke("jti-1", 4L, clock.instant().plusSeconds(600));
+
+            // Then
+            ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+            verify(revokedTokenRepository).save(captor.capture());
+            assertEquals("jti-1", captor.getValue().getJti());
+            assertEquals(4L, captor.getValue().getUserId());
+            assertTrue(registry.isRevoked("jti-1"));
+        }
+
+        @Test
+        @DisplayName("境界値: 期限切れのトークンは保存しない")
+        void revoke_ExpiredToken_ShouldDoNothing() {
+            // When
+            registry.revoke("jti-1", 4L, clock.instant().minusSeconds(1));
+
+            // Then
+            verify(revokedTokenRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("ノード間の反映")
+    class SyncTests {
+
+        @Test
+        @DisplayName("正常: 取り込み間隔が経過すると他ノードで失効したjtiを差分で取り込む")
+        void isRevoked_AfterSyncInterval_ShouldPickUpOtherNodes() {
+            // Given: 初回構築時は空
+            registry.isRevoked("jti-1");
+            when(revokedTokenRepository.findJtisRevokedSince(any(), any()))
+                    .thenReturn(List.of("jti-1"));
+            when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+
+            // When: 間隔内は取り込まない
+            assertFalse(registry.isRevoked("jti-1"));
+            clock.advance(Duration.ofSeconds(5));
+
+            // Then
+            assertTrue(registry.isRevoked("jti-1"));
+            verify(revokedTokenRepository, times(1)).findJtisRevokedSince(any(), any());
+            verify(revokedTokenRepository, times(1)).findActiveJtis(any());
+        }
+
+        @Test
+        @DisplayName("正常: 再構築間隔が経過するとDBから作り直し、期限切れのjtiが除かれる")
+        void isRevoked_AfterRebuildInterval_ShouldRebuild() {
+            // Given
+            when(revokedTokenRepository.findActiveJtis(any()))
+                    .thenReturn(List.of("jti-1"))
+                    .thenReturn(List.of());
+            registry.isRevoked("jti-1");
+
+            // When
+            clock.advance(Duration.ofMinutes(10));
+            boolean revoked = registry.isRevoked("jti-1");
+
+            // Then: 新しいフィルターには含まれないためDB確認なし
+            assertFalse(revoked);
+            verify(revokedTokenRepository, times(2)).findActiveJtis(any());
+            verify(revokedTokenRepository, times(1)).existsById("jti-1");
+        }
+
+        @Test
+        @DisplayName("異常: 取り込みに失敗しても判定を継続し、次の間隔で再試行する")
+        void isRevoked_StoreUnavailable_ShouldKeepServing() {
+            // Given
+            when(revokedTokenRepository.findActiveJtis(any()))
+                    .thenThrow(new IllegalStateException("接続エラー"))
+                    .thenReturn(List.of());
+
+            // When & Then
+            assertFalse(registry.isRevoked("jti-1"));
+            clock.advance(Duration.ofSeconds(5));
+            assertFalse(registry.isRevoked("jti-1"));
+            verify(revokedTokenRepository, times(2)).findActiveJtis(any());
+        }
+    }
+
+    /** テスト用に手動で進められるClock */
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.dailyreport.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.security.TokenVersionRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TokenVersionRegistryクラスのユニットテスト
+ *
+ * <p>テスト対象: - トークンバージョンの一致判定 - 非アクティブ・削除済みユーザーの扱い - キャッシュと無効化 - 読み込み中の無効化
+ *
+ * <p>テスト方針: - UserRepositoryをモック化し、DBアクセス回数を確認
+ */
+@DisplayName("TokenVersionRegistry - トークンバージョン管理")
+class TokenVersionRegistryTest {
+
+    private UserRepository userRepository;
+    private TokenVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        registry = new TokenVersionRegistry(
+                userRepository, new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+    }
+
+    @Nested
+    @DisplayName("バージョン判定")
+    class IsCurrentTests {
+
+        @Test
+        @DisplayName("正常: バージョンが一致する場合は有効")
+        void isCurrent_SameVersion_ShouldReturnTrue() {
+            when(userRepository.findActiveTokenVersionById(1L)).thenReturn(Optional.of(2L));
+
+            assertTrue(registry.isCurrent(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("異常: バージョンが古い場合は無効")
+        void isCurrent_OldVersion_ShouldReturnFalse() {
+            when(userRepository.findActiveTokenVersionById(1L)).thenReturn(Optional.of(3L));
+
+            assertFalse(registry.isCurrent(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("異常: 非アクティブまたは存在しないユーザーは無効")
+        void isCurrent_InactiveUser_ShouldReturnFalse() {
+            when(userRepository.findActiveTokenVersionById(99L)).thenReturn(Optional.empty());
+
+            assertFalse(registry.isCurrent(99L, 0L));
+        }
+
+        @Test
+        @DisplayName("異常: ユーザーIDまたはバージョンがnullの場合は無効")
+        void isCurrent_NullArguments_ShouldReturnFalse() {
+            assertFalse(registry.isCurrent(null, 0L));
+            assertFalse(registry.isCurrent(1L, null));
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("キャッシュ")
+    class CacheTests {
+
+        @Test
+        @DisplayName("正常: 同一ユーザーの2回目以降はDBアクセスしない")
+        void isCurrent_Repeated_ShouldQueryOnce() {
+            when(userRepository.findActiveTokenVersionById(1L)).thenReturn(Optional.of(0L));
+
+            registry.isCurrent(1L, 0L);
+            registry.isCurrent(1L, 0L);
+            registry.isCurrent(1L, 0L);
+
+            verify(userRepository, times(1)).findActiveTokenVersionById(1L);
+        }
+
+        @Test
+        @DisplayName("正常: 無効化後は最新のバージョンを再取得する")
+        void invalidate_ShouldReloadVersion() {
+            when(userRepository.findActiveTokenVersionById(1L))
+                    .thenReturn(Optional.of(0L), Optional.of(1L));
+            assertTrue(registry.isCurrent(1L, 0L));
+
+            registry.invalidate(1L);
+
+            assertFalse(registry.isCurrent(1L, 0L));
+            assertTrue(registry.isCurrent(1L, 1L));
+        }
+
+        @Test
+        @DisplayName("正常: 読み込み中に無効化された場合は読み込んだバージョンを格納しない")
+        void invalidate_WhileLoading_ShouldNotStoreStaleVersion() {
+            when(userRepository.findActiveTokenVersionById(1L)).thenAnswer(invocation -> {
+                // 変更前のバージョンを読んだ直後に、ユーザー更新による無効化が発生
+                registry.invalidate(1L);
+                return Optional.of(0L);
+            }).thenReturn(Optional.of(1L));
+
+            assertTrue(registry.isCurrent(1L, 0L));
+
+            assertFalse(registry.isCurrent(1L, 0L));
+            verify(userRepository, times(2)).findActiveTokenVersionById(1L);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,15 +15,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.example.dailyreport.dto.LoginRequest;
 import com.example.dailyreport.dto.LoginResponse;
 import com.example.dailyreport.entity.User;
-import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.exception.InvalidRefreshTokenException;
+import com.example.dailyreport.exception.LoginThrottledException;
 import com.example.dailyreport.security.JwtUtil;
+import com.example.dailyreport.security.PasswordVerificationBulkhead;
+import com.example.dailyreport.security.TokenRevocationRegistry;
+import com.example.dailyreport.security.VerifiedClaims;
 import com.example.dailyreport.service.AuthService;
+import com.example.dailyreport.service.PasswordRehashService;
+import com.example.dailyreport.service.RefreshTokenService;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * AuthServiceの単体テスト
@@ -34,7 +47,7 @@ import com.example.dailyreport.service.AuthService;
  * - エラーハンドリング
  * 
  * モック対象:
- * - UserRepository: ユーザー検索をモック化
+ * - UserDirectoryService: ユーザー検索をモック化
  * - PasswordEncoder: パスワード検証をモック化  
  * - JwtUtil: JWT生成をモック化
  * 
@@ -48,7 +61,7 @@ import com.example.dailyreport.service.AuthService;
 class AuthServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserDirectoryService userDirectoryService;
 
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -56,6 +69,20 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private PasswordRehashService passwordRehashService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Spy
+    private PasswordVerificationBulkhead passwordVerificationBulkhead =
+            new PasswordVerificationBulkhead(new SimpleMeterRegistry(), true, 1, 1,
+                    Duration.ofSeconds(5), Duration.ofSeconds(1));
+
     @InjectMocks
     private AuthService authService;
 
@@ -92,11 +119,12 @@ class AuthServiceTest {
         @DisplayName("有効な認証情報で認証成功")
         void authenticateUser_ValidCredentials_ShouldReturnLoginResponse() {
             // Given: モックの動作設定
-            when(userRepository.findByUsername("testuser"))
+            when(refreshTokenService.issue(1L)).thenReturn("refresh-token");
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(validUser));
             when(passwordEncoder.matches("password123", validUser.getPassword()))
                     .thenReturn(true);
-            when(jwtUtil.generateToken("testuser", "部下"))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn(generatedToken);
 
             // When: 認証実行
@@ -110,11 +138,12 @@ class AuthServiceTest {
             assertThat(response.getEmail()).isEqualTo("testuser@company.com");
             assertThat(response.getRole()).isEqualTo("部下");
             assertThat(response.getDisplayName()).isEqualTo("テストユーザー");
+            assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
 
             // モック呼び出し検証
-            verify(userRepository, times(1)).findByUsername("testuser");
+            verify(userDirectoryService, times(1)).findByUsername("testuser");
             verify(passwordEncoder, times(1)).matches("password123", validUser.getPassword());
-            verify(jwtUtil, times(1)).generateToken("testuser", "部下");
+            verify(jwtUtil, times(1)).generateToken(validUser);
         }
 
         @Test
@@ -131,11 +160,11 @@ class AuthServiceTest {
                     .isActive(true)
                     .build();
 
-            when(userRepository.findByUsername("testuser"))
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(userWithNullDisplayName));
             when(passwordEncoder.matches("password123", userWithNullDisplayName.getPassword()))
                     .thenReturn(true);
-            when(jwtUtil.generateToken("testuser", "部下"))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn(generatedToken);
 
             // When: 認証実行
@@ -159,11 +188,11 @@ class AuthServiceTest {
                     .isActive(true)
                     .build();
 
-            when(userRepository.findByUsername("testuser"))
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(userWithEmptyDisplayName));
             when(passwordEncoder.matches("password123", userWithEmptyDisplayName.getPassword()))
                     .thenReturn(true);
-            when(jwtUtil.generateToken("testuser", "部下"))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn(generatedToken);
 
             // When: 認証実行
@@ -192,11 +221,11 @@ class AuthServiceTest {
                     .password("adminpassword")
                     .build();
 
-            when(userRepository.findByUsername("admin"))
+            when(userDirectoryService.findByUsername("admin"))
                     .thenReturn(Optional.of(adminUser));
             when(passwordEncoder.matches("adminpassword", adminUser.getPassword()))
                     .thenReturn(true);
-            when(jwtUtil.generateToken("admin", "管理者"))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn("admin.jwt.token");
 
             // When: 管理者認証実行
@@ -222,7 +251,7 @@ class AuthServiceTest {
                     .password("password123")
                     .build();
 
-            when(userRepository.findByUsername("nonexistent"))
+            when(userDirectoryService.findByUsername("nonexistent"))
                     .thenReturn(Optional.empty());
 
             // When & Then: 例外発生を検証
@@ -232,7 +261,7 @@ class AuthServiceTest {
 
             // パスワード検証やJWT生成が実行されないことを確認
             verify(passwordEncoder, never()).matches(anyString(), anyString());
-            verify(jwtUtil, never()).generateToken(anyString(), anyString());
+            verify(jwtUtil, never()).generateToken(any(User.class));
         }
 
         @Test
@@ -244,7 +273,7 @@ class AuthServiceTest {
                     .password("wrongpassword")
                     .build();
 
-            when(userRepository.findByUsername("testuser"))
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(validUser));
             when(passwordEncoder.matches("wrongpassword", validUser.getPassword()))
                     .thenReturn(false);
@@ -255,7 +284,24 @@ class AuthServiceTest {
                     .hasMessage("パスワードが正しくありません");
 
             // JWT生成が実行されないことを確認
-            verify(jwtUtil, never()).generateToken(anyString(), anyString());
+            verify(jwtUtil, never()).generateToken(any(User.class));
+        }
+
+        @Test
+        @DisplayName("パスワード検証の実行枠が埋まっている場合は LoginThrottledException")
+        void authenticateUser_BulkheadFull_ShouldThrowThrottled() {
+            // Given
+            when(userDirectoryService.findByUsername("testuser"))
+                    .thenReturn(Optional.of(validUser));
+            doThrow(new LoginThrottledException("ログインが混雑しています", Duration.ofSeconds(1)))
+                    .when(passwordVerificationBulkhead).execute(any());
+
+            // When & Then
+            assertThatThrownBy(() -> authService.authenticateUser(validLoginRequest))
+                    .isInstanceOf(LoginThrottledException.class);
+
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+            verify(jwtUtil, never()).generateToken(any(User.class));
         }
 
         @Test
@@ -267,7 +313,7 @@ class AuthServiceTest {
                     .password(null)
                     .build();
 
-            when(userRepository.findByUsername("testuser"))
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(validUser));
             when(passwordEncoder.matches(null, validUser.getPassword()))
                     .thenReturn(false);
@@ -287,7 +333,7 @@ class AuthServiceTest {
                     .password("")
                     .build();
 
-            when(userRepository.findByUsername("testuser"))
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(validUser));
             when(passwordEncoder.matches("", validUser.getPassword()))
                     .thenReturn(false);
@@ -307,48 +353,48 @@ class AuthServiceTest {
         @DisplayName("UserRepositoryが複数回呼び出されないことを確認")
         void authenticateUser_ShouldCallUserRepositoryOnlyOnce() {
             // Given
-            when(userRepository.findByUsername("testuser"))
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(validUser));
             when(passwordEncoder.matches("password123", validUser.getPassword()))
                     .thenReturn(true);
-            when(jwtUtil.generateToken("testuser", "部下"))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn(generatedToken);
 
             // When
             authService.authenticateUser(validLoginRequest);
 
             // Then: UserRepositoryは1回だけ呼び出される
-            verify(userRepository, times(1)).findByUsername("testuser");
-            verify(userRepository, only()).findByUsername("testuser");
+            verify(userDirectoryService, times(1)).findByUsername("testuser");
+            verify(userDirectoryService, only()).findByUsername("testuser");
         }
 
         @Test
         @DisplayName("JwtUtilが正しい引数で呼び出されることを確認")
         void authenticateUser_ShouldCallJwtUtilWithCorrectArguments() {
             // Given
-            when(userRepository.findByUsername("testuser"))
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(validUser));
             when(passwordEncoder.matches("password123", validUser.getPassword()))
                     .thenReturn(true);
-            when(jwtUtil.generateToken(eq("testuser"), eq("部下")))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn(generatedToken);
 
             // When
             authService.authenticateUser(validLoginRequest);
 
             // Then: JwtUtilが正確な引数で呼び出される
-            verify(jwtUtil).generateToken("testuser", "部下");
+            verify(jwtUtil).generateToken(any(User.class));
         }
 
         @Test
         @DisplayName("PasswordEncoderがBCryptで検証することを確認")
         void authenticateUser_ShouldUsePasswordEncoderForVerification() {
             // Given
-            when(userRepository.findByUsername("testuser"))
+            when(userDirectoryService.findByUsername("testuser"))
                     .thenReturn(Optional.of(validUser));
             when(passwordEncoder.matches(eq("password123"), eq(validUser.getPassword())))
                     .thenReturn(true);
-            when(jwtUtil.generateToken("testuser", "部下"))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn(generatedToken);
 
             // When
@@ -357,6 +403,138 @@ class AuthServiceTest {
             // Then: PasswordEncoderが正確な引数で呼び出される
             verify(passwordEncoder).matches("password123", validUser.getPassword());
         }
+
+        @Test
+        @DisplayName("認証成功時に検証済みの平文パスワードで再ハッシュ判定を行う")
+        void authenticateUser_Success_ShouldRequestRehash() {
+            // Given
+            when(userDirectoryService.findByUsername("testuser"))
+                    .thenReturn(Optional.of(validUser));
+            when(passwordEncoder.matches("password123", validUser.getPassword()))
+                    .thenReturn(true);
+            when(jwtUtil.generateToken(any(User.class)))
+                    .thenReturn(generatedToken);
+
+            // When
+            authService.authenticateUser(validLoginRequest);
+
+            // Then
+            verify(passwordRehashService).upgradeIfNeeded(validUser, "password123");
+        }
+
+        @Test
+        @DisplayName("認証失敗時は再ハッシュしない")
+        void authenticateUser_WrongPassword_ShouldNotRehash() {
+            // Given
+            when(userDirectoryService.findByUsername("testuser"))
+                    .thenReturn(Optional.of(validUser));
+            when(passwordEncoder.matches("password123", validUser.getPassword()))
+                    .thenReturn(false);
+
+            // When
+            assertThatThrownBy(() -> authService.authenticateUser(validLoginRequest))
+                    .isInstanceOf(RuntimeException.class);
+
+            // Then
+            verify(passwordRehashService, never()).upgradeIfNeeded(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("リフレッシュ・ログアウトテスト")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("リフレッシュトークンでパスワード検証なしにトークンを再発行")
+        void refresh_ValidToken_ShouldIssueTokensWithoutPasswordCheck() {
+            // Given
+            when(refreshTokenService.rotate("old-refresh"))
+                    .thenReturn(new RefreshTokenService.Rotation(1L, "new-refresh"));
+            when(userDirectoryService.findById(1L)).thenReturn(Optional.of(validUser));
+            when(jwtUtil.generateToken(validUser)).thenReturn(generatedToken);
+            when(jwtUtil.getExpirationSeconds()).thenReturn(900L);
+
+            // When
+            LoginResponse response = authService.refresh("old-refresh");
+
+            // Then
+            assertThat(response.getToken()).isEqualTo(generatedToken);
+            assertThat(response.getRefreshToken()).isEqualTo("new-refresh");
+            assertThat(response.getExpiresIn()).isEqualTo(900L);
+            assertThat(response.getUsername()).isEqualTo("testuser");
+            verifyNoInteractions(passwordEncoder, passwordVerificationBulkhead);
+        }
+
+        @Test
+        @DisplayName("無効化されたユーザーは再発行せず全トークンを失効")
+        void refresh_InactiveUser_ShouldRevokeAll() {
+            // Given
+            validUser.setIsActive(false);
+            when(refreshTokenService.rotate("old-refresh"))
+                    .thenReturn(new RefreshTokenService.Rotation(1L, "new-refresh"));
+            when(userDirectoryService.findById(1L)).thenReturn(Optional.of(validUser));
+
+            // When & Then
+            assertThatThrownBy(() -> authService.refresh("old-refresh"))
+                    .isInstanceOf(InvalidRefreshTokenException.class);
+            verify(refreshTokenService).revokeAll(1L);
+            verify(jwtUtil, never()).generateToken(any(User.class));
+        }
+
+        @Test
+        @DisplayName("無効なリフレッシュトークンの例外はそのまま伝播")
+        void refresh_InvalidToken_ShouldPropagate() {
+            // Given
+            when(refreshTokenService.rotate("reused"))
+                    .thenThrow(new InvalidRefreshTokenException("リフレッシュトークンは使用済みです"));
+
+            // When & Then
+            assertThatThrownBy(() -> authService.refresh("reused"))
+                    .isInstanceOf(InvalidRefreshTokenException.class)
+                    .hasMessage("リフレッシュトークンは使用済みです");
+            verifyNoInteractions(userDirectoryService);
+        }
+
+        @Test
+        @DisplayName("ログアウトでトークンファミリーを失効")
+        void logout_ShouldRevokeFamily() {
+            // When
+            authService.logout("refresh", null);
+
+            // Then
+            verify(refreshTokenService).revokeFamily("refresh");
+            verifyNoInteractions(tokenRevocationRegistry);
+        }
+
+        @Test
+        @DisplayName("ログアウトでアクセストークンも有効期限前に失効")
+        void logout_WithAccessToken_ShouldRevokeAccessToken() {
+            // Given
+            Instant expiresAt = Instant.now().plusSeconds(600);
+            when(jwtUtil.parseVerifiedClaims("access")).thenReturn(VerifiedClaims.builder()
+                    .tokenId("jti-1").userId(1L).expiresAt(expiresAt).build());
+
+            // When
+            authService.logout("refresh", "access");
+
+            // Then
+            verify(tokenRevocationRegistry).revoke("jti-1", 1L, expiresAt);
+        }
+
+        @Test
+        @DisplayName("無効なアクセストークンは失効処理をせずログアウトを継続")
+        void logout_InvalidAccessToken_ShouldStillRevokeRefreshToken() {
+            // Given
+            when(jwtUtil.parseVerifiedClaims("broken"))
+                    .thenThrow(new MalformedJwtException("broken"));
+
+            // When
+            authService.logout("refresh", "broken");
+
+            // Then
+            verify(refreshTokenService).revokeFamily("refresh");
+            verifyNoInteractions(tokenRevocationRegistry);
+        }
     }
 
     @Nested
@@ -383,11 +561,11 @@ class AuthServiceTest {
                     .isActive(true)
                     .build();
 
-            when(userRepository.findByUsername(longUsername))
+            when(userDirectoryService.findByUsername(longUsername))
                     .thenReturn(Optional.of(longUsernameUser));
             when(passwordEncoder.matches("password", longUsernameUser.getPassword()))
                     .thenReturn(true);
-            when(jwtUtil.generateToken(longUsername, "部下"))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn(generatedToken);
 
             // When: 認証実行
@@ -418,11 +596,11 @@ class AuthServiceTest {
                     .isActive(true)
                     .build();
 
-            when(userRepository.findByUsername(japaneseUsername))
+            when(userDirectoryService.findByUsername(japaneseUsername))
                     .thenReturn(Optional.of(japaneseUsernameUser));
             when(passwordEncoder.matches("password", japaneseUsernameUser.getPassword()))
                     .thenReturn(true);
-            when(jwtUtil.generateToken(japaneseUsername, "上長"))
+            when(jwtUtil.generateToken(any(User.class)))
                     .thenReturn(generatedToken);
 
             // When: 認証実行
@@ -0,0 +1,138 @@
+package com.example.dailyreport.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.dailyreport.dto.DailyReportExportRow;
+import com.example.dailyreport.repository.DailyReportRepository;
+import com.example.dailyreport.service.DailyReportExportService;
+import com.example.dailyreport.service.ReportExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * DailyReportExportServiceクラスのユニットテスト
+ *
+ * <p>テスト対象: - 対象範囲の切り替え（管理者: 全ユーザー、上長: 部下） - CSV出力（ヘッダー・エスケープ） - NDJSON出力 - Streamのクローズ
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyReportExportService - 日報エクスポート")
+class DailyReportExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Mock private DailyReportRepository dailyReportRepository;
+
+    private DailyReportExportService exportService;
+
+    private DailyReportExportRow plainRow;
+    private DailyReportExportRow quotedRow;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper =
+                new ObjectMapper()
+                        .findAndRegisterModules()
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new DailyReportExportService(dailyReportRepository, objectMapper);
+
+        LocalDateTime time = LocalDateTime.of(2024, 3, 1, 18, 0);
+        plainRow =
+                new DailyReportExportRow(
+                        1L, 4L, "employee1", "田中太郎", "定例", "作業内容です", "submitted",
+                        LocalDate.of(2024, 3, 1), time, time, time);
+        quotedRow =
+                new DailyReportExportRow(
+                        2L, 4L, "employee1", null, "A, B", "1行目\n\"引用\"", "draft",
+                        LocalDate.of(2024, 3, 2), null, time, time);
+    }
+
+    @Nested
+    @DisplayName("CSV出力")
+    class CsvTests {
+
+        @Test
+        @DisplayName("正常: ヘッダーの後に1行1件で出力し、区切り文字・改行・引用符を含む項目はエスケープ")
+        void export_Csv_ShouldWriteHeaderAndEscapedRows() throws Exception {
+            // Given
+            when(dailyReportRepository.streamExportByReportDateBetween(FROM, TO))
+                    .thenReturn(Stream.of(plainRow, quotedRow));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            long count = exportService.export(null, FROM, TO, ReportExportFormat.CSV, out);
+
+            // Then
+            assertEquals(2, count);
+            String csv = out.toString(StandardCharsets.UTF_8);
+            assertEquals(
+                    "id,userId,username,displayName,title,workContent,status,reportDate,"
+                            + "submittedAt,createdAt,updatedAt\r\n"
+                            + "1,4,employee1,田中太郎,定例,作業内容です,submitted,2024-03-01,"
+                            + "2024-03-01T18:00,2024-03-01T18:00,2024-03-01T18:00\r\n"
+                            + "2,4,employee1,,\"A, B\",\"1行目\n\"\"引用\"\"\",draft,2024-03-02,,"
+                            + "2024-03-01T18:00,2024-03-01T18:00\r\n",
+                    csv);
+        }
+
+        @Test
+        @DisplayName("正常: 上司IDを指定した場合は部下の日報のみを取得")
+        void export_WithSupervisor_ShouldUseSubordinateQuery() throws Exception {
+            // Given
+            when(dailyReportRepository.streamExportBySupervisorIdAndReportDateBetween(2L, FROM, TO))
+                    .thenReturn(Stream.empty());
+
+            // When
+            long count =
+                    exportService.export(
+                            2L, FROM, TO, ReportExportFormat.CSV, new ByteArrayOutputStream());
+
+            // Then
+            assertEquals(0, count);
+            verify(dailyReportRepository, never()).streamExportByReportDateBetween(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON出力")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("正常: 1行1件のJSONで出力し、終了後にStreamを閉じる")
+        void export_Ndjson_ShouldWriteOneJsonPerLineAndCloseStream() throws Exception {
+            // Given
+            AtomicBoolean closed = new AtomicBoolean();
+            when(dailyReportRepository.streamExportByReportDateBetween(FROM, TO))
+                    .thenReturn(Stream.of(plainRow, quotedRow).onClose(() -> closed.set(true)));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            exportService.export(null, FROM, TO, ReportExportFormat.NDJSON, out);
+
+            // Then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+            assertEquals(3, lines.length, "2行 + 末尾の改行");
+            assertTrue(lines[0].startsWith("{\"id\":1,"));
+            assertTrue(lines[0].contains("\"reportDate\":\"2024-03-01\""));
+            assertTrue(lines[1].contains("\"workContent\":\"1行目\\n\\\"引用\\\"\""));
+            assertEquals("", lines[2]);
+            assertTrue(closed.get(), "カーソルを閉じる");
+        }
+    }
+}
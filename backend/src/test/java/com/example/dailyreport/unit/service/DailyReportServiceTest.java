@@ -6,10 +6,16 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,18 +24,35 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.example.dailyreport.config.TestConfig;
+import com.example.dailyreport.dto.CursorPageResponse;
+import com.example.dailyreport.dto.DailyReportBatchRequest;
+import com.example.dailyreport.dto.DailyReportBatchResponse;
 import com.example.dailyreport.dto.DailyReportListResponse;
 import com.example.dailyreport.dto.DailyReportRequest;
 import com.example.dailyreport.dto.DailyReportResponse;
 import com.example.dailyreport.entity.DailyReport;
 import com.example.dailyreport.entity.User;
+import com.example.dailyreport.exception.ReportConflictException;
+import com.example.dailyreport.repository.DailyReportCommandRepository;
 import com.example.dailyreport.repository.DailyReportRepository;
 import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.service.DailyReportChangedEvent;
 import com.example.dailyreport.service.DailyReportService;
+import com.example.dailyreport.service.KeysetCursor;
+import com.example.dailyreport.service.ReadCoalescer;
+import com.example.dailyreport.service.SubordinateReportCache;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * DailyReportServiceクラスのユニットテスト
@@ -48,6 +71,15 @@ class DailyReportServiceTest {
 
     @Mock private UserRepository userRepository;
 
+    @Mock private UserDirectoryService userDirectoryService;
+
+    @Mock private SubordinateReportCache subordinateReportCache;
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ReadCoalescer readCoalescer = new ReadCoalescer(new SimpleMeterRegistry(), true);
+
     @InjectMocks private DailyReportService dailyReportService;
 
     private User testUser;
@@ -124,27 +156,29 @@ class DailyReportServiceTest {
         @DisplayName("正常: 有効なリクエストで日報作成成功")
         void createDailyReport_ValidRequest_ShouldReturnCreatedReport() {
             // Given
-            when(dailyReportRepository.existsByUserIdAndReportDate(
-                            testUser.getId(), validRequest.getReportDate()))
-                    .thenReturn(false);
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-            when(dailyReportRepository.save(any(DailyReport.class))).thenReturn(testDailyReport);
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.insertIfAbsent(eq(testUser.getId()),
+                    eq(validRequest.getTitle()), eq(validRequest.getWorkContent()),
+                    eq(validRequest.getStatus()), eq(validRequest.getReportDate()),
+                    any(LocalDateTime.class))).thenReturn(Optional.of(testDailyReport));
 
             // When
             DailyReportResponse result =
                     dailyReportService.createDailyReport(testUser.getId(), validRequest);
 
-            // Then
+            // Then: 事前の存在確認・saveを行わず1回のSQLで作成
             assertNotNull(result, "作成された日報レスポンスがnullではない");
             assertEquals(testDailyReport.getId(), result.getId());
             assertEquals(testDailyReport.getTitle(), result.getTitle());
             assertEquals(testDailyReport.getWorkContent(), result.getWorkContent());
             assertEquals(testUser.getUsername(), result.getUsername());
 
-            verify(dailyReportRepository).existsByUserIdAndReportDate(
-                    testUser.getId(), validRequest.getReportDate());
-            verify(userRepository).findById(testUser.getId());
-            verify(dailyReportRepository).save(any(DailyReport.class));
+            verify(userDirectoryService).findById(testUser.getId());
+            verify(dailyReportRepository, never()).existsByUserIdAndReportDate(any(), any());
+            verify(dailyReportRepository, never()).save(any(DailyReport.class));
+            verify(eventPublisher).publishEvent(new DailyReportChangedEvent(
+                    testDailyReport.getId(), testUser.getId(),
+                    DailyReportChangedEvent.ChangeType.CREATED));
         }
 
         @Test
@@ -163,9 +197,10 @@ class DailyReportServiceTest {
                             .submittedAt(LocalDateTime.now())
                             .build();
 
-            when(dailyReportRepository.existsByUserIdAndReportDate(any(), any())).thenReturn(false);
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-            when(dailyReportRepository.save(any(DailyReport.class))).thenReturn(submittedReport);
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.insertIfAbsent(any(), any(), any(),
+                    eq(TestConfig.TestConstants.STATUS_SUBMITTED), any(), any()))
+                    .thenReturn(Optional.of(submittedReport));
 
             // When
             DailyReportResponse result =
@@ -175,33 +210,36 @@ class DailyReportServiceTest {
             assertNotNull(result);
             assertEquals(TestConfig.TestConstants.STATUS_SUBMITTED, result.getStatus());
             assertNotNull(result.getSubmittedAt(), "提出済みの場合、提出日時が設定される");
+            verify(eventPublisher).publishEvent(new DailyReportChangedEvent(
+                    submittedReport.getId(), testUser.getId(),
+                    DailyReportChangedEvent.ChangeType.SUBMITTED));
         }
 
         @Test
         @DisplayName("異常: 1日1件制限違反で例外発生")
         void createDailyReport_DuplicateDate_ShouldThrowException() {
-            // Given
-            when(dailyReportRepository.existsByUserIdAndReportDate(
-                            testUser.getId(), validRequest.getReportDate()))
-                    .thenReturn(true);
+            // Given: 一意制約により作成されない
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.insertIfAbsent(eq(testUser.getId()), any(), any(), any(),
+                    eq(validRequest.getReportDate()), any())).thenReturn(Optional.empty());
 
             // When & Then
-            IllegalArgumentException exception =
+            ReportConflictException exception =
                     assertThrows(
-                            IllegalArgumentException.class,
+                            ReportConflictException.class,
                             () -> dailyReportService.createDailyReport(testUser.getId(), validRequest),
-                            "1日1件制限違反でIllegalArgumentException例外が発生");
+                            "1日1件制限違反でReportConflictException例外が発生");
 
             assertEquals("指定日の日報は既に存在します", exception.getMessage());
             verify(dailyReportRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
         @DisplayName("異常: 存在しないユーザーで例外発生")
         void createDailyReport_UserNotFound_ShouldThrowException() {
             // Given
-            when(dailyReportRepository.existsByUserIdAndReportDate(any(), any())).thenReturn(false);
-            when(userRepository.findById(999L)).thenReturn(Optional.empty());
+            when(userDirectoryService.findById(999L)).thenReturn(Optional.empty());
 
             // When & Then
             IllegalArgumentException exception =
@@ -211,6 +249,170 @@ class DailyReportServiceTest {
                             "存在しないユーザーでIllegalArgumentException例外が発生");
 
             assertEquals("ユーザーが見つかりません", exception.getMessage());
+            verifyNoInteractions(dailyReportRepository);
+        }
+
+        @Test
+        @DisplayName("正常: アップサートは既存の有無に関わらず1回のSQLで保存")
+        void upsertDailyReport_ShouldDelegateToSingleStatement() {
+            // Given
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.upsert(eq(testUser.getId()), eq(validRequest.getTitle()),
+                    eq(validRequest.getWorkContent()), eq(validRequest.getStatus()),
+                    eq(validRequest.getReportDate()), any(LocalDateTime.class)))
+                    .thenReturn(new DailyReportCommandRepository.UpsertResult(testDailyReport, false));
+
+            // When
+            DailyReportResponse result =
+                    dailyReportService.upsertDailyReport(testUser.getId(), validRequest);
+
+            // Then: 既存行の更新は UPDATED を通知
+            assertEquals(testDailyReport.getId(), result.getId());
+            assertEquals(testUser.getUsername(), result.getUsername());
+            verify(dailyReportRepository, never()).insertIfAbsent(any(), any(), any(), any(),
+                    any(), any());
+            verify(eventPublisher).publishEvent(new DailyReportChangedEvent(
+                    testDailyReport.getId(), testUser.getId(),
+                    DailyReportChangedEvent.ChangeType.UPDATED));
+        }
+
+        @Test
+        @DisplayName("正常: アップサートで新規に作成した場合は CREATED を通知")
+        void upsertDailyReport_Inserted_ShouldPublishCreated() {
+            // Given
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.upsert(eq(testUser.getId()), any(), any(), any(), any(),
+                    any(LocalDateTime.class)))
+                    .thenReturn(new DailyReportCommandRepository.UpsertResult(testDailyReport, true));
+
+            // When
+            dailyReportService.upsertDailyReport(testUser.getId(), validRequest);
+
+            // Then
+            verify(eventPublisher).publishEvent(new DailyReportChangedEvent(
+                    testDailyReport.getId(), testUser.getId(),
+                    DailyReportChangedEvent.ChangeType.CREATED));
+        }
+    }
+
+    @Nested
+    @DisplayName("日報一括作成機能")
+    class CreateDailyReportsTests {
+
+        private DailyReportRequest requestFor(LocalDate reportDate, String status) {
+            return DailyReportRequest.builder()
+                    .title(TestConfig.TestConstants.TEST_REPORT_TITLE)
+                    .workContent(TestConfig.TestConstants.TEST_REPORT_CONTENT)
+                    .status(status)
+                    .reportDate(reportDate)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("正常: 既存確認1回・saveAll1回でまとめて作成し、要素ごとの結果を返す")
+        @SuppressWarnings("unchecked")
+        void createDailyReports_ShouldSaveAllInOneCall() {
+            // Given
+            LocalDate monday = LocalDate.of(2024, 3, 4);
+            List<DailyReportRequest> requests =
+                    List.of(
+                            requestFor(monday, TestConfig.TestConstants.STATUS_SUBMITTED),
+                            requestFor(monday.plusDays(1), TestConfig.TestConstants.STATUS_DRAFT));
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.findExistingReportDates(eq(testUser.getId()), any()))
+                    .thenReturn(Collections.emptyList());
+            when(dailyReportRepository.saveAll(anyList()))
+                    .thenAnswer(
+                            invocation -> {
+                                List<DailyReport> reports = invocation.getArgument(0);
+                                for (int i = 0; i < reports.size(); i++) {
+                                    reports.get(i).setId(100L + i);
+                                }
+                                return reports;
+                            });
+
+            // When
+            DailyReportBatchResponse result =
+                    dailyReportService.createDailyReports(testUser.getId(), requests);
+
+            // Then
+            assertEquals(2, result.getCreatedCount());
+            assertEquals(0, result.getConflictCount());
+            assertEquals(100L, result.getResults().get(0).getReport().getId());
+            assertNotNull(result.getResults().get(0).getReport().getSubmittedAt(),
+                    "提出済みの要素は提出日時が設定される");
+            assertNull(result.getResults().get(1).getReport().getSubmittedAt());
+            assertEquals(testUser.getUsername(), result.getResults().get(1).getReport().getUsername());
+            verify(dailyReportRepository, times(1)).saveAll(anyList());
+            verify(dailyReportRepository, never()).insertIfAbsent(any(), any(), any(), any(),
+                    any(), any());
+        }
+
+        @Test
+        @DisplayName("正常: 既存日・リクエスト内の重複日は作成せず重複として返す")
+        @SuppressWarnings("unchecked")
+        void createDailyReports_ExistingAndDuplicateDates_ShouldReportConflicts() {
+            // Given
+            LocalDate existing = LocalDate.of(2024, 3, 4);
+            LocalDate fresh = existing.plusDays(1);
+            List<DailyReportRequest> requests =
+                    List.of(
+                            requestFor(existing, TestConfig.TestConstants.STATUS_DRAFT),
+                            requestFor(fresh, TestConfig.TestConstants.STATUS_DRAFT),
+                            requestFor(fresh, TestConfig.TestConstants.STATUS_SUBMITTED));
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.findExistingReportDates(eq(testUser.getId()), any()))
+                    .thenReturn(List.of(existing));
+            when(dailyReportRepository.saveAll(anyList()))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            DailyReportBatchResponse result =
+                    dailyReportService.createDailyReports(testUser.getId(), requests);
+
+            // Then: 先に出現した要素のみ作成し、順序は維持
+            assertEquals(1, result.getCreatedCount());
+            assertEquals(2, result.getConflictCount());
+            assertEquals(List.of(DailyReportBatchResponse.RESULT_CONFLICT,
+                    DailyReportBatchResponse.RESULT_CREATED,
+                    DailyReportBatchResponse.RESULT_CONFLICT),
+                    result.getResults().stream()
+                            .map(DailyReportBatchResponse.ItemResult::getResult).toList());
+            assertEquals(fresh, result.getResults().get(1).getReport().getReportDate());
+            assertEquals(2, result.getResults().get(2).getIndex());
+        }
+
+        @Test
+        @DisplayName("異常: 保存時の一意制約違反はReportConflictException")
+        void createDailyReports_ConcurrentInsert_ShouldThrowConflict() {
+            // Given
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.findExistingReportDates(eq(testUser.getId()), any()))
+                    .thenReturn(Collections.emptyList());
+            when(dailyReportRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+            doThrow(new DataIntegrityViolationException("uk_user_date"))
+                    .when(dailyReportRepository).flush();
+
+            // When & Then
+            assertThrows(ReportConflictException.class,
+                    () -> dailyReportService.createDailyReports(testUser.getId(),
+                            List.of(validRequest)));
+        }
+
+        @Test
+        @DisplayName("異常: 上限件数を超える場合は例外発生")
+        void createDailyReports_TooManyItems_ShouldThrowException() {
+            // Given
+            List<DailyReportRequest> requests = new ArrayList<>();
+            for (int i = 0; i <= DailyReportBatchRequest.MAX_ITEMS; i++) {
+                requests.add(requestFor(LocalDate.of(2024, 1, 1).plusDays(i),
+                        TestConfig.TestConstants.STATUS_DRAFT));
+            }
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> dailyReportService.createDailyReports(testUser.getId(), requests));
+            verifyNoInteractions(dailyReportRepository);
         }
     }
 
@@ -218,6 +420,21 @@ class DailyReportServiceTest {
     @DisplayName("日報更新機能")
     class UpdateDailyReportTests {
 
+        /** updateOwned の戻り値（RETURNINGで得られる更新後の行）を生成 */
+        private DailyReport returnedRow(DailyReportRequest request, LocalDateTime submittedAt) {
+            return DailyReport.builder()
+                    .id(testDailyReport.getId())
+                    .userId(testDailyReport.getUserId())
+                    .title(request.getTitle())
+                    .workContent(request.getWorkContent())
+                    .status(request.getStatus())
+                    .reportDate(request.getReportDate())
+                    .submittedAt(submittedAt)
+                    .createdAt(testDailyReport.getCreatedAt())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+        }
+
         @Test
         @DisplayName("正常: 本人による日報更新成功")
         void updateDailyReport_OwnerUpdate_ShouldReturnUpdatedReport() {
@@ -230,44 +447,34 @@ class DailyReportServiceTest {
                             .reportDate(LocalDate.now())
                             .build();
 
-            DailyReport updatedReport =
-                    DailyReport.builder()
-                            .id(testDailyReport.getId())
-                            .userId(testDailyReport.getUserId())
-                            .title(updateRequest.getTitle())
-                            .workContent(updateRequest.getWorkContent())
-                            .status(updateRequest.getStatus())
-                            .reportDate(testDailyReport.getReportDate())
-                            .submittedAt(LocalDateTime.now())
-                            .createdAt(testDailyReport.getCreatedAt())
-                            .updatedAt(LocalDateTime.now())
-                            .build();
-
-            when(dailyReportRepository.findById(testDailyReport.getId()))
-                    .thenReturn(Optional.of(testDailyReport));
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-            when(dailyReportRepository.save(any(DailyReport.class))).thenReturn(updatedReport);
+            when(dailyReportRepository.updateOwned(eq(testDailyReport.getId()),
+                    eq(testUser.getId()), eq(updateRequest.getTitle()),
+                    eq(updateRequest.getWorkContent()), eq(updateRequest.getStatus()),
+                    eq(updateRequest.getReportDate()), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(returnedRow(updateRequest, LocalDateTime.now())));
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
 
             // When
             DailyReportResponse result =
                     dailyReportService.updateDailyReport(
                             testDailyReport.getId(), testUser.getId(), updateRequest);
 
-            // Then
+            // Then: 再読み込み・存在確認を行わない
             assertNotNull(result);
             assertEquals(updateRequest.getTitle(), result.getTitle());
             assertEquals(updateRequest.getWorkContent(), result.getWorkContent());
             assertEquals(TestConfig.TestConstants.STATUS_SUBMITTED, result.getStatus());
             assertNotNull(result.getSubmittedAt(), "提出済み変更時、提出日時が設定される");
+            assertEquals(testUser.getUsername(), result.getUsername());
+            verify(dailyReportRepository, never()).findById(any());
+            verify(dailyReportRepository, never()).save(any());
+            verify(dailyReportRepository, never()).existsById(any());
         }
 
         @Test
         @DisplayName("正常: 提出済みから下書きに戻す更新")
         void updateDailyReport_SubmittedToDraft_ShouldClearSubmittedAt() {
             // Given
-            testDailyReport.setStatus(TestConfig.TestConstants.STATUS_SUBMITTED);
-            testDailyReport.setSubmittedAt(LocalDateTime.now());
-
             DailyReportRequest updateRequest =
                     DailyReportRequest.builder()
                             .title(validRequest.getTitle())
@@ -276,11 +483,10 @@ class DailyReportServiceTest {
                             .status(TestConfig.TestConstants.STATUS_DRAFT)
                             .build();
 
-            when(dailyReportRepository.findById(testDailyReport.getId()))
-                    .thenReturn(Optional.of(testDailyReport));
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-            when(dailyReportRepository.save(any(DailyReport.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
+            when(dailyReportRepository.updateOwned(eq(testDailyReport.getId()),
+                    eq(testUser.getId()), any(), any(), eq(TestConfig.TestConstants.STATUS_DRAFT),
+                    any(), any())).thenReturn(Optional.of(returnedRow(updateRequest, null)));
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
 
             // When
             DailyReportResponse result =
@@ -296,9 +502,11 @@ class DailyReportServiceTest {
         @Test
         @DisplayName("異常: 権限のないユーザーによる更新で例外発生")
         void updateDailyReport_UnauthorizedUser_ShouldThrowException() {
-            // Given
-            when(dailyReportRepository.findById(testDailyReport.getId()))
-                    .thenReturn(Optional.of(testDailyReport));
+            // Given: 作成者条件に一致せず0件、日報自体は存在
+            when(dailyReportRepository.updateOwned(eq(testDailyReport.getId()),
+                    eq(otherUser.getId()), any(), any(), any(), any(), any()))
+                    .thenReturn(Optional.empty());
+            when(dailyReportRepository.existsById(testDailyReport.getId())).thenReturn(true);
 
             // When & Then
             IllegalArgumentException exception =
@@ -310,14 +518,30 @@ class DailyReportServiceTest {
                             "権限のないユーザーでIllegalArgumentException例外が発生");
 
             assertEquals("権限がありません", exception.getMessage());
-            verify(dailyReportRepository, never()).save(any());
+            verifyNoInteractions(userDirectoryService);
+        }
+
+        @Test
+        @DisplayName("異常: 対象日を既存日報と同じ日に変更すると重複例外")
+        void updateDailyReport_DuplicateDate_ShouldThrowConflict() {
+            // Given
+            when(dailyReportRepository.updateOwned(eq(testDailyReport.getId()),
+                    eq(testUser.getId()), any(), any(), any(), any(), any()))
+                    .thenThrow(new DataIntegrityViolationException("uk_user_date"));
+
+            // When & Then
+            assertThrows(ReportConflictException.class,
+                    () -> dailyReportService.updateDailyReport(testDailyReport.getId(),
+                            testUser.getId(), validRequest));
         }
 
         @Test
         @DisplayName("異常: 存在しない日報の更新で例外発生")
         void updateDailyReport_ReportNotFound_ShouldThrowException() {
             // Given
-            when(dailyReportRepository.findById(999L)).thenReturn(Optional.empty());
+            when(dailyReportRepository.updateOwned(eq(999L), eq(testUser.getId()), any(), any(),
+                    any(), any(), any())).thenReturn(Optional.empty());
+            when(dailyReportRepository.existsById(999L)).thenReturn(false);
 
             // When & Then
             IllegalArgumentException exception =
@@ -334,13 +558,17 @@ class DailyReportServiceTest {
     @DisplayName("日報取得機能")
     class GetDailyReportTests {
 
+        @BeforeEach
+        void setUpAuthor() {
+            testDailyReport.setUser(testUser);
+        }
+
         @Test
         @DisplayName("正常: 本人による日報詳細取得成功")
         void getDailyReportById_OwnerAccess_ShouldReturnReport() {
             // Given
-            when(dailyReportRepository.findById(testDailyReport.getId()))
+            when(dailyReportRepository.findAccessibleById(testDailyReport.getId(), testUser.getId()))
                     .thenReturn(Optional.of(testDailyReport));
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
 
             // When
             Optional<DailyReportResponse> result =
@@ -356,9 +584,9 @@ class DailyReportServiceTest {
         @DisplayName("正常: 上司による部下日報詳細取得成功")
         void getDailyReportById_SupervisorAccess_ShouldReturnReport() {
             // Given
-            when(dailyReportRepository.findById(testDailyReport.getId()))
+            when(dailyReportRepository.findAccessibleById(
+                            testDailyReport.getId(), supervisorUser.getId()))
                     .thenReturn(Optional.of(testDailyReport));
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
 
             // When
             Optional<DailyReportResponse> result =
@@ -374,9 +602,8 @@ class DailyReportServiceTest {
         @DisplayName("異常: 権限のないユーザーによる取得は空を返却")
         void getDailyReportById_UnauthorizedAccess_ShouldReturnEmpty() {
             // Given
-            when(dailyReportRepository.findById(testDailyReport.getId()))
-                    .thenReturn(Optional.of(testDailyReport));
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.findAccessibleById(testDailyReport.getId(), otherUser.getId()))
+                    .thenReturn(Optional.empty());
 
             // When
             Optional<DailyReportResponse> result =
@@ -390,7 +617,8 @@ class DailyReportServiceTest {
         @DisplayName("異常: 存在しない日報の取得は空を返却")
         void getDailyReportById_ReportNotFound_ShouldReturnEmpty() {
             // Given
-            when(dailyReportRepository.findById(999L)).thenReturn(Optional.empty());
+            when(dailyReportRepository.findAccessibleById(999L, testUser.getId()))
+                    .thenReturn(Optional.empty());
 
             // When
             Optional<DailyReportResponse> result =
@@ -399,6 +627,211 @@ class DailyReportServiceTest {
             // Then
             assertTrue(result.isEmpty(), "存在しない日報の取得は空を返却");
         }
+
+        @Test
+        @DisplayName("正常: 詳細取得は1回のリポジトリ呼び出しで完結する")
+        void getDailyReportById_ShouldUseSingleQuery() {
+            // Given
+            when(dailyReportRepository.findAccessibleById(testDailyReport.getId(), testUser.getId()))
+                    .thenReturn(Optional.of(testDailyReport));
+
+            // When
+            dailyReportService.getDailyReportById(testDailyReport.getId(), testUser.getId());
+
+            // Then
+            verify(dailyReportRepository).findAccessibleById(testDailyReport.getId(), testUser.getId());
+            verifyNoMoreInteractions(dailyReportRepository);
+            verifyNoInteractions(userDirectoryService, userRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("自分の日報一覧取得機能（キーセットページネーション）")
+    class GetMyDailyReportsPageTests {
+
+        private List<DailyReportListResponse> reportsFrom(LocalDate newest, int count) {
+            List<DailyReportListResponse> reports = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                reports.add(listItemOf(DailyReport.builder().id(100L - i).userId(testUser.getId())
+                        .title("日報" + i).workContent("作業内容" + i)
+                        .status(TestConfig.TestConstants.STATUS_DRAFT)
+                        .reportDate(newest.minusDays(i)).build(), testUser));
+            }
+            return reports;
+        }
+
+        @Test
+        @DisplayName("正常: 先頭ページは境界値なしで limit + 1 件を要求し、次ページカーソルを返却")
+        void getMyDailyReportsPage_FirstPage_ShouldReturnCursor() {
+            // Given
+            LocalDate newest = LocalDate.of(2024, 3, 1);
+            when(dailyReportRepository.findPageByUserIdBefore(eq(testUser.getId()),
+                    eq(KeysetCursor.FIRST.getReportDate()), eq(Long.MAX_VALUE),
+                    eq(PageRequest.of(0, 3)))).thenReturn(reportsFrom(newest, 3));
+
+            // When
+            CursorPageResponse<DailyReportListResponse> page =
+                    dailyReportService.getMyDailyReportsPage(testUser.getId(), null, null, 2);
+
+            // Then
+            assertEquals(2, page.getItems().size());
+            assertTrue(page.isHasMore());
+            KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+            assertEquals(newest.minusDays(1), next.getReportDate());
+            assertEquals(99L, next.getKey());
+            verifyNoInteractions(userDirectoryService);
+        }
+
+        @Test
+        @DisplayName("正常: 最終ページでは次ページカーソルなし")
+        void getMyDailyReportsPage_LastPage_ShouldHaveNoCursor() {
+            // Given
+            KeysetCursor after = new KeysetCursor(LocalDate.of(2024, 3, 1), 100L);
+            when(dailyReportRepository.findPageByUserIdAndStatusBefore(eq(testUser.getId()),
+                    eq(TestConfig.TestConstants.STATUS_DRAFT), eq(after.getReportDate()),
+                    eq(100L), any(Pageable.class)))
+                    .thenReturn(reportsFrom(LocalDate.of(2024, 2, 29), 1));
+
+            // When
+            CursorPageResponse<DailyReportListResponse> page =
+                    dailyReportService.getMyDailyReportsPage(testUser.getId(),
+                            TestConfig.TestConstants.STATUS_DRAFT, after.encode(), 20);
+
+            // Then
+            assertEquals(1, page.getItems().size());
+            assertFalse(page.isHasMore());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("境界値: 件数は既定20件、上限100件に補正される")
+        void getMyDailyReportsPage_Limit_ShouldBeNormalized() {
+            // Given
+            when(dailyReportRepository.findPageByUserIdBefore(anyLong(), any(LocalDate.class),
+                    anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+            // When
+            dailyReportService.getMyDailyReportsPage(testUser.getId(), null, null, null);
+            dailyReportService.getMyDailyReportsPage(testUser.getId(), null, null, 1000);
+
+            // Then
+            verify(dailyReportRepository).findPageByUserIdBefore(anyLong(), any(LocalDate.class),
+                    anyLong(), eq(PageRequest.of(0, DailyReportService.DEFAULT_PAGE_SIZE + 1)));
+            verify(dailyReportRepository).findPageByUserIdBefore(anyLong(), any(LocalDate.class),
+                    anyLong(), eq(PageRequest.of(0, DailyReportService.MAX_PAGE_SIZE + 1)));
+            verifyNoInteractions(userDirectoryService);
+        }
+
+        @Test
+        @DisplayName("異常: 不正なカーソルは例外")
+        void getMyDailyReportsPage_InvalidCursor_ShouldThrowException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dailyReportService.getMyDailyReportsPage(testUser.getId(), null,
+                            "not-a-cursor", 20));
+            verifyNoInteractions(dailyReportRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("部下の日報一覧ページ取得機能（キーセット・マージ）")
+    class GetSubordinateReportsPageTests {
+
+        private DailyReportListResponse reportOf(User user, LocalDate date) {
+            return listItemOf(DailyReport.builder().id(user.getId() * 1000 + date.getDayOfMonth())
+                    .userId(user.getId()).title("日報").workContent("作業内容")
+                    .status(TestConfig.TestConstants.STATUS_SUBMITTED).reportDate(date).build(),
+                    user);
+        }
+
+        @Test
+        @DisplayName("正常: 部下ごとの上位N件を（対象日の降順, 作成者IDの昇順）でマージ")
+        void getSubordinateReportsPage_TwoSubordinates_ShouldMergeByDateThenUser() {
+            // Given: 部下2名（ID 1, 3）の日報
+            LocalDate d1 = LocalDate.of(2024, 3, 3);
+            LocalDate d2 = LocalDate.of(2024, 3, 2);
+            LocalDate d3 = LocalDate.of(2024, 3, 1);
+            when(userRepository.findBySupervisorId(supervisorUser.getId()))
+                    .thenReturn(List.of(otherUser, testUser));
+            when(dailyReportRepository.findListByUserIdAndReportDateBefore(
+                    testUser.getId(), KeysetCursor.FIRST.getReportDate(), PageRequest.of(0, 4)))
+                    .thenReturn(List.of(reportOf(testUser, d1), reportOf(testUser, d3)));
+            when(dailyReportRepository.findListByUserIdAndReportDateBefore(
+                    otherUser.getId(), KeysetCursor.FIRST.getReportDate(), PageRequest.of(0, 4)))
+                    .thenReturn(List.of(reportOf(otherUser, d1), reportOf(otherUser, d2),
+                            reportOf(otherUser, d3)));
+
+            // When
+            CursorPageResponse<DailyReportListResponse> page = dailyReportService
+                    .getSubordinateReportsPage(supervisorUser.getId(), null, null, 3);
+
+            // Then: 同日内は作成者IDの昇順、limit件で打ち切り
+            assertEquals(3, page.getItems().size());
+            assertEquals(testUser.getId(), page.getItems().get(0).getUserId());
+            assertEquals(otherUser.getId(), page.getItems().get(1).getUserId());
+            assertEquals(d2, page.getItems().get(2).getReportDate());
+            assertEquals("山田次郎", page.getItems().get(2).getDisplayName());
+            assertTrue(page.isHasMore());
+            KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+            assertEquals(d2, next.getReportDate());
+            assertEquals(otherUser.getId(), next.getKey());
+        }
+
+        @Test
+        @DisplayName("正常: カーソルより作成者IDが大きい部下は境界日を含めて取得")
+        void getSubordinateReportsPage_WithCursor_ShouldSeekPerSubordinate() {
+            // Given: カーソル（2024-03-02, 作成者ID 1）
+            KeysetCursor after = new KeysetCursor(LocalDate.of(2024, 3, 2), testUser.getId());
+            when(userRepository.findBySupervisorId(supervisorUser.getId()))
+                    .thenReturn(List.of(testUser, otherUser));
+            when(dailyReportRepository.findListByUserIdAndStatusAndReportDateBefore(
+                    eq(testUser.getId()), eq(TestConfig.TestConstants.STATUS_SUBMITTED),
+                    eq(LocalDate.of(2024, 3, 2)), any(Pageable.class))).thenReturn(List.of());
+            when(dailyReportRepository.findListByUserIdAndStatusAndReportDateBefore(
+                    eq(otherUser.getId()), eq(TestConfig.TestConstants.STATUS_SUBMITTED),
+                    eq(LocalDate.of(2024, 3, 3)), any(Pageable.class)))
+                    .thenReturn(List.of(reportOf(otherUser, LocalDate.of(2024, 3, 2))));
+
+            // When
+            CursorPageResponse<DailyReportListResponse> page =
+                    dailyReportService.getSubordinateReportsPage(supervisorUser.getId(),
+                            TestConfig.TestConstants.STATUS_SUBMITTED, after.encode(), 20);
+
+            // Then
+            assertEquals(1, page.getItems().size());
+            assertEquals(otherUser.getId(), page.getItems().get(0).getUserId());
+            assertFalse(page.isHasMore());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("正常: 部下がいない場合は空ページ")
+        void getSubordinateReportsPage_NoSubordinates_ShouldReturnEmptyPage() {
+            // Given
+            when(userRepository.findBySupervisorId(supervisorUser.getId())).thenReturn(List.of());
+
+            // When
+            CursorPageResponse<DailyReportListResponse> page = dailyReportService
+                    .getSubordinateReportsPage(supervisorUser.getId(), null, null, null);
+
+            // Then
+            assertTrue(page.getItems().isEmpty());
+            assertFalse(page.isHasMore());
+            verifyNoInteractions(dailyReportRepository);
+        }
+    }
+
+    /**
+     * 一覧表示用の射影（リポジトリが返すDTO）を生成
+     *
+     * @param report 日報
+     * @param user 作成者
+     * @return 一覧表示用DTO
+     */
+    private DailyReportListResponse listItemOf(DailyReport report, User user) {
+        return new DailyReportListResponse(report.getId(), report.getUserId(),
+                user.getUsername(), user.getDisplayName(), report.getTitle(),
+                report.getWorkContent(), report.getStatus(), report.getReportDate(),
+                report.getSubmittedAt(), report.getCreatedAt());
     }
 
     @Nested
@@ -409,10 +842,8 @@ class DailyReportServiceTest {
         @DisplayName("正常: ステータス指定なしで全日報取得")
         void getMyDailyReports_NoStatusFilter_ShouldReturnAllReports() {
             // Given
-            List<DailyReport> reports = Arrays.asList(testDailyReport);
-            when(dailyReportRepository.findByUserIdOrderByReportDateDesc(testUser.getId()))
-                    .thenReturn(reports);
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.findListByUserId(testUser.getId()))
+                    .thenReturn(List.of(listItemOf(testDailyReport, testUser)));
 
             // When
             List<DailyReportListResponse> result =
@@ -429,11 +860,9 @@ class DailyReportServiceTest {
         @DisplayName("正常: ステータス指定で絞り込み取得")
         void getMyDailyReports_WithStatusFilter_ShouldReturnFilteredReports() {
             // Given
-            List<DailyReport> draftReports = Arrays.asList(testDailyReport);
-            when(dailyReportRepository.findByUserIdAndStatusOrderByReportDateDesc(
+            when(dailyReportRepository.findListByUserIdAndStatus(
                             testUser.getId(), TestConfig.TestConstants.STATUS_DRAFT))
-                    .thenReturn(draftReports);
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+                    .thenReturn(List.of(listItemOf(testDailyReport, testUser)));
 
             // When
             List<DailyReportListResponse> result =
@@ -450,10 +879,8 @@ class DailyReportServiceTest {
         @DisplayName("正常: 空のステータス指定で全日報取得")
         void getMyDailyReports_EmptyStatusFilter_ShouldReturnAllReports() {
             // Given
-            List<DailyReport> reports = Arrays.asList(testDailyReport);
-            when(dailyReportRepository.findByUserIdOrderByReportDateDesc(testUser.getId()))
-                    .thenReturn(reports);
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.findListByUserId(testUser.getId()))
+                    .thenReturn(List.of(listItemOf(testDailyReport, testUser)));
 
             // When
             List<DailyReportListResponse> result =
@@ -465,27 +892,55 @@ class DailyReportServiceTest {
         }
 
         @Test
-        @DisplayName("正常: 作業内容プレビューの100文字制限")
-        void getMyDailyReports_LongContent_ShouldTruncatePreview() {
+        @DisplayName("正常: エンティティ・ユーザー情報を個別に読み込まない")
+        void getMyDailyReports_ShouldNotLoadEntities() {
             // Given
-            String longContent = TestConfig.TestUtils.generateLongString(150);
-            testDailyReport.setWorkContent(longContent);
-
-            List<DailyReport> reports = Arrays.asList(testDailyReport);
-            when(dailyReportRepository.findByUserIdOrderByReportDateDesc(testUser.getId()))
-                    .thenReturn(reports);
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.findListByUserId(testUser.getId())).thenReturn(List.of());
 
             // When
-            List<DailyReportListResponse> result =
-                    dailyReportService.getMyDailyReports(testUser.getId(), null);
+            dailyReportService.getMyDailyReports(testUser.getId(), null);
 
             // Then
-            assertNotNull(result);
-            assertEquals(1, result.size());
-            String preview = result.get(0).getWorkContent();
-            assertTrue(preview.length() <= 103, "プレビューが100文字+...で制限される"); // 100文字 + "..."
-            assertTrue(preview.endsWith("..."), "長いコンテンツは...で省略される");
+            verify(dailyReportRepository, never()).findByUserIdOrderByReportDateDesc(any());
+            verifyNoInteractions(userDirectoryService, userRepository);
+        }
+
+        @Test
+        @DisplayName("正常: 自分の変更のコミット後のリクエストは、コミット前に開始した読み込みに合流しない")
+        void getMyDailyReports_ChangeCommittedDuringFlight_ShouldNotJoinEarlierFlight()
+                throws Exception {
+            // Given: 1回目の読み込みはコミット前の状態を読んだまま待機する
+            DailyReportListResponse before = listItemOf(testDailyReport, testUser);
+            DailyReportListResponse created = listItemOf(DailyReport.builder().id(2L)
+                    .userId(testUser.getId()).title("新しい日報").status("draft")
+                    .reportDate(LocalDate.now()).build(), testUser);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger queries = new AtomicInteger();
+            when(dailyReportRepository.findListByUserId(testUser.getId())).thenAnswer(invocation -> {
+                if (queries.incrementAndGet() == 1) {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of(before);
+                }
+                return List.of(created, before);
+            });
+            CompletableFuture<List<DailyReportListResponse>> inFlight = CompletableFuture
+                    .supplyAsync(() -> dailyReportService.getMyDailyReports(testUser.getId(), null));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When: 読み込み中に自分の日報作成がコミットされ、その後に一覧を取得
+            dailyReportService.onDailyReportChanged(new DailyReportChangedEvent(2L,
+                    testUser.getId(), DailyReportChangedEvent.ChangeType.CREATED));
+            List<DailyReportListResponse> afterCommit =
+                    dailyReportService.getMyDailyReports(testUser.getId(), null);
+            release.countDown();
+
+            // Then: コミット後のリクエストは新しいクエリで作成した日報を含む
+            assertEquals(2, afterCommit.size());
+            assertEquals(created.getId(), afterCommit.get(0).getId());
+            assertEquals(1, inFlight.get(5, TimeUnit.SECONDS).size());
+            assertEquals(2, queries.get());
         }
     }
 
@@ -493,18 +948,21 @@ class DailyReportServiceTest {
     @DisplayName("部下日報一覧取得機能")
     class GetSubordinateReportsTests {
 
+        @BeforeEach
+        void setUp() {
+            // キャッシュミス時と同じく読み込み処理をそのまま実行
+            when(subordinateReportCache.get(any(), any(), any()))
+                    .thenAnswer(invocation ->
+                            invocation.<Supplier<List<DailyReportListResponse>>>getArgument(2)
+                                    .get());
+        }
+
         @Test
         @DisplayName("正常: 上司による部下日報一覧取得成功")
         void getSubordinateReports_ValidSupervisor_ShouldReturnSubordinateReports() {
             // Given
-            List<User> subordinates = Arrays.asList(testUser);
-            List<DailyReport> reports = Arrays.asList(testDailyReport);
-
-            when(userRepository.findBySupervisorId(supervisorUser.getId()))
-                    .thenReturn(subordinates);
-            when(dailyReportRepository.findByUserIdInOrderByReportDateDescUserIdAsc(
-                            Arrays.asList(testUser.getId())))
-                    .thenReturn(reports);
+            when(dailyReportRepository.findListBySupervisorId(supervisorUser.getId()))
+                    .thenReturn(List.of(listItemOf(testDailyReport, testUser)));
 
             // When
             List<DailyReportListResponse> result =
@@ -515,20 +973,16 @@ class DailyReportServiceTest {
             assertEquals(1, result.size());
             assertEquals(testDailyReport.getId(), result.get(0).getId());
             assertEquals(testUser.getUsername(), result.get(0).getUsername());
+            verifyNoInteractions(userRepository);
         }
 
         @Test
         @DisplayName("正常: ステータス指定で部下日報絞り込み")
         void getSubordinateReports_WithStatusFilter_ShouldReturnFilteredReports() {
             // Given
-            List<User> subordinates = Arrays.asList(testUser);
-            List<DailyReport> draftReports = Arrays.asList(testDailyReport);
-
-            when(userRepository.findBySupervisorId(supervisorUser.getId()))
-                    .thenReturn(subordinates);
-            when(dailyReportRepository.findByUserIdInAndStatusOrderByReportDateDescUserIdAsc(
-                            Arrays.asList(testUser.getId()), TestConfig.TestConstants.STATUS_DRAFT))
-                    .thenReturn(draftReports);
+            when(dailyReportRepository.findListBySupervisorIdAndStatus(
+                            supervisorUser.getId(), TestConfig.TestConstants.STATUS_DRAFT))
+                    .thenReturn(List.of(listItemOf(testDailyReport, testUser)));
 
             // When
             List<DailyReportListResponse> result =
@@ -545,7 +999,7 @@ class DailyReportServiceTest {
         @DisplayName("正常: 部下がいない場合は空リストを返却")
         void getSubordinateReports_NoSubordinates_ShouldReturnEmptyList() {
             // Given
-            when(userRepository.findBySupervisorId(supervisorUser.getId()))
+            when(dailyReportRepository.findListBySupervisorId(supervisorUser.getId()))
                     .thenReturn(Collections.emptyList());
 
             // When
@@ -567,9 +1021,8 @@ class DailyReportServiceTest {
         @DisplayName("正常: 本人による日報削除成功")
         void deleteDailyReport_OwnerDelete_ShouldDeleteSuccessfully() {
             // Given
-            when(dailyReportRepository.findById(testDailyReport.getId()))
-                    .thenReturn(Optional.of(testDailyReport));
-            doNothing().when(dailyReportRepository).delete(testDailyReport);
+            when(dailyReportRepository.deleteOwned(testDailyReport.getId(), testUser.getId()))
+                    .thenReturn(1);
 
             // When
             assertDoesNotThrow(
@@ -578,17 +1031,21 @@ class DailyReportServiceTest {
                                     testDailyReport.getId(), testUser.getId()),
                     "本人による日報削除が例外なく実行される");
 
-            // Then
-            verify(dailyReportRepository).findById(testDailyReport.getId());
-            verify(dailyReportRepository).delete(testDailyReport);
+            // Then: 削除は1回のSQLで完結する
+            verify(dailyReportRepository).deleteOwned(testDailyReport.getId(), testUser.getId());
+            verifyNoMoreInteractions(dailyReportRepository);
+            verify(eventPublisher).publishEvent(new DailyReportChangedEvent(
+                    testDailyReport.getId(), testUser.getId(),
+                    DailyReportChangedEvent.ChangeType.DELETED));
         }
 
         @Test
         @DisplayName("異常: 権限のないユーザーによる削除で例外発生")
         void deleteDailyReport_UnauthorizedUser_ShouldThrowException() {
             // Given
-            when(dailyReportRepository.findById(testDailyReport.getId()))
-                    .thenReturn(Optional.of(testDailyReport));
+            when(dailyReportRepository.deleteOwned(testDailyReport.getId(), otherUser.getId()))
+                    .thenReturn(0);
+            when(dailyReportRepository.existsById(testDailyReport.getId())).thenReturn(true);
 
             // When & Then
             IllegalArgumentException exception =
@@ -601,13 +1058,15 @@ class DailyReportServiceTest {
 
             assertEquals("権限がありません", exception.getMessage());
             verify(dailyReportRepository, never()).delete(any());
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
         @DisplayName("異常: 存在しない日報の削除で例外発生")
         void deleteDailyReport_ReportNotFound_ShouldThrowException() {
             // Given
-            when(dailyReportRepository.findById(999L)).thenReturn(Optional.empty());
+            when(dailyReportRepository.deleteOwned(999L, testUser.getId())).thenReturn(0);
+            when(dailyReportRepository.existsById(999L)).thenReturn(false);
 
             // When & Then
             IllegalArgumentException exception =
@@ -662,9 +1121,9 @@ class DailyReportServiceTest {
         @DisplayName("統合: 日報作成から削除までの完全フロー")
         void completeReportLifecycle_ShouldWorkCorrectly() {
             // Given: 作成フェーズ
-            when(dailyReportRepository.existsByUserIdAndReportDate(any(), any())).thenReturn(false);
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-            when(dailyReportRepository.save(any(DailyReport.class))).thenReturn(testDailyReport);
+            when(userDirectoryService.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            when(dailyReportRepository.insertIfAbsent(any(), any(), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(testDailyReport));
 
             // When: 作成
             DailyReportResponse created =
@@ -682,8 +1141,15 @@ class DailyReportServiceTest {
                             .reportDate(validRequest.getReportDate())
                             .status(TestConfig.TestConstants.STATUS_SUBMITTED)
                             .build();
-            when(dailyReportRepository.findById(testDailyReport.getId()))
-                    .thenReturn(Optional.of(testDailyReport));
+            when(dailyReportRepository.updateOwned(eq(testDailyReport.getId()),
+                    eq(testUser.getId()), eq("更新されたタイトル"), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(DailyReport.builder().id(testDailyReport.getId())
+                            .userId(testUser.getId()).title("更新されたタイトル")
+                            .workContent(validRequest.getWorkContent())
+                            .status(TestConfig.TestConstants.STATUS_SUBMITTED)
+                            .reportDate(validRequest.getReportDate()).build()));
+            when(dailyReportRepository.deleteOwned(testDailyReport.getId(), testUser.getId()))
+                    .thenReturn(1);
 
             // When: 更新
             DailyReportResponse updated =
@@ -701,17 +1167,16 @@ class DailyReportServiceTest {
                                     testDailyReport.getId(), testUser.getId()));
 
             // Then: 各操作が適切に実行された確認
-            verify(dailyReportRepository, times(2)).save(any(DailyReport.class));
-            verify(dailyReportRepository).delete(testDailyReport);
+            verify(dailyReportRepository).insertIfAbsent(any(), any(), any(), any(), any(), any());
+            verify(dailyReportRepository).deleteOwned(testDailyReport.getId(), testUser.getId());
         }
 
         @Test
         @DisplayName("境界値: ユーザー情報がnullの場合の安全な処理")
         void convertToResponse_NullUser_ShouldHandleGracefully() {
             // Given
-            when(dailyReportRepository.findById(testDailyReport.getId()))
+            when(dailyReportRepository.findAccessibleById(testDailyReport.getId(), testUser.getId()))
                     .thenReturn(Optional.of(testDailyReport));
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.empty());
 
             // When
             Optional<DailyReportResponse> result =
@@ -727,9 +1192,14 @@ class DailyReportServiceTest {
         @DisplayName("セキュリティ: 権限チェック機能の包括的テスト")
         void accessControl_ComprehensiveTest_ShouldWorkCorrectly() {
             // Given
-            when(dailyReportRepository.findById(testDailyReport.getId()))
-                    .thenReturn(Optional.of(testDailyReport));
-            when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+            testDailyReport.setUser(testUser);
+            when(dailyReportRepository.findAccessibleById(eq(testDailyReport.getId()), anyLong()))
+                    .thenAnswer(invocation -> {
+                        Long viewerId = invocation.getArgument(1);
+                        boolean accessible = viewerId.equals(testUser.getId())
+                                || viewerId.equals(testUser.getSupervisorId());
+                        return accessible ? Optional.of(testDailyReport) : Optional.empty();
+                    });
 
             // When & Then: 本人アクセス
             Optional<DailyReportResponse> ownerResult =
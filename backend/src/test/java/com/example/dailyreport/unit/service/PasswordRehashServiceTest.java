@@ -0,0 +1,150 @@
+package com.example.dailyreport.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.security.PasswordVerificationBulkhead;
+import com.example.dailyreport.service.PasswordRehashService;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PasswordRehashServiceクラスのユニットテスト
+ *
+ * <p>テスト対象: - ポリシー未満のハッシュの再ハッシュと保存 - 同時変更時（更新0件）の扱い - 失敗時にログインを妨げないこと
+ *
+ * <p>テスト方針: - UserRepository・UserDirectoryService・PasswordEncoderをモック化 - 実行枠は無効化（呼び出し元スレッドで実行）
+ */
+@DisplayName("PasswordRehashService - ログイン時のパスワード再ハッシュ")
+class PasswordRehashServiceTest {
+
+    private static final String LEGACY_HASH = "$2a$10$legacy.hash";
+    private static final String NEW_HASH = "{bcrypt}$2a$12$new.hash";
+
+    private UserRepository userRepository;
+    private UserDirectoryService userDirectoryService;
+    private PasswordEncoder passwordEncoder;
+    private SimpleMeterRegistry meterRegistry;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userDirectoryService = mock(UserDirectoryService.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        user = User.builder().id(4L).username("employee1").password(LEGACY_HASH).build();
+    }
+
+    private PasswordRehashService createService(boolean enabled) {
+        PasswordVerificationBulkhead bulkhead = new PasswordVerificationBulkhead(
+                meterRegistry, false, 1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        return new PasswordRehashService(
+                userRepository, userDirectoryService, passwordEncoder, bulkhead, meterRegistry, enabled);
+    }
+
+    private double rehashCount(String result) {
+        return meterRegistry.get("login.password.rehash").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("再ハッシュ")
+    class UpgradeTests {
+
+        @Test
+        @DisplayName("正常: ポリシー未満のハッシュは再ハッシュして保存し、キャッシュを破棄")
+        void upgradeIfNeeded_BelowPolicy_ShouldStoreNewHash() {
+            // Given
+            when(passwordEncoder.upgradeEncoding(LEGACY_HASH)).thenReturn(true);
+            when(passwordEncoder.encode("password")).thenReturn(NEW_HASH);
+            when(userRepository.updatePasswordHash(4L, LEGACY_HASH, NEW_HASH)).thenReturn(1);
+
+            // When
+            boolean upgraded = createService(true).upgradeIfNeeded(user, "password");
+
+            // Then
+            assertTrue(upgraded);
+            verify(userRepository).updatePasswordHash(4L, LEGACY_HASH, NEW_HASH);
+            verify(userDirectoryService).evict(user);
+            assertEquals(1.0, rehashCount("upgraded"));
+        }
+
+        @Test
+        @DisplayName("正常: ポリシーを満たすハッシュは再ハッシュしない")
+        void upgradeIfNeeded_MeetsPolicy_ShouldDoNothing() {
+            // Given
+            when(passwordEncoder.upgradeEncoding(LEGACY_HASH)).thenReturn(false);
+
+            // When
+            boolean upgraded = createService(true).upgradeIfNeeded(user, "password");
+
+            // Then
+            assertFalse(upgraded);
+            verify(passwordEncoder, never()).encode(any());
+            verifyNoInteractions(userRepository, userDirectoryService);
+        }
+
+        @Test
+        @DisplayName("正常: 無効時は判定も行わない")
+        void upgradeIfNeeded_Disabled_ShouldDoNothing() {
+            // When
+            boolean upgraded = createService(false).upgradeIfNeeded(user, "password");
+
+            // Then
+            assertFalse(upgraded);
+            verifyNoInteractions(passwordEncoder, userRepository, userDirectoryService);
+        }
+    }
+
+    @Nested
+    @DisplayName("競合・失敗")
+    class ConflictTests {
+
+        @Test
+        @DisplayName("異常: 読み込み後にハッシュが変更されていた場合は上書きしない")
+        void upgradeIfNeeded_ConcurrentChange_ShouldNotEvict() {
+            // Given
+            when(passwordEncoder.upgradeEncoding(LEGACY_HASH)).thenReturn(true);
+            when(passwordEncoder.encode("password")).thenReturn(NEW_HASH);
+            when(userRepository.updatePasswordHash(4L, LEGACY_HASH, NEW_HASH)).thenReturn(0);
+
+            // When
+            boolean upgraded = createService(true).upgradeIfNeeded(user, "password");
+
+            // Then
+            assertFalse(upgraded);
+            verify(userDirectoryService, never()).evict(any());
+            assertEquals(1.0, rehashCount("conflict"));
+        }
+
+        @Test
+        @DisplayName("異常: 保存に失敗しても例外を投げない")
+        void upgradeIfNeeded_UpdateFails_ShouldNotThrow() {
+            // Given
+            when(passwordEncoder.upgradeEncoding(LEGACY_HASH)).thenReturn(true);
+            when(passwordEncoder.encode("password")).thenReturn(NEW_HASH);
+            when(userRepository.updatePasswordHash(anyLong(), anyString(), anyString()))
+                    .thenThrow(new RuntimeException("DB error"));
+
+            // When
+            boolean upgraded = assertDoesNotThrow(
+                    () -> createService(true).upgradeIfNeeded(user, "password"));
+
+            // Then
+            assertFalse(upgraded);
+            assertEquals(1.0, rehashCount("failed"));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.dailyreport.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.dailyreport.entity.RefreshToken;
+import com.example.dailyreport.exception.InvalidRefreshTokenException;
+import com.example.dailyreport.repository.RefreshTokenRepository;
+import com.example.dailyreport.service.RefreshTokenService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RefreshTokenServiceクラスのユニットテスト
+ *
+ * <p>テスト対象: - 発行（ハッシュのみ保存・新しいファミリー） - ローテーション（同じファミリーで新しいトークンを発行） - 猶予期間内の再提示（複数タブからの同時リフレッシュ） -
+ * 再利用検知時のファミリー失効 - 期限切れ・失効済み・不明なトークンの拒否
+ *
+ * <p>テスト方針: - RefreshTokenRepositoryをモック化し、保存内容と失効の呼び出しを確認
+ */
+@DisplayName("RefreshTokenService - リフレッシュトークン管理")
+class RefreshTokenServiceTest {
+
+    private static final String FAMILY_ID = "family-1";
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new RefreshTokenService(
+                refreshTokenRepository, meterRegistry, Duration.ofDays(14), Duration.ofDays(30),
+                Duration.ofSeconds(30));
+    }
+
+    private RefreshToken savedToken() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    /** 発行済みトークンを保存状態として検索できるようにする */
+    private RefreshToken stored(LocalDateTime expiresAt) {
+        RefreshToken token = RefreshToken.builder()
+                .id(10L)
+                .familyId(FAMILY_ID)
+                .userId(4L)
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .expiresAt(expiresAt)
+                .sessionExpiresAt(LocalDateTime.now().plusDays(20))
+                .build();
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(token));
+        return token;
+    }
+
+    private double refreshCount(String result) {
+        return meterRegistry.get("auth.refresh").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("発行")
+    class IssueTests {
+
+        @Test
+        @DisplayName("正常: トークン本体ではなくSHA-256ハッシュを保存する")
+        void issue_ShouldStoreHashOnly() {
+            // When
+            String rawToken = service.issue(4L);
+
+            // Then
+            RefreshToken saved = savedToken();
+            assertNotNull(rawToken);
+            assertNotEquals(rawToken, saved.getTokenHash());
+            assertTrue(saved.getTokenHash().matches("[0-9a-f]{64}"));
+            assertEquals(4L, saved.getUserId());
+            assertNotNull(saved.getFamilyId());
+            assertFalse(saved.getExpiresAt().isAfter(saved.getSessionExpiresAt()));
+            verify(refreshTokenRepository).deleteExpiredByUserId(eq(4L), any());
+        }
+
+        @Test
+        @DisplayName("正常: ログインごとに異なるトークン・ファミリーを発行する")
+        void issue_Twice_ShouldCreateDistinctFamilies() {
+            // When
+            String first = service.issue(4L);
+            String second = service.issue(4L);
+
+            // Then
+            ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository, times(2)).save(captor.capture());
+            assertNotEquals(first, second);
+            assertNotEquals(captor.getAllValues().get(0).getFamilyId(),
+                    captor.getAllValues().get(1).getFamilyId());
+        }
+    }
+
+    @Nested
+    @DisplayName("ローテーション")
+    class RotateTests {
+
+        @Test
+        @DisplayName("正常: 使用済みにして同じファミリーで新しいトークンを発行")
+        void rotate_ValidToken_ShouldIssueNextInSameFamily() {
+            // Given
+            RefreshToken current = stored(LocalDateTime.now().plusDays(1));
+            when(refreshTokenRepository.markUsed(eq(10L), any(), any())).thenReturn(1);
+
+            // When
+            RefreshTokenService.Rotation rotation = service.rotate("raw");
+
+            // Then
+            RefreshToken next = savedToken();
+            assertEquals(4L, rotation.getUserId());
+            assertNotEquals("raw", rotation.getRefreshToken());
+            assertEquals(FAMILY_ID, next.getFamilyId());
+            assertEquals(current.getSessionExpiresAt(), next.getSessionExpiresAt());
+            assertEquals(1.0, refreshCount("rotated"));
+            verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("正常: 新しいトークンの有効期限はファミリーの有効期限を超えない")
+        void rotate_NearSessionEnd_ShouldCapExpiry() {
+            // Given
+            RefreshToken current = stored(LocalDateTime.now().plusDays(1));
+            current.setSessionExpiresAt(LocalDateTime.now().plusDays(2));
+            when(refreshTokenRepository.markUsed(eq(10L), any(), any())).thenReturn(1);
+
+            // When
+            service.rotate("raw");
+
+            // Then
+            RefreshToken next = savedToken();
+            assertEquals(current.getSessionExpiresAt(), next.getExpiresAt());
+        }
+
+        @Test
+        @DisplayName("正常: 猶予期間内の再提示はファミリーを失効させず、同じファミリーで別のトークンを発行")
+        void rotate_UsedWithinGrace_ShouldIssueSiblingInSameFamily() {
+            // Given: 別のタブが5秒前に交換済み
+            RefreshToken current = stored(LocalDateTime.now().plusDays(1));
+            current.setUsedAt(LocalDateTime.now().minusSeconds(5));
+            when(refreshTokenRepository.markUsed(eq(10L), any(), any())).thenReturn(1);
+
+            // When
+            RefreshTokenService.Rotation rotation = service.rotate("raw");
+
+            // Then: 猶予期間の開始（30秒前）を条件に使用済みにする
+            ArgumentCaptor<LocalDateTime> graceFrom = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(refreshTokenRepository).markUsed(eq(10L), any(), graceFrom.capture());
+            assertTrue(graceFrom.getValue().isBefore(current.getUsedAt()));
+            assertEquals(FAMILY_ID, savedToken().getFamilyId());
+            assertEquals(4L, rotation.getUserId());
+            assertEquals(1.0, refreshCount("reissued"));
+            assertEquals(0.0, refreshCount("reuse_detected"));
+            verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("拒否・再利用検知")
+    class RejectTests {
+
+        @Test
+        @DisplayName("異常: 猶予期間を過ぎた使用済みトークンの再提示はファミリー全体を失効")
+        void rotate_UsedToken_ShouldRevokeFamily() {
+            // Given
+            RefreshToken current = stored(LocalDateTime.now().plusDays(1));
+            current.setUsedAt(LocalDateTime.now().minusMinutes(5));
+
+            // When & Then
+            assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("raw"));
+            verify(refreshTokenRepository).revokeFamily(eq(FAMILY_ID), any());
+            verify(refreshTokenRepository, never()).save(any());
+            assertEquals(1.0, refreshCount("reuse_detected"));
+        }
+
+        @Test
+        @DisplayName("異常: 使用済みにできなかった場合（読み込み後の失効・猶予期間外）も再利用として失効")
+        void rotate_ConcurrentUse_ShouldRevokeFamily() {
+            // Given
+            stored(LocalDateTime.now().plusDays(1));
+            when(refreshTokenRepository.markUsed(eq(10L), any(), any())).thenReturn(0);
+
+            // When & Then
+            assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("raw"));
+            verify(refreshTokenRepository).revokeFamily(eq(FAMILY_ID), any());
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("異常: 期限切れトークンは拒否（ファミリーは失効しない）")
+        void rotate_ExpiredToken_ShouldReject() {
+            // Given
+            stored(LocalDateTime.now().minusMinutes(1));
+
+            // When & Then
+            assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("raw"));
+            verify(refreshTokenRepository, never()).markUsed(anyLong(), any(), any());
+            verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+            assertEquals(1.0, refreshCount("expired"));
+        }
+
+        @Test
+        @DisplayName("異常: 失効済みトークンは拒否")
+        void rotate_RevokedToken_ShouldReject() {
+            // Given
+            RefreshToken current = stored(LocalDateTime.now().plusDays(1));
+            current.setRevokedAt(LocalDateTime.now().minusMinutes(1));
+
+            // When & Then
+            assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("raw"));
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("異常: 不明なトークン・未指定は拒否")
+        void rotate_UnknownToken_ShouldReject() {
+            // Given
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("unknown"));
+            assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(" "));
+            assertEquals(2.0, refreshCount("invalid"));
+        }
+    }
+
+    @Nested
+    @DisplayName("ログアウト")
+    class RevokeTests {
+
+        @Test
+        @DisplayName("正常: 提示されたトークンのファミリー全体を失効")
+        void revokeFamily_KnownToken_ShouldRevokeFamily() {
+            // Given
+            stored(LocalDateTime.now().plusDays(1));
+
+            // When
+            service.revokeFamily("raw");
+
+            // Then
+            verify(refreshTokenRepository).revokeFamily(eq(FAMILY_ID), any());
+        }
+
+        @Test
+        @DisplayName("正常: 未指定の場合は何もしない")
+        void revokeFamily_Blank_ShouldDoNothing() {
+            // When
+            service.revokeFamily(null);
+
+            // Then
+            verifyNoInteractions(refreshTokenRepository);
+        }
+    }
+}
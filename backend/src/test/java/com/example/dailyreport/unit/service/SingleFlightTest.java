@@ -0,0 +1,187 @@
+package com.example.dailyreport.unit.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.dailyreport.service.SingleFlight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SingleFlight 単体テスト
+ *
+ * <p>テスト対象: - 同一キーの同時呼び出しで処理を1回だけ実行し結果を共有すること - 例外の共有 - 別キー・逐次呼び出しは合流しないこと - 合流件数・待機数のメトリクス
+ *
+ * <p>テスト方針: - 先行の処理をラッチで止め、その間に後続の呼び出しを実行中の処理に合流させる
+ */
+@DisplayName("SingleFlight 単体テスト")
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+        executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double calls(String role) {
+        return meterRegistry.get("singleflight.calls").tag("name", "test").tag("role", role)
+                .counter().count();
+    }
+
+    /** 実行中の処理に後続の呼び出しが合流するまで待機 */
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("follower") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("合流")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("同一キーの同時呼び出しは1回だけ実行し、全員が同じ結果を受け取る")
+        void execute_ConcurrentSameKey_ShouldRunOnce() throws Exception {
+            // Given: 先行の処理を止めておく
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicInteger executions = new AtomicInteger();
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "result";
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // When: 実行中に同じキーで呼び出す
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < FOLLOWERS; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                    executions.incrementAndGet();
+                    return "other";
+                })));
+            }
+            awaitFollowers(FOLLOWERS);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+            assertThat(executions).hasValue(1);
+            assertThat(calls("leader")).isEqualTo(1);
+            assertThat(calls("follower")).isEqualTo(FOLLOWERS);
+            assertThat(meterRegistry.get("singleflight.waiters").tag("name", "test").summary()
+                    .max()).isEqualTo(FOLLOWERS);
+            assertThat(meterRegistry.get("singleflight.in.flight").tag("name", "test").gauge()
+                    .value()).isZero();
+        }
+
+        @Test
+        @DisplayName("先行の処理が失敗した場合、合流した呼び出しにも同じ例外を返す")
+        void execute_LeaderFails_ShouldShareException() throws Exception {
+            // Given
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("DB障害");
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // When
+            Future<String> follower =
+                    executor.submit(() -> singleFlight.execute("key", () -> "other"));
+            awaitFollowers(1);
+            release.countDown();
+
+            // Then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("DB障害");
+        }
+    }
+
+    @Nested
+    @DisplayName("合流しないケース")
+    class NoCoalescingTests {
+
+        @Test
+        @DisplayName("完了後の呼び出しは結果を保持せず再実行する")
+        void execute_Sequential_ShouldRunEachTime() {
+            // Given
+            AtomicInteger executions = new AtomicInteger();
+
+            // When
+            singleFlight.execute("key", () -> "first" + executions.incrementAndGet());
+            String second = singleFlight.execute("key", () -> "second" + executions.incrementAndGet());
+
+            // Then
+            assertThat(second).isEqualTo("second2");
+            assertThat(calls("follower")).isZero();
+        }
+
+        @Test
+        @DisplayName("別キーの呼び出しは実行中の処理に合流しない")
+        void execute_DifferentKey_ShouldNotWait() throws Exception {
+            // Given
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                started.countDown();
+                await(release);
+                return "result";
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // When
+            String other = singleFlight.execute("other-key", () -> "other");
+            release.countDown();
+
+            // Then
+            assertThat(other).isEqualTo("other");
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(calls("leader")).isEqualTo(2);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
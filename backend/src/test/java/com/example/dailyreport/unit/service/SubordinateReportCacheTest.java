@@ -0,0 +1,182 @@
+package com.example.dailyreport.unit.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.dailyreport.dto.DailyReportListResponse;
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.service.DailyReportChangedEvent;
+import com.example.dailyreport.service.ReadCoalescer;
+import com.example.dailyreport.service.SubordinateReportCache;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SubordinateReportCache 単体テスト
+ *
+ * <p>テスト対象: - (上司ID, ステータスフィルタ) 単位のキャッシュ - 日報変更イベントによる作成者の上司分のみの無効化 - 読み込み中の無効化で古い結果を格納しないこと -
+ * キャッシュ無効時の素通し
+ *
+ * <p>モック対象: - UserDirectoryService: 作成者の上司を解決
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubordinateReportCache 単体テスト")
+class SubordinateReportCacheTest {
+
+    private static final Long SUPERVISOR_ID = 2L;
+    private static final Long OTHER_SUPERVISOR_ID = 4L;
+    private static final Long SUBORDINATE_ID = 1L;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
+    private SubordinateReportCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = createCache(true);
+        loads = new AtomicInteger();
+    }
+
+    private SubordinateReportCache createCache(boolean enabled) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new SubordinateReportCache(userDirectoryService,
+                new ReadCoalescer(meterRegistry, true), meterRegistry, enabled, 100,
+                Duration.ofMinutes(10));
+    }
+
+    /** 読み込み回数を数えるローダー */
+    private Supplier<List<DailyReportListResponse>> loader(String title) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(DailyReportListResponse.builder().id(10L).title(title).build());
+        };
+    }
+
+    private DailyReportChangedEvent changedBy(Long userId) {
+        return new DailyReportChangedEvent(10L, userId, DailyReportChangedEvent.ChangeType.UPDATED);
+    }
+
+    @Nested
+    @DisplayName("キャッシュ")
+    class CachingTests {
+
+        @Test
+        @DisplayName("同じ上司・同じフィルタの2回目はキャッシュから返す")
+        void get_SameKey_ShouldLoadOnce() {
+            // When
+            cache.get(SUPERVISOR_ID, null, loader("日報"));
+            List<DailyReportListResponse> second = cache.get(SUPERVISOR_ID, "", loader("日報"));
+
+            // Then: nullと空文字は同じフィルタ（全件）として扱う
+            assertThat(loads).hasValue(1);
+            assertThat(second).extracting(DailyReportListResponse::getTitle).containsExactly("日報");
+            assertThatThrownBy(() -> second.add(new DailyReportListResponse()))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("ステータスフィルタごとに別々にキャッシュする")
+        void get_DifferentStatus_ShouldLoadSeparately() {
+            // When
+            cache.get(SUPERVISOR_ID, null, loader("全件"));
+            List<DailyReportListResponse> drafts = cache.get(SUPERVISOR_ID, "draft", loader("下書き"));
+
+            // Then
+            assertThat(loads).hasValue(2);
+            assertThat(drafts).extracting(DailyReportListResponse::getTitle).containsExactly("下書き");
+        }
+
+        @Test
+        @DisplayName("キャッシュ無効時は毎回読み込む")
+        void get_Disabled_ShouldAlwaysLoad() {
+            // Given
+            SubordinateReportCache disabled = createCache(false);
+
+            // When
+            disabled.get(SUPERVISOR_ID, null, loader("日報"));
+            disabled.get(SUPERVISOR_ID, null, loader("日報"));
+
+            // Then
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("無効化")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("部下の日報変更で、その上司の全フィルタのみ破棄し他の上司は残す")
+        void onDailyReportChanged_ShouldEvictAuthorsSupervisorOnly() {
+            // Given
+            cache.get(SUPERVISOR_ID, null, loader("全件"));
+            cache.get(SUPERVISOR_ID, "draft", loader("下書き"));
+            cache.get(OTHER_SUPERVISOR_ID, null, loader("他部署"));
+            when(userDirectoryService.findById(SUBORDINATE_ID)).thenReturn(Optional.of(
+                    User.builder().id(SUBORDINATE_ID).supervisorId(SUPERVISOR_ID).build()));
+
+            // When
+            cache.onDailyReportChanged(changedBy(SUBORDINATE_ID));
+            cache.get(SUPERVISOR_ID, null, loader("全件"));
+            cache.get(SUPERVISOR_ID, "draft", loader("下書き"));
+            cache.get(OTHER_SUPERVISOR_ID, null, loader("他部署"));
+
+            // Then: 上司分の2件のみ再読み込み
+            assertThat(loads).hasValue(5);
+        }
+
+        @Test
+        @DisplayName("作成者が見つからない場合は全件破棄する")
+        void onDailyReportChanged_UnknownAuthor_ShouldEvictAll() {
+            // Given
+            cache.get(SUPERVISOR_ID, null, loader("全件"));
+            cache.get(OTHER_SUPERVISOR_ID, null, loader("他部署"));
+            when(userDirectoryService.findById(99L)).thenReturn(Optional.empty());
+
+            // When
+            cache.onDailyReportChanged(changedBy(99L));
+            cache.get(SUPERVISOR_ID, null, loader("全件"));
+            cache.get(OTHER_SUPERVISOR_ID, null, loader("他部署"));
+
+            // Then
+            assertThat(loads).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("読み込み中に無効化された結果は格納しない")
+        void get_InvalidatedWhileLoading_ShouldNotStoreStaleResult() {
+            // Given: 読み込み中に別の上司分の無効化が発生
+            Supplier<List<DailyReportListResponse>> racingLoader = () -> {
+                loads.incrementAndGet();
+                cache.evictSupervisor(OTHER_SUPERVISOR_ID);
+                return List.of(DailyReportListResponse.builder().id(10L).title("古い").build());
+            };
+
+            // When
+            List<DailyReportListResponse> first = cache.get(SUPERVISOR_ID, null, racingLoader);
+            List<DailyReportListResponse> second = cache.get(SUPERVISOR_ID, null, loader("新しい"));
+
+            // Then: 読み込んだ結果は呼び出し元に返すが、次回は再読み込みする
+            assertThat(first).extracting(DailyReportListResponse::getTitle).containsExactly("古い");
+            assertThat(second).extracting(DailyReportListResponse::getTitle).containsExactly("新しい");
+            assertThat(loads).hasValue(2);
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.example.dailyreport.unit.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.dailyreport.dto.DailyReportChangeNotification;
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.service.DailyReportChangedEvent;
+import com.example.dailyreport.service.SubordinateReportEventHub;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SubordinateReportEventHub 単体テスト
+ *
+ * <p>テスト対象: - 作成者の上司の接続のみへの配信 - Last-Event-IDによる取りこぼした通知の再送 - 再送できない場合のresync - 送信に失敗した接続の登録解除 -
+ * 同時接続数の上限 - 読み取りが止まった接続の送信待ち行列超過による切断
+ *
+ * <p>テスト方針: - 配信スレッド・送信スレッドをテスト側で保持し、配信・送信タスクの完了を待ってから送信内容を検証 -
+ * SseEmitterの送信内容を記録するサブクラスで検証
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubordinateReportEventHub 単体テスト")
+class SubordinateReportEventHubTest {
+
+    private static final Long SUPERVISOR_ID = 2L;
+    private static final Long OTHER_SUPERVISOR_ID = 3L;
+    private static final Long SUBORDINATE_ID = 4L;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
+    private ScheduledExecutorService dispatcher;
+    private ExecutorService sender;
+    private SimpleMeterRegistry meterRegistry;
+    private TestableHub hub;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = Executors.newSingleThreadScheduledExecutor();
+        sender = Executors.newSingleThreadExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new TestableHub(10, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    /** 送信内容を記録するSseEmitterを生成するハブ */
+    private class TestableHub extends SubordinateReportEventHub {
+
+        private final List<RecordingEmitter> created = new CopyOnWriteArrayList<>();
+
+        private boolean failing;
+
+        private CountDownLatch stalledUntil;
+
+        TestableHub(int replaySize, int maxConnections) {
+            this(replaySize, maxConnections, 100);
+        }
+
+        TestableHub(int replaySize, int maxConnections, int sendQueueCapacity) {
+            super(userDirectoryService, meterRegistry, dispatcher, sender, replaySize,
+                    Duration.ofHours(1), Duration.ofMinutes(30), maxConnections, sendQueueCapacity);
+        }
+
+        @Override
+        protected SseEmitter createEmitter(long timeoutMillis) {
+            RecordingEmitter emitter = new RecordingEmitter(failing, stalledUntil);
+            created.add(emitter);
+            return emitter;
+        }
+
+        RecordingEmitter connect(Long supervisorId, String lastEventId) throws Exception {
+            subscribe(supervisorId, lastEventId);
+            awaitDispatch();
+            return created.get(created.size() - 1);
+        }
+    }
+
+    /** 送信されたイベント */
+    private record Sent(String id, String name, Object data) {}
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("^id:(.*)$", Pattern.MULTILINE);
+        private static final Pattern NAME = Pattern.compile("^event:(.*)$", Pattern.MULTILINE);
+
+        private final List<Sent> sent = new CopyOnWriteArrayList<>();
+
+        /** 記録したイベントごとに1つ解放（送信スレッドでの書き込み完了の待ち合わせ用） */
+        private final Semaphore received = new Semaphore(0);
+
+        private final boolean failing;
+
+        /** 読み取りが止まったクライアントを模してsendを止める（nullの場合は止めない） */
+        private final CountDownLatch stalledUntil;
+
+        private final CountDownLatch stalled = new CountDownLatch(1);
+
+        RecordingEmitter(boolean failing, CountDownLatch stalledUntil) {
+            this.failing = failing;
+            this.stalledUntil = stalledUntil;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("切断");
+            }
+            if (stalledUntil != null) {
+                stalled.countDown();
+                try {
+                    stalledUntil.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("中断", e);
+                }
+            }
+            Set<DataWithMediaType> parts = builder.build();
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (DataWithMediaType part : parts) {
+                if (part.getData() instanceof String value) {
+                    text.append(value);
+                } else {
+                    data = part.getData();
+                }
+            }
+            if (text.toString().startsWith(":")) {
+                return; // キープアライブのコメント
+            }
+            sent.add(new Sent(group(ID, text), group(NAME, text), data));
+            received.release();
+        }
+
+        private static String group(Pattern pattern, CharSequence text) {
+            Matcher matcher = pattern.matcher(text);
+            return matcher.find() ? matcher.group(1) : null;
+        }
+    }
+
+    /** 配信スレッドのタスクと、それが追加した送信タスクの完了を待つ */
+    private void awaitDispatch() throws Exception {
+        dispatcher.submit(() -> {}).get();
+        sender.submit(() -> {}).get();
+    }
+
+    private void stubAuthor(Long userId, Long supervisorId) {
+        when(userDirectoryService.findById(userId)).thenReturn(
+                Optional.of(User.builder().id(userId).username("user" + userId)
+                        .supervisorId(supervisorId).build()));
+    }
+
+    private void change(Long reportId, DailyReportChangedEvent.ChangeType changeType)
+            throws Exception {
+        hub.onDailyReportChanged(new DailyReportChangedEvent(reportId, SUBORDINATE_ID, changeType));
+        awaitDispatch();
+    }
+
+    @Nested
+    @DisplayName("配信")
+    class PublishTests {
+
+        @Test
+        @DisplayName("作成者の上司の接続にのみ report-changed を送る")
+        void change_ShouldBeSentToAuthorsSupervisorOnly() throws Exception {
+            // Given
+            stubAuthor(SUBORDINATE_ID, SUPERVISOR_ID);
+            RecordingEmitter supervisor = hub.connect(SUPERVISOR_ID, null);
+            RecordingEmitter other = hub.connect(OTHER_SUPERVISOR_ID, null);
+
+            // When
+            change(10L, DailyReportChangedEvent.ChangeType.SUBMITTED);
+
+            // Then
+            assertThat(supervisor.sent).singleElement().satisfies(sent -> {
+                assertThat(sent.name()).isEqualTo(SubordinateReportEventHub.EVENT_REPORT_CHANGED);
+                assertThat(sent.id()).isNotBlank();
+                assertThat(sent.data()).isInstanceOfSatisfying(DailyReportChangeNotification.class,
+                        notification -> {
+                            assertThat(notification.getReportId()).isEqualTo(10L);
+                            assertThat(notification.getUserId()).isEqualTo(SUBORDINATE_ID);
+                            assertThat(notification.getChangeType()).isEqualTo("SUBMITTED");
+                            assertThat(notification.getOccurredAt()).isNotNull();
+                        });
+            });
+            assertThat(other.sent).isEmpty();
+        }
+
+        @Test
+        @DisplayName("上司のいない作成者の変更は配信しない")
+        void change_AuthorWithoutSupervisor_ShouldNotBeSent() throws Exception {
+            // Given
+            stubAuthor(SUBORDINATE_ID, null);
+            RecordingEmitter supervisor = hub.connect(SUPERVISOR_ID, null);
+
+            // When
+            change(10L, DailyReportChangedEvent.ChangeType.CREATED);
+
+            // Then
+            assertThat(supervisor.sent).isEmpty();
+        }
+
+        @Test
+        @DisplayName("作成者が特定できない場合は全接続に resync を送る")
+        void change_UnknownAuthor_ShouldResyncAll() throws Exception {
+            // Given
+            when(userDirectoryService.findById(SUBORDINATE_ID)).thenReturn(Optional.empty());
+            RecordingEmitter supervisor = hub.connect(SUPERVISOR_ID, null);
+            RecordingEmitter other = hub.connect(OTHER_SUPERVISOR_ID, null);
+
+            // When
+            change(10L, DailyReportChangedEvent.ChangeType.DELETED);
+
+            // Then
+            assertThat(supervisor.sent).extracting(Sent::name)
+                    .containsExactly(SubordinateReportEventHub.EVENT_RESYNC);
+            assertThat(other.sent).extracting(Sent::name)
+                    .containsExactly(SubordinateReportEventHub.EVENT_RESYNC);
+        }
+
+        @Test
+        @DisplayName("送信に失敗した接続は登録を解除し、以降は送信しない")
+        void sendFailure_ShouldUnsubscribe() throws Exception {
+            // Given
+            stubAuthor(SUBORDINATE_ID, SUPERVISOR_ID);
+            RecordingEmitter healthy = hub.connect(SUPERVISOR_ID, null);
+            hub.failing = true;
+            hub.connect(SUPERVISOR_ID, null);
+            hub.failing = false;
+
+            // When
+            change(10L, DailyReportChangedEvent.ChangeType.UPDATED);
+            change(11L, DailyReportChangedEvent.ChangeType.UPDATED);
+
+            // Then
+            assertThat(healthy.sent).hasSize(2);
+            assertThat(meterRegistry.get("dashboard.events.connections").gauge().value())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("再接続（Last-Event-ID）")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("最後に受信したイベントより後の通知を再送する")
+        void reconnect_ShouldReplayMissedEvents() throws Exception {
+            // Given
+            stubAuthor(SUBORDINATE_ID, SUPERVISOR_ID);
+            RecordingEmitter first = hub.connect(SUPERVISOR_ID, null);
+            change(10L, DailyReportChangedEvent.ChangeType.CREATED);
+            change(11L, DailyReportChangedEvent.ChangeType.CREATED);
+            String lastEventId = first.sent.get(0).id();
+
+            // When
+            RecordingEmitter reconnected = hub.connect(SUPERVISOR_ID, lastEventId);
+
+            // Then
+            assertThat(reconnected.sent).singleElement().satisfies(sent -> {
+                assertThat(sent.id()).isEqualTo(first.sent.get(1).id());
+                assertThat(((DailyReportChangeNotification) sent.data()).getReportId())
+                        .isEqualTo(11L);
+            });
+        }
+
+        @Test
+        @DisplayName("他の上司宛ての通知は再送しない")
+        void reconnect_ShouldNotReplayOtherSupervisorsEvents() throws Exception {
+            // Given
+            stubAuthor(SUBORDINATE_ID, OTHER_SUPERVISOR_ID);
+            RecordingEmitter other = hub.connect(OTHER_SUPERVISOR_ID, null);
+            change(10L, DailyReportChangedEvent.ChangeType.CREATED);
+            change(11L, DailyReportChangedEvent.ChangeType.CREATED);
+
+            // When
+            RecordingEmitter reconnected = hub.connect(SUPERVISOR_ID, other.sent.get(0).id());
+
+            // Then
+            assertThat(reconnected.sent).isEmpty();
+        }
+
+        @Test
+        @DisplayName("取りこぼした通知がバッファから押し出されている場合は resync を送る")
+        void reconnect_AfterBufferOverflow_ShouldResync() throws Exception {
+            // Given
+            hub = new TestableHub(2, 10);
+            stubAuthor(SUBORDINATE_ID, SUPERVISOR_ID);
+            RecordingEmitter first = hub.connect(SUPERVISOR_ID, null);
+            for (long reportId = 10; reportId < 14; reportId++) {
+                change(reportId, DailyReportChangedEvent.ChangeType.UPDATED);
+            }
+
+            // When
+            RecordingEmitter reconnected = hub.connect(SUPERVISOR_ID, first.sent.get(0).id());
+
+            // Then
+            assertThat(reconnected.sent).extracting(Sent::name)
+                    .containsExactly(SubordinateReportEventHub.EVENT_RESYNC);
+            assertThat(reconnected.sent.get(0).id()).isEqualTo(first.sent.get(3).id());
+        }
+
+        @Test
+        @DisplayName("別の起動で発行されたイベントIDの場合は resync を送る")
+        void reconnect_UnknownEventId_ShouldResync() throws Exception {
+            // When
+            RecordingEmitter reconnected = hub.connect(SUPERVISOR_ID, "previous-42");
+
+            // Then
+            assertThat(reconnected.sent).extracting(Sent::name)
+                    .containsExactly(SubordinateReportEventHub.EVENT_RESYNC);
+        }
+    }
+
+    @Nested
+    @DisplayName("接続数の上限")
+    class ConnectionLimitTests {
+
+        @Test
+        @DisplayName("上限に達している場合は IllegalStateException")
+        void subscribe_OverLimit_ShouldThrow() throws Exception {
+            // Given
+            hub = new TestableHub(10, 1);
+            hub.connect(SUPERVISOR_ID, null);
+
+            // When & Then
+            assertThatThrownBy(() -> hub.subscribe(OTHER_SUPERVISOR_ID, null))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("読み取りが止まった接続")
+    class StalledConnectionTests {
+
+        @Test
+        @DisplayName("書き込みが止まっても他の接続へは配信し、送信待ち行列が上限を超えた接続は切断する")
+        void stalledClient_ShouldNotBlockOthersAndBeDroppedOnOverflow() throws Exception {
+            // Given: 送信スレッド2本、送信待ち行列の上限2件
+            sender.shutdownNow();
+            sender = Executors.newFixedThreadPool(2);
+            meterRegistry = new SimpleMeterRegistry();
+            hub = new TestableHub(10, 10, 2);
+            stubAuthor(SUBORDINATE_ID, SUPERVISOR_ID);
+            CountDownLatch release = new CountDownLatch(1);
+            hub.stalledUntil = release;
+            RecordingEmitter stalled = hub.connect(SUPERVISOR_ID, null);
+            hub.stalledUntil = null;
+            RecordingEmitter healthy = hub.connect(SUPERVISOR_ID, null);
+
+            try {
+                // When: 1件目の書き込みで止まった後に3件配信（2件は待ち行列へ、3件目で超過）。
+                // 他の接続が待ち行列の上限に達しないよう、1件ごとに書き込み完了を待つ
+                hub.onDailyReportChanged(new DailyReportChangedEvent(10L, SUBORDINATE_ID,
+                        DailyReportChangedEvent.ChangeType.UPDATED));
+                assertThat(stalled.stalled.await(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(healthy.received.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+                for (long reportId = 11; reportId < 14; reportId++) {
+                    hub.onDailyReportChanged(new DailyReportChangedEvent(reportId, SUBORDINATE_ID,
+                            DailyReportChangedEvent.ChangeType.UPDATED));
+                    assertThat(healthy.received.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+                }
+                dispatcher.submit(() -> {}).get();
+
+                // Then: 止まった接続は登録を解除し、配信スレッドは止まらない
+                assertThat(meterRegistry.get("dashboard.events.dropped").counter().count())
+                        .isEqualTo(1.0);
+                assertThat(meterRegistry.get("dashboard.events.connections").gauge().value())
+                        .isEqualTo(1.0);
+            } finally {
+                release.countDown();
+            }
+            sender.shutdown();
+            assertThat(sender.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+            // Then: 他の接続には全件を順に送り、止まった接続には以降を送らない
+            assertThat(healthy.sent).extracting(
+                    sent -> ((DailyReportChangeNotification) sent.data()).getReportId())
+                    .containsExactly(10L, 11L, 12L, 13L);
+            assertThat(stalled.sent).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.dailyreport.unit.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.dailyreport.entity.User;
+import com.example.dailyreport.repository.UserRepository;
+import com.example.dailyreport.service.UserDirectoryService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * UserDirectoryService 単体テスト
+ *
+ * <p>テスト対象: - ID・ユーザー名の2索引でのキャッシュ - キャッシュ破棄 - 防御的コピー - ヒット率メトリクス - キャッシュ無効時の素通し
+ *
+ * <p>モック対象: - UserRepository: DBアクセス回数を確認
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDirectoryService 単体テスト")
+class UserDirectoryServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDirectoryService userDirectoryService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDirectoryService = new UserDirectoryService(
+                userRepository, meterRegistry, true, 100, Duration.ofMinutes(10));
+
+        testUser = User.builder()
+                .id(1L)
+                .username("testuser")
+                .email("testuser@company.com")
+                .password("$2a$10$encoded.password.hash")
+                .role("部下")
+                .displayName("テストユーザー")
+                .supervisorId(2L)
+                .isActive(true)
+                .tokenVersion(0L)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("キャッシュ動作")
+    class CachingTest {
+
+        @Test
+        @DisplayName("ID検索の2回目以降はDBアクセスしない")
+        void findById_Repeated_ShouldQueryOnce() {
+            // Given
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+            // When
+            userDirectoryService.findById(1L);
+            Optional<User> second = userDirectoryService.findById(1L);
+
+            // Then
+            assertThat(second).isPresent();
+            assertThat(second.get().getUsername()).isEqualTo("testuser");
+            verify(userRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("ユーザー名検索でキャッシュした結果はID検索でも利用される")
+        void findByUsername_ThenFindById_ShouldShareCache() {
+            // Given
+            when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+            // When
+            userDirectoryService.findByUsername("testuser");
+            Optional<User> byId = userDirectoryService.findById(1L);
+            Optional<User> byName = userDirectoryService.findByUsername("testuser");
+
+            // Then
+            assertThat(byId).isPresent();
+            assertThat(byName).isPresent();
+            verify(userRepository, times(1)).findByUsername("testuser");
+            verify(userRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("存在しないユーザーはキャッシュしない")
+        void findByUsername_NotFound_ShouldNotCache() {
+            // Given
+            when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
+
+            // When
+            userDirectoryService.findByUsername("nonexistent");
+            Optional<User> result = userDirectoryService.findByUsername("nonexistent");
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(userRepository, times(2)).findByUsername("nonexistent");
+        }
+
+        @Test
+        @DisplayName("返却値を変更してもキャッシュには影響しない")
+        void findById_MutateResult_ShouldNotAffectCache() {
+            // Given
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            User first = userDirectoryService.findById(1L).orElseThrow();
+
+            // When
+            first.setRole("管理者");
+            testUser.setRole("上長");
+
+            // Then
+            assertThat(userDirectoryService.findById(1L).orElseThrow().getRole()).isEqualTo("部下");
+        }
+
+        @Test
+        @DisplayName("ヒット・ミス件数がメトリクスに記録される")
+        void findById_ShouldRecordHitRatio() {
+            // Given
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+            // When
+            userDirectoryService.findById(1L);
+            userDirectoryService.findById(1L);
+            userDirectoryService.findById(1L);
+
+            // Then
+            assertThat(meterRegistry.get("cache.gets").tag("cache", "usersById")
+                    .tag("result", "hit").functionCounter().count()).isEqualTo(2.0);
+            assertThat(meterRegistry.get("cache.gets").tag("cache", "usersById")
+                    .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("キャッシュ破棄")
+    class EvictionTest {
+
+        @Test
+        @DisplayName("破棄後は最新のユーザー情報を再取得する")
+        void evict_ShouldReloadFromRepository() {
+            // Given
+            User updated = User.builder().id(1L).username("testuser").role("上長").isActive(true)
+                    .build();
+            when(userRepository.findByUsername("testuser"))
+                    .thenReturn(Optional.of(testUser), Optional.of(updated));
+            userDirectoryService.findByUsername("testuser");
+
+            // When
+            userDirectoryService.evict(updated);
+
+            // Then
+            assertThat(userDirectoryService.findByUsername("testuser").orElseThrow().getRole())
+                    .isEqualTo("上長");
+            verify(userRepository, times(2)).findByUsername("testuser");
+        }
+
+        @Test
+        @DisplayName("ユーザー名変更時は旧ユーザー名の索引も破棄される")
+        void evict_RenamedUser_ShouldDropOldUsernameIndex() {
+            // Given
+            when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser),
+                    Optional.empty());
+            userDirectoryService.findByUsername("testuser");
+            User renamed = User.builder().id(1L).username("renamed").role("部下").build();
+
+            // When
+            userDirectoryService.evict(renamed);
+
+            // Then
+            assertThat(userDirectoryService.findByUsername("testuser")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("キャッシュ無効")
+    class DisabledTest {
+
+        @Test
+        @DisplayName("無効時は毎回リポジトリに委譲する")
+        void findById_Disabled_ShouldAlwaysQuery() {
+            // Given
+            UserDirectoryService disabled = new UserDirectoryService(
+                    userRepository, meterRegistry, false, 100, Duration.ofMinutes(10));
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+            // When
+            disabled.findById(1L);
+            disabled.findById(1L);
+
+            // Then
+            verify(userRepository, times(2)).findById(1L);
+        }
+    }
+}
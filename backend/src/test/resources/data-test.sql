@@ -34,7 +34,7 @@ INSERT INTO daily_reports (id, user_id, title, work_content, status, report_date
 (7, 5, '研修参加報告', 'Spring Bootの研修に参加しました。新しい知識を習得できました。', 'submitted', '2024-01-12', '2024-01-12 19:30:00', '2024-01-12 19:15:00', '2024-01-12 19:30:00');
 
 -- チームデータ挿入（将来機能用）
-INSERT INTO teams (id, name, description, manager_id, is_active, created_at, updated_at) VALUES
+INSERT INTO teams (id, name, description, leader_id, is_active, created_at, updated_at) VALUES
 (1, '開発チーム', 'システム開発を担当するチーム', 2, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 (2, 'QAチーム', '品質保証を担当するチーム', 3, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
@@ -42,4 +42,7 @@ INSERT INTO teams (id, name, description, manager_id, is_active, created_at, upd
 INSERT INTO user_teams (id, user_id, team_id, joined_at) VALUES
 (1, 4, 1, CURRENT_TIMESTAMP),
 (2, 5, 1, CURRENT_TIMESTAMP),
-(3, 6, 2, CURRENT_TIMESTAMP);
\ No newline at end of file
+(3, 6, 2, CURRENT_TIMESTAMP);
+-- ID採番の再開位置（固定IDで投入したテストデータと重ならないようにする）
+ALTER SEQUENCE users_id_seq RESTART WITH 1000;
+ALTER SEQUENCE daily_reports_id_seq RESTART WITH 1000;
@@ -148,7 +148,10 @@ describe("useLogin", () => {
       expect(mockApiLogin).toHaveBeenCalledWith(sampleLoginData);
 
       // Assert: Auth token was set
-      expect(mockSetAuthToken).toHaveBeenCalledWith(sampleLoginResponse.token);
+      expect(mockSetAuthToken).toHaveBeenCalledWith(
+        sampleLoginResponse.token,
+        sampleLoginResponse.refreshToken
+      );
 
       // Assert: User state was updated
       expect(mockLogin).toHaveBeenCalledWith({
@@ -285,7 +288,10 @@ describe("useLogin", () => {
       expect(result.current.isLoading).toBe(false);
 
       // Assert: setAuthToken was called despite error
-      expect(mockSetAuthToken).toHaveBeenCalledWith(sampleLoginResponse.token);
+      expect(mockSetAuthToken).toHaveBeenCalledWith(
+        sampleLoginResponse.token,
+        sampleLoginResponse.refreshToken
+      );
 
       // Assert: Login process continued (user state was set)
       expect(mockLogin).toHaveBeenCalled();
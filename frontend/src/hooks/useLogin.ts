@@ -67,7 +67,7 @@ export const useLogin = (): UseLoginReturn => {
 
       // JWT トークンをlocalStorageに保存
       try {
-        apiService.setAuthToken(result.token);
+        apiService.setAuthToken(result.token, result.refreshToken);
       } catch (tokenError) {
         console.warn("⚠️ トークン保存エラー:", tokenError);
         // トークン保存に失敗してもログイン処理を継続
@@ -41,10 +41,88 @@ const getAuthToken = (): string | null => {
   return localStorage.getItem("authToken");
 };
 
+/**
+ * タブ間でアクセストークンの再発行を直列化するロック名（Web Locks API）
+ */
+const REFRESH_LOCK_NAME = "daily-report-auth-refresh";
+
+/**
+ * アクセストークンの再発行（ロック取得後に実行）
+ *
+ * トークンはlocalStorageで全タブと共有するため、ロック取得後に読み直し、
+ * 他のタブが既に再発行していれば使用済みのリフレッシュトークンを送らずにそのトークンを使う
+ *
+ * @param rejectedToken 認証エラーになったリクエストのアクセストークン
+ */
+const refreshIfStale = async (rejectedToken: string): Promise<boolean> => {
+  const currentToken = getAuthToken();
+  if (currentToken !== rejectedToken) {
+    // 他のタブで再発行済み（ログアウト済みの場合は再ログインが必要）
+    return currentToken !== null;
+  }
+
+  const refreshToken = localStorage.getItem("refreshToken");
+  if (!refreshToken) {
+    return false;
+  }
+
+  try {
+    const response = await fetch(`${API_BASE_URL}/api/auth/refresh`, {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      body: JSON.stringify({ refreshToken }),
+    });
+    if (!response.ok) {
+      // 期限切れ・失効済みの場合は再ログインが必要
+      localStorage.removeItem("refreshToken");
+      return false;
+    }
+    const data: LoginResponse = await response.json();
+    localStorage.setItem("authToken", data.token);
+    if (data.refreshToken) {
+      localStorage.setItem("refreshToken", data.refreshToken);
+    }
+    return true;
+  } catch {
+    return false;
+  }
+};
+
+/**
+ * アクセストークンの再発行
+ *
+ * - タブ内: 実行中の再発行があれば共有し、同時に複数回呼び出さない
+ * - タブ間: Web Locks APIで直列化する（未対応のブラウザではサーバー側の再利用猶予期間に委ねる）
+ *
+ * @param rejectedToken 認証エラーになったリクエストのアクセストークン
+ */
+let refreshInFlight: Promise<boolean> | null = null;
+
+const refreshAuthToken = (rejectedToken: string): Promise<boolean> => {
+  if (!refreshInFlight) {
+    const refresh = () => refreshIfStale(rejectedToken);
+    refreshInFlight = (async () => {
+      if (typeof navigator !== "undefined" && navigator.locks) {
+        // コールバックのPromiseが完了するまでロックを保持する
+        return await navigator.locks.request(REFRESH_LOCK_NAME, refresh);
+      }
+      return refresh();
+    })().finally(() => {
+      refreshInFlight = null;
+    });
+  }
+  return refreshInFlight;
+};
+
 /**
  * 共通APIリクエストヘルパー
+ * アクセストークンの期限切れで認証エラーになった場合は、リフレッシュトークンで再発行して1回だけ再試行
  */
-const createApiRequest = async (endpoint: string, options: RequestInit = {}): Promise<Response> => {
+const createApiRequest = async (
+  endpoint: string,
+  options: RequestInit = {},
+  retried = false
+): Promise<Response> => {
   const url = `${API_BASE_URL}${endpoint}`;
   const token = getAuthToken();
 
@@ -71,6 +149,16 @@ const createApiRequest = async (endpoint: string, options: RequestInit = {}): Pr
 
   const response = await fetch(url, requestOptions);
 
+  if (
+    (response.status === 401 || response.status === 403) &&
+    token &&
+    !retried &&
+    !endpoint.startsWith("/api/auth/") &&
+    (await refreshAuthToken(token))
+  ) {
+    return createApiRequest(endpoint, options, true);
+  }
+
   // レスポンスステータスのログ出力
   if (response.ok) {
     if (isDevelopment) {
@@ -411,9 +499,13 @@ export const apiService = {
   /**
    * JWT トークンをlocalStorageに保存
    * @param token JWT トークン
+   * @param refreshToken リフレッシュトークン（実APIのログイン時のみ）
    */
-  setAuthToken(token: string): void {
+  setAuthToken(token: string, refreshToken?: string): void {
     localStorage.setItem("authToken", token);
+    if (refreshToken) {
+      localStorage.setItem("refreshToken", refreshToken);
+    }
     if (isDevelopment) {
       console.log("💾 JWT トークンが保存されました");
     }
@@ -431,7 +523,21 @@ export const apiService = {
    * JWT トークンをlocalStorageから削除
    */
   removeAuthToken(): void {
+    const refreshToken = localStorage.getItem("refreshToken");
+    const token = localStorage.getItem("authToken");
+    if (refreshToken && (!isDevelopment || useRealAPI)) {
+      // サーバー側のリフレッシュトークン・アクセストークンも失効させる（失敗してもログアウトは継続）
+      fetch(`${API_BASE_URL}/api/auth/logout`, {
+        method: "POST",
+        headers: {
+          "Content-Type": "application/json",
+          ...(token ? { Authorization: `Bearer ${token}` } : {}),
+        },
+        body: JSON.stringify({ refreshToken }),
+      }).catch(() => undefined);
+    }
     localStorage.removeItem("authToken");
+    localStorage.removeItem("refreshToken");
     if (isDevelopment) {
       console.log("🗑️ JWT トークンが削除されました");
     }
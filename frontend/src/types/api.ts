@@ -39,6 +39,10 @@ export type UserRole = "管理者" | "上長" | "部下";
 export type LoginResponse = {
   /** JWT認証トークン */
   token: string;
+  /** リフレッシュトークン（実APIのみ、アクセストークンの再発行に使用） */
+  refreshToken?: string;
+  /** アクセストークンの有効期間（秒、実APIのみ） */
+  expiresIn?: number;
   /** ユーザーID */
   id: string;
   /** ユーザー名 */
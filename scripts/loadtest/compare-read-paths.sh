@@ -0,0 +1,60 @@
+#!/bin/bash
+
+# 一覧系APIのMVC（JDBC）経路とリアクティブ（R2DBC）経路の負荷比較スクリプト
+# 同じJAR・同じDBに対して app.reactive-read.enabled=true で起動し、Acceptヘッダーだけを切り替えてk6シナリオを実行する
+#
+# 前提: k6、jq、起動済みのPostgreSQL（docker-compose up database、サンプルデータのユーザーでログイン）
+# 使用方法: ./scripts/loadtest/compare-read-paths.sh [同時接続数=1000] [計測時間=2m]
+# Tomcatのスレッド数を絞って比較する場合: TOMCAT_THREADS=50 ./scripts/loadtest/compare-read-paths.sh
+
+set -e
+
+VUS=${1:-1000}
+DURATION=${2:-2m}
+PORT=${PORT:-8080}
+TOMCAT_THREADS=${TOMCAT_THREADS:-200}
+BASE_URL="http://localhost:${PORT}"
+R2DBC_URL=${R2DBC_URL:-r2dbc:postgresql://localhost:5432/daily_report_tool}
+RESULT_DIR="./scripts/loadtest/results"
+
+mkdir -p "$RESULT_DIR"
+
+echo "📦 バックエンドビルド中..."
+(cd backend && ./mvnw -q clean package -DskipTests)
+JAR=$(ls backend/target/daily-report-tool-*.jar | head -n 1)
+
+echo "🚀 リアクティブ読み取り経路を有効にして起動中（Tomcatスレッド数: ${TOMCAT_THREADS}）..."
+java -Xmx384m -jar "$JAR" --server.port="$PORT" \
+  --server.tomcat.threads.max="$TOMCAT_THREADS" \
+  --app.reactive-read.enabled=true --app.reactive-read.r2dbc.url="$R2DBC_URL" \
+  --spring.flyway.locations='classpath:db/migration/{vendor},classpath:db/sample/{vendor}' \
+  --spring.jpa.show-sql=false --logging.level.root=WARN \
+  --logging.level.com.example.dailyreport=WARN --logging.level.org.hibernate.SQL=WARN \
+  --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+  > "$RESULT_DIR/read-paths.log" 2>&1 &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true' EXIT
+
+until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do
+  sleep 1
+done
+
+run_path() {
+  local path=$1
+  local accept=$2
+
+  echo "📈 ${path} (${accept}): ${VUS} 同時接続 / ${DURATION}"
+  k6 run --quiet -e BASE_URL="$BASE_URL" -e ACCEPT="$accept" -e VUS="$VUS" -e DURATION="$DURATION" \
+    --summary-export "$RESULT_DIR/${path}.json" scripts/loadtest/reactive-vs-mvc.js
+}
+
+run_path mvc application/json
+run_path reactive application/x-ndjson
+
+echo ""
+echo "📊 比較結果（http_reqs: 件/秒, http_req_duration: ミリ秒）"
+for path in mvc reactive; do
+  jq -r --arg path "$path" \
+    '"\($path)\treqs/s=\(.metrics.http_reqs.rate | floor)\tp99=\(.metrics.http_req_duration["p(99)"] | floor)ms\tfailed=\(.metrics.http_req_failed.value * 100 | floor)%"' \
+    "$RESULT_DIR/${path}.json"
+done
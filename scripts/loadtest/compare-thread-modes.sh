@@ -0,0 +1,63 @@
+#!/bin/bash
+
+# プラットフォームスレッドと仮想スレッドの負荷比較スクリプト
+# 同じJAR・同じDBに対して、スレッドモードだけを切り替えてk6シナリオを実行し、スループットとp99を出力する
+#
+# 前提: Java 21、k6、jq、起動済みのPostgreSQL（docker-compose up database、サンプルデータのユーザーでログイン）
+# 使用方法: ./scripts/loadtest/compare-thread-modes.sh [同時接続数=1000] [計測時間=2m]
+
+set -e
+
+VUS=${1:-1000}
+DURATION=${2:-2m}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+RESULT_DIR="./scripts/loadtest/results"
+
+mkdir -p "$RESULT_DIR"
+
+echo "📦 バックエンドビルド中（java21プロファイル）..."
+(cd backend && ./mvnw -q -Pjava21 clean package -DskipTests)
+JAR=$(ls backend/target/daily-report-tool-*.jar | head -n 1)
+
+run_mode() {
+  local mode=$1
+  local virtual=$2
+
+  echo "🚀 ${mode} モードで起動中..."
+  VIRTUAL_THREADS_ENABLED=$virtual java -Xmx384m -Djdk.tracePinnedThreads=short \
+    -jar "$JAR" --server.port="$PORT" \
+    --spring.flyway.locations='classpath:db/migration/{vendor},classpath:db/sample/{vendor}' \
+    --spring.jpa.show-sql=false --logging.level.root=WARN \
+    --logging.level.com.example.dailyreport=WARN --logging.level.org.hibernate.SQL=WARN \
+    --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+    > "$RESULT_DIR/${mode}.log" 2>&1 &
+  local pid=$!
+
+  until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do
+    sleep 1
+  done
+
+  echo "📈 ${mode}: ${VUS} 同時接続 / ${DURATION}"
+  k6 run --quiet -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e DURATION="$DURATION" \
+    --summary-export "$RESULT_DIR/${mode}.json" scripts/loadtest/login-dashboard.js
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo ""
+echo "📊 比較結果（http_reqs: 件/秒, http_req_duration: ミリ秒）"
+for mode in platform virtual; do
+  jq -r --arg mode "$mode" \
+    '"\($mode)\treqs/s=\(.metrics.http_reqs.rate | floor)\tp99=\(.metrics.http_req_duration["p(99)"] | floor)ms\tfailed=\(.metrics.http_req_failed.value * 100 | floor)%"' \
+    "$RESULT_DIR/${mode}.json"
+done
+
+# 仮想スレッドのピン留め（synchronized内でのブロッキング）が発生した場合はログに出力される
+if grep -q "onPinned" "$RESULT_DIR/virtual.log"; then
+  echo "⚠️  仮想スレッドのピン留めを検出しました: $RESULT_DIR/virtual.log"
+fi
@@ -0,0 +1,51 @@
+// 負荷試験シナリオ（k6）: ログイン集中 + 日報一覧・部下日報一覧の参照
+//
+// 使用方法:
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=1000 -e DURATION=2m scripts/loadtest/login-dashboard.js
+//
+// 各仮想ユーザーは ログイン → 自分の日報一覧 → 部下の日報一覧 を繰り返す
+// （ログインはBCrypt照合、一覧はJDBCでブロックするため、スレッドモードの差が出やすい）
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = (__ENV.USERS || 'manager,employee1,employee2').split(',');
+const PASSWORD = __ENV.PASSWORD || 'password';
+
+export const options = {
+  scenarios: {
+    burst: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 1000),
+      duration: __ENV.DURATION || '2m',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+  const username = USERS[__VU % USERS.length];
+  const login = http.post(
+    `${BASE_URL}/api/auth/login`,
+    JSON.stringify({ username, password: PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } },
+  );
+  if (!check(login, { 'login 200': (r) => r.status === 200 })) {
+    return;
+  }
+
+  const params = {
+    headers: { Authorization: `Bearer ${login.json('token')}` },
+  };
+  check(
+    http.get(`${BASE_URL}/api/daily-reports/my`, Object.assign({ tags: { name: 'my' } }, params)),
+    { 'my 200': (r) => r.status === 200 },
+  );
+  check(
+    http.get(
+      `${BASE_URL}/api/daily-reports/subordinates`,
+      Object.assign({ tags: { name: 'subordinates' } }, params),
+    ),
+    { 'subordinates 2xx/403': (r) => r.status === 200 || r.status === 403 },
+  );
+}
@@ -0,0 +1,57 @@
+// 負荷試験シナリオ（k6）: 一覧系APIのMVC（JSON配列）とリアクティブ（NDJSONストリーム）の比較
+//
+// 使用方法:
+//   k6 run -e BASE_URL=http://localhost:8080 -e ACCEPT=application/x-ndjson -e VUS=1000 -e DURATION=2m \
+//     scripts/loadtest/reactive-vs-mvc.js
+//
+// ACCEPT=application/json（既定）は DailyReportController、application/x-ndjson は ReactiveDailyReportController が処理する
+// （後者はサーバー側で app.reactive-read.enabled=true が必要）
+// ログインは setup で1回だけ行い、計測は一覧系APIのみを対象とする
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = (__ENV.USERS || 'manager,employee1,employee2').split(',');
+const PASSWORD = __ENV.PASSWORD || 'password';
+const ACCEPT = __ENV.ACCEPT || 'application/json';
+
+export const options = {
+  scenarios: {
+    dashboard: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 1000),
+      duration: __ENV.DURATION || '2m',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  return USERS.map((username) => {
+    const login = http.post(
+      `${BASE_URL}/api/auth/login`,
+      JSON.stringify({ username, password: PASSWORD }),
+      { headers: { 'Content-Type': 'application/json' } },
+    );
+    if (login.status !== 200) {
+      throw new Error(`login failed: ${username} (${login.status})`);
+    }
+    return login.json('token');
+  });
+}
+
+export default function (tokens) {
+  const params = (name) => ({
+    headers: { Authorization: `Bearer ${tokens[__VU % tokens.length]}`, Accept: ACCEPT },
+    tags: { name },
+  });
+  check(http.get(`${BASE_URL}/api/daily-reports/my`, params('my')), {
+    'my 200': (r) => r.status === 200,
+  });
+  check(http.get(`${BASE_URL}/api/daily-reports/subordinates`, params('subordinates')), {
+    'subordinates 2xx/403': (r) => r.status === 200 || r.status === 403,
+  });
+  check(http.get(`${BASE_URL}/api/daily-reports/today/exists`, params('today')), {
+    'today 200': (r) => r.status === 200,
+  });
+}